@@ -0,0 +1,78 @@
+package com.mercadolibre.mlcoreplatform.benchmark;
+
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.CacheSpec;
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.LocalCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link LocalCache} sized for 1,000 entries read from 4 threads with keys from a long tail of
+ * 10,000, where a miss stands in for a remote call of about 20µs. The hit rate reached is printed
+ * once per fork.
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec@jmh -Djmh.benchmarks=ApiCacheBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class ApiCacheBenchmark {
+
+    private static final int KEYS = 10_000;
+    private static final long REMOTE_CALL_NANOS = 20_000;
+
+    private LocalCache<Integer, String> cache;
+
+    @Setup
+    public void setUp() {
+        cache = new LocalCache<>("benchmark", CacheSpec.of(Duration.ofMinutes(10), 1_000), value -> 1, Runnable::run);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%nhit rate: %.3f%n", cache.stats().hitRate());
+    }
+
+    @Benchmark
+    public String get() {
+        return cache.get(nextKey(), ApiCacheBenchmark::remoteCall);
+    }
+
+    @Benchmark
+    public String uncached() {
+        return remoteCall(nextKey());
+    }
+
+    // Roughly Zipfian: key k comes up about as often as 1/k
+    private static int nextKey() {
+        double uniform = ThreadLocalRandom.current().nextDouble();
+        return (int) Math.pow(KEYS, uniform) - 1;
+    }
+
+    private static String remoteCall(Integer key) {
+        long deadline = System.nanoTime() + REMOTE_CALL_NANOS;
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        return "value-" + key;
+    }
+}
@@ -0,0 +1,99 @@
+package com.mercadolibre.mlcoreplatform.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.ProductPersistenceAdapter;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.PurchasePersistenceAdapter;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.SellerPersistenceAdapter;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
+import com.mercadolibre.mlcoreplatform.domain.core.service.OrderService;
+import com.mercadolibre.mlcoreplatform.domain.core.service.ProductService;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.OrderResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of one ProductResponse / OrderResponse on the three paths the application has had:
+ * a fresh per-component mapper (cold caches), a shared mapper resolving the root type on every call,
+ * and a writer prepared once by {@link JsonCodecs}.
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec@jmh
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private ProductResponse product;
+    private OrderResponse order;
+    private ObjectMapper sharedMapper;
+    private ObjectWriter productWriter;
+    private ObjectWriter orderWriter;
+
+    @Setup
+    public void setUp() throws IOException {
+        product = new ProductService(new ProductPersistenceAdapter(), null, null, new SellerPersistenceAdapter()).getAllProducts(0, 1, Fields.DEFAULT).get(0);
+        order = new OrderService(new PurchasePersistenceAdapter(), null).getAllOrders(0, 1, Fields.DEFAULT).get(0);
+        JsonCodecs codecs = new JsonCodecs(JsonCodecs.standalone().objectMapper())
+                .prepareWriters(ProductResponse.class, OrderResponse.class);
+        sharedMapper = codecs.objectMapper();
+        productWriter = codecs.writerFor(sharedMapper.constructType(ProductResponse.class));
+        orderWriter = codecs.writerFor(sharedMapper.constructType(OrderResponse.class));
+    }
+
+    @Benchmark
+    public byte[] productPerComponentMapper() throws IOException {
+        return perComponentMapper().writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] productSharedMapper() throws IOException {
+        return sharedMapper.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] productPreparedWriter() throws IOException {
+        return productWriter.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] orderPerComponentMapper() throws IOException {
+        return perComponentMapper().writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] orderSharedMapper() throws IOException {
+        return sharedMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] orderPreparedWriter() throws IOException {
+        return orderWriter.writeValueAsBytes(order);
+    }
+
+    // What each adapter used to build for itself
+    private static ObjectMapper perComponentMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        return objectMapper;
+    }
+}
@@ -0,0 +1,74 @@
+package com.mercadolibre.mlcoreplatform.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.ProductPersistenceAdapter;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.SellerPersistenceAdapter;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
+import com.mercadolibre.mlcoreplatform.domain.core.service.ProductService;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A page of products with its default fields, with every opt-in nested object on top, and with the
+ * list-view projection ({@code attributes=id,title,price,thumbnailId}): building the page from the store, and serializing
+ * an already built page. The payload size of each page is printed once per fork.
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec@jmh -Djmh.benchmarks=ProjectionBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionBenchmark {
+
+    private static final int PAGE = 50;
+
+    @Param({"", "id,title,categoryId,price,currencyId,availableQuantity,condition,permalink,thumbnailId,dateCreated,"
+            + "lastUpdated,sellerId,warranty,pictures,attributes,shipping,seller", "id,title,price,thumbnailId"})
+    public String attributes;
+
+    private ProductService productService;
+    private Fields fields;
+    private List<ProductResponse> page;
+    private ObjectWriter pageWriter;
+
+    @Setup
+    public void setUp() throws IOException {
+        productService = new ProductService(new ProductPersistenceAdapter(), null, null, new SellerPersistenceAdapter());
+        fields = Fields.of(attributes);
+        page = productService.getAllProducts(0, PAGE, fields);
+        JsonCodecs codecs = JsonCodecs.standalone();
+        pageWriter = codecs.objectMapper().writerFor(codecs.objectMapper().getTypeFactory()
+                .constructCollectionType(List.class, ProductResponse.class));
+        System.out.printf("%n%s: %d bytes per page of %d%n", fields, pageWriter.writeValueAsBytes(page).length, page.size());
+    }
+
+    @Benchmark
+    public byte[] buildAndSerialize() throws IOException {
+        return pageWriter.writeValueAsBytes(productService.getAllProducts(0, PAGE, fields));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return pageWriter.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,91 @@
+package com.mercadolibre.mlcoreplatform.benchmark;
+
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.QueryTrends;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Suggestions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost a search pays to count its query for trends, from 4 threads at once: the striped
+ * {@link QueryTrends#record} against a single synchronized map, the obvious alternative. Queries
+ * follow a long tail so a few hot ones contend. {@code top} is the read behind /trends.
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec@jmh -Djmh.benchmarks=QueryTrendsBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class QueryTrendsBenchmark {
+
+    private static final int QUERIES = 4096;
+
+    private String[] queries;
+    private QueryTrends trends;
+    private Map<String, Long> lockedCounts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            // Rank r drawn with probability ~ 1/r
+            int rank = (int) Math.floor(Math.pow(QUERIES, ThreadLocalRandom.current().nextDouble()));
+            queries[i] = "query " + rank;
+        }
+        trends = new QueryTrends(new Suggestions(), 1000, 100_000, Duration.ofHours(1), System::currentTimeMillis);
+        lockedCounts = new HashMap<>();
+    }
+
+    // Keeps the pending map from growing across iterations, as the scheduled merge would
+    @Setup(Level.Iteration)
+    public void merge() {
+        trends.merge();
+        synchronized (lockedCounts) {
+            lockedCounts.clear();
+        }
+    }
+
+    @Benchmark
+    public void record() {
+        trends.record("MCO", nextQuery());
+    }
+
+    @Benchmark
+    public void recordSynchronized() {
+        String query = nextQuery();
+        synchronized (lockedCounts) {
+            lockedCounts.merge(query, 1L, Long::sum);
+        }
+    }
+
+    @Benchmark
+    public List<String> top() {
+        return trends.top("MCO", 10);
+    }
+
+    private String nextQuery() {
+        return queries[ThreadLocalRandom.current().nextInt(QUERIES)];
+    }
+}
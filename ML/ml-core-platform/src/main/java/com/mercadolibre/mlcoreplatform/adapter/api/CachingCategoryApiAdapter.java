@@ -0,0 +1,52 @@
+package com.mercadolibre.mlcoreplatform.adapter.api;
+
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.ApiCaches;
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.CacheSpec;
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.LocalCache;
+import com.mercadolibre.mlcoreplatform.domain.port.out.CategoryApiPort;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.CategoryResponse;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link CategoryApiAdapter} behind caches: a site's category tree and a category's attributes are
+ * reference data, and predictions for a title don't change from one call to the next.
+ */
+@Primary
+@Component
+public class CachingCategoryApiAdapter implements CategoryApiPort {
+
+    private final CategoryApiAdapter delegate;
+    private final LocalCache<String, List<CategoryResponse.AttributeResponse>> attributes;
+    private final LocalCache<String, List<CategoryResponse>> categoriesBySite;
+    private final LocalCache<List<String>, CategoryResponse> predictions;
+
+    public CachingCategoryApiAdapter(CategoryApiAdapter delegate, ApiCaches caches) {
+        this.delegate = delegate;
+        this.attributes = caches.cache("category-attributes",
+                CacheSpec.of(Duration.ofMinutes(30), 100_000), ApiCaches::weightOf);
+        this.categoriesBySite = caches.cache("categories-by-site",
+                CacheSpec.of(Duration.ofMinutes(30), 50_000), ApiCaches::weightOf);
+        this.predictions = caches.cache("category-prediction",
+                CacheSpec.of(Duration.ofMinutes(10), 10_000), category -> 1);
+    }
+
+    @Override
+    public List<CategoryResponse.AttributeResponse> getCategoryAttributes(String categoryId) {
+        return attributes.get(categoryId, id -> ApiCaches.copyOf(delegate.getCategoryAttributes(id)));
+    }
+
+    @Override
+    public List<CategoryResponse> getCategoriesBySite(String siteId) {
+        return categoriesBySite.get(siteId, site -> ApiCaches.copyOf(delegate.getCategoriesBySite(site)));
+    }
+
+    @Override
+    public CategoryResponse predictCategory(String siteId, String title) {
+        return predictions.get(Arrays.asList(siteId, title), key -> delegate.predictCategory(siteId, title));
+    }
+}
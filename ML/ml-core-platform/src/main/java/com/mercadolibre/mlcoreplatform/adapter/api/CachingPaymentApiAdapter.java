@@ -0,0 +1,51 @@
+package com.mercadolibre.mlcoreplatform.adapter.api;
+
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.ApiCaches;
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.CacheSpec;
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.LocalCache;
+import com.mercadolibre.mlcoreplatform.domain.port.out.PaymentApiPort;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.PaymentRequest;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.PaymentMethodResponse;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link PaymentApiAdapter} behind caches: payment methods and installment plans of a site change
+ * rarely and are asked for on every item page. Payments always go through.
+ */
+@Primary
+@Component
+public class CachingPaymentApiAdapter implements PaymentApiPort {
+
+    private final PaymentApiAdapter delegate;
+    private final LocalCache<String, List<PaymentMethodResponse>> paymentMethods;
+    private final LocalCache<List<String>, List<PaymentMethodResponse>> installmentOptions;
+
+    public CachingPaymentApiAdapter(PaymentApiAdapter delegate, ApiCaches caches) {
+        this.delegate = delegate;
+        this.paymentMethods = caches.cache("payment-methods",
+                CacheSpec.of(Duration.ofMinutes(10), 5_000), ApiCaches::weightOf);
+        this.installmentOptions = caches.cache("installment-options",
+                CacheSpec.of(Duration.ofMinutes(5), 20_000), ApiCaches::weightOf);
+    }
+
+    @Override
+    public List<PaymentMethodResponse> getPaymentMethodsBySite(String siteId) {
+        return paymentMethods.get(siteId, site -> ApiCaches.copyOf(delegate.getPaymentMethodsBySite(site)));
+    }
+
+    @Override
+    public List<PaymentMethodResponse> getInstallmentOptions(String siteId, String amount, String paymentMethodId) {
+        return installmentOptions.get(Arrays.asList(siteId, amount, paymentMethodId),
+                key -> ApiCaches.copyOf(delegate.getInstallmentOptions(siteId, amount, paymentMethodId)));
+    }
+
+    @Override
+    public PaymentMethodResponse processPayment(PaymentRequest request) {
+        return delegate.processPayment(request);
+    }
+}
@@ -0,0 +1,64 @@
+package com.mercadolibre.mlcoreplatform.adapter.api;
+
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.ApiCaches;
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.CacheSpec;
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.LocalCache;
+import com.mercadolibre.mlcoreplatform.domain.port.out.ProductApiPort;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.ProductSearchRequest;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductDescriptionResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ShippingOptionsResponse;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link ProductApiAdapter} behind caches. Descriptions weigh one per started KB of text, so a few
+ * long ones can't crowd out many short ones unnoticed. Searches are not cached here: they run
+ * through the search port, which has its own cache.
+ */
+@Primary
+@Component
+public class CachingProductApiAdapter implements ProductApiPort {
+
+    static final int DESCRIPTION_WEIGHT_UNIT = 1024;
+
+    private final ProductApiAdapter delegate;
+    private final LocalCache<String, ProductDescriptionResponse> descriptions;
+    private final LocalCache<String, ShippingOptionsResponse> shippingOptions;
+
+    public CachingProductApiAdapter(ProductApiAdapter delegate, ApiCaches caches) {
+        this.delegate = delegate;
+        this.descriptions = caches.cache("product-description",
+                CacheSpec.of(Duration.ofMinutes(10), 20_000), CachingProductApiAdapter::weightOf);
+        this.shippingOptions = caches.cache("shipping-options",
+                CacheSpec.of(Duration.ofMinutes(1), 20_000),
+                options -> options.options() == null ? 1 : options.options().size() + 1);
+    }
+
+    @Override
+    public ProductDescriptionResponse getProductDescription(String productId) {
+        return descriptions.get(productId, delegate::getProductDescription);
+    }
+
+    @Override
+    public ShippingOptionsResponse getShippingOptions(String productId) {
+        return shippingOptions.get(productId, delegate::getShippingOptions);
+    }
+
+    @Override
+    public List<ProductResponse> searchProducts(ProductSearchRequest request) {
+        return delegate.searchProducts(request);
+    }
+
+    static int weightOf(ProductDescriptionResponse description) {
+        long chars = length(description.text()) + length(description.plainText());
+        return (int) (1 + chars / DESCRIPTION_WEIGHT_UNIT);
+    }
+
+    private static long length(String text) {
+        return text == null ? 0 : text.length();
+    }
+}
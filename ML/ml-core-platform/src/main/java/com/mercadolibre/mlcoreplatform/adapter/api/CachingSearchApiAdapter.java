@@ -0,0 +1,56 @@
+package com.mercadolibre.mlcoreplatform.adapter.api;
+
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.ApiCaches;
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.CacheSpec;
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.LocalCache;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchCriteria;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchPage;
+import com.mercadolibre.mlcoreplatform.domain.port.out.ProductPersistencePort;
+import com.mercadolibre.mlcoreplatform.domain.port.out.SearchApiPort;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link SearchApiAdapter} behind caches keyed by the whole criteria, emptied whenever the product
+ * data changes version so a page never outlives the index it was read from.
+ * <p>
+ * Both caches are off by default ({@code ml.api-cache.search.enabled} and
+ * {@code ml.api-cache.search-products.enabled}): search is served in-process from the product
+ * store's index, and nothing has measured a second cache in front of that index paying for its
+ * memory. They are here for when {@link SearchApiPort} points at a remote search API. Disabled,
+ * concurrent identical searches still run once.
+ */
+@Primary
+@Component
+public class CachingSearchApiAdapter implements SearchApiPort {
+
+    private static final CacheSpec DEFAULTS = new CacheSpec(false, Duration.ofSeconds(30), 20_000, Duration.ofSeconds(6), true);
+
+    private final SearchApiAdapter delegate;
+    private final LocalCache<SearchCriteria, List<ProductResponse>> products;
+    private final LocalCache<SearchCriteria, SearchPage<ProductResponse>> pages;
+
+    public CachingSearchApiAdapter(SearchApiAdapter delegate, ApiCaches caches, ProductPersistencePort productPersistencePort) {
+        this.delegate = delegate;
+        this.products = caches.cache("search-products", DEFAULTS, ApiCaches::weightOf);
+        this.pages = caches.cache("search", DEFAULTS, page -> ApiCaches.weightOf(page.items()));
+        productPersistencePort.onVersionChange(version -> {
+            products.invalidateAll();
+            pages.invalidateAll();
+        });
+    }
+
+    @Override
+    public List<ProductResponse> searchProducts(SearchCriteria criteria) {
+        return products.get(criteria, delegate::searchProducts);
+    }
+
+    @Override
+    public SearchPage<ProductResponse> search(SearchCriteria criteria) {
+        return pages.get(criteria, delegate::search);
+    }
+}
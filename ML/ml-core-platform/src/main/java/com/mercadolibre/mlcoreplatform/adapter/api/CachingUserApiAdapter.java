@@ -0,0 +1,56 @@
+package com.mercadolibre.mlcoreplatform.adapter.api;
+
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.ApiCaches;
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.CacheSpec;
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.LocalCache;
+import com.mercadolibre.mlcoreplatform.domain.port.out.UserApiPort;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.UserSearchRequest;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.PaymentMethodResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.UserResponse;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link UserApiAdapter} behind caches, with short lifetimes since a user's listings and saved
+ * payment methods do change.
+ */
+@Primary
+@Component
+public class CachingUserApiAdapter implements UserApiPort {
+
+    private final UserApiAdapter delegate;
+    private final LocalCache<List<Object>, List<ProductResponse>> items;
+    private final LocalCache<String, List<PaymentMethodResponse>> paymentMethods;
+    private final LocalCache<UserSearchRequest, List<UserResponse>> searches;
+
+    public CachingUserApiAdapter(UserApiAdapter delegate, ApiCaches caches) {
+        this.delegate = delegate;
+        this.items = caches.cache("user-items",
+                CacheSpec.of(Duration.ofMinutes(1), 20_000), ApiCaches::weightOf);
+        this.paymentMethods = caches.cache("user-payment-methods",
+                CacheSpec.of(Duration.ofMinutes(5), 5_000), ApiCaches::weightOf);
+        this.searches = caches.cache("user-search",
+                CacheSpec.of(Duration.ofMinutes(1), 10_000), ApiCaches::weightOf);
+    }
+
+    @Override
+    public List<ProductResponse> getUserItems(String userId, int offset, int limit) {
+        return items.get(Arrays.asList(userId, offset, limit),
+                key -> ApiCaches.copyOf(delegate.getUserItems(userId, offset, limit)));
+    }
+
+    @Override
+    public List<PaymentMethodResponse> getUserPaymentMethods(String userId) {
+        return paymentMethods.get(userId, id -> ApiCaches.copyOf(delegate.getUserPaymentMethods(id)));
+    }
+
+    @Override
+    public List<UserResponse> searchUsers(UserSearchRequest request) {
+        return searches.get(request, search -> ApiCaches.copyOf(delegate.searchUsers(search)));
+    }
+}
@@ -1,18 +1,26 @@
 package com.mercadolibre.mlcoreplatform.adapter.api;
 
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchCriteria;
 import com.mercadolibre.mlcoreplatform.domain.port.out.ProductApiPort;
+import com.mercadolibre.mlcoreplatform.domain.port.out.SearchApiPort;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.ProductSearchRequest;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductDescriptionResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ShippingOptionsResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Component
+@RequiredArgsConstructor
 public class ProductApiAdapter implements ProductApiPort {
 
+    static final int DEFAULT_LIMIT = 50;
+
+    private final SearchApiPort searchApiPort;
+
     @Override
     public ProductDescriptionResponse getProductDescription(String productId) {
         // Mock implementation for testing
@@ -33,7 +41,19 @@ public class ProductApiAdapter implements ProductApiPort {
 
     @Override
     public List<ProductResponse> searchProducts(ProductSearchRequest request) {
-        // Mock implementation for testing
-        return new ArrayList<>();
+        // Same engine as the site search; payment method and location are not indexed yet
+        SearchCriteria criteria = SearchCriteria.builder()
+                .siteId(request.siteId())
+                .query(request.query())
+                .categoryId(request.categoryId())
+                .condition(request.condition())
+                .minPrice(request.minPrice())
+                .maxPrice(request.maxPrice())
+                .shipping(request.shippingType())
+                .sort(request.sortBy())
+                .offset(request.offset() != null ? request.offset() : 0)
+                .limit(request.limit() != null ? request.limit() : DEFAULT_LIMIT)
+                .build();
+        return searchApiPort.searchProducts(criteria);
     }
 }
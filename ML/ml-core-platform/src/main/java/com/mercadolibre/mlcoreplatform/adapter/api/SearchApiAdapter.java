@@ -1,19 +1,67 @@
 package com.mercadolibre.mlcoreplatform.adapter.api;
 
-import com.mercadolibre.mlcoreplatform.domain.port.out.SearchApiPort;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ProductDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
 import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchCriteria;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchPage;
+import com.mercadolibre.mlcoreplatform.domain.port.out.CategoryPersistencePort;
+import com.mercadolibre.mlcoreplatform.domain.port.out.ProductPersistencePort;
+import com.mercadolibre.mlcoreplatform.domain.port.out.SearchApiPort;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
+import java.math.BigDecimal;
 import java.util.List;
 
+/**
+ * Search served in-process from the product store's full-text index instead of a remote search API.
+ */
 @Component
+@RequiredArgsConstructor
 public class SearchApiAdapter implements SearchApiPort {
 
+    private final ProductPersistencePort productPersistencePort;
+    private final CategoryPersistencePort categoryPersistencePort;
+
     @Override
     public List<ProductResponse> searchProducts(SearchCriteria criteria) {
-        // Mock implementation for testing
-        return new ArrayList<>();
+        return productPersistencePort.search(criteria, categoriesOf(criteria.categoryId()), false)
+                .items().stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    @Override
+    public SearchPage<ProductResponse> search(SearchCriteria criteria) {
+        return productPersistencePort.search(criteria, categoriesOf(criteria.categoryId()), true)
+                .map(this::mapToResponse);
+    }
+
+    // A category filter covers its whole subtree; ids missing from the tree still match listings directly
+    private List<String> categoriesOf(String categoryId) {
+        if (categoryId == null || categoryId.isBlank()) {
+            return List.of();
+        }
+        List<String> subtree = categoryPersistencePort.findSubtreeIds(categoryId);
+        return subtree.isEmpty() ? List.of(categoryId) : subtree;
+    }
+
+    private ProductResponse mapToResponse(ProductDto productDto) {
+        return ProductResponse.builder()
+                .id(productDto.id())
+                .title(productDto.title())
+                .categoryId(productDto.categoryId())
+                .price(productDto.price() != null ? BigDecimal.valueOf(productDto.price()) : null)
+                .currencyId(productDto.currencyId())
+                .availableQuantity(productDto.availableQuantity())
+                .condition(productDto.condition())
+                .permalink(productDto.permalink())
+                .thumbnailId(productDto.thumbnail())
+                .dateCreated(Timestamps.toLocalDateTime(productDto.dateCreated()))
+                .lastUpdated(Timestamps.toLocalDateTime(productDto.lastUpdated()))
+                .sellerId(productDto.sellerId() != null ? productDto.sellerId().toString() : null)
+                .warranty(productDto.warranty())
+                .build();
     }
 }
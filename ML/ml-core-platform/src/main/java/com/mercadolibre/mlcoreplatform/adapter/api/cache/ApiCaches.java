@@ -0,0 +1,105 @@
+package com.mercadolibre.mlcoreplatform.adapter.api.cache;
+
+import com.mercadolibre.mlcoreplatform.config.DaemonThreads;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.ToIntFunction;
+
+/**
+ * The {@link LocalCache}s in front of the external API ports, each set up from its defaults in code
+ * and overridable per cache name:
+ *
+ * <pre>
+ * ml.api-cache.enabled=true                     # all of them
+ * ml.api-cache.payment-methods.enabled=true
+ * ml.api-cache.payment-methods.ttl=10m
+ * ml.api-cache.payment-methods.max-weight=1000
+ * ml.api-cache.payment-methods.refresh-ahead=2m
+ * ml.api-cache.payment-methods.coalesce=true    # concurrent loads of one key run once
+ * </pre>
+ *
+ * Also owns the threads that reload hot entries ahead of expiry.
+ */
+@Component
+public class ApiCaches implements DisposableBean {
+
+    private static final String PREFIX = "ml.api-cache.";
+
+    private final Environment environment;
+    private final ExecutorService refreshExecutor;
+    private final Map<String, LocalCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    public ApiCaches(Environment environment, @Value("${ml.api-cache.refresh-threads:2}") int refreshThreads) {
+        this.environment = environment;
+        this.refreshExecutor = Executors.newFixedThreadPool(refreshThreads, DaemonThreads.named("api-cache-refresh"));
+    }
+
+    /**
+     * A new cache named {@code name}, configured by its properties where set and {@code defaults}
+     * elsewhere, with each value weighing what {@code weigher} says (at least 1).
+     */
+    public <K, V> LocalCache<K, V> cache(String name, CacheSpec defaults, ToIntFunction<? super V> weigher) {
+        LocalCache<K, V> cache = new LocalCache<>(name, specOf(name, defaults), weigher, refreshExecutor);
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("Duplicate API cache: " + name);
+        }
+        return cache;
+    }
+
+    /**
+     * Statistics of every cache, by name.
+     */
+    public Map<String, CacheStats> stats() {
+        Map<String, CacheStats> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.stats()));
+        return stats;
+    }
+
+    /**
+     * An unmodifiable copy of a port's list result, so a cached list can be handed to every caller.
+     */
+    public static <T> List<T> copyOf(List<T> list) {
+        return list == null ? null : Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    /**
+     * Weight of a list result: one per element, plus one for the entry itself.
+     */
+    public static int weightOf(List<?> list) {
+        return list.size() + 1;
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    CacheSpec specOf(String name, CacheSpec defaults) {
+        String prefix = PREFIX + name + ".";
+        boolean enabled = environment.getProperty(PREFIX + "enabled", Boolean.class, true)
+                && environment.getProperty(prefix + "enabled", Boolean.class, defaults.enabled());
+        return new CacheSpec(enabled,
+                duration(prefix + "ttl", defaults.ttl()),
+                environment.getProperty(prefix + "max-weight", Long.class, defaults.maxWeight()),
+                duration(prefix + "refresh-ahead", defaults.refreshAhead()),
+                environment.getProperty(prefix + "coalesce", Boolean.class, defaults.coalesce()));
+    }
+
+    private Duration duration(String property, Duration defaultValue) {
+        String value = environment.getProperty(property);
+        return value == null || value.isBlank() ? defaultValue : DurationStyle.detectAndParse(value);
+    }
+}
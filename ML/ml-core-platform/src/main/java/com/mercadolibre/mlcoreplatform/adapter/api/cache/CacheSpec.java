@@ -0,0 +1,32 @@
+package com.mercadolibre.mlcoreplatform.adapter.api.cache;
+
+import java.time.Duration;
+
+/**
+ * How one {@link LocalCache} behaves: entries live for {@code ttl}, the cache holds up to
+ * {@code maxWeight} (entries, or elements for list results, depending on its weigher), and a hot
+ * entry read within {@code refreshAhead} of expiring is reloaded in the background. A disabled
+ * cache passes every call straight to its loader. With {@code coalesce}, concurrent loads of one key
+ * (misses, or every call when disabled) run once and share the outcome ({@link SingleFlight}).
+ */
+public record CacheSpec(boolean enabled, Duration ttl, long maxWeight, Duration refreshAhead, boolean coalesce) {
+
+    public CacheSpec {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache ttl must be positive: " + ttl);
+        }
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("Cache max weight must be positive: " + maxWeight);
+        }
+        if (refreshAhead == null || refreshAhead.isNegative()) {
+            refreshAhead = Duration.ZERO;
+        }
+    }
+
+    /**
+     * Enabled and coalescing, refreshing hot entries over the last fifth of their life.
+     */
+    public static CacheSpec of(Duration ttl, long maxWeight) {
+        return new CacheSpec(true, ttl, maxWeight, ttl.dividedBy(5), true);
+    }
+}
@@ -0,0 +1,19 @@
+package com.mercadolibre.mlcoreplatform.adapter.api.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Counters of one {@link LocalCache} since startup. {@code loads} are the calls that reached the
+ * loader (misses and refreshes), {@code loadFailures} those that threw, and {@code collapsed} the
+ * misses that waited for a load of the same key already running instead of starting their own;
+ * evictions count entries dropped for room or because they had expired when it came to that.
+ */
+public record CacheStats(long hits, long misses, long loads, long loadFailures, long collapsed, long refreshes,
+                         long evictions, long evictionWeight, long size, long weight) {
+
+    @JsonProperty
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+}
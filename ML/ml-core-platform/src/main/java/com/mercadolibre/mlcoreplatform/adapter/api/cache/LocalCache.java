@@ -0,0 +1,426 @@
+package com.mercadolibre.mlcoreplatform.adapter.api.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * A bounded, expiring read-through cache with W-TinyLFU eviction.
+ * <p>
+ * New entries go through a small LRU window (1% of the weight); what falls out of it joins the
+ * probation segment of the main space and, when the cache is full, has to beat the entry at the
+ * probation head on estimated access frequency ({@link FrequencySketch}) to stay. A hit in probation
+ * promotes the entry to the protected segment (80% of the main space). One-off reads such as a scan
+ * of many ids therefore can't flush the entries that keep being asked for.
+ * <p>
+ * Reads are lock-free; the access order is updated under a lock that hits only try to take, so
+ * under contention some reorderings are dropped rather than waited for. Loads run on the calling
+ * thread; concurrent misses of one key wait for the first one's load unless the spec says not to
+ * coalesce. Null results and failures are not cached, and
+ * a null key skips the cache.
+ */
+public final class LocalCache<K, V> {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final int REMOVED = 3;
+
+    // Asked for this often recently (the load that cached it counts once) to be worth reloading early
+    private static final int HOT_FREQUENCY = 3;
+
+    private final String name;
+    private final CacheSpec spec;
+    private final ToIntFunction<? super V> weigher;
+    private final Executor refreshExecutor;
+    private final LongSupplier ticker;
+    private final SingleFlight<K, V> flight;
+    private final long ttlNanos;
+    private final long refreshAheadNanos;
+
+    private final Map<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock policyLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final AccessQueue<K, V> window = new AccessQueue<>();
+    private final AccessQueue<K, V> probation = new AccessQueue<>();
+    private final AccessQueue<K, V> protectedQueue = new AccessQueue<>();
+    private final long maxWindowWeight;
+    private final long maxProtectedWeight;
+    private long windowWeight;
+    private long protectedWeight;
+    private volatile long totalWeight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder evictionWeight = new LongAdder();
+
+    public LocalCache(String name, CacheSpec spec, ToIntFunction<? super V> weigher, Executor refreshExecutor) {
+        this(name, spec, weigher, refreshExecutor, System::nanoTime);
+    }
+
+    LocalCache(String name, CacheSpec spec, ToIntFunction<? super V> weigher, Executor refreshExecutor, LongSupplier ticker) {
+        this.name = name;
+        this.spec = spec;
+        this.weigher = weigher;
+        this.refreshExecutor = refreshExecutor;
+        this.ticker = ticker;
+        this.flight = new SingleFlight<>(spec.coalesce());
+        this.ttlNanos = spec.ttl().toNanos();
+        this.refreshAheadNanos = Math.min(spec.refreshAhead().toNanos(), ttlNanos);
+        this.sketch = new FrequencySketch(spec.maxWeight());
+        this.maxWindowWeight = Math.max(1, spec.maxWeight() / 100);
+        this.maxProtectedWeight = (spec.maxWeight() - maxWindowWeight) * 4 / 5;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * The live value for {@code key}, else what {@code loader} returns for it (kept unless null).
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        if (!spec.enabled() || key == null) {
+            return flight.execute(key, loader);
+        }
+        long now = ticker.getAsLong();
+        Node<K, V> node = data.get(key);
+        if (node != null && node.expiresAt - now > 0) {
+            hits.increment();
+            V value = node.value;
+            int frequency = onHit(node);
+            if (frequency >= HOT_FREQUENCY && node.expiresAt - now <= refreshAheadNanos) {
+                refresh(node, loader);
+            }
+            return value;
+        }
+        misses.increment();
+        return flight.execute(key, missing -> {
+            V value = load(missing, loader);
+            if (value != null) {
+                put(missing, value, ticker.getAsLong());
+            }
+            return value;
+        });
+    }
+
+    /**
+     * The live value for {@code key}, or null; counted as a hit or a miss like {@link #get}.
+     */
+    public V getIfPresent(K key) {
+        if (!spec.enabled() || key == null) {
+            return null;
+        }
+        Node<K, V> node = data.get(key);
+        if (node != null && node.expiresAt - ticker.getAsLong() > 0) {
+            hits.increment();
+            V value = node.value;
+            onHit(node);
+            return value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Keeps {@code value} for {@code key} as if it had just been loaded.
+     */
+    public void put(K key, V value) {
+        if (spec.enabled() && key != null && value != null) {
+            put(key, value, ticker.getAsLong());
+        }
+    }
+
+    public void invalidate(K key) {
+        if (key == null) {
+            return;
+        }
+        policyLock.lock();
+        try {
+            Node<K, V> node = data.remove(key);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        policyLock.lock();
+        try {
+            data.values().forEach(this::unlink);
+            data.clear();
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), loads.sum(), loadFailures.sum(), flight.collapsed(),
+                refreshes.sum(), evictions.sum(), evictionWeight.sum(), data.size(), totalWeight);
+    }
+
+    private V load(K key, Function<? super K, ? extends V> loader) {
+        loads.increment();
+        try {
+            return loader.apply(key);
+        } catch (RuntimeException | Error e) {
+            loadFailures.increment();
+            throw e;
+        }
+    }
+
+    private void put(K key, V value, long now) {
+        int weight = weightOf(value);
+        policyLock.lock();
+        try {
+            sketch.increment(key);
+            Node<K, V> previous = data.remove(key);
+            if (previous != null) {
+                unlink(previous);
+            }
+            if (weight > spec.maxWeight()) {
+                return;
+            }
+            Node<K, V> node = new Node<>(key, value, weight, now + ttlNanos);
+            data.put(key, node);
+            node.queue = WINDOW;
+            window.addLast(node);
+            windowWeight += weight;
+            totalWeight += weight;
+            evict();
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    // The sketch frequency after this read, or 0 when the lock was busy and the read went unrecorded
+    private int onHit(Node<K, V> node) {
+        if (!policyLock.tryLock()) {
+            return 0;
+        }
+        try {
+            sketch.increment(node.key);
+            switch (node.queue) {
+                case WINDOW -> window.moveToEnd(node);
+                case PROBATION -> promote(node);
+                case PROTECTED -> protectedQueue.moveToEnd(node);
+                default -> {
+                }
+            }
+            return sketch.frequency(node.key);
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    private void refresh(Node<K, V> node, Function<? super K, ? extends V> loader) {
+        if (!node.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        refreshes.increment();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    V value = load(node.key, loader);
+                    if (value != null) {
+                        replace(node, value);
+                    }
+                } catch (RuntimeException e) {
+                    // Counted as a load failure; the current value serves until it expires
+                } finally {
+                    node.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            node.refreshing.set(false);
+        }
+    }
+
+    // A refreshed value takes the node's place in its segment instead of starting over in the window
+    private void replace(Node<K, V> node, V value) {
+        int weight = weightOf(value);
+        policyLock.lock();
+        try {
+            if (node.queue == REMOVED || data.get(node.key) != node) {
+                return;
+            }
+            if (weight > spec.maxWeight()) {
+                data.remove(node.key, node);
+                unlink(node);
+                return;
+            }
+            int delta = weight - node.weight;
+            node.weight = weight;
+            node.value = value;
+            node.expiresAt = ticker.getAsLong() + ttlNanos;
+            totalWeight += delta;
+            if (node.queue == WINDOW) {
+                windowWeight += delta;
+            } else if (node.queue == PROTECTED) {
+                protectedWeight += delta;
+            }
+            evict();
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    private void promote(Node<K, V> node) {
+        probation.remove(node);
+        node.queue = PROTECTED;
+        protectedQueue.addLast(node);
+        protectedWeight += node.weight;
+        while (protectedWeight > maxProtectedWeight && protectedQueue.first != node) {
+            Node<K, V> demoted = protectedQueue.pollFirst();
+            protectedWeight -= demoted.weight;
+            demoted.queue = PROBATION;
+            probation.addLast(demoted);
+        }
+    }
+
+    /*
+     * Moves the window overflow to the probation tail, then, while over weight, matches the oldest
+     * of those candidates against the probation head and evicts whichever was read less.
+     */
+    private void evict() {
+        Node<K, V> candidate = null;
+        while (windowWeight > maxWindowWeight && window.first != null) {
+            Node<K, V> node = window.pollFirst();
+            windowWeight -= node.weight;
+            node.queue = PROBATION;
+            probation.addLast(node);
+            if (candidate == null) {
+                candidate = node;
+            }
+        }
+        while (totalWeight > spec.maxWeight()) {
+            Node<K, V> victim = probation.first;
+            if (victim == null) {
+                victim = protectedQueue.first != null ? protectedQueue.first : window.first;
+                evict(victim);
+                continue;
+            }
+            if (candidate == null || candidate == victim) {
+                if (candidate == victim) {
+                    candidate = victim.next;
+                }
+                evict(victim);
+            } else if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evict(victim);
+            } else {
+                Node<K, V> next = candidate.next;
+                evict(candidate);
+                candidate = next;
+            }
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        data.remove(node.key, node);
+        unlink(node);
+        evictions.increment();
+        evictionWeight.add(node.weight);
+    }
+
+    private void unlink(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW -> {
+                window.remove(node);
+                windowWeight -= node.weight;
+            }
+            case PROBATION -> probation.remove(node);
+            case PROTECTED -> {
+                protectedQueue.remove(node);
+                protectedWeight -= node.weight;
+            }
+            default -> {
+                return;
+            }
+        }
+        totalWeight -= node.weight;
+        node.queue = REMOVED;
+    }
+
+    private int weightOf(V value) {
+        return Math.max(1, weigher.applyAsInt(value));
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+        volatile V value;
+        volatile long expiresAt;
+        // Guarded by the policy lock
+        int weight;
+        int queue;
+        Node<K, V> previous;
+        Node<K, V> next;
+
+        Node(K key, V value, int weight, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    // Doubly linked through the nodes themselves, least recently used first
+    private static final class AccessQueue<K, V> {
+        Node<K, V> first;
+        Node<K, V> last;
+
+        void addLast(Node<K, V> node) {
+            node.previous = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+        }
+
+        Node<K, V> pollFirst() {
+            Node<K, V> node = first;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        void moveToEnd(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.previous == null) {
+                first = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+        }
+    }
+}
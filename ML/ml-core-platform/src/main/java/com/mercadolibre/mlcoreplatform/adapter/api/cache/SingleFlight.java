@@ -0,0 +1,121 @@
+package com.mercadolibre.mlcoreplatform.adapter.api.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Collapses concurrent calls for one key into a single execution: the first caller runs the loader
+ * and every call for the same key that arrives while it runs gets its result, or its exception,
+ * instead of running it again. Once the execution is over the next call starts a new one; nothing
+ * is kept. Sync and async calls for a key share the same execution.
+ * <p>
+ * A loader must not call back into the same flight with the same key: it would wait for itself.
+ */
+public final class SingleFlight<K, V> {
+
+    private final boolean enabled;
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+
+    public SingleFlight(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * What {@code loader} returns for {@code key}, run here unless a call for the key is in flight,
+     * in which case this waits for that one.
+     */
+    public V execute(K key, Function<? super K, ? extends V> loader) {
+        if (!enabled || key == null) {
+            executions.increment();
+            return loader.apply(key);
+        }
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            collapsed.increment();
+            return await(leader);
+        }
+        executions.increment();
+        try {
+            V value = loader.apply(key);
+            inFlight.remove(key, flight);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * The async counterpart of {@link #execute}: a call for a key in flight gets that execution's
+     * outcome. Each caller gets its own future, so cancelling one leaves the others alone.
+     */
+    public CompletableFuture<V> executeAsync(K key, Function<? super K, ? extends CompletionStage<V>> loader) {
+        if (!enabled || key == null) {
+            executions.increment();
+            return loader.apply(key).toCompletableFuture().copy();
+        }
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            collapsed.increment();
+            return leader.copy();
+        }
+        executions.increment();
+        try {
+            loader.apply(key).whenComplete((value, failure) -> {
+                inFlight.remove(key, flight);
+                if (failure != null) {
+                    flight.completeExceptionally(failure);
+                } else {
+                    flight.complete(value);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+        }
+        return flight.copy();
+    }
+
+    /**
+     * Calls that ran their loader.
+     */
+    public long executions() {
+        return executions.sum();
+    }
+
+    /**
+     * Calls that got the outcome of another call's execution instead of running their own.
+     */
+    public long collapsed() {
+        return collapsed.sum();
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
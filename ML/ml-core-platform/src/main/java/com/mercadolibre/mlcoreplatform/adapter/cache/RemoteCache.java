@@ -0,0 +1,187 @@
+package com.mercadolibre.mlcoreplatform.adapter.cache;
+
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.ApiCaches;
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.CacheSpec;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The shared far tier behind {@link TwoTierCache}s: a Redis (or Redis-protocol) server reached over
+ * a small pool of pipelined connections ({@code ml.near-cache.connections}), each serving one
+ * lookup at a time. A lookup that finds every connection busy for longer than the timeout is a miss.
+ * Entries are never deleted: they are only read back under the data generation they were written
+ * for, and expire after {@code ml.near-cache.ttl}.
+ * <p>
+ * When the server can't be reached it is left alone for {@code retry-after}: reads come back as
+ * misses and writes are skipped, so the caches keep working from their near tier and the stores.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ml.near-cache.enabled", havingValue = "true")
+public class RemoteCache implements DisposableBean {
+
+    // Keys per MGET; larger lookups send several in one pipeline
+    static final int MGET_BATCH = 100;
+    // Keys known to be absent, per namespace; short-lived so a key created elsewhere shows up soon
+    static final CacheSpec ABSENT_DEFAULTS = new CacheSpec(true, Duration.ofMinutes(1), 10_000, Duration.ZERO, false);
+
+    private final JsonCodecs jsonCodecs;
+    private final ApiCaches apiCaches;
+    private final String host;
+    private final int port;
+    private final Duration timeout;
+    private final Duration ttl;
+    private final long retryAfterMillis;
+    // Connections not in use; each is taken by one lookup at a time
+    private final BlockingQueue<RespClient> idle;
+    private volatile long downUntil;
+    private volatile boolean available = true;
+    private volatile boolean closed;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    public RemoteCache(JsonCodecs jsonCodecs, ApiCaches apiCaches,
+                       @Value("${ml.near-cache.host:localhost}") String host,
+                       @Value("${ml.near-cache.port:6379}") int port,
+                       @Value("${ml.near-cache.timeout:PT2S}") Duration timeout,
+                       @Value("${ml.near-cache.connections:4}") int connections,
+                       @Value("${ml.near-cache.ttl:PT10M}") Duration ttl,
+                       @Value("${ml.near-cache.retry-after:PT5S}") Duration retryAfter) {
+        this.jsonCodecs = jsonCodecs;
+        this.apiCaches = apiCaches;
+        this.host = host;
+        this.port = port;
+        this.timeout = timeout;
+        this.ttl = ttl;
+        this.retryAfterMillis = retryAfter.toMillis();
+        this.idle = new ArrayBlockingQueue<>(Math.max(connections, 1));
+        while (idle.remainingCapacity() > 0) {
+            idle.add(new RespClient(host, port, timeout));
+        }
+    }
+
+    /**
+     * A two-tier cache of {@code type} values under {@code namespace}. Its near tier is the API cache
+     * {@code near-<namespace>} and the keys it knows to be absent the API cache
+     * {@code absent-<namespace>}, so both are configured and reported like those.
+     */
+    public <V> TwoTierCache<V> cache(String namespace, CacheSpec nearDefaults, Class<V> type) {
+        return new TwoTierCache<>(namespace, apiCaches.cache("near-" + namespace, nearDefaults, value -> 1),
+                apiCaches.cache("absent-" + namespace, ABSENT_DEFAULTS, value -> 1),
+                this, new TreeCodec<>(jsonCodecs.objectMapper(), jsonCodecs.objectMapper().constructType(type)));
+    }
+
+    @Override
+    public void destroy() {
+        closed = true;
+        idle.forEach(RespClient::close);
+    }
+
+    public Stats stats() {
+        return Stats.builder()
+                .available(available)
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .errors(errors.sum())
+                .build();
+    }
+
+    /**
+     * The values under {@code keys}, null for each one missing; all null when the server is down.
+     */
+    List<byte[]> mget(List<String> keys) {
+        List<byte[][]> commands = new ArrayList<>();
+        List<Integer> batchSizes = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += MGET_BATCH) {
+            List<String> batch = keys.subList(from, Math.min(keys.size(), from + MGET_BATCH));
+            Object[] args = new Object[batch.size() + 1];
+            args[0] = "MGET";
+            for (int i = 0; i < batch.size(); i++) {
+                args[i + 1] = batch.get(i);
+            }
+            commands.add(RespClient.command(args));
+            batchSizes.add(batch.size());
+        }
+        List<Object> replies = execute(commands);
+        List<byte[]> values = new ArrayList<>(keys.size());
+        for (int b = 0; b < batchSizes.size(); b++) {
+            // A batch that failed (or came back short) is all misses, so later batches stay on their keys
+            int size = batchSizes.get(b);
+            List<?> items = replies != null && b < replies.size() && replies.get(b) instanceof List<?> list ? list : List.of();
+            for (int i = 0; i < size; i++) {
+                values.add(i < items.size() && items.get(i) instanceof byte[] bytes ? bytes : null);
+            }
+        }
+        values.forEach(value -> (value != null ? hits : misses).increment());
+        return values;
+    }
+
+    /**
+     * Stores each value under its key for the far tier's ttl, in one pipeline.
+     */
+    void set(List<String> keys, List<byte[]> values) {
+        List<byte[][]> commands = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            commands.add(RespClient.command("SET", keys.get(i), values.get(i), "PX", ttl.toMillis()));
+        }
+        execute(commands);
+    }
+
+    private List<Object> execute(List<byte[][]> commands) {
+        if (commands.isEmpty() || closed || System.currentTimeMillis() < downUntil) {
+            return null;
+        }
+        RespClient client;
+        try {
+            client = idle.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        if (client == null) {
+            errors.increment();
+            return null;
+        }
+        try {
+            List<Object> replies = client.pipeline(commands);
+            if (!available) {
+                available = true;
+                log.info("Near cache server {}:{} is reachable again", host, port);
+            }
+            return replies;
+        } catch (IOException e) {
+            errors.increment();
+            downUntil = System.currentTimeMillis() + retryAfterMillis;
+            if (available) {
+                available = false;
+                log.warn("Near cache server {}:{} is unreachable, serving from the local tier only: {}", host, port, e.toString());
+            }
+            return null;
+        } finally {
+            idle.add(client);
+            if (closed) {
+                client.close();
+            }
+        }
+    }
+
+    @Builder
+    public record Stats(boolean available, long hits, long misses, long errors) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.mercadolibre.mlcoreplatform.adapter.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One connection speaking RESP2, the Redis protocol, with commands sent in pipelined batches: all
+ * of a batch is written and flushed at once and the replies are read back in order, so a batch
+ * costs one round trip. Replies are {@code String} (simple strings), {@code Long}, {@code byte[]}
+ * (bulk strings, null when absent), {@code List<Object>} and {@link ErrorReply}.
+ * <p>
+ * Connects on first use. Not thread-safe; after an {@link IOException} the connection is closed
+ * and the next call opens a new one.
+ */
+final class RespClient implements Closeable {
+
+    record ErrorReply(String message) {
+    }
+
+    private final String host;
+    private final int port;
+    private final int timeoutMillis;
+    private Socket socket;
+    private InputStream in;
+    private OutputStream out;
+
+    RespClient(String host, int port, Duration timeout) {
+        this.host = host;
+        this.port = port;
+        this.timeoutMillis = (int) Math.min(Integer.MAX_VALUE, timeout.toMillis());
+    }
+
+    static byte[][] command(Object... args) {
+        byte[][] command = new byte[args.length][];
+        for (int i = 0; i < args.length; i++) {
+            command[i] = args[i] instanceof byte[] bytes ? bytes : String.valueOf(args[i]).getBytes(StandardCharsets.UTF_8);
+        }
+        return command;
+    }
+
+    Object call(Object... args) throws IOException {
+        return pipeline(Collections.singletonList(command(args))).get(0);
+    }
+
+    List<Object> pipeline(List<byte[][]> commands) throws IOException {
+        try {
+            connect();
+            for (byte[][] command : commands) {
+                write(command);
+            }
+            out.flush();
+            List<Object> replies = new ArrayList<>(commands.size());
+            for (int i = 0; i < commands.size(); i++) {
+                replies.add(read());
+            }
+            return replies;
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // Closing anyway
+            }
+        }
+        socket = null;
+        in = null;
+        out = null;
+    }
+
+    private void connect() throws IOException {
+        if (socket != null) {
+            return;
+        }
+        Socket connection = new Socket();
+        try {
+            connection.setTcpNoDelay(true);
+            connection.connect(new InetSocketAddress(host, port), timeoutMillis);
+            connection.setSoTimeout(timeoutMillis);
+        } catch (IOException e) {
+            connection.close();
+            throw e;
+        }
+        socket = connection;
+        in = new BufferedInputStream(connection.getInputStream(), 16 * 1024);
+        out = new BufferedOutputStream(connection.getOutputStream(), 16 * 1024);
+    }
+
+    private void write(byte[][] command) throws IOException {
+        out.write('*');
+        writeNumber(command.length);
+        for (byte[] arg : command) {
+            out.write('$');
+            writeNumber(arg.length);
+            out.write(arg);
+            out.write('\r');
+            out.write('\n');
+        }
+    }
+
+    private void writeNumber(long number) throws IOException {
+        out.write(Long.toString(number).getBytes(StandardCharsets.US_ASCII));
+        out.write('\r');
+        out.write('\n');
+    }
+
+    private Object read() throws IOException {
+        int type = in.read();
+        return switch (type) {
+            case '+' -> readLine();
+            case '-' -> new ErrorReply(readLine());
+            case ':' -> Long.parseLong(readLine());
+            case '$' -> readBulk(Integer.parseInt(readLine()));
+            case '*' -> {
+                int count = Integer.parseInt(readLine());
+                if (count < 0) {
+                    yield null;
+                }
+                List<Object> items = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    items.add(read());
+                }
+                yield items;
+            }
+            case -1 -> throw new EOFException("Connection closed by " + host + ":" + port);
+            default -> throw new IOException("Unexpected RESP type byte: " + type);
+        };
+    }
+
+    private byte[] readBulk(int length) throws IOException {
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length || in.read() != '\r' || in.read() != '\n') {
+            throw new EOFException("Truncated bulk reply from " + host + ":" + port);
+        }
+        return bytes;
+    }
+
+    private String readLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\r') {
+            if (c == -1) {
+                throw new EOFException("Connection closed by " + host + ":" + port);
+            }
+            line.append((char) c);
+        }
+        if (in.read() != '\n') {
+            throw new IOException("Malformed RESP line from " + host + ":" + port);
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,267 @@
+package com.mercadolibre.mlcoreplatform.adapter.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Values as they go into the remote cache: the value's JSON tree in a tagged binary form rather than
+ * JSON text. Integers are zigzag varints, doubles 8 bytes, and every string (field names included)
+ * is written once per value and referenced by index after that, so the field names of a list of
+ * records and repeated values such as site or currency ids cost a byte or two each. Null fields are
+ * left out. The first byte is the format version; anything else decodes to null, i.e. a miss.
+ *
+ * <pre>
+ * 0 null | 1 false | 2 true | 3 int: zigzag varint | 4 double: 8 bytes | 5 string: varint length, UTF-8
+ * 6 string reference: varint index | 7 array: varint count, items | 8 object: varint count, (name, value) pairs
+ * 9 decimal: string | 10 binary: varint length, bytes
+ * </pre>
+ */
+final class TreeCodec<V> {
+
+    static final int FORMAT = 1;
+
+    private static final int NULL = 0;
+    private static final int FALSE = 1;
+    private static final int TRUE = 2;
+    private static final int INT = 3;
+    private static final int DOUBLE = 4;
+    private static final int STRING = 5;
+    private static final int STRING_REF = 6;
+    private static final int ARRAY = 7;
+    private static final int OBJECT = 8;
+    private static final int DECIMAL = 9;
+    private static final int BINARY = 10;
+
+    private final ObjectMapper objectMapper;
+    private final JavaType type;
+
+    TreeCodec(ObjectMapper objectMapper, JavaType type) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+    }
+
+    byte[] encode(V value) {
+        Writer writer = new Writer();
+        writer.write(FORMAT);
+        writer.node(objectMapper.valueToTree(value));
+        return writer.toByteArray();
+    }
+
+    V decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0 || bytes[0] != FORMAT) {
+            return null;
+        }
+        try {
+            return objectMapper.treeToValue(new Reader(bytes).node(), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Writer {
+        private final Map<String, Integer> strings = new HashMap<>();
+        private byte[] buffer = new byte[256];
+        private int size;
+
+        void node(JsonNode node) {
+            switch (node.getNodeType()) {
+                case BOOLEAN -> write(node.booleanValue() ? TRUE : FALSE);
+                case NUMBER -> number(node);
+                case STRING -> string(node.textValue());
+                case BINARY -> {
+                    byte[] bytes = binaryOf(node);
+                    write(BINARY);
+                    varint(bytes.length);
+                    write(bytes);
+                }
+                case ARRAY -> {
+                    write(ARRAY);
+                    varint(node.size());
+                    node.forEach(this::node);
+                }
+                case OBJECT -> object(node);
+                default -> write(NULL);
+            }
+        }
+
+        private void number(JsonNode node) {
+            if (node.isIntegralNumber() && node.canConvertToLong()) {
+                write(INT);
+                long value = node.longValue();
+                varint((value << 1) ^ (value >> 63));
+            } else if (node.isFloatingPointNumber() && !node.isBigDecimal()) {
+                write(DOUBLE);
+                long bits = Double.doubleToRawLongBits(node.doubleValue());
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    write((int) (bits >>> shift));
+                }
+            } else {
+                write(DECIMAL);
+                string(node.decimalValue().toString());
+            }
+        }
+
+        private void object(JsonNode node) {
+            List<Map.Entry<String, JsonNode>> fields = new ArrayList<>(node.size());
+            for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = it.next();
+                if (!field.getValue().isNull() && !field.getValue().isMissingNode()) {
+                    fields.add(field);
+                }
+            }
+            write(OBJECT);
+            varint(fields.size());
+            for (Map.Entry<String, JsonNode> field : fields) {
+                string(field.getKey());
+                node(field.getValue());
+            }
+        }
+
+        private void string(String value) {
+            Integer index = strings.get(value);
+            if (index != null) {
+                write(STRING_REF);
+                varint(index);
+                return;
+            }
+            strings.put(value, strings.size());
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            write(STRING);
+            varint(bytes.length);
+            write(bytes);
+        }
+
+        private static byte[] binaryOf(JsonNode node) {
+            try {
+                return node.binaryValue();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void varint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void write(int b) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            buffer[size++] = (byte) b;
+        }
+
+        void write(byte[] bytes) {
+            if (size + bytes.length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(size * 2, size + bytes.length));
+            }
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+    }
+
+    private static final class Reader {
+        private final JsonNodeFactory nodes = JsonNodeFactory.instance;
+        private final List<String> strings = new ArrayList<>();
+        private final byte[] bytes;
+        private int position = 1;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        JsonNode node() {
+            int tag = bytes[position++];
+            return switch (tag) {
+                case NULL -> nodes.nullNode();
+                case FALSE -> nodes.booleanNode(false);
+                case TRUE -> nodes.booleanNode(true);
+                case INT -> {
+                    long zigzag = varint();
+                    long value = (zigzag >>> 1) ^ -(zigzag & 1);
+                    yield value == (int) value ? nodes.numberNode((int) value) : nodes.numberNode(value);
+                }
+                case DOUBLE -> {
+                    long bits = 0;
+                    for (int i = 0; i < 8; i++) {
+                        bits = (bits << 8) | (bytes[position++] & 0xFF);
+                    }
+                    yield nodes.numberNode(Double.longBitsToDouble(bits));
+                }
+                case STRING, STRING_REF -> nodes.textNode(string(tag));
+                case DECIMAL -> nodes.numberNode(new BigDecimal(string(bytes[position++])));
+                case BINARY -> {
+                    int length = (int) varint();
+                    byte[] value = Arrays.copyOfRange(bytes, position, position + length);
+                    position += length;
+                    yield nodes.binaryNode(value);
+                }
+                case ARRAY -> {
+                    int count = (int) varint();
+                    ArrayNode array = nodes.arrayNode(count);
+                    for (int i = 0; i < count; i++) {
+                        array.add(node());
+                    }
+                    yield array;
+                }
+                case OBJECT -> {
+                    int count = (int) varint();
+                    ObjectNode object = nodes.objectNode();
+                    for (int i = 0; i < count; i++) {
+                        String name = string(bytes[position++]);
+                        object.set(name, node());
+                    }
+                    yield object;
+                }
+                default -> throw new IllegalArgumentException("Unknown tag " + tag + " at " + (position - 1));
+            };
+        }
+
+        private String string(int tag) {
+            if (tag == STRING_REF) {
+                return strings.get((int) varint());
+            }
+            if (tag != STRING) {
+                throw new IllegalArgumentException("Expected a string at " + (position - 1));
+            }
+            int length = (int) varint();
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            strings.add(value);
+            return value;
+        }
+
+        private long varint() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+    }
+}
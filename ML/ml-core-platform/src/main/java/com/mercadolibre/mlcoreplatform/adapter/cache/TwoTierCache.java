@@ -0,0 +1,198 @@
+package com.mercadolibre.mlcoreplatform.adapter.cache;
+
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.LocalCache;
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.SingleFlight;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A near tier on this instance's heap in front of the shared {@link RemoteCache}, in front of the
+ * store. A near miss asks the far tier, a far miss asks the store and fills both tiers; lookups of
+ * several keys ask the far tier for all of their near misses in one pipelined MGET round trip.
+ * <p>
+ * Keys that no tier nor the store has are remembered on this instance for a while (an API cache
+ * of their own, bounded like the near tier), so ids that don't exist, asked for again and again by
+ * crawlers, cost neither a round trip nor a store lookup after the first time. A new generation
+ * forgets them.
+ * <p>
+ * Far keys carry the generation of the data they were read from (see {@link #generation}), a hash
+ * of that data, so instances that have loaded different data never hand each other entries while
+ * instances that have loaded the same data share them. A new generation only clears the tiers here:
+ * entries of the previous one are left to expire, and the other instances move on when their own
+ * store reloads. A lookup reads the generation once and builds all of its far keys from it; what it
+ * loads is kept in no tier if the generation moves on before it is done.
+ */
+@Slf4j
+public final class TwoTierCache<V> {
+
+    private final String namespace;
+    private final LocalCache<String, V> near;
+    private final LocalCache<String, Boolean> absent;
+    private final RemoteCache far;
+    private final TreeCodec<V> codec;
+    private final AtomicLong generation = new AtomicLong();
+    private final SingleFlight<String, V> flight = new SingleFlight<>(true);
+
+    TwoTierCache(String namespace, LocalCache<String, V> near, LocalCache<String, Boolean> absent, RemoteCache far,
+                 TreeCodec<V> codec) {
+        this.namespace = namespace;
+        this.near = near;
+        this.absent = absent;
+        this.far = far;
+        this.codec = codec;
+    }
+
+    /**
+     * Moves to the data generation {@code current} (a store's data version) if it is new; stores push
+     * it when they load.
+     */
+    public void generation(long current) {
+        long previous = generation.get();
+        if (previous != current && generation.compareAndSet(previous, current)) {
+            near.invalidateAll();
+            absent.invalidateAll();
+        }
+    }
+
+    /**
+     * The value under {@code key}, else what {@code loader} returns for it; a null is remembered as
+     * the key being absent.
+     */
+    public V get(String key, Function<String, V> loader) {
+        if (key == null) {
+            return loader.apply(null);
+        }
+        long current = generation.get();
+        V value = near.getIfPresent(key);
+        if (value != null || absent.getIfPresent(key) != null) {
+            return value;
+        }
+        // Concurrent misses of a key on one generation wait for the first one's lookup
+        return flight.execute(current + ":" + key, ignored -> load(current, key, loader));
+    }
+
+    /**
+     * The values found under {@code keys}, in their order. Keys in neither tier and not known to be
+     * absent are handed to {@code loader} together.
+     */
+    public Map<String, V> getAll(Collection<String> keys, Function<Collection<String>, Map<String, V>> loader) {
+        long current = generation.get();
+        Map<String, V> found = new LinkedHashMap<>();
+        Set<String> nearMisses = new LinkedHashSet<>();
+        for (String key : keys) {
+            if (key == null || found.containsKey(key) || nearMisses.contains(key)) {
+                continue;
+            }
+            V value = near.getIfPresent(key);
+            if (value != null) {
+                found.put(key, value);
+            } else if (absent.getIfPresent(key) == null) {
+                nearMisses.add(key);
+            }
+        }
+        if (!nearMisses.isEmpty()) {
+            List<String> missing = new ArrayList<>(nearMisses);
+            List<byte[]> values = far.mget(missing.stream().map(key -> farKey(current, key)).toList());
+            Map<String, V> farHits = new LinkedHashMap<>();
+            List<String> farMisses = new ArrayList<>();
+            for (int i = 0; i < missing.size(); i++) {
+                V value = decode(values.get(i));
+                if (value != null) {
+                    farHits.put(missing.get(i), value);
+                } else {
+                    farMisses.add(missing.get(i));
+                }
+            }
+            found.putAll(farHits);
+            keep(current, farHits, List.of());
+            if (!farMisses.isEmpty()) {
+                Map<String, V> loaded = new LinkedHashMap<>();
+                loader.apply(farMisses).forEach((key, value) -> {
+                    if (value != null) {
+                        loaded.put(key, value);
+                    }
+                });
+                found.putAll(loaded);
+                keep(current, loaded, farMisses.stream().filter(key -> !loaded.containsKey(key)).toList());
+                store(current, loaded);
+            }
+        }
+        Map<String, V> ordered = new LinkedHashMap<>();
+        for (String key : keys) {
+            V value = key == null ? null : found.get(key);
+            if (value != null) {
+                ordered.putIfAbsent(key, value);
+            }
+        }
+        return ordered;
+    }
+
+    String farKey(long generation, String key) {
+        return "ml:" + namespace + ":" + generation + ":" + key;
+    }
+
+    private V load(long current, String key, Function<String, V> loader) {
+        V value = decode(far.mget(List.of(farKey(current, key))).get(0));
+        if (value != null) {
+            keep(current, Map.of(key, value), List.of());
+            return value;
+        }
+        value = loader.apply(key);
+        if (value == null) {
+            keep(current, Map.of(), List.of(key));
+            return null;
+        }
+        keep(current, Map.of(key, value), List.of());
+        store(current, Map.of(key, value));
+        return value;
+    }
+
+    // Fills for data read under generation current; none once the generation has moved on, since
+    // they would outlive the invalidateAll that dropped the rest of that generation
+    private void keep(long current, Map<String, V> values, Collection<String> absentKeys) {
+        if (generation.get() != current) {
+            return;
+        }
+        values.forEach(near::put);
+        absentKeys.forEach(key -> absent.put(key, Boolean.TRUE));
+        if (generation.get() != current) {
+            values.keySet().forEach(near::invalidate);
+            absentKeys.forEach(absent::invalidate);
+        }
+    }
+
+    private void store(long current, Map<String, V> loaded) {
+        if (loaded.isEmpty() || generation.get() != current) {
+            return;
+        }
+        List<String> farKeys = new ArrayList<>(loaded.size());
+        List<byte[]> encoded = new ArrayList<>(loaded.size());
+        loaded.forEach((key, value) -> {
+            farKeys.add(farKey(current, key));
+            encoded.add(codec.encode(value));
+        });
+        far.set(farKeys, encoded);
+    }
+
+    // An entry this build can't read (another format version, a changed record) is just a miss
+    private V decode(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return codec.decode(bytes);
+        } catch (RuntimeException e) {
+            log.debug("Unreadable {} entry in the near cache server, ignored", namespace, e);
+            return null;
+        }
+    }
+}
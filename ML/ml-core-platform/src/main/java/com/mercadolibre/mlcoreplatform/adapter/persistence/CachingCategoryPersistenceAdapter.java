@@ -0,0 +1,69 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence;
+
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.CacheSpec;
+import com.mercadolibre.mlcoreplatform.adapter.cache.RemoteCache;
+import com.mercadolibre.mlcoreplatform.adapter.cache.TwoTierCache;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.CategoryDto;
+import com.mercadolibre.mlcoreplatform.domain.port.out.CategoryPersistencePort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongConsumer;
+
+/**
+ * Category lookups by id through a {@link TwoTierCache}, with {@code ml.near-cache.enabled=true}.
+ * Tree walks stay on the store's own index.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "ml.near-cache.enabled", havingValue = "true")
+public class CachingCategoryPersistenceAdapter implements CategoryPersistencePort {
+
+    private final CategoryPersistenceAdapter delegate;
+    private final TwoTierCache<CategoryDto> categories;
+
+    public CachingCategoryPersistenceAdapter(CategoryPersistenceAdapter delegate, RemoteCache remoteCache) {
+        this.delegate = delegate;
+        this.categories = remoteCache.cache("categories", CacheSpec.of(Duration.ofMinutes(5), 10_000), CategoryDto.class);
+        delegate.onVersionChange(categories::generation);
+    }
+
+    @Override
+    public Optional<CategoryDto> findById(String categoryId) {
+        return Optional.ofNullable(categories.get(categoryId, id -> delegate.findById(id).orElse(null)));
+    }
+
+    @Override
+    public List<CategoryDto> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<CategoryDto> findByParentId(String parentId) {
+        return delegate.findByParentId(parentId);
+    }
+
+    @Override
+    public List<String> findSubtreeIds(String categoryId) {
+        return delegate.findSubtreeIds(categoryId);
+    }
+
+    @Override
+    public boolean isInSubtree(String categoryId, String ancestorId) {
+        return delegate.isInSubtree(categoryId, ancestorId);
+    }
+
+    @Override
+    public long version() {
+        return delegate.version();
+    }
+
+    @Override
+    public void onVersionChange(LongConsumer listener) {
+        delegate.onVersionChange(listener);
+    }
+}
@@ -0,0 +1,105 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence;
+
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.CacheSpec;
+import com.mercadolibre.mlcoreplatform.adapter.cache.RemoteCache;
+import com.mercadolibre.mlcoreplatform.adapter.cache.TwoTierCache;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ProductDto;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchCriteria;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchPage;
+import com.mercadolibre.mlcoreplatform.domain.port.out.ProductPersistencePort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongConsumer;
+
+/**
+ * Product lookups by id through a {@link TwoTierCache}, with {@code ml.near-cache.enabled=true}.
+ * Lists, pages and searches go straight to the store. {@code delegate} is the store adapter in use
+ * (JSON or binary): Spring leaves this bean out of the candidates for its own constructor.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "ml.near-cache.enabled", havingValue = "true")
+public class CachingProductPersistenceAdapter implements ProductPersistencePort {
+
+    private final ProductPersistencePort delegate;
+    private final TwoTierCache<ProductDto> products;
+
+    public CachingProductPersistenceAdapter(ProductPersistencePort delegate, RemoteCache remoteCache) {
+        this.delegate = delegate;
+        this.products = remoteCache.cache("products", CacheSpec.of(Duration.ofMinutes(1), 10_000), ProductDto.class);
+        delegate.onVersionChange(products::generation);
+    }
+
+    @Override
+    public Optional<ProductDto> findById(String productId) {
+        return Optional.ofNullable(products.get(productId, id -> delegate.findById(id).orElse(null)));
+    }
+
+    @Override
+    public Map<String, ProductDto> findAllById(Collection<String> productIds) {
+        return products.getAll(productIds, delegate::findAllById);
+    }
+
+    @Override
+    public List<ProductDto> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<ProductDto> findAll(int offset, int limit) {
+        return delegate.findAll(offset, limit);
+    }
+
+    @Override
+    public CursorPage<ProductDto> findAllAfter(String cursor, int limit) {
+        return delegate.findAllAfter(cursor, limit);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public List<ProductDto> findByCategoryId(String categoryId) {
+        return delegate.findByCategoryId(categoryId);
+    }
+
+    @Override
+    public List<ProductDto> findByCategoryIds(List<String> categoryIds, int offset, int limit) {
+        return delegate.findByCategoryIds(categoryIds, offset, limit);
+    }
+
+    @Override
+    public long countByCategoryIds(List<String> categoryIds) {
+        return delegate.countByCategoryIds(categoryIds);
+    }
+
+    @Override
+    public List<ProductDto> findBySellerId(Long sellerId) {
+        return delegate.findBySellerId(sellerId);
+    }
+
+    @Override
+    public SearchPage<ProductDto> search(SearchCriteria criteria, List<String> categoryIds, boolean withFacets) {
+        return delegate.search(criteria, categoryIds, withFacets);
+    }
+
+    @Override
+    public long version() {
+        return delegate.version();
+    }
+
+    @Override
+    public void onVersionChange(LongConsumer listener) {
+        delegate.onVersionChange(listener);
+    }
+}
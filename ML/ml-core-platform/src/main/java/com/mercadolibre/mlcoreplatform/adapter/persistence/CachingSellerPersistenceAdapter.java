@@ -0,0 +1,76 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence;
+
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.CacheSpec;
+import com.mercadolibre.mlcoreplatform.adapter.cache.RemoteCache;
+import com.mercadolibre.mlcoreplatform.adapter.cache.TwoTierCache;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.SellerDto;
+import com.mercadolibre.mlcoreplatform.domain.port.out.SellerPersistencePort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongConsumer;
+
+/**
+ * Seller lookups by id through a {@link TwoTierCache}, with {@code ml.near-cache.enabled=true}.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "ml.near-cache.enabled", havingValue = "true")
+public class CachingSellerPersistenceAdapter implements SellerPersistencePort {
+
+    private final SellerPersistenceAdapter delegate;
+    private final TwoTierCache<SellerDto> sellers;
+
+    public CachingSellerPersistenceAdapter(SellerPersistenceAdapter delegate, RemoteCache remoteCache) {
+        this.delegate = delegate;
+        this.sellers = remoteCache.cache("sellers", CacheSpec.of(Duration.ofMinutes(1), 10_000), SellerDto.class);
+        delegate.onVersionChange(sellers::generation);
+    }
+
+    @Override
+    public Optional<SellerDto> findById(Long sellerId) {
+        if (sellerId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(sellers.get(sellerId.toString(), id -> delegate.findById(sellerId).orElse(null)));
+    }
+
+    @Override
+    public List<SellerDto> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<SellerDto> findAll(int offset, int limit) {
+        return delegate.findAll(offset, limit);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public List<SellerDto> findByNickname(String nickname) {
+        return delegate.findByNickname(nickname);
+    }
+
+    @Override
+    public List<SellerDto> findByCountryId(String countryId) {
+        return delegate.findByCountryId(countryId);
+    }
+
+    @Override
+    public long version() {
+        return delegate.version();
+    }
+
+    @Override
+    public void onVersionChange(LongConsumer listener) {
+        delegate.onVersionChange(listener);
+    }
+}
@@ -1,77 +1,126 @@
 package com.mercadolibre.mlcoreplatform.adapter.persistence;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.CategoryDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataFiles;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataVersion;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.InMemoryRepository;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.JsonRecords;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Suggestions;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.TreeIndex;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
 import com.mercadolibre.mlcoreplatform.domain.port.out.CategoryPersistencePort;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.LongConsumer;
 
 @Component
 public class CategoryPersistenceAdapter implements CategoryPersistencePort {
 
-    private final ObjectMapper objectMapper;
-    private final Map<String, Map<String, Object>> categoriesData;
+    static final String SUGGESTION_SOURCE = "categories";
+
+    private final ObjectReader recordReader;
+    private final Suggestions suggestions;
+    private final InMemoryRepository<String, CategoryDto> categories = InMemoryRepository.withIndexes();
+    // Published right after the records it was built from, on every (re)load
+    private volatile TreeIndex<CategoryDto> tree = TreeIndex.empty();
+    private final DataVersion version = new DataVersion();
 
     public CategoryPersistenceAdapter() throws IOException {
-        this.objectMapper = new ObjectMapper();
-        
-        ClassPathResource resource = new ClassPathResource("categories.json");
-        this.categoriesData = objectMapper.readValue(
-            resource.getInputStream(), 
-            new TypeReference<Map<String, Map<String, Object>>>() {}
-        );
+        this(DataFiles.classpath(), JsonCodecs.standalone(), new Suggestions());
+    }
+
+    @Autowired
+    public CategoryPersistenceAdapter(DataFiles dataFiles, JsonCodecs jsonCodecs, Suggestions suggestions) throws IOException {
+        this.recordReader = jsonCodecs.recordReader();
+        this.suggestions = suggestions;
+        dataFiles.load("categories.json", this::load);
+    }
+
+    private int load(InputStream in) throws IOException {
+        DataVersion.Reading read = DataVersion.reading(in);
+        InMemoryRepository<String, CategoryDto>.Replacement replacement = categories.replacement();
+        TreeIndex.Builder<CategoryDto> treeBuilder = TreeIndex.builder();
+        JsonRecords.readObject(recordReader, read, "categories.json", (id, data) -> {
+            CategoryDto category = mapToCategoryDto(data);
+            replacement.save(id, category);
+            addToTree(treeBuilder, id, category);
+        });
+        replacement.commit();
+        tree = treeBuilder.build();
+        suggestions.replace(SUGGESTION_SOURCE, suggestionsOf(categories.findAll()));
+        version.publish(read);
+        return replacement.size();
+    }
+
+    // Category names weighted by their listings, under the site their id starts with (MCO1055 -> MCO)
+    private static Map<String, Map<String, Long>> suggestionsOf(List<CategoryDto> categories) {
+        Map<String, Map<String, Long>> phrases = new HashMap<>();
+        for (CategoryDto category : categories) {
+            String siteId = category.id() == null ? "" : category.id().replaceFirst("\\d.*$", "");
+            if (!siteId.isEmpty() && category.name() != null) {
+                long listings = category.totalItemsInThisCategory() != null ? category.totalItemsInThisCategory() : 0;
+                phrases.computeIfAbsent(siteId, ignored -> new HashMap<>()).merge(category.name(), 1 + listings, Long::sum);
+            }
+        }
+        return phrases;
+    }
+
+    // path_from_root ends with the category itself; children_categories may name categories that have no record
+    private static void addToTree(TreeIndex.Builder<CategoryDto> treeBuilder, String id, CategoryDto category) {
+        treeBuilder.node(id, category);
+        List<CategoryDto.PathFromRootDto> pathFromRoot = category.pathFromRoot();
+        if (pathFromRoot != null && pathFromRoot.size() > 1) {
+            for (int i = 1; i < pathFromRoot.size() - 1; i++) {
+                treeBuilder.edge(pathFromRoot.get(i - 1).id(), pathFromRoot.get(i).id());
+            }
+            treeBuilder.edge(pathFromRoot.get(pathFromRoot.size() - 2).id(), id);
+        }
+        if (category.childrenCategories() != null) {
+            category.childrenCategories().forEach(child -> treeBuilder.edge(id, child.id()));
+        }
     }
 
     @Override
     public Optional<CategoryDto> findById(String categoryId) {
-        Map<String, Object> categoryData = categoriesData.get(categoryId);
-        if (categoryData == null) {
-            return Optional.empty();
-        }
-        
-        return Optional.of(mapToCategoryDto(categoryData));
+        return categories.findById(categoryId);
     }
 
     @Override
     public List<CategoryDto> findAll() {
-        return categoriesData.values().stream()
-                .map(this::mapToCategoryDto)
-                .toList();
+        return categories.findAll();
     }
 
     @Override
     public List<CategoryDto> findByParentId(String parentId) {
-        return categoriesData.values().stream()
-                .filter(data -> hasParentId(data, parentId))
-                .map(this::mapToCategoryDto)
-                .toList();
+        return tree.descendantValues(parentId);
     }
 
-    @SuppressWarnings("unchecked")
-    private boolean hasParentId(Map<String, Object> categoryData, String parentId) {
-        if (parentId == null) {
-            return false;
-        }
-        
-        List<Map<String, Object>> pathFromRoot = (List<Map<String, Object>>) categoryData.get("path_from_root");
-        if (pathFromRoot == null || pathFromRoot.isEmpty()) {
-            return false;
-        }
-        
-        // Check if parentId is in the path (excluding the last element which is the category itself)
-        for (int i = 0; i < pathFromRoot.size() - 1; i++) {
-            if (parentId.equals(pathFromRoot.get(i).get("id"))) {
-                return true;
-            }
-        }
-        return false;
+    @Override
+    public List<String> findSubtreeIds(String categoryId) {
+        return tree.subtree(categoryId);
+    }
+
+    @Override
+    public boolean isInSubtree(String categoryId, String ancestorId) {
+        return tree.isInSubtree(categoryId, ancestorId);
+    }
+
+    @Override
+    public long version() {
+        return version.current();
+    }
+
+    @Override
+    public void onVersionChange(LongConsumer listener) {
+        version.onChange(listener);
     }
 
     @SuppressWarnings("unchecked")
@@ -96,7 +145,7 @@ public class CategoryPersistenceAdapter implements CategoryPersistencePort {
                         .id((String) path.get("id"))
                         .name((String) path.get("name"))
                         .build())
-                .collect(Collectors.toList());
+                .toList();
     }
 
     private List<CategoryDto.ChildrenCategoryDto> mapChildrenCategories(List<Map<String, Object>> childrenCategories) {
@@ -108,7 +157,7 @@ public class CategoryPersistenceAdapter implements CategoryPersistencePort {
                         .totalItemsInThisCategory(child.get("total_items_in_this_category") != null ? 
                             ((Number) child.get("total_items_in_this_category")).longValue() : null)
                         .build())
-                .collect(Collectors.toList());
+                .toList();
     }
 
     @SuppressWarnings("unchecked")
@@ -117,12 +166,12 @@ public class CategoryPersistenceAdapter implements CategoryPersistencePort {
         return CategoryDto.SettingsDto.builder()
                 .adultContent((Boolean) settings.get("adult_content"))
                 .buyingAllowed((Boolean) settings.get("buying_allowed"))
-                .buyingModes((List<String>) settings.get("buying_modes"))
+                .buyingModes(InMemoryRepository.immutable((List<String>) settings.get("buying_modes")))
                 .catalogDomain((String) settings.get("catalog_domain"))
                 .coverageAreas((String) settings.get("coverage_areas"))
                 .currency((String) settings.get("currency"))
                 .immediatePayment((String) settings.get("immediate_payment"))
-                .itemConditions((List<String>) settings.get("item_conditions"))
+                .itemConditions(InMemoryRepository.immutable((List<String>) settings.get("item_conditions")))
                 .itemsReviewsAllowed((Boolean) settings.get("items_reviews_allowed"))
                 .listingAllowed((Boolean) settings.get("listing_allowed"))
                 .maxDescriptionLength(settings.get("max_description_length") != null ? 
@@ -143,23 +192,23 @@ public class CategoryPersistenceAdapter implements CategoryPersistencePort {
                 .minimumPriceCurrency((String) settings.get("minimum_price_currency"))
                 .mirrorCategory((String) settings.get("mirror_category"))
                 .mirrorMasterCategory((String) settings.get("mirror_master_category"))
-                .mirrorSlaveCategories((List<String>) settings.get("mirror_slave_categories"))
+                .mirrorSlaveCategories(InMemoryRepository.immutable((List<String>) settings.get("mirror_slave_categories")))
                 .price((String) settings.get("price"))
                 .reservationAllowed((String) settings.get("reservation_allowed"))
-                .restrictions((List<String>) settings.get("restrictions"))
+                .restrictions(InMemoryRepository.immutable((List<String>) settings.get("restrictions")))
                 .roundedAddress((Boolean) settings.get("rounded_address"))
                 .sellerContact((String) settings.get("seller_contact"))
-                .shippingOptions((List<String>) settings.get("shipping_options"))
+                .shippingOptions(InMemoryRepository.immutable((List<String>) settings.get("shipping_options")))
                 .shippingProfile((String) settings.get("shipping_profile"))
                 .showContactInformation((Boolean) settings.get("show_contact_information"))
                 .simpleShipping((String) settings.get("simple_shipping"))
                 .stock((String) settings.get("stock"))
                 .subVertical((String) settings.get("sub_vertical"))
                 .subscribable((Boolean) settings.get("subscribable"))
-                .tags((List<String>) settings.get("tags"))
+                .tags(InMemoryRepository.immutable((List<String>) settings.get("tags")))
                 .vertical((String) settings.get("vertical"))
                 .vipSubdomain((String) settings.get("vip_subdomain"))
-                .buyerProtectionPrograms((List<String>) settings.get("buyer_protection_programs"))
+                .buyerProtectionPrograms(InMemoryRepository.immutable((List<String>) settings.get("buyer_protection_programs")))
                 .status((String) settings.get("status"))
                 .build();
     }
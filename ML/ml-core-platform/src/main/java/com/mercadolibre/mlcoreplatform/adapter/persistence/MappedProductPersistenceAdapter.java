@@ -0,0 +1,239 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ProductDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataFiles;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataVersion;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.MappedCatalog;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.SearchIndex;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.SortKey;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Suggestions;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.InvalidArgumentException;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchCriteria;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchPage;
+import com.mercadolibre.mlcoreplatform.domain.port.out.ProductPersistencePort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongConsumer;
+
+/**
+ * Products served from {@code catalog/products.bin}, compiled from products.json by the
+ * {@code binary-catalog} Maven profile. Startup maps the file; each lookup decodes just the
+ * records it returns, so the catalog lives in the page cache rather than on the heap. Cursor pages
+ * seek with the dates stored in the sort table, without decoding records.
+ * <p>
+ * The search index, which holds ordinals rather than records, is built with the other data files
+ * at startup, before the service reports ready, and published with one volatile write.
+ * Enabled with {@code ml.data.format=binary}.
+ */
+@Component
+@ConditionalOnProperty(name = "ml.data.format", havingValue = "binary")
+public class MappedProductPersistenceAdapter implements ProductPersistencePort {
+
+    static final String CATALOG_FILE = "catalog/products.bin";
+
+    private final ObjectReader recordReader;
+    private final Suggestions suggestions;
+    // Records are decoded per lookup; CatalogCompiler already reported malformed dates at build time
+    private final Timestamps timestamps = new Timestamps(CATALOG_FILE);
+    private final MappedCatalog catalog;
+    private volatile SearchIndex<Integer> searchIndex = SearchIndex.empty();
+    // The catalog is mapped once, at startup
+    private final long version;
+
+    public MappedProductPersistenceAdapter(DataFiles dataFiles, JsonCodecs jsonCodecs, Suggestions suggestions) throws IOException {
+        this.recordReader = jsonCodecs.recordReader();
+        this.suggestions = suggestions;
+        Path file = dataFiles.mappable(CATALOG_FILE);
+        this.catalog = MappedCatalog.open(file);
+        this.version = DataVersion.of(file);
+        if (!catalog.hasSortTable()) {
+            throw new IllegalStateException(CATALOG_FILE + " was compiled without a date_created sort table");
+        }
+        dataFiles.load(CATALOG_FILE, in -> indexCatalog());
+    }
+
+    @Override
+    public Optional<ProductDto> findById(String productId) {
+        int ordinal = catalog.ordinalOf(productId);
+        return ordinal < 0 ? Optional.empty() : Optional.of(decode(ordinal));
+    }
+
+    @Override
+    public Map<String, ProductDto> findAllById(Collection<String> productIds) {
+        Map<String, ProductDto> found = new LinkedHashMap<>();
+        for (String productId : productIds) {
+            int ordinal = catalog.ordinalOf(productId);
+            if (ordinal >= 0 && !found.containsKey(productId)) {
+                found.put(productId, decode(ordinal));
+            }
+        }
+        return found;
+    }
+
+    // A view that decodes each record as it is read, so walking the catalog never holds all of it
+    @Override
+    public List<ProductDto> findAll() {
+        return new AbstractList<>() {
+            @Override
+            public ProductDto get(int ordinal) {
+                return decode(ordinal);
+            }
+
+            @Override
+            public int size() {
+                return catalog.size();
+            }
+        };
+    }
+
+    @Override
+    public List<ProductDto> findAll(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new InvalidArgumentException("offset and limit must not be negative");
+        }
+        return decodeRange(offset, limit, ordinal -> ordinal);
+    }
+
+    @Override
+    public CursorPage<ProductDto> findAllAfter(String cursor, int limit) {
+        SortKey<String> after = SortKey.decode(cursor, Function.identity());
+        int size = CursorPage.clamp(limit);
+        List<ProductDto> window = decodeRange(firstPositionAfter(after), size + 1, catalog::ordinalInSortOrder);
+        return CursorPage.of(window, size, cursor, product -> ProductPersistenceAdapter.sortKeyOf(product).encode());
+    }
+
+    @Override
+    public long count() {
+        return catalog.size();
+    }
+
+    @Override
+    public List<ProductDto> findByCategoryId(String categoryId) {
+        return decodeAll(catalog.postings("category_id", categoryId));
+    }
+
+    @Override
+    public List<ProductDto> findByCategoryIds(List<String> categoryIds, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new InvalidArgumentException("offset and limit must not be negative");
+        }
+        List<ProductDto> window = new ArrayList<>();
+        int skip = offset;
+        for (String categoryId : categoryIds) {
+            int[] ordinals = catalog.postings("category_id", categoryId);
+            for (int i = skip; i < ordinals.length && window.size() < limit; i++) {
+                window.add(decode(ordinals[i]));
+            }
+            skip = Math.max(skip - ordinals.length, 0);
+            if (window.size() == limit) {
+                break;
+            }
+        }
+        return Collections.unmodifiableList(window);
+    }
+
+    @Override
+    public long countByCategoryIds(List<String> categoryIds) {
+        long count = 0;
+        for (String categoryId : categoryIds) {
+            count += catalog.postings("category_id", categoryId).length;
+        }
+        return count;
+    }
+
+    @Override
+    public List<ProductDto> findBySellerId(Long sellerId) {
+        return decodeAll(catalog.postings("seller_id", sellerId == null ? null : sellerId.toString()));
+    }
+
+    @Override
+    public SearchPage<ProductDto> search(SearchCriteria criteria, List<String> categoryIds, boolean withFacets) {
+        SearchIndex.Hits<Integer> hits = searchIndex.search(ProductSearch.query(criteria, categoryIds, withFacets));
+        return new SearchPage<>(hits.values().stream().map(this::decode).toList(), hits.total(), hits.facets());
+    }
+
+    @Override
+    public long version() {
+        return version;
+    }
+
+    @Override
+    public void onVersionChange(LongConsumer listener) {
+        listener.accept(version);
+    }
+
+    // Decodes each record once, one at a time, and keeps only ordinals; the mapped file itself is
+    // not read again, so the stream DataFiles opened is left unread
+    private int indexCatalog() {
+        SearchIndex.Builder<Integer> builder = ProductSearch.builder();
+        Map<String, Map<String, Long>> titles = new HashMap<>();
+        for (int ordinal = 0; ordinal < catalog.size(); ordinal++) {
+            ProductDto product = decode(ordinal);
+            ProductSearch.add(builder, ordinal, product);
+            ProductSearch.addSuggestion(titles, product);
+        }
+        searchIndex = builder.build();
+        suggestions.replace(ProductSearch.SUGGESTION_SOURCE, titles);
+        return catalog.size();
+    }
+
+    // Binary search over the sort table, comparing the stored dates and keys; decodes no record
+    private int firstPositionAfter(SortKey<String> after) {
+        if (after == null) {
+            return 0;
+        }
+        int low = 0;
+        int high = catalog.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            SortKey<String> key = new SortKey<>(catalog.sortDateAt(mid), catalog.key(catalog.ordinalInSortOrder(mid)));
+            if (key.compareTo(after) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private List<ProductDto> decodeRange(int from, int limit, IntUnaryOperator ordinalAt) {
+        int to = (int) Math.min((long) from + limit, catalog.size());
+        List<ProductDto> records = new ArrayList<>(Math.max(to - from, 0));
+        for (int position = from; position < to; position++) {
+            records.add(decode(ordinalAt.applyAsInt(position)));
+        }
+        return Collections.unmodifiableList(records);
+    }
+
+    private List<ProductDto> decodeAll(int[] ordinals) {
+        return Arrays.stream(ordinals).mapToObj(this::decode).toList();
+    }
+
+    private ProductDto decode(int ordinal) {
+        try {
+            return ProductPersistenceAdapter.mapToProductDto(recordReader.readValue(catalog.value(ordinal)), timestamps);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt record " + ordinal + " in " + CATALOG_FILE, e);
+        }
+    }
+}
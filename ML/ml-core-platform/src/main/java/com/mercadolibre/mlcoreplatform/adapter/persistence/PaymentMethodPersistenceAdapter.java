@@ -1,65 +1,75 @@
 package com.mercadolibre.mlcoreplatform.adapter.persistence;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.PaymentMethodDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataFiles;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.GroupKey;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.InMemoryRepository;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Index;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.JsonRecords;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
 import com.mercadolibre.mlcoreplatform.domain.port.out.PaymentMethodPersistencePort;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class PaymentMethodPersistenceAdapter implements PaymentMethodPersistencePort {
 
-    private final ObjectMapper objectMapper;
-    private final Map<String, List<Map<String, Object>>> paymentMethodsData;
+    private static final Index<GroupKey, PaymentMethodDto, String> BY_ID = Index.on("id", PaymentMethodDto::id);
+    private static final Index<GroupKey, PaymentMethodDto, String> BY_SITE = Index.onKey("siteId", GroupKey::group);
+    private static final Index<GroupKey, PaymentMethodDto, SitePaymentType> BY_SITE_AND_TYPE = Index.of("siteIdAndPaymentType",
+            (key, method) -> new SitePaymentType(key.group(), method.paymentTypeId()));
+
+    private final ObjectReader recordReader;
+    private final InMemoryRepository<GroupKey, PaymentMethodDto> paymentMethods =
+            InMemoryRepository.withIndexes(BY_ID, BY_SITE, BY_SITE_AND_TYPE);
 
     public PaymentMethodPersistenceAdapter() throws IOException {
-        this.objectMapper = new ObjectMapper();
-        
-        ClassPathResource resource = new ClassPathResource("payment-methods.json");
-        this.paymentMethodsData = objectMapper.readValue(
-            resource.getInputStream(), 
-            new TypeReference<Map<String, List<Map<String, Object>>>>() {}
-        );
+        this(DataFiles.classpath(), JsonCodecs.standalone());
+    }
+
+    @Autowired
+    public PaymentMethodPersistenceAdapter(DataFiles dataFiles, JsonCodecs jsonCodecs) throws IOException {
+        this.recordReader = jsonCodecs.recordReader();
+        dataFiles.load("payment-methods.json", this::load);
+    }
+
+    private int load(InputStream in) throws IOException {
+        InMemoryRepository<GroupKey, PaymentMethodDto>.Replacement replacement = paymentMethods.replacement();
+        JsonRecords.readGroups(recordReader, in, "payment-methods.json", (key, data) -> replacement.save(key, mapToPaymentMethodDto(data)));
+        replacement.commit();
+        return replacement.size();
+    }
+
+    // Payment method ids can repeat across sites; the first site in the file wins
+    @Override
+    public Optional<PaymentMethodDto> findById(String paymentMethodId) {
+        return paymentMethods.findFirstBy(BY_ID, paymentMethodId);
     }
 
     @Override
     public List<PaymentMethodDto> findBySiteId(String siteId) {
-        List<Map<String, Object>> sitePaymentMethods = paymentMethodsData.get(siteId);
-        if (sitePaymentMethods == null) {
-            return List.of();
-        }
-        
-        return sitePaymentMethods.stream()
-                .map(this::mapToPaymentMethodDto)
-                .toList();
+        return paymentMethods.findBy(BY_SITE, siteId);
     }
 
     @Override
     public List<PaymentMethodDto> findAll() {
-        return paymentMethodsData.values().stream()
-                .flatMap(List::stream)
-                .map(this::mapToPaymentMethodDto)
-                .toList();
+        return paymentMethods.findAll();
     }
 
     @Override
     public List<PaymentMethodDto> findByPaymentType(String siteId, String paymentType) {
-        List<Map<String, Object>> sitePaymentMethods = paymentMethodsData.get(siteId);
-        if (sitePaymentMethods == null) {
-            return List.of();
-        }
-        
-        return sitePaymentMethods.stream()
-                .filter(method -> paymentType.equals(method.get("payment_type_id")))
-                .map(this::mapToPaymentMethodDto)
-                .toList();
+        return paymentMethods.findBy(BY_SITE_AND_TYPE, new SitePaymentType(siteId, paymentType));
     }
 
+    private record SitePaymentType(String siteId, String paymentTypeId) {}
+
     @SuppressWarnings("unchecked")
     private PaymentMethodDto mapToPaymentMethodDto(Map<String, Object> data) {
         return PaymentMethodDto.builder()
@@ -71,7 +81,7 @@ public class PaymentMethodPersistenceAdapter implements PaymentMethodPersistence
                 .thumbnail((String) data.get("thumbnail"))
                 .deferredCapture((String) data.get("deferred_capture"))
                 .settings(mapSettings((List<Map<String, Object>>) data.get("settings")))
-                .additionalInfoNeeded((List<String>) data.get("additional_info_needed"))
+                .additionalInfoNeeded(InMemoryRepository.immutable((List<String>) data.get("additional_info_needed")))
                 .minAllowedAmount(data.get("min_allowed_amount") != null ? 
                     ((Number) data.get("min_allowed_amount")).longValue() : null)
                 .maxAllowedAmount(data.get("max_allowed_amount") != null ? 
@@ -79,7 +89,7 @@ public class PaymentMethodPersistenceAdapter implements PaymentMethodPersistence
                 .accreditationTime(data.get("accreditation_time") != null ? 
                     ((Number) data.get("accreditation_time")).intValue() : null)
                 .financialInstitutions(mapFinancialInstitutions((List<Map<String, Object>>) data.get("financial_institutions")))
-                .processingModes((List<String>) data.get("processing_modes"))
+                .processingModes(InMemoryRepository.immutable((List<String>) data.get("processing_modes")))
                 .build();
     }
 
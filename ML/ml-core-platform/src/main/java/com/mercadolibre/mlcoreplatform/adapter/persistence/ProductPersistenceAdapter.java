@@ -1,73 +1,189 @@
 package com.mercadolibre.mlcoreplatform.adapter.persistence;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ProductDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataFiles;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataVersion;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.InMemoryRepository;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Index;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.JsonRecords;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.SearchIndex;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.SortKey;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Suggestions;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.InvalidArgumentException;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchCriteria;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchPage;
 import com.mercadolibre.mlcoreplatform.domain.port.out.ProductPersistencePort;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
 
 @Component
+@ConditionalOnProperty(name = "ml.data.format", havingValue = "json", matchIfMissing = true)
 public class ProductPersistenceAdapter implements ProductPersistencePort {
 
-    private final ObjectMapper objectMapper;
-    private final Map<String, Map<String, Object>> productsData;
+    private static final Index<String, ProductDto, String> BY_CATEGORY = Index.on("categoryId", ProductDto::categoryId);
+    private static final Index<String, ProductDto, Long> BY_SELLER = Index.on("sellerId", ProductDto::sellerId);
+    private static final Index<String, ProductDto, SortKey<String>> BY_DATE_CREATED =
+            Index.sorted("dateCreated", ProductPersistenceAdapter::sortKeyOf);
+
+    private final ObjectReader recordReader;
+    private final Suggestions suggestions;
+    private final Timestamps timestamps = new Timestamps("products.json");
+    // The records and their search index, swapped together so a reader never sees one without the other
+    private volatile Snapshot snapshot = new Snapshot(newRepository(), SearchIndex.empty());
+    private final DataVersion version = new DataVersion();
 
     public ProductPersistenceAdapter() throws IOException {
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
-        
-        ClassPathResource resource = new ClassPathResource("products.json");
-        this.productsData = objectMapper.readValue(
-            resource.getInputStream(), 
-            new TypeReference<Map<String, Map<String, Object>>>() {}
-        );
+        this(DataFiles.classpath(), JsonCodecs.standalone(), new Suggestions());
+    }
+
+    @Autowired
+    public ProductPersistenceAdapter(DataFiles dataFiles, JsonCodecs jsonCodecs, Suggestions suggestions) throws IOException {
+        this.recordReader = jsonCodecs.recordReader();
+        this.suggestions = suggestions;
+        dataFiles.load("products.json", this::load);
+    }
+
+    private int load(InputStream in) throws IOException {
+        DataVersion.Reading read = DataVersion.reading(in);
+        InMemoryRepository<String, ProductDto> products = newRepository();
+        InMemoryRepository<String, ProductDto>.Replacement replacement = products.replacement();
+        JsonRecords.readObject(recordReader, read, "products.json", (id, data) -> replacement.save(id, mapToProductDto(data, timestamps)));
+        timestamps.report();
+        replacement.commit();
+        // Everything is built off to the side, while readers keep the previous snapshot
+        SearchIndex.Builder<ProductDto> search = ProductSearch.builder();
+        products.findAll().forEach(product -> ProductSearch.add(search, product, product));
+        Map<String, Map<String, Long>> titles = ProductSearch.suggestionsOf(products.findAll());
+        snapshot = new Snapshot(products, search.build());
+        // The typeahead is shared with other sources, so its titles follow right after the swap
+        suggestions.replace(ProductSearch.SUGGESTION_SOURCE, titles);
+        version.publish(read);
+        return replacement.size();
     }
 
     @Override
     public Optional<ProductDto> findById(String productId) {
-        Map<String, Object> productData = productsData.get(productId);
-        if (productData == null) {
-            return Optional.empty();
-        }
-        
-        return Optional.of(mapToProductDto(productData));
+        return snapshot.products().findById(productId);
+    }
+
+    @Override
+    public Map<String, ProductDto> findAllById(Collection<String> productIds) {
+        return snapshot.products().findAllById(productIds);
     }
 
     @Override
     public List<ProductDto> findAll() {
-        return productsData.values().stream()
-                .map(this::mapToProductDto)
-                .collect(Collectors.toList());
+        return snapshot.products().findAll();
+    }
+
+    @Override
+    public List<ProductDto> findAll(int offset, int limit) {
+        return snapshot.products().findAll(offset, limit);
+    }
+
+    @Override
+    public CursorPage<ProductDto> findAllAfter(String cursor, int limit) {
+        SortKey<String> after = SortKey.decode(cursor, Function.identity());
+        int size = CursorPage.clamp(limit);
+        List<ProductDto> window = snapshot.products().findAfter(BY_DATE_CREATED, after, size + 1);
+        return CursorPage.of(window, size, cursor, product -> sortKeyOf(product).encode());
+    }
+
+    @Override
+    public long count() {
+        return snapshot.products().size();
     }
 
     @Override
     public List<ProductDto> findByCategoryId(String categoryId) {
-        return productsData.values().stream()
-                .filter(data -> categoryId.equals(data.get("category_id")))
-                .map(this::mapToProductDto)
-                .collect(Collectors.toList());
+        return snapshot.products().findBy(BY_CATEGORY, categoryId);
+    }
+
+    /**
+     * Products of several categories, one category after the other, each in file order. Whole
+     * categories before the window are skipped by their size, so this costs O(categories + limit).
+     */
+    @Override
+    public List<ProductDto> findByCategoryIds(List<String> categoryIds, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new InvalidArgumentException("offset and limit must not be negative");
+        }
+        InMemoryRepository<String, ProductDto> products = snapshot.products();
+        List<ProductDto> window = new ArrayList<>();
+        int skip = offset;
+        for (String categoryId : categoryIds) {
+            if (window.size() == limit) {
+                break;
+            }
+            int count = products.count(BY_CATEGORY, categoryId);
+            if (skip >= count) {
+                skip -= count;
+                continue;
+            }
+            window.addAll(products.findBy(BY_CATEGORY, categoryId, skip, limit - window.size()));
+            skip = 0;
+        }
+        return Collections.unmodifiableList(window);
+    }
+
+    @Override
+    public long countByCategoryIds(List<String> categoryIds) {
+        InMemoryRepository<String, ProductDto> products = snapshot.products();
+        long count = 0;
+        for (String categoryId : categoryIds) {
+            count += products.count(BY_CATEGORY, categoryId);
+        }
+        return count;
     }
 
     @Override
     public List<ProductDto> findBySellerId(Long sellerId) {
-        return productsData.values().stream()
-                .filter(data -> sellerId.equals(((Number) data.get("seller_id")).longValue()))
-                .map(this::mapToProductDto)
-                .collect(Collectors.toList());
+        return snapshot.products().findBy(BY_SELLER, sellerId);
+    }
+
+
+    @Override
+    public SearchPage<ProductDto> search(SearchCriteria criteria, List<String> categoryIds, boolean withFacets) {
+        SearchIndex.Hits<ProductDto> hits = snapshot.searchIndex().search(ProductSearch.query(criteria, categoryIds, withFacets));
+        return new SearchPage<>(hits.values(), hits.total(), hits.facets());
+    }
+
+    @Override
+    public long version() {
+        return version.current();
+    }
+
+    @Override
+    public void onVersionChange(LongConsumer listener) {
+        version.onChange(listener);
+    }
+
+    private static InMemoryRepository<String, ProductDto> newRepository() {
+        return InMemoryRepository.withIndexes(BY_CATEGORY, BY_SELLER, BY_DATE_CREATED);
+    }
+
+    static SortKey<String> sortKeyOf(ProductDto product) {
+        return new SortKey<>(product.dateCreated(), product.id());
     }
 
     @SuppressWarnings("unchecked")
-    private ProductDto mapToProductDto(Map<String, Object> data) {
+    static ProductDto mapToProductDto(Map<String, Object> data, Timestamps timestamps) {
         return ProductDto.builder()
                 .id(getString(data, "id"))
                 .siteId(getString(data, "site_id"))
@@ -91,13 +207,13 @@ public class ProductPersistenceAdapter implements ProductPersistencePort {
                 .videoId(getString(data, "video_id"))
                 .descriptions(mapDescriptions((List<Map<String, Object>>) data.get("descriptions")))
                 .acceptsMercadopago((Boolean) data.get("accepts_mercadopago"))
-                .nonMercadoPagoPaymentMethods((List<String>) data.get("non_mercado_pago_payment_methods"))
+                .nonMercadoPagoPaymentMethods(InMemoryRepository.immutable((List<String>) data.get("non_mercado_pago_payment_methods")))
                 .shipping(mapShipping((Map<String, Object>) data.get("shipping")))
                 .sellerAddress(mapSellerAddress((Map<String, Object>) data.get("seller_address")))
                 .attributes(mapAttributes((List<Map<String, Object>>) data.get("attributes")))
-                .warnings((List<String>) data.get("warnings"))
+                .warnings(InMemoryRepository.immutable((List<String>) data.get("warnings")))
                 .listingSource(getString(data, "listing_source"))
-                .variations((List<ProductDto.VariationDto>) data.get("variations"))
+                .variations(InMemoryRepository.immutable((List<ProductDto.VariationDto>) data.get("variations")))
                 .status(getString(data, "status"))
                 .warranty(getString(data, "warranty"))
                 .catalogProductId(getString(data, "catalog_product_id"))
@@ -105,18 +221,18 @@ public class ProductPersistenceAdapter implements ProductPersistencePort {
                 .sellerContact(getString(data, "seller_contact"))
                 .location(ProductDto.LocationDto.builder().build())
                 .geolocation(mapGeolocation((Map<String, Object>) data.get("geolocation")))
-                .coverageAreas((List<String>) data.get("coverage_areas"))
+                .coverageAreas(InMemoryRepository.immutable((List<String>) data.get("coverage_areas")))
                 .sellerCustomField(getString(data, "seller_custom_field"))
                 .parentItemId(getString(data, "parent_item_id"))
                 .differentialPricing(getString(data, "differential_pricing"))
-                .dealIds((List<String>) data.get("deal_ids"))
+                .dealIds(InMemoryRepository.immutable((List<String>) data.get("deal_ids")))
                 .automaticRelist((Boolean) data.get("automatic_relist"))
-                .dateCreated(parseDateTime(getString(data, "date_created")))
-                .lastUpdated(parseDateTime(getString(data, "last_updated")))
+                .dateCreated(timestamps.parse(getString(data, "date_created")))
+                .lastUpdated(timestamps.parse(getString(data, "last_updated")))
                 .build();
     }
 
-    private List<ProductDto.PictureDto> mapPictures(List<Map<String, Object>> pictures) {
+    private static List<ProductDto.PictureDto> mapPictures(List<Map<String, Object>> pictures) {
         if (pictures == null) return List.of();
         return pictures.stream()
                 .map(pic -> ProductDto.PictureDto.builder()
@@ -126,26 +242,26 @@ public class ProductPersistenceAdapter implements ProductPersistencePort {
                         .size((String) pic.get("size"))
                         .maxSize((String) pic.get("max_size"))
                         .build())
-                .collect(Collectors.toList());
+                .toList();
     }
 
-    private List<ProductDto.DescriptionDto> mapDescriptions(List<Map<String, Object>> descriptions) {
+    private static List<ProductDto.DescriptionDto> mapDescriptions(List<Map<String, Object>> descriptions) {
         if (descriptions == null) return List.of();
         return descriptions.stream()
                 .map(desc -> ProductDto.DescriptionDto.builder()
                         .id((String) desc.get("id"))
                         .text((String) desc.get("text"))
                         .build())
-                .collect(Collectors.toList());
+                .toList();
     }
 
     @SuppressWarnings("unchecked")
-    private ProductDto.ShippingDto mapShipping(Map<String, Object> shipping) {
+    private static ProductDto.ShippingDto mapShipping(Map<String, Object> shipping) {
         if (shipping == null) return null;
         return ProductDto.ShippingDto.builder()
                 .mode((String) shipping.get("mode"))
                 .methods(mapShippingMethods((List<Map<String, Object>>) shipping.get("methods")))
-                .tags((List<String>) shipping.get("tags"))
+                .tags(InMemoryRepository.immutable((List<String>) shipping.get("tags")))
                 .dimensions((String) shipping.get("dimensions"))
                 .localPickUp((Boolean) shipping.get("local_pick_up"))
                 .freeShipping((Boolean) shipping.get("free_shipping"))
@@ -154,18 +270,18 @@ public class ProductPersistenceAdapter implements ProductPersistencePort {
                 .build();
     }
 
-    private List<ProductDto.ShippingMethodDto> mapShippingMethods(List<Map<String, Object>> methods) {
+    private static List<ProductDto.ShippingMethodDto> mapShippingMethods(List<Map<String, Object>> methods) {
         if (methods == null) return List.of();
         return methods.stream()
                 .map(method -> ProductDto.ShippingMethodDto.builder()
                         .id((String) method.get("id"))
                         .name((String) method.get("name"))
                         .build())
-                .collect(Collectors.toList());
+                .toList();
     }
 
     @SuppressWarnings("unchecked")
-    private ProductDto.SellerAddressDto mapSellerAddress(Map<String, Object> sellerAddress) {
+    private static ProductDto.SellerAddressDto mapSellerAddress(Map<String, Object> sellerAddress) {
         if (sellerAddress == null) return null;
         return ProductDto.SellerAddressDto.builder()
                 .city(mapCity((Map<String, Object>) sellerAddress.get("city")))
@@ -176,7 +292,7 @@ public class ProductPersistenceAdapter implements ProductPersistencePort {
                 .build();
     }
 
-    private ProductDto.CityDto mapCity(Map<String, Object> city) {
+    private static ProductDto.CityDto mapCity(Map<String, Object> city) {
         if (city == null) return null;
         return ProductDto.CityDto.builder()
                 .id((String) city.get("id"))
@@ -184,7 +300,7 @@ public class ProductPersistenceAdapter implements ProductPersistencePort {
                 .build();
     }
 
-    private ProductDto.StateDto mapState(Map<String, Object> state) {
+    private static ProductDto.StateDto mapState(Map<String, Object> state) {
         if (state == null) return null;
         return ProductDto.StateDto.builder()
                 .id((String) state.get("id"))
@@ -192,7 +308,7 @@ public class ProductPersistenceAdapter implements ProductPersistencePort {
                 .build();
     }
 
-    private ProductDto.CountryDto mapCountry(Map<String, Object> country) {
+    private static ProductDto.CountryDto mapCountry(Map<String, Object> country) {
         if (country == null) return null;
         return ProductDto.CountryDto.builder()
                 .id((String) country.get("id"))
@@ -201,7 +317,7 @@ public class ProductPersistenceAdapter implements ProductPersistencePort {
     }
 
     @SuppressWarnings("unchecked")
-    private ProductDto.SearchLocationDto mapSearchLocation(Map<String, Object> searchLocation) {
+    private static ProductDto.SearchLocationDto mapSearchLocation(Map<String, Object> searchLocation) {
         if (searchLocation == null) return null;
         return ProductDto.SearchLocationDto.builder()
                 .neighborhood(mapNeighborhood((Map<String, Object>) searchLocation.get("neighborhood")))
@@ -210,7 +326,7 @@ public class ProductPersistenceAdapter implements ProductPersistencePort {
                 .build();
     }
 
-    private ProductDto.NeighborhoodDto mapNeighborhood(Map<String, Object> neighborhood) {
+    private static ProductDto.NeighborhoodDto mapNeighborhood(Map<String, Object> neighborhood) {
         if (neighborhood == null) return null;
         return ProductDto.NeighborhoodDto.builder()
                 .id((String) neighborhood.get("id"))
@@ -219,7 +335,7 @@ public class ProductPersistenceAdapter implements ProductPersistencePort {
     }
 
     @SuppressWarnings("unchecked")
-    private List<ProductDto.AttributeDto> mapAttributes(List<Map<String, Object>> attributes) {
+    private static List<ProductDto.AttributeDto> mapAttributes(List<Map<String, Object>> attributes) {
         if (attributes == null) return List.of();
         return attributes.stream()
                 .map(attr -> ProductDto.AttributeDto.builder()
@@ -232,10 +348,10 @@ public class ProductPersistenceAdapter implements ProductPersistencePort {
                         .attributeGroupId((String) attr.get("attribute_group_id"))
                         .attributeGroupName((String) attr.get("attribute_group_name"))
                         .build())
-                .collect(Collectors.toList());
+                .toList();
     }
 
-    private List<ProductDto.AttributeValueDto> mapAttributeValues(List<Map<String, Object>> values) {
+    private static List<ProductDto.AttributeValueDto> mapAttributeValues(List<Map<String, Object>> values) {
         if (values == null) return List.of();
         return values.stream()
                 .map(value -> ProductDto.AttributeValueDto.builder()
@@ -243,28 +359,22 @@ public class ProductPersistenceAdapter implements ProductPersistencePort {
                         .name((String) value.get("name"))
                         .struct((String) value.get("struct"))
                         .build())
-                .collect(Collectors.toList());
+                .toList();
     }
 
-    private ProductDto.GeolocationDto mapGeolocation(Map<String, Object> geolocation) {
+    private static ProductDto.GeolocationDto mapGeolocation(Map<String, Object> geolocation) {
         if (geolocation == null) return null;
         return ProductDto.GeolocationDto.builder()
                 .latitude(geolocation.get("latitude") != null ? ((Number) geolocation.get("latitude")).doubleValue() : null)
                 .longitude(geolocation.get("longitude") != null ? ((Number) geolocation.get("longitude")).doubleValue() : null)
                 .build();
     }
-
-    private LocalDateTime parseDateTime(String dateTime) {
-        if (dateTime == null) return null;
-        try {
-            return LocalDateTime.parse(dateTime, DateTimeFormatter.ISO_DATE_TIME);
-        } catch (Exception e) {
-            return null;
-        }
-    }
     
-    private String getString(Map<String, Object> data, String key) {
+    private static String getString(Map<String, Object> data, String key) {
         Object value = data.get(key);
         return value != null ? value.toString() : null;
     }
+
+    private record Snapshot(InMemoryRepository<String, ProductDto> products, SearchIndex<ProductDto> searchIndex) {
+    }
 }
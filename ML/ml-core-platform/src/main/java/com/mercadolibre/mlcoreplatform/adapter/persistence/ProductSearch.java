@@ -0,0 +1,125 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence;
+
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ProductDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.SearchIndex;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.InvalidArgumentException;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchCriteria;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * How products go into a {@link SearchIndex} and how {@link SearchCriteria} read against it,
+ * shared by the JSON and the binary product adapters.
+ */
+final class ProductSearch {
+
+    static final String SITE = "site_id";
+    static final String CATEGORY = "category_id";
+    static final String CONDITION = "condition";
+    static final String FREE_SHIPPING = "free_shipping";
+    static final String LOGISTIC_TYPE = "logistic_type";
+    static final String OFFICIAL_STORE = "official_store_id";
+    static final String PRICE = "price";
+
+    static final List<String> FACETS = List.of(CONDITION, CATEGORY, FREE_SHIPPING, LOGISTIC_TYPE, OFFICIAL_STORE, PRICE);
+    static final int PRICE_BUCKETS = 5;
+
+    // Title terms count most, then subtitle and attribute values, then descriptions
+    static final int TITLE_WEIGHT = 3;
+    static final int SUBTITLE_WEIGHT = 2;
+    static final int ATTRIBUTE_WEIGHT = 2;
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    static final String SUGGESTION_SOURCE = "products";
+
+    private ProductSearch() {
+    }
+
+    /**
+     * Product titles per site for typeahead, weighted by units sold.
+     */
+    static Map<String, Map<String, Long>> suggestionsOf(Iterable<ProductDto> products) {
+        Map<String, Map<String, Long>> phrases = new HashMap<>();
+        for (ProductDto product : products) {
+            addSuggestion(phrases, product);
+        }
+        return phrases;
+    }
+
+    static void addSuggestion(Map<String, Map<String, Long>> phrases, ProductDto product) {
+        if (product.siteId() != null && product.title() != null) {
+            long sold = product.soldQuantity() != null ? product.soldQuantity() : 0;
+            phrases.computeIfAbsent(product.siteId(), ignored -> new HashMap<>()).merge(product.title(), 1 + sold, Long::sum);
+        }
+    }
+
+    static <V> SearchIndex.Builder<V> builder() {
+        return SearchIndex.<V>builder().buckets(PRICE, PRICE_BUCKETS);
+    }
+
+    static <V> void add(SearchIndex.Builder<V> builder, V value, ProductDto product) {
+        builder.add(value)
+                .text(product.title(), TITLE_WEIGHT)
+                .text(product.subtitle(), SUBTITLE_WEIGHT)
+                .keyword(SITE, product.siteId())
+                .keyword(CATEGORY, product.categoryId())
+                .keyword(CONDITION, product.condition())
+                .keyword(OFFICIAL_STORE, product.officialStoreId())
+                .number(PRICE, product.price());
+        if (product.attributes() != null) {
+            for (ProductDto.AttributeDto attribute : product.attributes()) {
+                builder.text(attribute.valueName(), ATTRIBUTE_WEIGHT);
+            }
+        }
+        if (product.descriptions() != null) {
+            for (ProductDto.DescriptionDto description : product.descriptions()) {
+                builder.text(description.text(), DESCRIPTION_WEIGHT);
+            }
+        }
+        ProductDto.ShippingDto shipping = product.shipping();
+        if (shipping != null) {
+            builder.keyword(FREE_SHIPPING, String.valueOf(Boolean.TRUE.equals(shipping.freeShipping())))
+                    .keyword(LOGISTIC_TYPE, shipping.logisticType());
+        }
+    }
+
+    /**
+     * {@code categoryIds} is the category with all of its subcategories, empty for no category
+     * filter. {@code shipping} is {@code free} for free shipping or else a logistic type such as
+     * {@code fulfillment}; {@code sort} is {@code relevance} (the default), {@code price_asc} or
+     * {@code price_desc}. With {@code withFacets} the matches are also counted per {@link #FACETS}.
+     */
+    static SearchIndex.Query query(SearchCriteria criteria, List<String> categoryIds, boolean withFacets) {
+        SearchIndex.Query query = SearchIndex.query()
+                .text(criteria.query())
+                .keyword(SITE, criteria.siteId())
+                .keyword(CATEGORY, categoryIds)
+                .keyword(CONDITION, criteria.condition())
+                .range(PRICE, criteria.minPrice(), criteria.maxPrice())
+                .page(criteria.offset(), criteria.limit());
+        if (withFacets) {
+            query.facets(FACETS);
+        }
+        String shipping = criteria.shipping();
+        if (shipping != null && !shipping.isBlank()) {
+            String normalized = shipping.toLowerCase(Locale.ROOT);
+            if (normalized.equals("free") || normalized.equals(FREE_SHIPPING)) {
+                query.keyword(FREE_SHIPPING, "true");
+            } else {
+                query.keyword(LOGISTIC_TYPE, normalized);
+            }
+        }
+        String sort = criteria.sort() == null || criteria.sort().isBlank() ? "relevance" : criteria.sort();
+        switch (sort) {
+            case "relevance" -> {
+            }
+            case "price_asc" -> query.sortBy(PRICE, true);
+            case "price_desc" -> query.sortBy(PRICE, false);
+            default -> throw new InvalidArgumentException("Unknown sort: " + sort);
+        }
+        return query;
+    }
+}
@@ -1,93 +1,124 @@
 package com.mercadolibre.mlcoreplatform.adapter.persistence;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.PurchaseDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataFiles;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.InMemoryRepository;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Index;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.JsonRecords;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.SortKey;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
 import com.mercadolibre.mlcoreplatform.domain.port.out.PurchasePersistencePort;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 @Component
 public class PurchasePersistenceAdapter implements PurchasePersistencePort {
 
-    private final ObjectMapper objectMapper;
-    private final Map<String, Map<String, Object>> purchasesData;
+    private static final Index<String, PurchaseDto, String> BY_STATUS = Index.on("status", PurchaseDto::status);
+    private static final Index<String, PurchaseDto, Long> BY_BUYER =
+            Index.on("buyerId", purchase -> purchase.buyer() != null ? purchase.buyer().id() : null);
+    private static final Index<String, PurchaseDto, Long> BY_SELLER =
+            Index.on("sellerId", purchase -> purchase.seller() != null ? purchase.seller().id() : null);
+    private static final Index<String, PurchaseDto, SortKey<String>> BY_DATE_CREATED =
+            Index.sorted("dateCreated", PurchasePersistenceAdapter::sortKeyOf);
+
+    private final ObjectReader recordReader;
+    private final Timestamps timestamps = new Timestamps("purchases.json");
+    private final InMemoryRepository<String, PurchaseDto> purchases =
+            InMemoryRepository.withIndexes(BY_STATUS, BY_BUYER, BY_SELLER, BY_DATE_CREATED);
 
     public PurchasePersistenceAdapter() throws IOException {
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
-        
-        ClassPathResource resource = new ClassPathResource("purchases.json");
-        this.purchasesData = objectMapper.readValue(
-            resource.getInputStream(), 
-            new TypeReference<Map<String, Map<String, Object>>>() {}
-        );
+        this(DataFiles.classpath(), JsonCodecs.standalone());
+    }
+
+    @Autowired
+    public PurchasePersistenceAdapter(DataFiles dataFiles, JsonCodecs jsonCodecs) throws IOException {
+        this.recordReader = jsonCodecs.recordReader();
+        dataFiles.load("purchases.json", this::load);
+    }
+
+    private int load(InputStream in) throws IOException {
+        InMemoryRepository<String, PurchaseDto>.Replacement replacement = purchases.replacement();
+        JsonRecords.readObject(recordReader, in, "purchases.json", (id, data) -> replacement.save(id, mapToPurchaseDto(data)));
+        timestamps.report();
+        replacement.commit();
+        return replacement.size();
     }
 
     @Override
     public Optional<PurchaseDto> findById(String orderId) {
-        Map<String, Object> purchaseData = purchasesData.get(orderId);
-        if (purchaseData == null) {
-            return Optional.empty();
-        }
-        
-        return Optional.of(mapToPurchaseDto(purchaseData));
+        return purchases.findById(orderId);
     }
 
     @Override
     public List<PurchaseDto> findAll() {
-        return purchasesData.values().stream()
-                .map(this::mapToPurchaseDto)
-                .toList();
+        return purchases.findAll();
+    }
+
+    @Override
+    public List<PurchaseDto> findAll(int offset, int limit) {
+        return purchases.findAll(offset, limit);
+    }
+
+    @Override
+    public CursorPage<PurchaseDto> findAllAfter(String cursor, int limit) {
+        SortKey<String> after = SortKey.decode(cursor, Function.identity());
+        int size = CursorPage.clamp(limit);
+        List<PurchaseDto> window = purchases.findAfter(BY_DATE_CREATED, after, size + 1);
+        return CursorPage.of(window, size, cursor, purchase -> sortKeyOf(purchase).encode());
+    }
+
+    @Override
+    public long count() {
+        return purchases.size();
     }
 
     @Override
     public List<PurchaseDto> findByStatus(String status) {
-        return purchasesData.values().stream()
-                .filter(data -> status.equals(data.get("status")))
-                .map(this::mapToPurchaseDto)
-                .toList();
+        return purchases.findBy(BY_STATUS, status);
     }
 
     @Override
     public List<PurchaseDto> findByBuyerId(Long buyerId) {
-        return purchasesData.values().stream()
-                .filter(data -> {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> buyer = (Map<String, Object>) data.get("buyer");
-                    return buyer != null && buyerId.equals(((Number) buyer.get("id")).longValue());
-                })
-                .map(this::mapToPurchaseDto)
-                .toList();
+        return purchases.findBy(BY_BUYER, buyerId);
+    }
+
+    @Override
+    public List<PurchaseDto> findByBuyerId(Long buyerId, int offset, int limit) {
+        return purchases.findBy(BY_BUYER, buyerId, offset, limit);
+    }
+
+    @Override
+    public long countByBuyerId(Long buyerId) {
+        return purchases.count(BY_BUYER, buyerId);
     }
 
     @Override
     public List<PurchaseDto> findBySellerId(Long sellerId) {
-        return purchasesData.values().stream()
-                .filter(data -> {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> seller = (Map<String, Object>) data.get("seller");
-                    return seller != null && sellerId.equals(((Number) seller.get("id")).longValue());
-                })
-                .map(this::mapToPurchaseDto)
-                .toList();
+        return purchases.findBy(BY_SELLER, sellerId);
     }
 
+
+    private static SortKey<String> sortKeyOf(PurchaseDto purchase) {
+        return new SortKey<>(purchase.dateCreated(), purchase.id());
+    }
     @SuppressWarnings("unchecked")
     private PurchaseDto mapToPurchaseDto(Map<String, Object> data) {
         return PurchaseDto.builder()
                 .id((String) data.get("id"))
-                .dateCreated(parseDateTime((String) data.get("date_created")))
-                .dateClosed(parseDateTime((String) data.get("date_closed")))
-                .lastUpdated(parseDateTime((String) data.get("last_updated")))
+                .dateCreated(timestamps.parse((String) data.get("date_created")))
+                .dateClosed(timestamps.parse((String) data.get("date_closed")))
+                .lastUpdated(timestamps.parse((String) data.get("last_updated")))
                 .status((String) data.get("status"))
                 .statusDetail(mapStatusDetail((Map<String, Object>) data.get("status_detail")))
                 .currencyId((String) data.get("currency_id"))
@@ -95,12 +126,12 @@ public class PurchasePersistenceAdapter implements PurchasePersistencePort {
                 .totalAmount(data.get("total_amount") != null ? ((Number) data.get("total_amount")).doubleValue() : null)
                 .paidAmount(data.get("paid_amount") != null ? ((Number) data.get("paid_amount")).doubleValue() : null)
                 .coupon(mapCoupon((Map<String, Object>) data.get("coupon")))
-                .expirationDate(parseDateTime((String) data.get("expiration_date")))
+                .expirationDate(timestamps.parse((String) data.get("expiration_date")))
                 .shipping(mapShippingInfo((Map<String, Object>) data.get("shipping")))
                 .payments(mapPaymentInfos((List<Map<String, Object>>) data.get("payments")))
                 .buyer(mapBuyer((Map<String, Object>) data.get("buyer")))
                 .seller(mapPurchaseSeller((Map<String, Object>) data.get("seller")))
-                .tags((List<String>) data.get("tags"))
+                .tags(InMemoryRepository.immutable((List<String>) data.get("tags")))
                 .feedback(mapFeedback((Map<String, Object>) data.get("feedback")))
                 .context(mapContext((Map<String, Object>) data.get("context")))
                 .build();
@@ -124,7 +155,7 @@ public class PurchasePersistenceAdapter implements PurchasePersistencePort {
                         .unitPrice(item.get("unit_price") != null ? ((Number) item.get("unit_price")).doubleValue() : null)
                         .fullUnitPrice(item.get("full_unit_price") != null ? ((Number) item.get("full_unit_price")).doubleValue() : null)
                         .currencyId((String) item.get("currency_id"))
-                        .manufacturingEndingDate(parseDateTime((String) item.get("manufacturing_ending_date")))
+                        .manufacturingEndingDate(timestamps.parse((String) item.get("manufacturing_ending_date")))
                         .saleFee(item.get("sale_fee") != null ? ((Number) item.get("sale_fee")).doubleValue() : null)
                         .listingTypeId((String) item.get("listing_type_id"))
                         .build())
@@ -140,7 +171,7 @@ public class PurchasePersistenceAdapter implements PurchasePersistencePort {
                 .categoryId((String) item.get("category_id"))
                 .variationId((String) item.get("variation_id"))
                 .sellerCustomField((String) item.get("seller_custom_field"))
-                .variationAttributes((List<String>) item.get("variation_attributes"))
+                .variationAttributes(InMemoryRepository.immutable((List<String>) item.get("variation_attributes")))
                 .warranty((String) item.get("warranty"))
                 .condition((String) item.get("condition"))
                 .sellerSku((String) item.get("seller_sku"))
@@ -164,12 +195,12 @@ public class PurchasePersistenceAdapter implements PurchasePersistencePort {
                 .id(shipping.get("id") != null ? ((Number) shipping.get("id")).longValue() : null)
                 .shipmentType((String) shipping.get("shipment_type"))
                 .status((String) shipping.get("status"))
-                .dateCreated(parseDateTime((String) shipping.get("date_created")))
-                .lastUpdated(parseDateTime((String) shipping.get("last_updated")))
+                .dateCreated(timestamps.parse((String) shipping.get("date_created")))
+                .lastUpdated(timestamps.parse((String) shipping.get("last_updated")))
                 .trackingNumber((String) shipping.get("tracking_number"))
                 .trackingMethod((String) shipping.get("tracking_method"))
                 .serviceId(shipping.get("service_id") != null ? ((Number) shipping.get("service_id")).intValue() : null)
-                .dateFirstPrinted(parseDateTime((String) shipping.get("date_first_printed")))
+                .dateFirstPrinted(timestamps.parse((String) shipping.get("date_first_printed")))
                 .carrierInfo(mapCarrierInfo((Map<String, Object>) shipping.get("carrier_info")))
                 .shippingItems(mapShippingItems((List<Map<String, Object>>) shipping.get("shipping_items")))
                 .shippingOption(mapShippingOption((Map<String, Object>) shipping.get("shipping_option")))
@@ -212,7 +243,7 @@ public class PurchasePersistenceAdapter implements PurchasePersistencePort {
     private PurchaseDto.EstimatedDeliveryDto mapEstimatedDelivery(Map<String, Object> estimatedDelivery) {
         if (estimatedDelivery == null) return null;
         return PurchaseDto.EstimatedDeliveryDto.builder()
-                .date(parseDateTime((String) estimatedDelivery.get("date")))
+                .date(timestamps.parse((String) estimatedDelivery.get("date")))
                 .build();
     }
 
@@ -283,9 +314,9 @@ public class PurchasePersistenceAdapter implements PurchasePersistencePort {
                         .totalPaidAmount(payment.get("total_paid_amount") != null ? ((Number) payment.get("total_paid_amount")).doubleValue() : null)
                         .shippingCost(payment.get("shipping_cost") != null ? ((Number) payment.get("shipping_cost")).doubleValue() : null)
                         .couponAmount(payment.get("coupon_amount") != null ? ((Number) payment.get("coupon_amount")).doubleValue() : null)
-                        .dateCreated(parseDateTime((String) payment.get("date_created")))
-                        .dateLastUpdated(parseDateTime((String) payment.get("date_last_updated")))
-                        .dateApproved(parseDateTime((String) payment.get("date_approved")))
+                        .dateCreated(timestamps.parse((String) payment.get("date_created")))
+                        .dateLastUpdated(timestamps.parse((String) payment.get("date_last_updated")))
+                        .dateApproved(timestamps.parse((String) payment.get("date_approved")))
                         .authorizationCode((String) payment.get("authorization_code"))
                         .captured((Boolean) payment.get("captured"))
                         .liveMode((Boolean) payment.get("live_mode"))
@@ -366,17 +397,8 @@ public class PurchasePersistenceAdapter implements PurchasePersistencePort {
         return PurchaseDto.ContextDto.builder()
                 .channel((String) context.get("channel"))
                 .site((String) context.get("site"))
-                .flows((List<String>) context.get("flows"))
+                .flows(InMemoryRepository.immutable((List<String>) context.get("flows")))
                 .application((String) context.get("application"))
                 .build();
     }
-
-    private LocalDateTime parseDateTime(String dateTime) {
-        if (dateTime == null) return null;
-        try {
-            return LocalDateTime.parse(dateTime, DateTimeFormatter.ISO_DATE_TIME);
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
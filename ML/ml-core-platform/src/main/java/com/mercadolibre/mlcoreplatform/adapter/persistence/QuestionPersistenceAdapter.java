@@ -1,72 +1,110 @@
 package com.mercadolibre.mlcoreplatform.adapter.persistence;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.QuestionDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataFiles;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.GroupKey;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.InMemoryRepository;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Index;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.JsonRecords;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.SortKey;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
 import com.mercadolibre.mlcoreplatform.domain.port.out.QuestionPersistencePort;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class QuestionPersistenceAdapter implements QuestionPersistencePort {
 
-    private final ObjectMapper objectMapper;
-    private final Map<String, List<Map<String, Object>>> questionsData;
+    private static final Index<GroupKey, QuestionDto, Long> BY_ID = Index.on("id", QuestionDto::id);
+    private static final Index<GroupKey, QuestionDto, String> BY_ITEM = Index.onKey("itemId", GroupKey::group);
+    private static final Index<GroupKey, QuestionDto, Long> BY_SELLER = Index.on("sellerId", QuestionDto::sellerId);
+    private static final Index<GroupKey, QuestionDto, String> BY_STATUS = Index.on("status", QuestionDto::status);
+    private static final Index<GroupKey, QuestionDto, SortKey<Long>> BY_DATE_CREATED =
+            Index.sorted("dateCreated", QuestionPersistenceAdapter::sortKeyOf);
+
+    private final ObjectReader recordReader;
+    private final Timestamps timestamps = new Timestamps("questions.json");
+    private final InMemoryRepository<GroupKey, QuestionDto> questions =
+            InMemoryRepository.withIndexes(BY_ID, BY_ITEM, BY_SELLER, BY_STATUS, BY_DATE_CREATED);
 
     public QuestionPersistenceAdapter() throws IOException {
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
-        
-        ClassPathResource resource = new ClassPathResource("questions.json");
-        this.questionsData = objectMapper.readValue(
-            resource.getInputStream(), 
-            new TypeReference<Map<String, List<Map<String, Object>>>>() {}
-        );
+        this(DataFiles.classpath(), JsonCodecs.standalone());
+    }
+
+    @Autowired
+    public QuestionPersistenceAdapter(DataFiles dataFiles, JsonCodecs jsonCodecs) throws IOException {
+        this.recordReader = jsonCodecs.recordReader();
+        dataFiles.load("questions.json", this::load);
+    }
+
+    private int load(InputStream in) throws IOException {
+        InMemoryRepository<GroupKey, QuestionDto>.Replacement replacement = questions.replacement();
+        JsonRecords.readGroups(recordReader, in, "questions.json", (key, data) -> replacement.save(key, mapToQuestionDto(data)));
+        timestamps.report();
+        replacement.commit();
+        return replacement.size();
+    }
+
+    @Override
+    public Optional<QuestionDto> findById(Long questionId) {
+        return questions.findFirstBy(BY_ID, questionId);
     }
 
     @Override
     public List<QuestionDto> findByItemId(String itemId) {
-        List<Map<String, Object>> itemQuestions = questionsData.get(itemId);
-        if (itemQuestions == null) {
-            return List.of();
-        }
-        
-        return itemQuestions.stream()
-                .map(this::mapToQuestionDto)
-                .toList();
+        return questions.findBy(BY_ITEM, itemId);
+    }
+
+    @Override
+    public List<QuestionDto> findByItemId(String itemId, int offset, int limit) {
+        return questions.findBy(BY_ITEM, itemId, offset, limit);
+    }
+
+    @Override
+    public long countByItemId(String itemId) {
+        return questions.count(BY_ITEM, itemId);
     }
 
     @Override
     public List<QuestionDto> findAll() {
-        return questionsData.values().stream()
-                .flatMap(List::stream)
-                .map(this::mapToQuestionDto)
-                .toList();
+        return questions.findAll();
+    }
+
+    @Override
+    public List<QuestionDto> findAll(int offset, int limit) {
+        return questions.findAll(offset, limit);
+    }
+
+    @Override
+    public CursorPage<QuestionDto> findAllAfter(String cursor, int limit) {
+        SortKey<Long> after = SortKey.decode(cursor, Long::valueOf);
+        int size = CursorPage.clamp(limit);
+        List<QuestionDto> window = questions.findAfter(BY_DATE_CREATED, after, size + 1);
+        return CursorPage.of(window, size, cursor, question -> sortKeyOf(question).encode());
+    }
+
+    @Override
+    public long count() {
+        return questions.size();
     }
 
     @Override
     public List<QuestionDto> findBySellerId(Long sellerId) {
-        return questionsData.values().stream()
-                .flatMap(List::stream)
-                .filter(question -> sellerId.equals(((Number) question.get("seller_id")).longValue()))
-                .map(this::mapToQuestionDto)
-                .toList();
+        return questions.findBy(BY_SELLER, sellerId);
     }
 
     @Override
     public List<QuestionDto> findByStatus(String status) {
-        return questionsData.values().stream()
-                .flatMap(List::stream)
-                .filter(question -> status.equals(question.get("status")))
-                .map(this::mapToQuestionDto)
-                .toList();
+        return questions.findBy(BY_STATUS, status);
     }
 
     @Override
@@ -74,20 +112,24 @@ public class QuestionPersistenceAdapter implements QuestionPersistencePort {
         return findByStatus("UNANSWERED");
     }
 
+
+    private static SortKey<Long> sortKeyOf(QuestionDto question) {
+        return new SortKey<>(question.dateCreated(), question.id());
+    }
     @SuppressWarnings("unchecked")
     private QuestionDto mapToQuestionDto(Map<String, Object> data) {
         return QuestionDto.builder()
                 .id(data.get("id") != null ? ((Number) data.get("id")).longValue() : null)
                 .text((String) data.get("text"))
                 .status((String) data.get("status"))
-                .dateCreated(parseDateTime((String) data.get("date_created")))
+                .dateCreated(timestamps.parse((String) data.get("date_created")))
                 .itemId((String) data.get("item_id"))
                 .sellerId(data.get("seller_id") != null ? ((Number) data.get("seller_id")).longValue() : null)
                 .from(mapQuestionFrom((Map<String, Object>) data.get("from")))
                 .answer(mapAnswer((Map<String, Object>) data.get("answer")))
                 .deletedFromListing((Boolean) data.get("deleted_from_listing"))
                 .hold((Boolean) data.get("hold"))
-                .tags((List<String>) data.get("tags"))
+                .tags(InMemoryRepository.immutable((List<String>) data.get("tags")))
                 .build();
     }
 
@@ -105,16 +147,7 @@ public class QuestionPersistenceAdapter implements QuestionPersistencePort {
         return QuestionDto.AnswerDto.builder()
                 .text((String) answer.get("text"))
                 .status((String) answer.get("status"))
-                .dateCreated(parseDateTime((String) answer.get("date_created")))
+                .dateCreated(timestamps.parse((String) answer.get("date_created")))
                 .build();
     }
-
-    private LocalDateTime parseDateTime(String dateTime) {
-        if (dateTime == null) return null;
-        try {
-            return LocalDateTime.parse(dateTime, DateTimeFormatter.ISO_DATE_TIME);
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
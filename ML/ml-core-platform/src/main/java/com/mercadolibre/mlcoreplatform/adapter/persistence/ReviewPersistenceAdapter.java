@@ -1,16 +1,19 @@
 package com.mercadolibre.mlcoreplatform.adapter.persistence;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ReviewDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataFiles;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.InMemoryRepository;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Index;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.JsonRecords;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
 import com.mercadolibre.mlcoreplatform.domain.port.out.ReviewPersistencePort;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -18,47 +21,44 @@ import java.util.Optional;
 @Component
 public class ReviewPersistenceAdapter implements ReviewPersistencePort {
 
-    private final ObjectMapper objectMapper;
-    private final Map<String, Map<String, Object>> reviewsData;
+    private static final Index<String, ReviewDto, Double> BY_RATING = Index.sorted("ratingAverage",
+            review -> review.ratingAverage() != null ? review.ratingAverage() : 0.0);
+
+    private final ObjectReader recordReader;
+    private final Timestamps timestamps = new Timestamps("reviews.json");
+    private final InMemoryRepository<String, ReviewDto> reviews = InMemoryRepository.withIndexes(BY_RATING);
 
     public ReviewPersistenceAdapter() throws IOException {
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
-        
-        ClassPathResource resource = new ClassPathResource("reviews.json");
-        this.reviewsData = objectMapper.readValue(
-            resource.getInputStream(), 
-            new TypeReference<Map<String, Map<String, Object>>>() {}
-        );
+        this(DataFiles.classpath(), JsonCodecs.standalone());
+    }
+
+    @Autowired
+    public ReviewPersistenceAdapter(DataFiles dataFiles, JsonCodecs jsonCodecs) throws IOException {
+        this.recordReader = jsonCodecs.recordReader();
+        dataFiles.load("reviews.json", this::load);
+    }
+
+    private int load(InputStream in) throws IOException {
+        InMemoryRepository<String, ReviewDto>.Replacement replacement = reviews.replacement();
+        JsonRecords.readObject(recordReader, in, "reviews.json", (itemId, data) -> replacement.save(itemId, mapToReviewDto(data)));
+        timestamps.report();
+        replacement.commit();
+        return replacement.size();
     }
 
     @Override
     public Optional<ReviewDto> findByItemId(String itemId) {
-        Map<String, Object> reviewData = reviewsData.get(itemId);
-        if (reviewData == null) {
-            return Optional.empty();
-        }
-        
-        return Optional.of(mapToReviewDto(reviewData));
+        return reviews.findById(itemId);
     }
 
     @Override
     public List<ReviewDto> findAll() {
-        return reviewsData.values().stream()
-                .map(this::mapToReviewDto)
-                .toList();
+        return reviews.findAll();
     }
 
     @Override
     public List<ReviewDto> findByRatingGreaterThan(Double minRating) {
-        return reviewsData.values().stream()
-                .filter(data -> {
-                    Double rating = data.get("rating_average") != null ? 
-                        ((Number) data.get("rating_average")).doubleValue() : 0.0;
-                    return rating >= minRating;
-                })
-                .map(this::mapToReviewDto)
-                .toList();
+        return reviews.findFrom(BY_RATING, minRating);
     }
 
     @SuppressWarnings("unchecked")
@@ -84,7 +84,7 @@ public class ReviewPersistenceAdapter implements ReviewPersistencePort {
                             ((Number) review.get("rating")).intValue() : null)
                         .title((String) review.get("title"))
                         .content((String) review.get("content"))
-                        .dateCreated(parseDateTime((String) review.get("date_created")))
+                        .dateCreated(timestamps.parse((String) review.get("date_created")))
                         .reviewer(mapReviewer((Map<String, Object>) review.get("reviewer")))
                         .likes(review.get("likes") != null ? 
                             ((Number) review.get("likes")).intValue() : null)
@@ -134,13 +134,4 @@ public class ReviewPersistenceAdapter implements ReviewPersistencePort {
                     ((Number) ratingLevels.get("one_star")).intValue() : null)
                 .build();
     }
-
-    private LocalDateTime parseDateTime(String dateTime) {
-        if (dateTime == null) return null;
-        try {
-            return LocalDateTime.parse(dateTime, DateTimeFormatter.ISO_DATE_TIME);
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
@@ -1,35 +1,54 @@
 package com.mercadolibre.mlcoreplatform.adapter.persistence;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.SellerDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataFiles;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataVersion;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.InMemoryRepository;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Index;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.JsonRecords;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
 import com.mercadolibre.mlcoreplatform.domain.port.out.SellerPersistencePort;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.LongConsumer;
 
 @Component
 public class SellerPersistenceAdapter implements SellerPersistencePort {
 
-    private final ObjectMapper objectMapper;
-    private final Map<String, Map<String, Object>> sellersData;
+    private static final Index<String, SellerDto, String> BY_NICKNAME = Index.on("nickname", SellerDto::nickname);
+    private static final Index<String, SellerDto, String> BY_COUNTRY = Index.on("countryId", SellerDto::countryId);
+
+    private final ObjectReader recordReader;
+    private final Timestamps timestamps = new Timestamps("sellers.json");
+    private final InMemoryRepository<String, SellerDto> sellers = InMemoryRepository.withIndexes(BY_NICKNAME, BY_COUNTRY);
+    private final DataVersion version = new DataVersion();
 
     public SellerPersistenceAdapter() throws IOException {
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
-        
-        ClassPathResource resource = new ClassPathResource("sellers.json");
-        this.sellersData = objectMapper.readValue(
-            resource.getInputStream(), 
-            new TypeReference<Map<String, Map<String, Object>>>() {}
-        );
+        this(DataFiles.classpath(), JsonCodecs.standalone());
+    }
+
+    @Autowired
+    public SellerPersistenceAdapter(DataFiles dataFiles, JsonCodecs jsonCodecs) throws IOException {
+        this.recordReader = jsonCodecs.recordReader();
+        dataFiles.load("sellers.json", this::load);
+    }
+
+    private int load(InputStream in) throws IOException {
+        DataVersion.Reading read = DataVersion.reading(in);
+        InMemoryRepository<String, SellerDto>.Replacement replacement = sellers.replacement();
+        JsonRecords.readObject(recordReader, read, "sellers.json", (id, data) -> replacement.save(id, mapToSellerDto(data)));
+        timestamps.report();
+        replacement.commit();
+        version.publish(read);
+        return replacement.size();
     }
 
     @Override
@@ -38,35 +57,42 @@ public class SellerPersistenceAdapter implements SellerPersistencePort {
             return Optional.empty();
         }
         
-        Map<String, Object> sellerData = sellersData.get(sellerId.toString());
-        if (sellerData == null) {
-            return Optional.empty();
-        }
-        
-        return Optional.of(mapToSellerDto(sellerData));
+        return sellers.findById(sellerId.toString());
     }
 
     @Override
     public List<SellerDto> findAll() {
-        return sellersData.values().stream()
-                .map(this::mapToSellerDto)
-                .toList();
+        return sellers.findAll();
+    }
+
+    @Override
+    public List<SellerDto> findAll(int offset, int limit) {
+        return sellers.findAll(offset, limit);
+    }
+
+    @Override
+    public long count() {
+        return sellers.size();
     }
 
     @Override
     public List<SellerDto> findByNickname(String nickname) {
-        return sellersData.values().stream()
-                .filter(data -> nickname.equals(data.get("nickname")))
-                .map(this::mapToSellerDto)
-                .toList();
+        return sellers.findBy(BY_NICKNAME, nickname);
     }
 
     @Override
     public List<SellerDto> findByCountryId(String countryId) {
-        return sellersData.values().stream()
-                .filter(data -> countryId.equals(data.get("country_id")))
-                .map(this::mapToSellerDto)
-                .toList();
+        return sellers.findBy(BY_COUNTRY, countryId);
+    }
+
+    @Override
+    public long version() {
+        return version.current();
+    }
+
+    @Override
+    public void onVersionChange(LongConsumer listener) {
+        version.onChange(listener);
     }
 
     @SuppressWarnings("unchecked")
@@ -74,7 +100,7 @@ public class SellerPersistenceAdapter implements SellerPersistencePort {
         return SellerDto.builder()
                 .id(data.get("id") != null ? ((Number) data.get("id")).longValue() : null)
                 .nickname((String) data.get("nickname"))
-                .registrationDate(parseDateTime((String) data.get("registration_date")))
+                .registrationDate(timestamps.parse((String) data.get("registration_date")))
                 .firstName((String) data.get("first_name"))
                 .lastName((String) data.get("last_name"))
                 .countryId((String) data.get("country_id"))
@@ -84,7 +110,7 @@ public class SellerPersistenceAdapter implements SellerPersistencePort {
                 .phone(mapPhone((Map<String, Object>) data.get("phone")))
                 .alternativePhone(mapPhone((Map<String, Object>) data.get("alternative_phone")))
                 .userType((String) data.get("user_type"))
-                .tags((List<String>) data.get("tags"))
+                .tags(InMemoryRepository.immutable((List<String>) data.get("tags")))
                 .logo((String) data.get("logo"))
                 .points(data.get("points") != null ? ((Number) data.get("points")).intValue() : null)
                 .siteId((String) data.get("site_id"))
@@ -206,7 +232,7 @@ public class SellerPersistenceAdapter implements SellerPersistencePort {
         return SellerDto.BuyerReputationDto.builder()
                 .canceledTransactions(reputation.get("canceled_transactions") != null ? 
                     ((Number) reputation.get("canceled_transactions")).intValue() : null)
-                .tags((List<String>) reputation.get("tags"))
+                .tags(InMemoryRepository.immutable((List<String>) reputation.get("tags")))
                 .transactions(mapBuyerTransactions((Map<String, Object>) reputation.get("transactions")))
                 .build();
     }
@@ -270,7 +296,7 @@ public class SellerPersistenceAdapter implements SellerPersistencePort {
         if (list == null) return null;
         return SellerDto.ListDto.builder()
                 .allow((Boolean) list.get("allow"))
-                .codes((List<String>) list.get("codes"))
+                .codes(InMemoryRepository.immutable((List<String>) list.get("codes")))
                 .immediatePayment(mapImmediatePayment((Map<String, Object>) list.get("immediate_payment")))
                 .build();
     }
@@ -280,7 +306,7 @@ public class SellerPersistenceAdapter implements SellerPersistencePort {
         if (buy == null) return null;
         return SellerDto.BuyDto.builder()
                 .allow((Boolean) buy.get("allow"))
-                .codes((List<String>) buy.get("codes"))
+                .codes(InMemoryRepository.immutable((List<String>) buy.get("codes")))
                 .immediatePayment(mapImmediatePayment((Map<String, Object>) buy.get("immediate_payment")))
                 .build();
     }
@@ -290,7 +316,7 @@ public class SellerPersistenceAdapter implements SellerPersistencePort {
         if (sell == null) return null;
         return SellerDto.SellDto.builder()
                 .allow((Boolean) sell.get("allow"))
-                .codes((List<String>) sell.get("codes"))
+                .codes(InMemoryRepository.immutable((List<String>) sell.get("codes")))
                 .immediatePayment(mapImmediatePayment((Map<String, Object>) sell.get("immediate_payment")))
                 .build();
     }
@@ -300,7 +326,7 @@ public class SellerPersistenceAdapter implements SellerPersistencePort {
         if (billing == null) return null;
         return SellerDto.BillingDto.builder()
                 .allow((Boolean) billing.get("allow"))
-                .codes((List<String>) billing.get("codes"))
+                .codes(InMemoryRepository.immutable((List<String>) billing.get("codes")))
                 .build();
     }
 
@@ -308,17 +334,8 @@ public class SellerPersistenceAdapter implements SellerPersistencePort {
     private SellerDto.ImmediatePaymentDto mapImmediatePayment(Map<String, Object> immediatePayment) {
         if (immediatePayment == null) return null;
         return SellerDto.ImmediatePaymentDto.builder()
-                .reasons((List<String>) immediatePayment.get("reasons"))
+                .reasons(InMemoryRepository.immutable((List<String>) immediatePayment.get("reasons")))
                 .required((Boolean) immediatePayment.get("required"))
                 .build();
     }
-
-    private LocalDateTime parseDateTime(String dateTime) {
-        if (dateTime == null) return null;
-        try {
-            return LocalDateTime.parse(dateTime, DateTimeFormatter.ISO_DATE_TIME);
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
@@ -1,76 +1,73 @@
 package com.mercadolibre.mlcoreplatform.adapter.persistence;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ShippingDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataFiles;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.GroupKey;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.InMemoryRepository;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Index;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.JsonRecords;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
 import com.mercadolibre.mlcoreplatform.domain.port.out.ShippingPersistencePort;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
 @Component
 public class ShippingPersistenceAdapter implements ShippingPersistencePort {
 
-    private final ObjectMapper objectMapper;
-    private final Map<String, List<Map<String, Object>>> shippingData;
+    private static final Index<GroupKey, ShippingDto, String> BY_ITEM = Index.onKey("itemId", GroupKey::group);
+    private static final Index<GroupKey, ShippingDto, String> BY_DELIVERY_TYPE =
+            Index.on("deliveryType", ShippingDto::deliveryType);
+    private static final Index<GroupKey, ShippingDto, Boolean> BY_FREE_SHIPPING = Index.on("freeShipping",
+            shipping -> shipping.freeShipping() != null && Boolean.TRUE.equals(shipping.freeShipping().flag()));
+
+    private final ObjectReader recordReader;
+    private final Timestamps timestamps = new Timestamps("shipping.json");
+    private final InMemoryRepository<GroupKey, ShippingDto> shippingOptions =
+            InMemoryRepository.withIndexes(BY_ITEM, BY_DELIVERY_TYPE, BY_FREE_SHIPPING);
 
     public ShippingPersistenceAdapter() throws IOException {
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
-        
-        ClassPathResource resource = new ClassPathResource("shipping.json");
-        this.shippingData = objectMapper.readValue(
-            resource.getInputStream(), 
-            new TypeReference<Map<String, List<Map<String, Object>>>>() {}
-        );
+        this(DataFiles.classpath(), JsonCodecs.standalone());
+    }
+
+    @Autowired
+    public ShippingPersistenceAdapter(DataFiles dataFiles, JsonCodecs jsonCodecs) throws IOException {
+        this.recordReader = jsonCodecs.recordReader();
+        dataFiles.load("shipping.json", this::load);
+    }
+
+    private int load(InputStream in) throws IOException {
+        InMemoryRepository<GroupKey, ShippingDto>.Replacement replacement = shippingOptions.replacement();
+        JsonRecords.readGroups(recordReader, in, "shipping.json", (key, data) -> replacement.save(key, mapToShippingDto(data)));
+        timestamps.report();
+        replacement.commit();
+        return replacement.size();
     }
 
     @Override
     public List<ShippingDto> findByItemId(String itemId) {
-        List<Map<String, Object>> itemShipping = shippingData.get(itemId);
-        if (itemShipping == null) {
-            return List.of();
-        }
-        
-        return itemShipping.stream()
-                .map(this::mapToShippingDto)
-                .toList();
+        return shippingOptions.findBy(BY_ITEM, itemId);
     }
 
     @Override
     public List<ShippingDto> findAll() {
-        return shippingData.values().stream()
-                .flatMap(List::stream)
-                .map(this::mapToShippingDto)
-                .toList();
+        return shippingOptions.findAll();
     }
 
     @Override
     public List<ShippingDto> findByDeliveryType(String deliveryType) {
-        return shippingData.values().stream()
-                .flatMap(List::stream)
-                .filter(shipping -> deliveryType.equals(shipping.get("delivery_type")))
-                .map(this::mapToShippingDto)
-                .toList();
+        return shippingOptions.findBy(BY_DELIVERY_TYPE, deliveryType);
     }
 
     @Override
     public List<ShippingDto> findFreeShippingOptions() {
-        return shippingData.values().stream()
-                .flatMap(List::stream)
-                .filter(shipping -> {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> freeShipping = (Map<String, Object>) shipping.get("free_shipping");
-                    return freeShipping != null && Boolean.TRUE.equals(freeShipping.get("flag"));
-                })
-                .map(this::mapToShippingDto)
-                .toList();
+        return shippingOptions.findBy(BY_FREE_SHIPPING, true);
     }
 
     @SuppressWarnings("unchecked")
@@ -116,7 +113,7 @@ public class ShippingPersistenceAdapter implements ShippingPersistencePort {
     private ShippingDto.EstimatedScheduleLimitDto mapEstimatedScheduleLimit(Map<String, Object> estimatedScheduleLimit) {
         if (estimatedScheduleLimit == null) return null;
         return ShippingDto.EstimatedScheduleLimitDto.builder()
-                .date(parseDateTime((String) estimatedScheduleLimit.get("date")))
+                .date(timestamps.parse((String) estimatedScheduleLimit.get("date")))
                 .build();
     }
 
@@ -124,7 +121,7 @@ public class ShippingPersistenceAdapter implements ShippingPersistencePort {
     private ShippingDto.EstimatedDeliveryDto mapEstimatedDelivery(Map<String, Object> estimatedDelivery) {
         if (estimatedDelivery == null) return null;
         return ShippingDto.EstimatedDeliveryDto.builder()
-                .date(parseDateTime((String) estimatedDelivery.get("date")))
+                .date(timestamps.parse((String) estimatedDelivery.get("date")))
                 .unit((String) estimatedDelivery.get("unit"))
                 .offset(mapOffset((Map<String, Object>) estimatedDelivery.get("offset")))
                 .build();
@@ -151,8 +148,8 @@ public class ShippingPersistenceAdapter implements ShippingPersistencePort {
     private ShippingDto.SpecificPlacesDto mapSpecificPlaces(Map<String, Object> specificPlaces) {
         if (specificPlaces == null) return null;
         return ShippingDto.SpecificPlacesDto.builder()
-                .included((List<String>) specificPlaces.get("included"))
-                .excluded((List<String>) specificPlaces.get("excluded"))
+                .included(InMemoryRepository.immutable((List<String>) specificPlaces.get("included")))
+                .excluded(InMemoryRepository.immutable((List<String>) specificPlaces.get("excluded")))
                 .build();
     }
 
@@ -191,13 +188,4 @@ public class ShippingPersistenceAdapter implements ShippingPersistencePort {
                         .build())
                 .toList();
     }
-
-    private LocalDateTime parseDateTime(String dateTime) {
-        if (dateTime == null) return null;
-        try {
-            return LocalDateTime.parse(dateTime, DateTimeFormatter.ISO_DATE_TIME);
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
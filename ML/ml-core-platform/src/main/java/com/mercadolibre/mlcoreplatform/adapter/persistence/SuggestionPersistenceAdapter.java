@@ -0,0 +1,24 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence;
+
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Suggestions;
+import com.mercadolibre.mlcoreplatform.domain.port.out.SuggestionPersistencePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Typeahead over product titles and category names, which their adapters keep up to date on every
+ * load, and over the most searched queries, which {@code QueryTrends} hands over on every merge.
+ */
+@Component
+@RequiredArgsConstructor
+public class SuggestionPersistenceAdapter implements SuggestionPersistencePort {
+
+    private final Suggestions suggestions;
+
+    @Override
+    public List<String> findSuggestions(String siteId, String prefix, int limit) {
+        return suggestions.complete(siteId, prefix, limit);
+    }
+}
@@ -0,0 +1,25 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence;
+
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.QueryTrends;
+import com.mercadolibre.mlcoreplatform.domain.port.out.TrendPersistencePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class TrendPersistenceAdapter implements TrendPersistencePort {
+
+    private final QueryTrends queryTrends;
+
+    @Override
+    public List<String> findTrends(String siteId, int limit) {
+        return queryTrends.top(siteId, limit);
+    }
+
+    @Override
+    public void recordQuery(String siteId, String query) {
+        queryTrends.record(siteId, query);
+    }
+}
@@ -2,7 +2,6 @@ package com.mercadolibre.mlcoreplatform.adapter.persistence.dto;
 
 import lombok.Builder;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Builder
@@ -49,8 +48,8 @@ public record ProductDto(
     String differentialPricing,
     List<String> dealIds,
     Boolean automaticRelist,
-    LocalDateTime dateCreated,
-    LocalDateTime lastUpdated
+    long dateCreated,
+    long lastUpdated
 ) {
     @Builder
     public record PictureDto(
@@ -2,15 +2,14 @@ package com.mercadolibre.mlcoreplatform.adapter.persistence.dto;
 
 import lombok.Builder;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Builder
 public record PurchaseDto(
     String id,
-    LocalDateTime dateCreated,
-    LocalDateTime dateClosed,
-    LocalDateTime lastUpdated,
+    long dateCreated,
+    long dateClosed,
+    long lastUpdated,
     String status,
     StatusDetailDto statusDetail,
     String currencyId,
@@ -18,7 +17,7 @@ public record PurchaseDto(
     Double totalAmount,
     Double paidAmount,
     CouponDto coupon,
-    LocalDateTime expirationDate,
+    long expirationDate,
     ShippingInfoDto shipping,
     List<PaymentInfoDto> payments,
     BuyerDto buyer,
@@ -40,7 +39,7 @@ public record PurchaseDto(
         Double unitPrice,
         Double fullUnitPrice,
         String currencyId,
-        LocalDateTime manufacturingEndingDate,
+        long manufacturingEndingDate,
         Double saleFee,
         String listingTypeId
     ) {}
@@ -71,12 +70,12 @@ public record PurchaseDto(
         Long id,
         String shipmentType,
         String status,
-        LocalDateTime dateCreated,
-        LocalDateTime lastUpdated,
+        long dateCreated,
+        long lastUpdated,
         String trackingNumber,
         String trackingMethod,
         Integer serviceId,
-        LocalDateTime dateFirstPrinted,
+        long dateFirstPrinted,
         CarrierInfoDto carrierInfo,
         List<ShippingItemDto> shippingItems,
         ShippingOptionDto shippingOption,
@@ -108,7 +107,7 @@ public record PurchaseDto(
 
     @Builder
     public record EstimatedDeliveryDto(
-        LocalDateTime date
+        long date
     ) {}
 
     @Builder
@@ -166,9 +165,9 @@ public record PurchaseDto(
         Double totalPaidAmount,
         Double shippingCost,
         Double couponAmount,
-        LocalDateTime dateCreated,
-        LocalDateTime dateLastUpdated,
-        LocalDateTime dateApproved,
+        long dateCreated,
+        long dateLastUpdated,
+        long dateApproved,
         String authorizationCode,
         Boolean captured,
         Boolean liveMode,
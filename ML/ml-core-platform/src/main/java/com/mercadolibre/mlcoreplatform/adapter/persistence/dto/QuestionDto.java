@@ -2,7 +2,6 @@ package com.mercadolibre.mlcoreplatform.adapter.persistence.dto;
 
 import lombok.Builder;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Builder
@@ -10,7 +9,7 @@ public record QuestionDto(
     Long id,
     String text,
     String status,
-    LocalDateTime dateCreated,
+    long dateCreated,
     String itemId,
     Long sellerId,
     QuestionFromDto from,
@@ -29,6 +28,6 @@ public record QuestionDto(
     public record AnswerDto(
         String text,
         String status,
-        LocalDateTime dateCreated
+        long dateCreated
     ) {}
 }
@@ -2,7 +2,6 @@ package com.mercadolibre.mlcoreplatform.adapter.persistence.dto;
 
 import lombok.Builder;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Builder
@@ -19,7 +18,7 @@ public record ReviewDto(
         Integer rating,
         String title,
         String content,
-        LocalDateTime dateCreated,
+        long dateCreated,
         ReviewerDto reviewer,
         Integer likes,
         Integer dislikes,
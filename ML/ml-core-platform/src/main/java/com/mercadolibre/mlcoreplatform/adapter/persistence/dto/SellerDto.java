@@ -2,14 +2,13 @@ package com.mercadolibre.mlcoreplatform.adapter.persistence.dto;
 
 import lombok.Builder;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Builder
 public record SellerDto(
     Long id,
     String nickname,
-    LocalDateTime registrationDate,
+    long registrationDate,
     String firstName,
     String lastName,
     String countryId,
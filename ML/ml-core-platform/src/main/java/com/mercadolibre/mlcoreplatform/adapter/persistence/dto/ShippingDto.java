@@ -2,7 +2,6 @@ package com.mercadolibre.mlcoreplatform.adapter.persistence.dto;
 
 import lombok.Builder;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Builder
@@ -39,12 +38,12 @@ public record ShippingDto(
 
     @Builder
     public record EstimatedScheduleLimitDto(
-        LocalDateTime date
+        long date
     ) {}
 
     @Builder
     public record EstimatedDeliveryDto(
-        LocalDateTime date,
+        long date,
         String unit,
         OffsetDto offset
     ) {}
@@ -0,0 +1,217 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Build-time compiler from a JSON data file (an object of records keyed by id) to the
+ * {@link MappedCatalog} format. Run by the {@code binary-catalog} Maven profile:
+ *
+ * <pre>
+ * CatalogCompiler &lt;inputDir&gt; &lt;outputDir&gt; products.json?index=category_id,seller_id&amp;sort=date_created ...
+ * </pre>
+ *
+ * Each {@code name.json} is written to {@code outputDir/name.bin}.
+ */
+public final class CatalogCompiler {
+
+    private static final Comparator<byte[]> BYTE_ORDER = Arrays::compareUnsigned;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> indexFields;
+    private final String sortField;
+
+    public CatalogCompiler(List<String> indexFields, String sortField) {
+        this.indexFields = List.copyOf(indexFields);
+        this.sortField = sortField;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            throw new IllegalArgumentException("Usage: CatalogCompiler <inputDir> <outputDir> <file.json[?index=a,b&sort=c]>...");
+        }
+        Path inputDir = Path.of(args[0]);
+        Path outputDir = Files.createDirectories(Path.of(args[1]));
+        for (int i = 2; i < args.length; i++) {
+            String[] spec = args[i].split("\\?", 2);
+            List<String> indexFields = new ArrayList<>();
+            String sortField = null;
+            if (spec.length > 1) {
+                for (String option : spec[1].split("&")) {
+                    String[] pair = option.split("=", 2);
+                    if (pair[0].equals("index")) {
+                        indexFields.addAll(Arrays.asList(pair[1].split(",")));
+                    } else if (pair[0].equals("sort")) {
+                        sortField = pair[1];
+                    } else {
+                        throw new IllegalArgumentException("Unknown option " + option + " in " + args[i]);
+                    }
+                }
+            }
+            String fileName = spec[0];
+            Path target = outputDir.resolve(fileName.replaceFirst("\\.json$", "") + ".bin");
+            try (InputStream in = Files.newInputStream(inputDir.resolve(fileName));
+                 OutputStream out = Files.newOutputStream(target)) {
+                int records = new CatalogCompiler(indexFields, sortField).compile(in, out);
+                System.out.printf("Compiled %s: %d records, %d bytes%n", fileName, records, Files.size(target));
+            }
+        }
+    }
+
+    /**
+     * Streams the records of {@code json} and writes the catalog to {@code out}. Returns the record count.
+     */
+    public int compile(InputStream json, OutputStream out) throws IOException {
+        Data data = new Data();
+        List<int[]> records = new ArrayList<>();
+        List<byte[]> keys = new ArrayList<>();
+        List<Long> sortValues = new ArrayList<>();
+        Timestamps timestamps = new Timestamps(sortField);
+        Map<String, TreeMap<byte[], List<Integer>>> postings = new TreeMap<>();
+        indexFields.forEach(field -> postings.put(field, new TreeMap<>(BYTE_ORDER)));
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected an object of records");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                byte[] key = parser.currentName().getBytes(StandardCharsets.UTF_8);
+                parser.nextToken();
+                JsonNode record = objectMapper.readTree(parser);
+                int ordinal = records.size();
+                int keyOffset = data.append(key);
+                byte[] value = objectMapper.writeValueAsBytes(record);
+                records.add(new int[] {keyOffset, key.length, data.append(value), value.length});
+                keys.add(key);
+                for (String field : indexFields) {
+                    JsonNode indexed = record.get(field);
+                    if (indexed != null && !indexed.isNull()) {
+                        postings.get(field)
+                                .computeIfAbsent(indexed.asText().getBytes(StandardCharsets.UTF_8), ignored -> new ArrayList<>())
+                                .add(ordinal);
+                    }
+                }
+                if (sortField != null) {
+                    JsonNode sortValue = record.get(sortField);
+                    sortValues.add(timestamps.parse(sortValue != null && sortValue.isTextual() ? sortValue.asText() : null));
+                }
+            }
+        }
+        timestamps.report();
+
+        int size = records.size();
+        Integer[] byKey = ordinals(size);
+        Arrays.sort(byKey, (a, b) -> BYTE_ORDER.compare(keys.get(a), keys.get(b)));
+        Integer[] bySort = null;
+        if (sortField != null) {
+            // Same order as SortKey, so cursors from the JSON adapters stay valid
+            bySort = ordinals(size);
+            Arrays.sort(bySort, Comparator.<Integer>comparingLong(sortValues::get)
+                    .thenComparing(ordinal -> new String(keys.get(ordinal), StandardCharsets.UTF_8)));
+        }
+
+        // Index names, values and postings go to the data section; directory and entries are fixed size
+        List<int[]> directory = new ArrayList<>();
+        List<int[]> entries = new ArrayList<>();
+        for (Map.Entry<String, TreeMap<byte[], List<Integer>>> index : postings.entrySet()) {
+            byte[] name = index.getKey().getBytes(StandardCharsets.UTF_8);
+            directory.add(new int[] {data.append(name), name.length, index.getValue().size(), entries.size()});
+            for (Map.Entry<byte[], List<Integer>> entry : index.getValue().entrySet()) {
+                entries.add(new int[] {data.append(entry.getKey()), entry.getKey().length, data.appendInts(entry.getValue()), entry.getValue().size()});
+            }
+        }
+
+        long entriesStart = MappedCatalog.HEADER_BYTES
+                + (long) size * MappedCatalog.RECORD_ENTRY_BYTES
+                + (long) size * Integer.BYTES
+                + (bySort != null ? (long) size * MappedCatalog.SORT_ENTRY_BYTES : 0)
+                + (long) directory.size() * MappedCatalog.INDEX_ENTRY_BYTES;
+        long dataStart = entriesStart + (long) entries.size() * MappedCatalog.INDEX_ENTRY_BYTES;
+        if (dataStart + data.size() > Integer.MAX_VALUE) {
+            throw new IOException("Catalogs larger than 2 GB are not supported");
+        }
+        int base = (int) dataStart;
+
+        DataOutputStream output = new DataOutputStream(out);
+        output.writeInt(MappedCatalog.MAGIC);
+        output.writeInt(MappedCatalog.VERSION);
+        output.writeInt(size);
+        output.writeInt(directory.size());
+        output.writeInt(bySort != null ? 1 : 0);
+        for (int[] record : records) {
+            output.writeInt(base + record[0]);
+            output.writeInt(record[1]);
+            output.writeInt(base + record[2]);
+            output.writeInt(record[3]);
+        }
+        for (int ordinal : byKey) {
+            output.writeInt(ordinal);
+        }
+        if (bySort != null) {
+            for (int ordinal : bySort) {
+                output.writeInt(ordinal);
+                output.writeLong(sortValues.get(ordinal));
+            }
+        }
+        for (int[] index : directory) {
+            output.writeInt(base + index[0]);
+            output.writeInt(index[1]);
+            output.writeInt(index[2]);
+            output.writeInt((int) entriesStart + index[3] * MappedCatalog.INDEX_ENTRY_BYTES);
+        }
+        for (int[] entry : entries) {
+            output.writeInt(base + entry[0]);
+            output.writeInt(entry[1]);
+            output.writeInt(base + entry[2]);
+            output.writeInt(entry[3]);
+        }
+        data.writeTo(output);
+        output.flush();
+        return size;
+    }
+
+    private static Integer[] ordinals(int size) {
+        Integer[] ordinals = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            ordinals[i] = i;
+        }
+        return ordinals;
+    }
+
+    private static final class Data extends ByteArrayOutputStream {
+
+        int append(byte[] bytes) {
+            int offset = size();
+            writeBytes(bytes);
+            return offset;
+        }
+
+        int appendInts(List<Integer> values) {
+            int offset = size();
+            for (int value : values) {
+                write(value >>> 24);
+                write(value >>> 16);
+                write(value >>> 8);
+                write(value);
+            }
+            return offset;
+        }
+    }
+}
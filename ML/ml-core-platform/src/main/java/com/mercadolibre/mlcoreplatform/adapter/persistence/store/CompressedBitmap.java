@@ -0,0 +1,296 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of non-negative ints split Roaring-style into chunks of 65536 by their high 16
+ * bits. A chunk holding up to {@value #ARRAY_LIMIT} values is a sorted {@code char[]}, a fuller
+ * one a 1024-word bitset, so neither sparse nor dense sets waste space and intersections only
+ * visit chunks both sides have.
+ */
+public final class CompressedBitmap {
+
+    static final int ARRAY_LIMIT = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+    private static final int SKEW = 16;
+
+    private static final CompressedBitmap EMPTY = new CompressedBitmap(new char[0], new Container[0]);
+
+    private final char[] keys;
+    private final Container[] containers;
+    private final int cardinality;
+
+    private CompressedBitmap(char[] keys, Container[] containers) {
+        this.keys = keys;
+        this.containers = containers;
+        int total = 0;
+        for (Container container : containers) {
+            total += container.cardinality();
+        }
+        this.cardinality = total;
+    }
+
+    public static CompressedBitmap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Bitmap of ascending, distinct, non-negative values.
+     */
+    public static CompressedBitmap ofSorted(int[] values, int length) {
+        char[] keys = new char[length == 0 ? 0 : (values[length - 1] >>> 16) + 1];
+        Container[] containers = new Container[keys.length];
+        int chunks = 0;
+        int start = 0;
+        while (start < length) {
+            int high = values[start] >>> 16;
+            int end = start;
+            while (end < length && values[end] >>> 16 == high) {
+                end++;
+            }
+            keys[chunks] = (char) high;
+            containers[chunks++] = Container.of(values, start, end);
+            start = end;
+        }
+        return chunks == 0 ? EMPTY : new CompressedBitmap(Arrays.copyOf(keys, chunks), Arrays.copyOf(containers, chunks));
+    }
+
+    /**
+     * Bitmap of values in any order, possibly repeated.
+     */
+    public static CompressedBitmap of(int... values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (sorted[i] < 0) {
+                throw new IllegalArgumentException("negative value " + sorted[i]);
+            }
+            if (distinct == 0 || sorted[distinct - 1] != sorted[i]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        return ofSorted(sorted, distinct);
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int chunk = Arrays.binarySearch(keys, (char) (value >>> 16));
+        return chunk >= 0 && containers[chunk].contains((char) value);
+    }
+
+    /**
+     * Size of the intersection, without building it.
+     */
+    public int andCardinality(CompressedBitmap other) {
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                count += containers[i++].andCardinality(other.containers[j++]);
+            }
+        }
+        return count;
+    }
+
+    public int[] toArray() {
+        int[] values = new int[cardinality];
+        int position = 0;
+        for (int chunk = 0; chunk < keys.length; chunk++) {
+            position = containers[chunk].copyTo(values, position, keys[chunk] << 16);
+        }
+        return values;
+    }
+
+    /**
+     * Collects values in any order and builds the bitmap once; values that arrive ascending
+     * skip the sort.
+     */
+    public static final class Builder {
+
+        private int[] values = new int[16];
+        private int size;
+        private boolean ascending = true;
+
+        public Builder add(int value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("negative value " + value);
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            if (size > 0 && values[size - 1] >= value) {
+                ascending = false;
+            }
+            values[size++] = value;
+            return this;
+        }
+
+        public CompressedBitmap build() {
+            return ascending ? ofSorted(values, size) : of(Arrays.copyOf(values, size));
+        }
+    }
+
+    private abstract static sealed class Container permits ArrayContainer, BitmapContainer {
+
+        static Container of(int[] values, int from, int to) {
+            if (to - from <= ARRAY_LIMIT) {
+                char[] low = new char[to - from];
+                for (int i = from; i < to; i++) {
+                    low[i - from] = (char) values[i];
+                }
+                return new ArrayContainer(low);
+            }
+            long[] words = new long[BITMAP_WORDS];
+            for (int i = from; i < to; i++) {
+                char low = (char) values[i];
+                words[low >>> 6] |= 1L << low;
+            }
+            return new BitmapContainer(words, to - from);
+        }
+
+        abstract int cardinality();
+
+        abstract boolean contains(char low);
+
+        abstract int andCardinality(Container other);
+
+        abstract int copyTo(int[] target, int position, int high);
+    }
+
+    private static final class ArrayContainer extends Container {
+
+        private final char[] values;
+
+        ArrayContainer(char[] values) {
+            this.values = values;
+        }
+
+        @Override
+        int cardinality() {
+            return values.length;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, low) >= 0;
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            if (other instanceof BitmapContainer bitmap) {
+                return bitmap.andCardinality(this);
+            }
+            char[] others = ((ArrayContainer) other).values;
+            if (values.length * SKEW < others.length || others.length * SKEW < values.length) {
+                return skewedAndCardinality(values, others);
+            }
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < values.length && j < others.length) {
+                if (values[i] < others[j]) {
+                    i++;
+                } else if (values[i] > others[j]) {
+                    j++;
+                } else {
+                    count++;
+                    i++;
+                    j++;
+                }
+            }
+            return count;
+        }
+
+        // A handful of values against a long array: binary search each instead of merging
+        private static int skewedAndCardinality(char[] left, char[] right) {
+            char[] small = left.length < right.length ? left : right;
+            char[] large = small == left ? right : left;
+            int count = 0;
+            int from = 0;
+            for (char value : small) {
+                int found = Arrays.binarySearch(large, from, large.length, value);
+                if (found >= 0) {
+                    count++;
+                    from = found + 1;
+                } else {
+                    from = -found - 1;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        int copyTo(int[] target, int position, int high) {
+            for (char value : values) {
+                target[position++] = high | value;
+            }
+            return position;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+
+        private final long[] words;
+        private final int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & 1L << low) != 0;
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            int count = 0;
+            if (other instanceof BitmapContainer bitmap) {
+                for (int word = 0; word < BITMAP_WORDS; word++) {
+                    count += Long.bitCount(words[word] & bitmap.words[word]);
+                }
+            } else {
+                for (char value : ((ArrayContainer) other).values) {
+                    if (contains(value)) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        @Override
+        int copyTo(int[] target, int position, int high) {
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    target[position++] = high | word << 6 | Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                }
+            }
+            return position;
+        }
+    }
+}
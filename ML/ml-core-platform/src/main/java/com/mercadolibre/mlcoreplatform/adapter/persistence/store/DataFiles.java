@@ -0,0 +1,291 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import com.mercadolibre.mlcoreplatform.config.DaemonThreads;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Source of the JSON data files. Files are read from {@code ml.data.dir} when it is set and the
+ * file exists there, otherwise from the classpath. When a directory is configured it is watched,
+ * and a changed file is re-parsed in the background by the loader that registered it.
+ * <p>
+ * In the application context, adapters only register their loaders while they are created; once
+ * every singleton exists all files are parsed concurrently and {@link #isReady()} turns true.
+ */
+@Slf4j
+@Component
+public class DataFiles implements SmartInitializingSingleton, DisposableBean {
+
+    // Editors usually write a file in several steps; wait for them to settle before parsing
+    private static final long RELOAD_DELAY_MILLIS = 250;
+
+    private final Path dataDir;
+    private final int loaderThreads;
+    private final boolean deferLoading;
+    private final Map<String, Loader> loaders = new ConcurrentHashMap<>();
+    private final Map<String, Loader> pending = new LinkedHashMap<>();
+    private final Map<String, LoadStats> stats = new ConcurrentHashMap<>();
+    private final Map<String, ScheduledFuture<?>> pendingReloads = new ConcurrentHashMap<>();
+    private ScheduledExecutorService reloader;
+    private WatchService watchService;
+    private volatile boolean ready;
+
+    @Autowired
+    public DataFiles(@Value("${ml.data.dir:}") String dataDir,
+                     @Value("${ml.data.loader-threads:0}") int loaderThreads) {
+        this(dataDir, loaderThreads, true);
+    }
+
+    /**
+     * Loads every file as soon as it is registered, for adapters built outside the Spring context.
+     */
+    public DataFiles(String dataDir) {
+        this(dataDir, 1, false);
+        this.ready = true;
+    }
+
+    private DataFiles(String dataDir, int loaderThreads, boolean deferLoading) {
+        this.dataDir = dataDir == null || dataDir.isBlank() ? null : Path.of(dataDir).toAbsolutePath();
+        this.loaderThreads = loaderThreads > 0 ? loaderThreads : Runtime.getRuntime().availableProcessors();
+        this.deferLoading = deferLoading;
+    }
+
+    /**
+     * Classpath-only source, for adapters built outside the Spring context.
+     */
+    public static DataFiles classpath() {
+        return new DataFiles(null);
+    }
+
+    /**
+     * Parses {@code fileName} (now, or with the other files at startup) and again every time it
+     * changes in the data directory.
+     */
+    public void load(String fileName, Loader loader) throws IOException {
+        loaders.put(fileName, loader);
+        if (deferLoading) {
+            synchronized (pending) {
+                pending.put(fileName, loader);
+            }
+            return;
+        }
+        stats.put(fileName, read(fileName, loader));
+    }
+
+    /**
+     * Parses every registered file that has not been loaded yet, concurrently on a pool of at most
+     * {@code ml.data.loader-threads} threads, and blocks until all are indexed. Any failure fails
+     * the whole load, as a failing adapter constructor would.
+     */
+    public void loadPending() {
+        Map<String, Loader> toLoad;
+        synchronized (pending) {
+            toLoad = new LinkedHashMap<>(pending);
+            pending.clear();
+        }
+        if (!toLoad.isEmpty()) {
+            long start = System.nanoTime();
+            ExecutorService pool = Executors.newFixedThreadPool(Math.min(loaderThreads, toLoad.size()), DaemonThreads.named("data-files-loader"));
+            try {
+                Map<String, Future<LoadStats>> loads = new LinkedHashMap<>();
+                toLoad.forEach((fileName, loader) -> loads.put(fileName, pool.submit(() -> read(fileName, loader))));
+                for (Map.Entry<String, Future<LoadStats>> load : loads.entrySet()) {
+                    LoadStats loaded = await(load.getKey(), load.getValue());
+                    stats.put(load.getKey(), loaded);
+                    log.info("Loaded {} from {}: {} records in {} ms", load.getKey(), loaded.source(), loaded.records(), loaded.durationMillis());
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+            log.info("Loaded {} data files in {} ms", toLoad.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        ready = true;
+    }
+
+    /**
+     * True once every file registered at startup has been loaded and indexed.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Parses {@code fileName} again with its registered loader. A failed reload keeps the previous
+     * snapshot and is reported in the stats.
+     */
+    public void reload(String fileName) {
+        Loader loader = loaders.get(fileName);
+        if (loader == null) {
+            return;
+        }
+        try {
+            LoadStats loaded = read(fileName, loader);
+            stats.put(fileName, loaded);
+            log.info("Reloaded {} from {}: {} records in {} ms", fileName, loaded.source(), loaded.records(), loaded.durationMillis());
+        } catch (IOException | RuntimeException e) {
+            stats.computeIfPresent(fileName, (name, previous) -> previous.withError(e.toString()));
+            log.warn("Could not reload {}, keeping the previous data", fileName, e);
+        }
+    }
+
+    /**
+     * A local file that can be memory-mapped: the copy in the data directory if there is one, else
+     * the classpath resource itself or, when it is packaged inside a jar, a temporary copy of it.
+     */
+    public Path mappable(String fileName) throws IOException {
+        if (dataDir != null && Files.isRegularFile(dataDir.resolve(fileName))) {
+            return dataDir.resolve(fileName);
+        }
+        ClassPathResource resource = new ClassPathResource(fileName);
+        if (resource.isFile()) {
+            return resource.getFile().toPath();
+        }
+        Path copy = Files.createTempFile("ml-data-", "-" + Path.of(fileName).getFileName());
+        copy.toFile().deleteOnExit();
+        try (InputStream in = resource.getInputStream()) {
+            Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return copy;
+    }
+
+    public Map<String, LoadStats> stats() {
+        return new TreeMap<>(stats);
+    }
+
+    public Path dataDir() {
+        return dataDir;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        loadPending();
+        if (dataDir == null) {
+            return;
+        }
+        if (!Files.isDirectory(dataDir)) {
+            log.warn("Data directory {} does not exist, data files will not be reloaded", dataDir);
+            return;
+        }
+        try {
+            watchService = dataDir.getFileSystem().newWatchService();
+            dataDir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            log.warn("Could not watch data directory {}", dataDir, e);
+            return;
+        }
+        reloader = Executors.newSingleThreadScheduledExecutor(DaemonThreads.named("data-files-reloader"));
+        DaemonThreads.named("data-files-watcher").newThread(this::watch).start();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+        if (reloader != null) {
+            reloader.shutdownNow();
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path changed && loaders.containsKey(changed.toString())) {
+                        scheduleReload(changed.toString());
+                    }
+                }
+                if (!key.reset()) {
+                    log.warn("Data directory {} is no longer watched", dataDir);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Shutting down
+        }
+    }
+
+    private void scheduleReload(String fileName) {
+        pendingReloads.compute(fileName, (name, pending) -> {
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            return reloader.schedule(() -> reload(name), RELOAD_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private static LoadStats await(String fileName, Future<LoadStats> load) {
+        try {
+            return load.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading " + fileName, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not load " + fileName, e.getCause());
+        }
+    }
+
+    private LoadStats read(String fileName, Loader loader) throws IOException {
+        Path file = dataDir == null ? null : dataDir.resolve(fileName);
+        boolean fromDataDir = file != null && Files.isRegularFile(file);
+        long start = System.nanoTime();
+        int records;
+        try (InputStream in = fromDataDir ? Files.newInputStream(file) : new ClassPathResource(fileName).getInputStream()) {
+            records = loader.load(in);
+        }
+        return LoadStats.builder()
+                .source(fromDataDir ? file.toString() : "classpath:" + fileName)
+                .records(records)
+                .durationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .loadedAt(Instant.now())
+                .build();
+    }
+
+    /**
+     * Parses a data file and publishes its records, returning how many were loaded.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        int load(InputStream in) throws IOException;
+    }
+
+    @Builder(toBuilder = true)
+    public record LoadStats(String source, int records, long durationMillis, Instant loadedAt, String lastError) {
+
+        LoadStats withError(String error) {
+            return toBuilder().lastError(error).build();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
+
+/**
+ * The version of a store's data: a hash of the bytes it was loaded from. Every instance that loads
+ * the same file gets the same version and a reload of an unchanged file keeps it, so it can name
+ * shared cache entries and ETags. {@link #NONE} until the first load is published.
+ * <p>
+ * Listeners registered with {@link #onChange} hear about each new version as it is published,
+ * which spares readers from polling it on every lookup.
+ */
+public final class DataVersion {
+
+    public static final long NONE = 0L;
+
+    private final List<LongConsumer> listeners = new CopyOnWriteArrayList<>();
+    private volatile long current = NONE;
+
+    public long current() {
+        return current;
+    }
+
+    /**
+     * Calls {@code listener} with every new version, and right away with the current one if there
+     * is one.
+     */
+    public void onChange(LongConsumer listener) {
+        listeners.add(listener);
+        long now = current;
+        if (now != NONE) {
+            listener.accept(now);
+        }
+    }
+
+    /**
+     * Makes the version of what {@code read} read the current one, once the data built from it is
+     * visible to readers.
+     */
+    public void publish(Reading read) {
+        publish(read.version());
+    }
+
+    /**
+     * Makes {@code version} the current one, telling the listeners if it changed.
+     */
+    public void publish(long version) {
+        if (version != current) {
+            current = version;
+            listeners.forEach(listener -> listener.accept(version));
+        }
+    }
+
+    /**
+     * {@code in}, hashing the bytes read through it.
+     */
+    public static Reading reading(InputStream in) {
+        return new Reading(in);
+    }
+
+    /**
+     * The version of the whole of {@code file}.
+     */
+    public static long of(Path file) throws IOException {
+        try (Reading read = reading(Files.newInputStream(file))) {
+            read.transferTo(OutputStream.nullOutputStream());
+            return read.version();
+        }
+    }
+
+    /**
+     * A stream that hashes what is read through it; its {@link #version()} covers what was read
+     * before it was first asked for.
+     */
+    public static final class Reading extends FilterInputStream {
+
+        private final MessageDigest digest = sha256();
+        private long version = NONE;
+
+        private Reading(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                digest.update((byte) b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                digest.update(buffer, offset, read);
+            }
+            return read;
+        }
+
+        // Skipped bytes would go unhashed
+        @Override
+        public long skip(long n) throws IOException {
+            return n <= 0 ? 0 : Math.max(read(new byte[(int) Math.min(n, 8192)]), 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        // Never NONE, which stands for no data
+        public long version() {
+            if (version == NONE) {
+                long hash = ByteBuffer.wrap(digest.digest()).getLong();
+                version = hash == NONE ? 1 : hash;
+            }
+            return version;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+/**
+ * Primary key for records that come grouped in the JSON files (e.g. shipping options by item),
+ * where the record itself carries no id that is unique across groups.
+ */
+public record GroupKey(String group, int position) {
+}
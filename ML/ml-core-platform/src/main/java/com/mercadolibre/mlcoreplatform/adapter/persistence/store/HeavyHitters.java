@@ -0,0 +1,155 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving summary of the heaviest keys of a stream in a fixed number of counters. A new key
+ * when every counter is taken replaces the lightest one and inherits its count as possible
+ * overestimation, so any key heavier than total / capacity is always present. Counts can be
+ * scaled down to let old traffic fade. Not thread-safe.
+ */
+final class HeavyHitters {
+
+    private static final Comparator<Entry> HEAVIEST_FIRST = Comparator
+            .comparingDouble(Entry::count).reversed()
+            .thenComparing(Entry::key);
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    // Min-heap on count, each counter knowing its slot so a bumped count sifts in O(log capacity)
+    private final Counter[] heap;
+    private int size;
+
+    HeavyHitters(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+        this.heap = new Counter[capacity];
+    }
+
+    void add(String key, double weight) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count += weight;
+            siftDown(counter.slot);
+            return;
+        }
+        if (size < capacity) {
+            counter = new Counter(key, weight, 0);
+            counter.slot = size;
+            heap[size++] = counter;
+            counters.put(key, counter);
+            siftUp(counter.slot);
+            return;
+        }
+        Counter lightest = heap[0];
+        counters.remove(lightest.key);
+        lightest.key = key;
+        lightest.error = lightest.count;
+        lightest.count += weight;
+        counters.put(key, lightest);
+        siftDown(0);
+    }
+
+    /**
+     * Multiplies every count by {@code factor} and forgets the keys left below {@code minCount}.
+     */
+    void decay(double factor, double minCount) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Counter counter = heap[i];
+            counter.count *= factor;
+            counter.error *= factor;
+            if (counter.count >= minCount) {
+                counter.slot = kept;
+                heap[kept++] = counter;
+            } else {
+                counters.remove(counter.key);
+            }
+        }
+        Arrays.fill(heap, kept, size, null);
+        size = kept;
+        // Scaling keeps the heap order; only dropping counters needs it rebuilt
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * The {@code limit} heaviest keys, heaviest first.
+     */
+    List<Entry> top(int limit) {
+        List<Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(new Entry(heap[i].key, heap[i].count, heap[i].error));
+        }
+        entries.sort(HEAVIEST_FIRST);
+        return entries.size() > limit ? List.copyOf(entries.subList(0, limit)) : entries;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * {@code count} overestimates the key's weight by at most {@code error}.
+     */
+    record Entry(String key, double count, double error) {
+    }
+
+    private void siftUp(int slot) {
+        Counter counter = heap[slot];
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (heap[parent].count <= counter.count) {
+                break;
+            }
+            place(heap[parent], slot);
+            slot = parent;
+        }
+        place(counter, slot);
+    }
+
+    private void siftDown(int slot) {
+        Counter counter = heap[slot];
+        int half = size >>> 1;
+        while (slot < half) {
+            int child = 2 * slot + 1;
+            if (child + 1 < size && heap[child + 1].count < heap[child].count) {
+                child++;
+            }
+            if (counter.count <= heap[child].count) {
+                break;
+            }
+            place(heap[child], slot);
+            slot = child;
+        }
+        place(counter, slot);
+    }
+
+    private void place(Counter counter, int slot) {
+        heap[slot] = counter;
+        counter.slot = slot;
+    }
+
+    private static final class Counter {
+
+        private String key;
+        private double count;
+        private double error;
+        private int slot;
+
+        private Counter(String key, double count, double error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import com.mercadolibre.mlcoreplatform.domain.core.exception.InvalidArgumentException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory store of already-typed records with declared secondary indexes.
+ * Indexes are built when records are saved and kept up to date on save/delete, so index lookups
+ * cost O(1) + O(k) instead of a scan. Every result is returned in insertion order (the order of the
+ * source file), which is the order the former full scans produced.
+ */
+public final class InMemoryRepository<K, V> {
+
+    private final List<Index<K, V, ?>> declaredIndexes;
+    private volatile State<K, V> state;
+
+    private InMemoryRepository(List<Index<K, V, ?>> declaredIndexes) {
+        this.declaredIndexes = declaredIndexes;
+        this.state = new State<>(declaredIndexes);
+    }
+
+    // The array is only read, element by element, so it never escapes with its erased type
+    @SafeVarargs
+    public static <K, V> InMemoryRepository<K, V> withIndexes(Index<K, V, ?>... indexes) {
+        List<Index<K, V, ?>> declared = new ArrayList<>(indexes.length);
+        for (Index<K, V, ?> index : indexes) {
+            declared.add(Objects.requireNonNull(index));
+        }
+        return new InMemoryRepository<>(List.copyOf(declared));
+    }
+
+    public void saveAll(Map<K, V> records) {
+        State<K, V> current = state;
+        current.lock.writeLock().lock();
+        try {
+            records.forEach(current::save);
+        } finally {
+            current.lock.writeLock().unlock();
+        }
+    }
+
+    public void save(K key, V record) {
+        State<K, V> current = state;
+        current.lock.writeLock().lock();
+        try {
+            current.save(key, record);
+        } finally {
+            current.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces every record with {@code records}. The new records and all their indexes are built
+     * aside and published with a single reference swap, so readers keep using the previous snapshot
+     * until the new one is complete and never see a half-loaded store. Saves or deletes that run
+     * concurrently with a replacement are lost with the previous snapshot.
+     */
+    public void replaceAll(Map<K, V> records) {
+        Replacement replacement = replacement();
+        records.forEach(replacement::save);
+        replacement.commit();
+    }
+
+    /**
+     * Starts a {@link #replaceAll replacement} that is fed one record at a time, so a loader can
+     * index records as it parses them instead of collecting them first.
+     */
+    public Replacement replacement() {
+        return new Replacement(new State<>(declaredIndexes));
+    }
+
+    public boolean delete(K key) {
+        State<K, V> current = state;
+        current.lock.writeLock().lock();
+        try {
+            return current.delete(key);
+        } finally {
+            current.lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<V> findById(K key) {
+        State<K, V> current = state;
+        current.lock.readLock().lock();
+        try {
+            Slot<V> slot = current.slots.get(key);
+            return slot == null ? Optional.empty() : Optional.of(slot.record());
+        } finally {
+            current.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Records of the keys that exist, in the order the keys are given, all read from the same
+     * snapshot under one lock acquisition.
+     */
+    public Map<K, V> findAllById(Collection<K> keys) {
+        Map<K, V> found = new LinkedHashMap<>();
+        State<K, V> current = state;
+        current.lock.readLock().lock();
+        try {
+            for (K key : keys) {
+                Slot<V> slot = current.slots.get(key);
+                if (slot != null) {
+                    found.put(key, slot.record());
+                }
+            }
+        } finally {
+            current.lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    public List<V> findAll() {
+        State<K, V> current = state;
+        current.lock.readLock().lock();
+        try {
+            return current.all.view();
+        } finally {
+            current.lock.readLock().unlock();
+        }
+    }
+
+    public <I> List<V> findBy(Index<K, V, I> index, I value) {
+        State<K, V> current = state;
+        current.lock.readLock().lock();
+        try {
+            Bucket<V> bucket = current.indexFor(index).get(value);
+            return bucket == null ? List.of() : bucket.view();
+        } finally {
+            current.lock.readLock().unlock();
+        }
+    }
+
+    public List<V> findAll(int offset, int limit) {
+        return page(findAll(), offset, limit);
+    }
+
+    public <I> List<V> findBy(Index<K, V, I> index, I value, int offset, int limit) {
+        return page(findBy(index, value), offset, limit);
+    }
+
+    public <I> int count(Index<K, V, I> index, I value) {
+        return findBy(index, value).size();
+    }
+
+    /**
+     * First record (in insertion order) with the given index value, for indexes whose values are
+     * expected to be unique but are not guaranteed to be.
+     */
+    public <I> Optional<V> findFirstBy(Index<K, V, I> index, I value) {
+        List<V> matches = findBy(index, value);
+        return matches.isEmpty() ? Optional.empty() : Optional.of(matches.get(0));
+    }
+
+    /**
+     * Records whose value in a {@link Index#sorted sorted} index is greater than or equal to {@code from},
+     * in insertion order. Walks the index's own tail view: a range within one value is that bucket's
+     * cached list, and wider ranges merge the buckets' entries by insertion ordinal.
+     */
+    @SuppressWarnings("unchecked")
+    public <I extends Comparable<? super I>> List<V> findFrom(Index<K, V, I> index, I from) {
+        if (!index.isSorted()) {
+            throw new IllegalArgumentException(index + " is not sorted");
+        }
+        State<K, V> current = state;
+        current.lock.readLock().lock();
+        try {
+            Collection<Bucket<V>> buckets = ((NavigableMap<Object, Bucket<V>>) current.indexFor(index)).tailMap(from, true).values();
+            if (buckets.size() <= 1) {
+                return buckets.isEmpty() ? List.of() : buckets.iterator().next().view();
+            }
+            List<Map.Entry<Long, V>> entries = new ArrayList<>();
+            buckets.forEach(bucket -> entries.addAll(bucket.entries.entrySet()));
+            entries.sort(Map.Entry.comparingByKey());
+            List<V> records = new ArrayList<>(entries.size());
+            entries.forEach(entry -> records.add(entry.getValue()));
+            return Collections.unmodifiableList(records);
+        } finally {
+            current.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Keyset page over a {@link Index#sorted sorted} index: up to {@code limit} records whose index value
+     * is strictly greater than {@code after} (all records when it is null), in index order. Costs
+     * O(log n + limit); index values are expected to be unique so that a cursor never splits a bucket.
+     */
+    @SuppressWarnings("unchecked")
+    public <I extends Comparable<? super I>> List<V> findAfter(Index<K, V, I> index, I after, int limit) {
+        if (!index.isSorted()) {
+            throw new IllegalArgumentException(index + " is not sorted");
+        }
+        if (limit < 0) {
+            throw new InvalidArgumentException("limit must not be negative");
+        }
+        State<K, V> current = state;
+        current.lock.readLock().lock();
+        try {
+            NavigableMap<Object, Bucket<V>> sortedIndex = (NavigableMap<Object, Bucket<V>>) current.indexFor(index);
+            Map<Object, Bucket<V>> tail = after == null ? sortedIndex : sortedIndex.tailMap(after, false);
+            List<V> page = new ArrayList<>(Math.min(limit, 256));
+            for (Bucket<V> bucket : tail.values()) {
+                for (V record : bucket.view()) {
+                    if (page.size() == limit) {
+                        return Collections.unmodifiableList(page);
+                    }
+                    page.add(record);
+                }
+            }
+            return Collections.unmodifiableList(page);
+        } finally {
+            current.lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        State<K, V> current = state;
+        current.lock.readLock().lock();
+        try {
+            return current.slots.size();
+        } finally {
+            current.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Window of an already-built, unmodifiable result list. No record is copied.
+     */
+    public static <T> List<T> page(List<T> records, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new InvalidArgumentException("offset and limit must not be negative");
+        }
+        int from = Math.min(offset, records.size());
+        int to = (int) Math.min((long) from + limit, records.size());
+        return records.subList(from, to);
+    }
+
+    /**
+     * Records are shared between requests, so any list taken from the raw JSON tree has to be
+     * copied into an unmodifiable one before it is stored.
+     */
+    public static <T> List<T> immutable(List<T> list) {
+        return list == null ? null : Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    /**
+     * One generation of records and indexes. Save/delete mutate it under its own lock; a replacement
+     * builds a new one, so readers of the previous generation are never blocked by a reload.
+     */
+    private static final class State<K, V> {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<K, Slot<V>> slots = new HashMap<>();
+        private final Bucket<V> all = new Bucket<>();
+        private final Map<Index<K, V, ?>, Map<Object, Bucket<V>>> indexes = new IdentityHashMap<>();
+        private long nextOrdinal;
+
+        State(List<Index<K, V, ?>> declaredIndexes) {
+            for (Index<K, V, ?> index : declaredIndexes) {
+                indexes.put(index, index.isSorted() ? new TreeMap<>() : new HashMap<>());
+            }
+        }
+
+        void save(K key, V record) {
+            Objects.requireNonNull(record, "record");
+            Slot<V> previous = slots.get(key);
+            long ordinal;
+            if (previous != null) {
+                ordinal = previous.ordinal();
+                unindex(key, previous);
+            } else {
+                ordinal = nextOrdinal++;
+            }
+            Slot<V> slot = new Slot<>(ordinal, record);
+            slots.put(key, slot);
+            all.put(ordinal, record);
+            indexes.forEach((index, buckets) -> {
+                for (Object value : index.valuesOf(key, record)) {
+                    buckets.computeIfAbsent(value, ignored -> new Bucket<>()).put(ordinal, record);
+                }
+            });
+        }
+
+        boolean delete(K key) {
+            Slot<V> slot = slots.remove(key);
+            if (slot == null) {
+                return false;
+            }
+            unindex(key, slot);
+            all.remove(slot.ordinal());
+            return true;
+        }
+
+        private void unindex(K key, Slot<V> slot) {
+            indexes.forEach((index, buckets) -> {
+                for (Object value : index.valuesOf(key, slot.record())) {
+                    Bucket<V> bucket = buckets.get(value);
+                    if (bucket != null && bucket.remove(slot.ordinal()) && bucket.isEmpty()) {
+                        buckets.remove(value);
+                    }
+                }
+            });
+        }
+
+        Map<Object, Bucket<V>> indexFor(Index<K, V, ?> index) {
+            Map<Object, Bucket<V>> buckets = indexes.get(index);
+            if (buckets == null) {
+                throw new IllegalArgumentException(index + " is not declared on this repository");
+            }
+            return buckets;
+        }
+    }
+
+    /**
+     * Records and indexes being built for a replacement. Nothing is visible to readers until
+     * {@link #commit()}; a replacement that is never committed is simply dropped.
+     */
+    public final class Replacement {
+
+        private final State<K, V> fresh;
+
+        private Replacement(State<K, V> fresh) {
+            this.fresh = fresh;
+        }
+
+        public void save(K key, V record) {
+            fresh.save(key, record);
+        }
+
+        public int size() {
+            return fresh.slots.size();
+        }
+
+        public void commit() {
+            state = fresh;
+        }
+    }
+
+    private record Slot<V>(long ordinal, V record) {}
+
+    /**
+     * Records sharing an index value, ordered by insertion. The read view is built lazily and
+     * dropped on every change, so repeated lookups hand out the same list.
+     */
+    private static final class Bucket<V> {
+
+        private final NavigableMap<Long, V> entries = new TreeMap<>();
+        private volatile List<V> view;
+
+        void put(long ordinal, V record) {
+            entries.put(ordinal, record);
+            view = null;
+        }
+
+        boolean remove(long ordinal) {
+            boolean removed = entries.remove(ordinal) != null;
+            if (removed) {
+                view = null;
+            }
+            return removed;
+        }
+
+        boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+        List<V> view() {
+            List<V> current = view;
+            if (current == null) {
+                current = List.copyOf(entries.values());
+                view = current;
+            }
+            return current;
+        }
+    }
+}
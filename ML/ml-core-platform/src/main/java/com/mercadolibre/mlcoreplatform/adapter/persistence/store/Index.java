@@ -0,0 +1,69 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Declares a secondary index of an {@link InMemoryRepository}.
+ * An index maps every stored record to zero or more index values; null values are not indexed.
+ * Instances are stateless descriptors, so adapters keep them as constants and use them for lookups.
+ */
+public final class Index<K, V, I> {
+
+    private final String name;
+    private final BiFunction<K, V, Collection<I>> extractor;
+    private final boolean sorted;
+
+    private Index(String name, BiFunction<K, V, Collection<I>> extractor, boolean sorted) {
+        this.name = Objects.requireNonNull(name);
+        this.extractor = Objects.requireNonNull(extractor);
+        this.sorted = sorted;
+    }
+
+    public static <K, V, I> Index<K, V, I> on(String name, Function<V, I> field) {
+        return new Index<>(name, (key, record) -> single(field.apply(record)), false);
+    }
+
+    public static <K, V, I> Index<K, V, I> onKey(String name, Function<K, I> field) {
+        return new Index<>(name, (key, record) -> single(field.apply(key)), false);
+    }
+
+    public static <K, V, I> Index<K, V, I> of(String name, BiFunction<K, V, I> field) {
+        return new Index<>(name, (key, record) -> single(field.apply(key, record)), false);
+    }
+
+    public static <K, V, I> Index<K, V, I> onEach(String name, Function<V, Collection<I>> values) {
+        return new Index<>(name, (key, record) -> {
+            Collection<I> result = values.apply(record);
+            return result == null ? List.of() : result;
+        }, false);
+    }
+
+    public static <K, V, I extends Comparable<? super I>> Index<K, V, I> sorted(String name, Function<V, I> field) {
+        return new Index<>(name, (key, record) -> single(field.apply(record)), true);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    boolean isSorted() {
+        return sorted;
+    }
+
+    Collection<I> valuesOf(K key, V record) {
+        return extractor.apply(key, record);
+    }
+
+    private static <I> Collection<I> single(I value) {
+        return value == null ? List.of() : List.of(value);
+    }
+
+    @Override
+    public String toString() {
+        return "Index[" + name + "]";
+    }
+}
@@ -0,0 +1,84 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Token-level reader for the data files. Only the record being read is held in memory: each one is
+ * handed to the sink as soon as it is parsed, so loading cost does not grow with the file beyond
+ * what the sink keeps.
+ */
+@Slf4j
+public final class JsonRecords {
+
+    static final int PROGRESS_EVERY = 100_000;
+
+    private JsonRecords() {
+    }
+
+    /**
+     * Reads {@code {"id": {...}, ...}} with a reader bound to {@code Map<String, Object>}.
+     * Returns the number of records read.
+     */
+    public static int readObject(ObjectReader recordReader, InputStream in, String source,
+                                 BiConsumer<String, Map<String, Object>> sink) throws IOException {
+        try (JsonParser parser = recordReader.createParser(in)) {
+            expect(parser, JsonToken.START_OBJECT, source);
+            int records = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String id = parser.currentName();
+                parser.nextToken();
+                sink.accept(id, recordReader.readValue(parser));
+                progress(parser, source, ++records);
+            }
+            return records;
+        }
+    }
+
+    /**
+     * Reads {@code {"group": [{...}, ...], ...}}, keying each record by its group and position.
+     * Returns the number of records read.
+     */
+    public static int readGroups(ObjectReader recordReader, InputStream in, String source,
+                                 BiConsumer<GroupKey, Map<String, Object>> sink) throws IOException {
+        try (JsonParser parser = recordReader.createParser(in)) {
+            expect(parser, JsonToken.START_OBJECT, source);
+            int records = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String group = parser.currentName();
+                if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                if (parser.currentToken() != JsonToken.START_ARRAY) {
+                    throw new IOException("Expected an array for " + group + " in " + source + " at " + parser.currentLocation());
+                }
+                int position = 0;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    sink.accept(new GroupKey(group, position++), recordReader.readValue(parser));
+                    progress(parser, source, ++records);
+                }
+            }
+            return records;
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken expected, String source) throws IOException {
+        if (parser.nextToken() != expected) {
+            throw new IOException("Expected " + expected + " in " + source + " at " + parser.currentLocation());
+        }
+    }
+
+    private static void progress(JsonParser parser, String source, int records) {
+        if (records % PROGRESS_EVERY == 0) {
+            log.info("Loading {}: {} records, {} MB read", source, records,
+                    parser.currentLocation().getByteOffset() / (1024 * 1024));
+        }
+    }
+}
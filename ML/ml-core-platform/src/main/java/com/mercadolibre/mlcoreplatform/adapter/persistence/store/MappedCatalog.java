@@ -0,0 +1,209 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Read-only view of a catalog compiled by {@link CatalogCompiler}, memory-mapped so the records stay
+ * in the page cache instead of the heap. Opening only reads the header; records are decoded by the
+ * caller one at a time.
+ *
+ * <pre>
+ * header        int magic, int version, int recordCount, int indexCount, int hasSortTable
+ * record table  recordCount x (int keyOffset, int keyLength, int valueOffset, int valueLength), file order
+ * key table     recordCount x int ordinal, sorted by key bytes
+ * sort table    recordCount x (int ordinal, long date), sorted by (date, key); only when hasSortTable is 1
+ * index dir     indexCount x (int nameOffset, int nameLength, int entryCount, int entriesOffset)
+ * index entries entryCount x (int valueOffset, int valueLength, int postingsOffset, int postingsCount),
+ *               sorted by value bytes; postings are ascending ordinals
+ * data          keys, record JSON, index names and values, postings
+ * </pre>
+ *
+ * All offsets are absolute, which limits a catalog to 2 GB.
+ */
+public final class MappedCatalog {
+
+    static final int MAGIC = 0x4D4C4331; // "MLC1"
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 20;
+    static final int RECORD_ENTRY_BYTES = 16;
+    static final int SORT_ENTRY_BYTES = Integer.BYTES + Long.BYTES;
+    static final int INDEX_ENTRY_BYTES = 16;
+
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int keyTable;
+    private final int sortTable;
+    private final Map<String, IndexSection> indexes = new HashMap<>();
+
+    private MappedCatalog(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Not a version " + VERSION + " catalog");
+        }
+        this.size = buffer.getInt(8);
+        int indexCount = buffer.getInt(12);
+        boolean hasSortTable = buffer.getInt(16) == 1;
+        this.keyTable = HEADER_BYTES + size * RECORD_ENTRY_BYTES;
+        this.sortTable = hasSortTable ? keyTable + size * Integer.BYTES : -1;
+        int indexDir = keyTable + size * Integer.BYTES + (hasSortTable ? size * SORT_ENTRY_BYTES : 0);
+        for (int i = 0; i < indexCount; i++) {
+            int entry = indexDir + i * INDEX_ENTRY_BYTES;
+            String name = string(buffer.getInt(entry), buffer.getInt(entry + 4));
+            indexes.put(name, new IndexSection(buffer.getInt(entry + 12), buffer.getInt(entry + 8)));
+        }
+    }
+
+    public static MappedCatalog open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return new MappedCatalog(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String key(int ordinal) {
+        int entry = recordEntry(ordinal);
+        return string(buffer.getInt(entry), buffer.getInt(entry + 4));
+    }
+
+    /**
+     * The record as it appeared in the source file, as compact UTF-8 JSON.
+     */
+    public byte[] value(int ordinal) {
+        int entry = recordEntry(ordinal);
+        return bytes(buffer.getInt(entry + 8), buffer.getInt(entry + 12));
+    }
+
+    /**
+     * Ordinal of the record with the given key, or -1. Binary search over the key table.
+     */
+    public int ordinalOf(String key) {
+        if (key == null) {
+            return -1;
+        }
+        byte[] target = key.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int ordinal = buffer.getInt(keyTable + mid * Integer.BYTES);
+            int entry = recordEntry(ordinal);
+            int cmp = compare(buffer.getInt(entry), buffer.getInt(entry + 4), target);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return ordinal;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Ordinals (in file order) of the records whose indexed {@code field} has the given value.
+     */
+    public int[] postings(String field, String value) {
+        IndexSection index = indexes.get(field);
+        if (index == null) {
+            throw new IllegalArgumentException(field + " is not indexed in this catalog");
+        }
+        if (value == null) {
+            return NO_POSTINGS;
+        }
+        byte[] target = value.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = index.entryCount() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int entry = index.entriesOffset() + mid * INDEX_ENTRY_BYTES;
+            int cmp = compare(buffer.getInt(entry), buffer.getInt(entry + 4), target);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                int postingsOffset = buffer.getInt(entry + 8);
+                int[] ordinals = new int[buffer.getInt(entry + 12)];
+                for (int i = 0; i < ordinals.length; i++) {
+                    ordinals[i] = buffer.getInt(postingsOffset + i * Integer.BYTES);
+                }
+                return ordinals;
+            }
+        }
+        return NO_POSTINGS;
+    }
+
+    public boolean hasSortTable() {
+        return sortTable >= 0;
+    }
+
+    /**
+     * Ordinal of the record at {@code position} in (date, key) order.
+     */
+    public int ordinalInSortOrder(int position) {
+        return buffer.getInt(sortEntry(position));
+    }
+
+    /**
+     * Date, in epoch millis, of the record at {@code position} in (date, key) order, as the
+     * compiler parsed it; {@link Timestamps#NONE} when it has none. Together with the record's key
+     * it is the record's {@link SortKey}, with no need to decode the record.
+     */
+    public long sortDateAt(int position) {
+        return buffer.getLong(sortEntry(position) + Integer.BYTES);
+    }
+
+    private int sortEntry(int position) {
+        if (!hasSortTable()) {
+            throw new IllegalStateException("Catalog has no sort table");
+        }
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        return sortTable + position * SORT_ENTRY_BYTES;
+    }
+
+    private int recordEntry(int ordinal) {
+        if (ordinal < 0 || ordinal >= size) {
+            throw new IndexOutOfBoundsException(ordinal);
+        }
+        return HEADER_BYTES + ordinal * RECORD_ENTRY_BYTES;
+    }
+
+    private byte[] bytes(int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return bytes;
+    }
+
+    private String string(int offset, int length) {
+        return new String(bytes(offset, length), StandardCharsets.UTF_8);
+    }
+
+    // Unsigned byte order, the same order the compiler sorted with
+    private int compare(int offset, int length, byte[] target) {
+        int common = Math.min(length, target.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Byte.compareUnsigned(buffer.get(offset + i), target[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, target.length);
+    }
+
+    private record IndexSection(int entriesOffset, int entryCount) {}
+}
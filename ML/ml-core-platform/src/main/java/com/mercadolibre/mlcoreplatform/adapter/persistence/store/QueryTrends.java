@@ -0,0 +1,186 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import com.mercadolibre.mlcoreplatform.config.DaemonThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Most searched queries per site, with older searches fading by half every {@code half-life}.
+ * <p>
+ * Recording is a lookup in a concurrent map of {@link LongAdder}s, which stripe contended
+ * increments across cells, so searches never wait for each other or for the ranking. Every
+ * {@code merge-interval} the map is swapped for an empty one and folded, normalized, into a
+ * {@link HeavyHitters} summary per site, whose top entries are published for reads that only
+ * copy them. Memory is bounded on both sides: at most {@code max-pending} distinct queries wait
+ * between merges (later new ones are dropped and counted) and each site keeps
+ * {@code capacity} counters. An increment racing the swap can be lost; trends are approximate
+ * anyway.
+ * <p>
+ * Each merge also hands every site's counted queries, weighted by their decayed counts, to
+ * {@link Suggestions} as its {@code queries} source, so typeahead learns from searches without
+ * the search path touching the tries and without keeping every query ever typed.
+ */
+@Slf4j
+@Component
+public class QueryTrends implements SmartInitializingSingleton, DisposableBean {
+
+    public static final int MAX_TRENDS = 50;
+
+    static final String SUGGESTION_SOURCE = "queries";
+
+    // Decayed below half a search, a query is forgotten
+    private static final double MIN_COUNT = 0.5;
+
+    private final Suggestions suggestions;
+    private final int capacity;
+    private final int maxPending;
+    private final double halfLifeMillis;
+    private final long mergeIntervalMillis;
+    private final LongSupplier clock;
+    private final AtomicReference<ConcurrentHashMap<Key, LongAdder>> pending = new AtomicReference<>(new ConcurrentHashMap<>());
+    private final LongAdder dropped = new LongAdder();
+    private final Map<String, HeavyHitters> sites = new HashMap<>();
+    private volatile Map<String, List<String>> published = Map.of();
+    private long lastMerge;
+    private ScheduledExecutorService merger;
+
+    @Autowired
+    public QueryTrends(Suggestions suggestions,
+                       @Value("${ml.trends.capacity:1000}") int capacity,
+                       @Value("${ml.trends.max-pending:10000}") int maxPending,
+                       @Value("${ml.trends.half-life:PT1H}") Duration halfLife,
+                       @Value("${ml.trends.merge-interval:PT1S}") Duration mergeInterval) {
+        this(suggestions, capacity, maxPending, halfLife, mergeInterval.toMillis(), System::currentTimeMillis);
+    }
+
+    /**
+     * Never merges on its own, for callers that drive {@link #merge()} with their own clock.
+     */
+    public QueryTrends(Suggestions suggestions, int capacity, int maxPending, Duration halfLife, LongSupplier clock) {
+        this(suggestions, capacity, maxPending, halfLife, 0, clock);
+    }
+
+    private QueryTrends(Suggestions suggestions, int capacity, int maxPending, Duration halfLife, long mergeIntervalMillis,
+                        LongSupplier clock) {
+        if (capacity <= 0 || maxPending <= 0 || halfLife.isNegative() || halfLife.isZero()) {
+            throw new IllegalArgumentException("capacity, max-pending and half-life must be positive");
+        }
+        this.suggestions = suggestions;
+        this.capacity = capacity;
+        this.maxPending = maxPending;
+        this.halfLifeMillis = halfLife.toMillis();
+        this.mergeIntervalMillis = mergeIntervalMillis;
+        this.clock = clock;
+        this.lastMerge = clock.getAsLong();
+    }
+
+    public void record(String siteId, String query) {
+        if (siteId == null || query == null || query.isBlank()) {
+            return;
+        }
+        ConcurrentHashMap<Key, LongAdder> counts = pending.get();
+        Key key = new Key(siteId, query);
+        LongAdder count = counts.get(key);
+        if (count == null) {
+            if (counts.size() >= maxPending) {
+                dropped.increment();
+                return;
+            }
+            count = counts.computeIfAbsent(key, ignored -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    /**
+     * The site's {@code limit} most searched queries (folded to lower case without accents),
+     * as of the last merge.
+     */
+    public List<String> top(String siteId, int limit) {
+        List<String> trends = siteId == null ? null : published.get(siteId);
+        if (trends == null || limit <= 0) {
+            return List.of();
+        }
+        return trends.size() > limit ? trends.subList(0, limit) : trends;
+    }
+
+    /**
+     * Decays the summaries by the time since the previous merge, folds in what was recorded and
+     * republishes the trends and the query suggestions.
+     */
+    public synchronized void merge() {
+        ConcurrentHashMap<Key, LongAdder> counts = pending.getAndSet(new ConcurrentHashMap<>());
+        long now = clock.getAsLong();
+        double factor = Math.pow(0.5, Math.max(0, now - lastMerge) / halfLifeMillis);
+        lastMerge = now;
+        sites.values().forEach(summary -> summary.decay(factor, MIN_COUNT));
+        counts.forEach((key, count) -> {
+            String phrase = Suggestions.key(key.query());
+            if (!phrase.isEmpty()) {
+                sites.computeIfAbsent(key.siteId(), ignored -> new HeavyHitters(capacity)).add(phrase, count.sum());
+            }
+        });
+        sites.values().removeIf(summary -> summary.size() == 0);
+        Map<String, List<String>> next = new HashMap<>();
+        Map<String, Map<String, Long>> phrases = new HashMap<>();
+        sites.forEach((siteId, summary) -> {
+            List<HeavyHitters.Entry> counted = summary.top(capacity);
+            next.put(siteId, counted.stream().limit(MAX_TRENDS).map(HeavyHitters.Entry::key).toList());
+            Map<String, Long> weights = new HashMap<>();
+            counted.forEach(entry -> weights.put(entry.key(), Math.round(entry.count())));
+            phrases.put(siteId, weights);
+        });
+        published = Map.copyOf(next);
+        // Only the weights that changed touch the tries
+        suggestions.replace(SUGGESTION_SOURCE, phrases);
+    }
+
+    /**
+     * New queries turned away because too many distinct ones were waiting for a merge.
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (mergeIntervalMillis <= 0) {
+            return;
+        }
+        merger = Executors.newSingleThreadScheduledExecutor(DaemonThreads.named("query-trends-merger"));
+        merger.scheduleWithFixedDelay(this::mergeQuietly, mergeIntervalMillis, mergeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (merger != null) {
+            merger.shutdownNow();
+        }
+    }
+
+    private void mergeQuietly() {
+        try {
+            merge();
+        } catch (RuntimeException e) {
+            log.warn("Could not merge query trends", e);
+        }
+    }
+
+    private record Key(String siteId, String query) {
+    }
+}
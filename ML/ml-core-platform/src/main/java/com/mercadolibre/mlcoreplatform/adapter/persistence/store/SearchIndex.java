@@ -0,0 +1,722 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import com.mercadolibre.mlcoreplatform.domain.core.exception.InvalidArgumentException;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable in-memory full-text index. Text is analyzed by {@link TextAnalyzer} into postings of
+ * (document, weighted term frequency) and ranked with BM25; every query term must match. Keyword
+ * fields are single-valued columns of value ordinals with their own postings, and number fields are
+ * plain columns, so filters cost one array read per candidate.
+ * <p>
+ * A query is driven by the rarest of its terms or, without text, by the smallest keyword filter,
+ * and only the best {@code offset + limit} hits are kept while the rest are counted.
+ * <p>
+ * Every keyword value and every bucket of a bucketed number field also has a
+ * {@link CompressedBitmap} of its documents, so facet counts for a query are intersection
+ * cardinalities against the bitmap of its matches rather than another pass over the records.
+ */
+public final class SearchIndex<V> {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    private static final int MISSING = -1;
+
+    private final List<V> values;
+    private final Map<String, Postings> postings;
+    private final int[] length;
+    private final double averageLength;
+    private final Map<String, Keyword> keywords;
+    private final Map<String, double[]> numbers;
+    private final Map<String, Buckets> buckets;
+
+    private SearchIndex(Builder<V> builder) {
+        builder.flush();
+        int size = builder.values.size();
+        this.values = new ArrayList<>(builder.values);
+        this.postings = new HashMap<>(builder.postings.size() * 2);
+        builder.postings.forEach((term, buffer) -> postings.put(term, buffer.build()));
+        this.length = builder.length.toArray(size, 0);
+        this.averageLength = size == 0 ? 0 : Arrays.stream(length).asLongStream().sum() / (double) size;
+        this.keywords = new HashMap<>();
+        builder.keywords.forEach((field, buffer) -> keywords.put(field, buffer.build(size)));
+        this.numbers = new HashMap<>();
+        builder.numbers.forEach((field, buffer) -> numbers.put(field, buffer.toArray(size)));
+        this.buckets = new HashMap<>();
+        builder.buckets.forEach((field, count) -> {
+            double[] column = numbers.get(field);
+            if (column != null) {
+                buckets.put(field, Buckets.of(column, count));
+            }
+        });
+    }
+
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    public static <V> SearchIndex<V> empty() {
+        return new Builder<V>().build();
+    }
+
+    public static Query query() {
+        return new Query();
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public Hits<V> search(Query query) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(TextAnalyzer.analyze(query.text)));
+        Postings[] termPostings = new Postings[terms.size()];
+        for (int i = 0; i < termPostings.length; i++) {
+            termPostings[i] = postings.get(terms.get(i));
+            if (termPostings[i] == null) {
+                return Hits.none();
+            }
+        }
+        Arrays.sort(termPostings, (left, right) -> Integer.compare(left.docs.length, right.docs.length));
+
+        List<int[]> filterColumns = new ArrayList<>();
+        List<boolean[]> filterAccepts = new ArrayList<>();
+        Keyword driverField = null;
+        boolean[] driverAccepts = null;
+        int driverSize = Integer.MAX_VALUE;
+        for (Map.Entry<String, Set<String>> filter : query.keywords.entrySet()) {
+            Keyword keyword = keywords.get(filter.getKey());
+            boolean[] accepts = keyword == null ? null : keyword.accepting(filter.getValue());
+            if (accepts == null) {
+                return Hits.none();
+            }
+            int matches = keyword.count(accepts);
+            if (matches < driverSize) {
+                driverField = keyword;
+                driverAccepts = accepts;
+                driverSize = matches;
+            }
+            filterColumns.add(keyword.column);
+            filterAccepts.add(accepts);
+        }
+        List<double[]> rangeColumns = new ArrayList<>();
+        List<double[]> ranges = new ArrayList<>();
+        for (Map.Entry<String, double[]> range : query.ranges.entrySet()) {
+            double[] column = numbers.get(range.getKey());
+            if (column == null) {
+                return Hits.none();
+            }
+            rangeColumns.add(column);
+            ranges.add(range.getValue());
+        }
+        double[] sortColumn = null;
+        if (query.sortField != null) {
+            sortColumn = numbers.get(query.sortField);
+            if (sortColumn == null) {
+                throw new IllegalArgumentException("Unknown sort field: " + query.sortField);
+            }
+        }
+
+        Execution execution = new Execution(termPostings, filterColumns, filterAccepts, rangeColumns, ranges,
+                sortColumn, query.ascending, query.offset + query.limit, !query.facets.isEmpty());
+        if (termPostings.length > 0) {
+            int[] docs = termPostings[0].docs;
+            for (int position = 0; position < docs.length; position++) {
+                execution.consider(docs[position], position);
+            }
+        } else if (driverField != null) {
+            for (int ordinal = 0; ordinal < driverAccepts.length; ordinal++) {
+                if (driverAccepts[ordinal]) {
+                    for (int doc : driverField.postings[ordinal]) {
+                        execution.consider(doc, MISSING);
+                    }
+                }
+            }
+        } else {
+            for (int doc = 0; doc < values.size(); doc++) {
+                execution.consider(doc, MISSING);
+            }
+        }
+        int[] ranked = execution.top.sorted();
+        List<V> page = new ArrayList<>(Math.max(0, ranked.length - query.offset));
+        for (int i = query.offset; i < ranked.length; i++) {
+            page.add(values.get(ranked[i]));
+        }
+        return new Hits<>(Collections.unmodifiableList(page), execution.total, facets(query.facets, execution.matches));
+    }
+
+    // Values in descending count order, buckets in range order; values without matches are left out
+    private Map<String, Map<String, Integer>> facets(Set<String> fields, CompressedBitmap.Builder matches) {
+        if (fields.isEmpty()) {
+            return Map.of();
+        }
+        CompressedBitmap matched = matches.build();
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        for (String field : fields) {
+            Keyword keyword = keywords.get(field);
+            Buckets bucketed = buckets.get(field);
+            if (keyword != null) {
+                facets.put(field, keyword.counts(matched));
+            } else if (bucketed != null) {
+                facets.put(field, bucketed.counts(matched));
+            }
+        }
+        return Collections.unmodifiableMap(facets);
+    }
+
+    /**
+     * Matches of a query: the requested window in rank order, how many documents matched in all
+     * and, for each requested facet field, how many of those carry each value.
+     */
+    public record Hits<V>(List<V> values, int total, Map<String, Map<String, Integer>> facets) {
+
+        static <V> Hits<V> none() {
+            return new Hits<>(List.of(), 0, Map.of());
+        }
+    }
+
+    /**
+     * What to look for. Text terms must all match; values of one keyword field are alternatives
+     * and different fields must all match; documents without a number fail any range on it.
+     * Without a sort field hits are ranked by score, and by index order when there is no text.
+     */
+    public static final class Query {
+
+        private String text;
+        private final Map<String, Set<String>> keywords = new LinkedHashMap<>();
+        private final Map<String, double[]> ranges = new LinkedHashMap<>();
+        private String sortField;
+        private boolean ascending;
+        private int offset;
+        private int limit = Integer.MAX_VALUE;
+        private final Set<String> facets = new LinkedHashSet<>();
+
+        private Query() {
+        }
+
+        public Query text(String text) {
+            this.text = text;
+            return this;
+        }
+
+        public Query keyword(String field, String value) {
+            return value == null ? this : keyword(field, List.of(value));
+        }
+
+        public Query keyword(String field, Collection<String> anyOf) {
+            if (anyOf != null && !anyOf.isEmpty()) {
+                keywords.computeIfAbsent(field, ignored -> new LinkedHashSet<>()).addAll(anyOf);
+            }
+            return this;
+        }
+
+        public Query range(String field, Double min, Double max) {
+            if (min != null || max != null) {
+                ranges.put(field, new double[] {
+                        min == null ? Double.NEGATIVE_INFINITY : min,
+                        max == null ? Double.POSITIVE_INFINITY : max});
+            }
+            return this;
+        }
+
+        public Query sortBy(String field, boolean ascending) {
+            this.sortField = field;
+            this.ascending = ascending;
+            return this;
+        }
+
+        /**
+         * Keyword or bucketed number fields to count the matches of.
+         */
+        public Query facets(Collection<String> fields) {
+            facets.addAll(fields);
+            return this;
+        }
+
+        public Query page(int offset, int limit) {
+            if (offset < 0 || limit < 0) {
+                throw new InvalidArgumentException("offset and limit must not be negative");
+            }
+            this.offset = offset;
+            this.limit = (int) Math.min(Integer.MAX_VALUE - (long) offset, limit);
+            return this;
+        }
+    }
+
+    public static final class Builder<V> {
+
+        private final List<V> values = new ArrayList<>();
+        private final Map<String, PostingsBuffer> postings = new HashMap<>();
+        private final IntBuffer length = new IntBuffer();
+        private final Map<String, KeywordBuffer> keywords = new LinkedHashMap<>();
+        private final Map<String, DoubleBuffer> numbers = new LinkedHashMap<>();
+        private final Map<String, Integer> buckets = new LinkedHashMap<>();
+        private final Map<String, Integer> frequencies = new HashMap<>();
+        private int weightedLength;
+
+        private Builder() {
+        }
+
+        /**
+         * Starts a new document carrying {@code value}; the calls that follow describe it.
+         */
+        public Builder<V> add(V value) {
+            flush();
+            values.add(value);
+            return this;
+        }
+
+        /**
+         * Indexes text of the current document. Each occurrence counts {@code weight} times, so a
+         * title can outrank a description.
+         */
+        public Builder<V> text(String text, int weight) {
+            current();
+            for (String term : TextAnalyzer.analyze(text)) {
+                frequencies.merge(term, weight, Integer::sum);
+                weightedLength += weight;
+            }
+            return this;
+        }
+
+        public Builder<V> keyword(String field, String value) {
+            int doc = current();
+            if (value != null) {
+                keywords.computeIfAbsent(field, ignored -> new KeywordBuffer()).set(doc, value);
+            }
+            return this;
+        }
+
+        public Builder<V> number(String field, Double value) {
+            int doc = current();
+            if (value != null) {
+                numbers.computeIfAbsent(field, ignored -> new DoubleBuffer()).set(doc, value);
+            }
+            return this;
+        }
+
+        /**
+         * Splits a number field into about {@code count} ranges of similar size for faceting.
+         * Bounds are quantiles rounded to two significant digits.
+         */
+        public Builder<V> buckets(String field, int count) {
+            if (count < 1) {
+                throw new IllegalArgumentException("count must be positive");
+            }
+            buckets.put(field, count);
+            return this;
+        }
+
+        public SearchIndex<V> build() {
+            return new SearchIndex<>(this);
+        }
+
+        private int current() {
+            if (values.isEmpty()) {
+                throw new IllegalStateException("add a document first");
+            }
+            return values.size() - 1;
+        }
+
+        private void flush() {
+            if (values.size() == length.size) {
+                return;
+            }
+            int doc = values.size() - 1;
+            frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, ignored -> new PostingsBuffer()).add(doc, frequency));
+            length.set(doc, weightedLength);
+            frequencies.clear();
+            weightedLength = 0;
+        }
+    }
+
+    // Per-query state: the non-driving terms are walked forward in step with the driver
+    private final class Execution {
+
+        private final Postings[] terms;
+        private final int[] cursors;
+        private final double[] idf;
+        private final int[][] filterColumns;
+        private final boolean[][] filterAccepts;
+        private final double[][] rangeColumns;
+        private final double[][] ranges;
+        private final double[] sortColumn;
+        private final boolean ascending;
+        private final TopK top;
+        private final CompressedBitmap.Builder matches;
+        private int total;
+
+        private Execution(Postings[] terms, List<int[]> filterColumns, List<boolean[]> filterAccepts,
+                          List<double[]> rangeColumns, List<double[]> ranges, double[] sortColumn, boolean ascending, int keep,
+                          boolean collectMatches) {
+            this.terms = terms;
+            this.cursors = new int[terms.length];
+            this.idf = new double[terms.length];
+            for (int i = 0; i < terms.length; i++) {
+                double documentFrequency = terms[i].docs.length;
+                idf[i] = Math.log(1 + (values.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            }
+            this.filterColumns = filterColumns.toArray(new int[0][]);
+            this.filterAccepts = filterAccepts.toArray(new boolean[0][]);
+            this.rangeColumns = rangeColumns.toArray(new double[0][]);
+            this.ranges = ranges.toArray(new double[0][]);
+            this.sortColumn = sortColumn;
+            this.ascending = ascending;
+            this.top = new TopK(Math.min(keep, values.size()));
+            this.matches = collectMatches ? new CompressedBitmap.Builder() : null;
+        }
+
+        // driverPosition is the doc's position in the rarest term's postings, MISSING without text
+        private void consider(int doc, int driverPosition) {
+            for (int i = 0; i < filterColumns.length; i++) {
+                int ordinal = filterColumns[i][doc];
+                if (ordinal == MISSING || !filterAccepts[i][ordinal]) {
+                    return;
+                }
+            }
+            for (int i = 0; i < rangeColumns.length; i++) {
+                double value = rangeColumns[i][doc];
+                if (!(value >= ranges[i][0] && value <= ranges[i][1])) {
+                    return;
+                }
+            }
+            double score = 0;
+            for (int i = 0; i < terms.length; i++) {
+                int position = i == 0 ? driverPosition : advance(i, doc);
+                if (position < 0) {
+                    return;
+                }
+                score += idf[i] * bm25(terms[i].frequencies[position], length[doc]);
+            }
+            total++;
+            top.offer(doc, rankKey(doc, score));
+            if (matches != null) {
+                matches.add(doc);
+            }
+        }
+
+        private int advance(int term, int doc) {
+            int[] docs = terms[term].docs;
+            int found = Arrays.binarySearch(docs, cursors[term], docs.length, doc);
+            cursors[term] = found >= 0 ? found : -found - 1;
+            return found >= 0 ? found : -1;
+        }
+
+        private double bm25(int frequency, int documentLength) {
+            double norm = K1 * (1 - B + B * documentLength / averageLength);
+            return frequency * (K1 + 1) / (frequency + norm);
+        }
+
+        // Lower ranks first; documents missing the sort field go last either way
+        private double rankKey(int doc, double score) {
+            if (sortColumn == null) {
+                return -score;
+            }
+            double value = sortColumn[doc];
+            if (Double.isNaN(value)) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return ascending ? value : -value;
+        }
+    }
+
+    /**
+     * Bounded max-heap keeping the {@code capacity} lowest (key, doc) pairs.
+     */
+    static final class TopK {
+
+        private final int[] docs;
+        private final double[] keys;
+        private int size;
+
+        TopK(int capacity) {
+            this.docs = new int[capacity];
+            this.keys = new double[capacity];
+        }
+
+        void offer(int doc, double key) {
+            if (docs.length == 0) {
+                return;
+            }
+            if (size < docs.length) {
+                docs[size] = doc;
+                keys[size] = key;
+                siftUp(size++);
+            } else if (before(key, doc, keys[0], docs[0])) {
+                docs[0] = doc;
+                keys[0] = key;
+                siftDown(0);
+            }
+        }
+
+        int[] sorted() {
+            int count = size;
+            int[] sorted = new int[count];
+            while (size > 0) {
+                sorted[size - 1] = docs[0];
+                size--;
+                docs[0] = docs[size];
+                keys[0] = keys[size];
+                siftDown(0);
+            }
+            return sorted;
+        }
+
+        private static boolean before(double key, int doc, double otherKey, int otherDoc) {
+            int byKey = Double.compare(key, otherKey);
+            return byKey < 0 || byKey == 0 && doc < otherDoc;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (!before(keys[parent], docs[parent], keys[index], docs[index])) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int largest = index;
+                for (int child = 2 * index + 1; child <= 2 * index + 2 && child < size; child++) {
+                    if (before(keys[largest], docs[largest], keys[child], docs[child])) {
+                        largest = child;
+                    }
+                }
+                if (largest == index) {
+                    return;
+                }
+                swap(index, largest);
+                index = largest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int doc = docs[i];
+            docs[i] = docs[j];
+            docs[j] = doc;
+            double key = keys[i];
+            keys[i] = keys[j];
+            keys[j] = key;
+        }
+    }
+
+    private record Postings(int[] docs, int[] frequencies) {
+    }
+
+    private record Keyword(Map<String, Integer> ordinals, String[] names, int[] column, int[][] postings,
+                           CompressedBitmap[] bitmaps) {
+
+        // Null when none of the values occurs, so the whole query can be skipped
+        boolean[] accepting(Set<String> values) {
+            boolean[] accepts = new boolean[postings.length];
+            boolean any = false;
+            for (String value : values) {
+                Integer ordinal = ordinals.get(value);
+                if (ordinal != null) {
+                    accepts[ordinal] = true;
+                    any = true;
+                }
+            }
+            return any ? accepts : null;
+        }
+
+        Map<String, Integer> counts(CompressedBitmap matched) {
+            List<Map.Entry<String, Integer>> counts = new ArrayList<>();
+            for (int ordinal = 0; ordinal < bitmaps.length; ordinal++) {
+                int count = matched.andCardinality(bitmaps[ordinal]);
+                if (count > 0) {
+                    counts.add(Map.entry(names[ordinal], count));
+                }
+            }
+            counts.sort(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+            Map<String, Integer> ordered = new LinkedHashMap<>();
+            counts.forEach(entry -> ordered.put(entry.getKey(), entry.getValue()));
+            return Collections.unmodifiableMap(ordered);
+        }
+
+        int count(boolean[] accepts) {
+            int count = 0;
+            for (int ordinal = 0; ordinal < accepts.length; ordinal++) {
+                if (accepts[ordinal]) {
+                    count += postings[ordinal].length;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Ranges of a number field, named {@code *-b1}, {@code b1-b2}, ..., {@code bn-*}, each range
+     * holding values from its lower bound up to but excluding its upper bound.
+     */
+    private record Buckets(String[] ids, CompressedBitmap[] bitmaps) {
+
+        static Buckets of(double[] column, int count) {
+            double[] present = Arrays.stream(column).filter(value -> !Double.isNaN(value)).sorted().toArray();
+            double[] bounds = new double[0];
+            for (int bucket = 1; bucket < count && present.length > 0; bucket++) {
+                double bound = roundToTwoDigits(present[(int) ((long) present.length * bucket / count)]);
+                if (bound > present[0] && (bounds.length == 0 || bound > bounds[bounds.length - 1])) {
+                    bounds = Arrays.copyOf(bounds, bounds.length + 1);
+                    bounds[bounds.length - 1] = bound;
+                }
+            }
+            String[] ids = new String[bounds.length + 1];
+            CompressedBitmap.Builder[] builders = new CompressedBitmap.Builder[ids.length];
+            for (int bucket = 0; bucket < ids.length; bucket++) {
+                ids[bucket] = (bucket == 0 ? "*" : plain(bounds[bucket - 1])) + "-" + (bucket == bounds.length ? "*" : plain(bounds[bucket]));
+                builders[bucket] = new CompressedBitmap.Builder();
+            }
+            for (int doc = 0; doc < column.length; doc++) {
+                if (!Double.isNaN(column[doc])) {
+                    int found = Arrays.binarySearch(bounds, column[doc]);
+                    builders[found >= 0 ? found + 1 : -found - 1].add(doc);
+                }
+            }
+            return new Buckets(ids, Arrays.stream(builders).map(CompressedBitmap.Builder::build).toArray(CompressedBitmap[]::new));
+        }
+
+        Map<String, Integer> counts(CompressedBitmap matched) {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (int bucket = 0; bucket < ids.length; bucket++) {
+                int count = matched.andCardinality(bitmaps[bucket]);
+                if (count > 0) {
+                    counts.put(ids[bucket], count);
+                }
+            }
+            return Collections.unmodifiableMap(counts);
+        }
+
+        private static double roundToTwoDigits(double value) {
+            if (value <= 0) {
+                return value;
+            }
+            return new BigDecimal(value).round(new MathContext(2, RoundingMode.HALF_UP)).doubleValue();
+        }
+
+        private static String plain(double value) {
+            return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+        }
+    }
+
+    private static final class PostingsBuffer {
+
+        private final IntBuffer docs = new IntBuffer();
+        private final IntBuffer frequencies = new IntBuffer();
+
+        void add(int doc, int frequency) {
+            docs.set(docs.size, doc);
+            frequencies.set(frequencies.size, frequency);
+        }
+
+        Postings build() {
+            return new Postings(docs.toArray(docs.size, 0), frequencies.toArray(frequencies.size, 0));
+        }
+    }
+
+    private static final class KeywordBuffer {
+
+        private final Map<String, Integer> ordinals = new HashMap<>();
+        private final IntBuffer column = new IntBuffer();
+
+        void set(int doc, String value) {
+            column.set(doc, ordinals.computeIfAbsent(value, ignored -> ordinals.size()), MISSING);
+        }
+
+        Keyword build(int size) {
+            int[] values = column.toArray(size, MISSING);
+            int[] counts = new int[ordinals.size()];
+            for (int ordinal : values) {
+                if (ordinal != MISSING) {
+                    counts[ordinal]++;
+                }
+            }
+            int[][] postings = new int[counts.length][];
+            for (int ordinal = 0; ordinal < counts.length; ordinal++) {
+                postings[ordinal] = new int[counts[ordinal]];
+                counts[ordinal] = 0;
+            }
+            for (int doc = 0; doc < values.length; doc++) {
+                if (values[doc] != MISSING) {
+                    postings[values[doc]][counts[values[doc]]++] = doc;
+                }
+            }
+            String[] names = new String[ordinals.size()];
+            ordinals.forEach((name, ordinal) -> names[ordinal] = name);
+            CompressedBitmap[] bitmaps = new CompressedBitmap[postings.length];
+            for (int ordinal = 0; ordinal < postings.length; ordinal++) {
+                bitmaps[ordinal] = CompressedBitmap.ofSorted(postings[ordinal], postings[ordinal].length);
+            }
+            return new Keyword(Map.copyOf(ordinals), names, values, postings, bitmaps);
+        }
+    }
+
+    private static final class IntBuffer {
+
+        private int[] values = new int[8];
+        private int size;
+
+        void set(int index, int value) {
+            set(index, value, 0);
+        }
+
+        void set(int index, int value, int fill) {
+            if (index >= values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, index + 1));
+            }
+            if (index >= size) {
+                Arrays.fill(values, size, index, fill);
+                size = index + 1;
+            }
+            values[index] = value;
+        }
+
+        int[] toArray(int length, int fill) {
+            int[] array = Arrays.copyOf(values, length);
+            if (size < length) {
+                Arrays.fill(array, size, length, fill);
+            }
+            return array;
+        }
+    }
+
+    private static final class DoubleBuffer {
+
+        private double[] values = new double[8];
+        private int size;
+
+        void set(int index, double value) {
+            if (index >= values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, index + 1));
+            }
+            if (index >= size) {
+                Arrays.fill(values, size, index, Double.NaN);
+                size = index + 1;
+            }
+            values[index] = value;
+        }
+
+        double[] toArray(int length) {
+            double[] array = Arrays.copyOf(values, length);
+            Arrays.fill(array, Math.min(size, length), length, Double.NaN);
+            return array;
+        }
+    }
+}
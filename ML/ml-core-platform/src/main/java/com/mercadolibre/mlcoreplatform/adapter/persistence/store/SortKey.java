@@ -0,0 +1,57 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import com.mercadolibre.mlcoreplatform.domain.core.exception.InvalidArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * Stable sort key for keyset pagination: creation date, then id to break ties.
+ * Records without a creation date ({@link Timestamps#NONE}) sort first. Cursors are the URL-safe
+ * Base64 form of a key, with the date written as an ISO local date-time.
+ */
+public record SortKey<I extends Comparable<? super I>>(long dateCreated, I id)
+        implements Comparable<SortKey<I>> {
+
+    private static final String SEPARATOR = "|";
+
+    @Override
+    public int compareTo(SortKey<I> other) {
+        int byDate = Long.compare(dateCreated, other.dateCreated);
+        if (byDate != 0) {
+            return byDate;
+        }
+        return Comparator.nullsFirst(Comparator.<I>naturalOrder()).compare(id, other.id);
+    }
+
+    public String encode() {
+        String raw = (dateCreated != Timestamps.NONE ? Timestamps.toLocalDateTime(dateCreated).toString() : "") + SEPARATOR + (id != null ? id : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode()}. A null or blank cursor means "from the start"
+     * and decodes to null.
+     */
+    public static <I extends Comparable<? super I>> SortKey<I> decode(String cursor, Function<String, I> idParser) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidArgumentException("Invalid cursor: " + cursor);
+            }
+            String date = raw.substring(0, separator);
+            String id = raw.substring(separator + 1);
+            return new SortKey<>(date.isEmpty() ? Timestamps.NONE : Timestamps.toEpochMillis(LocalDateTime.parse(date)), id.isEmpty() ? null : idParser.apply(id));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Typeahead phrases per site, each weighted by the sum of what its sources give it. Sources (product
+ * titles, category names, the most searched queries) replace their whole contribution when their
+ * data reloads or, for queries, on every {@link QueryTrends} merge, but only the phrases whose
+ * weight changed touch the tries, so a replace costs what changed rather than a rebuild.
+ * <p>
+ * Phrases match case- and accent-insensitively on their leading characters and come back as they
+ * were first written.
+ */
+@Component
+public class Suggestions {
+
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private final Map<String, SiteTrie> sites = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Map<String, Long>>> contributions = new HashMap<>();
+
+    /**
+     * Sets {@code source}'s weights to {@code phrases} (site to phrase to weight), dropping what it
+     * gave before to any phrase no longer listed.
+     */
+    public synchronized void replace(String source, Map<String, Map<String, Long>> phrases) {
+        Map<String, Map<String, Long>> previous = contributions.getOrDefault(source, Map.of());
+        Map<String, Map<String, Long>> current = new HashMap<>();
+        Set<String> siteIds = new HashSet<>(previous.keySet());
+        siteIds.addAll(phrases.keySet());
+        for (String siteId : siteIds) {
+            Map<String, String> displays = new HashMap<>();
+            Map<String, Long> weights = new HashMap<>();
+            phrases.getOrDefault(siteId, Map.of()).forEach((phrase, weight) -> {
+                String key = key(phrase);
+                if (!key.isEmpty() && weight > 0) {
+                    displays.putIfAbsent(key, display(phrase));
+                    weights.merge(key, weight, Long::sum);
+                }
+            });
+            Map<String, Long> before = previous.getOrDefault(siteId, Map.of());
+            SiteTrie trie = site(siteId);
+            trie.lock.writeLock().lock();
+            try {
+                weights.forEach((key, weight) -> trie.trie.add(key, displays.get(key), weight - before.getOrDefault(key, 0L)));
+                before.forEach((key, weight) -> {
+                    if (!weights.containsKey(key)) {
+                        trie.trie.add(key, null, -weight);
+                    }
+                });
+            } finally {
+                trie.lock.writeLock().unlock();
+            }
+            if (!weights.isEmpty()) {
+                current.put(siteId, weights);
+            }
+        }
+        contributions.put(source, current);
+    }
+
+    /**
+     * Up to {@code limit} phrases of the site starting with {@code prefix}, heaviest first.
+     */
+    public List<String> complete(String siteId, String prefix, int limit) {
+        SiteTrie trie = siteId == null ? null : sites.get(siteId);
+        if (trie == null || prefix == null) {
+            return List.of();
+        }
+        String key = SPACES.matcher(TextAnalyzer.fold(prefix)).replaceAll(" ").stripLeading();
+        trie.lock.readLock().lock();
+        try {
+            return trie.trie.complete(key, limit);
+        } finally {
+            trie.lock.readLock().unlock();
+        }
+    }
+
+    public int size(String siteId) {
+        SiteTrie trie = sites.get(siteId);
+        return trie == null ? 0 : trie.trie.size();
+    }
+
+    private SiteTrie site(String siteId) {
+        return sites.computeIfAbsent(siteId, ignored -> new SiteTrie());
+    }
+
+    static String key(String phrase) {
+        return phrase == null ? "" : SPACES.matcher(TextAnalyzer.fold(phrase)).replaceAll(" ").strip();
+    }
+
+    private static String display(String phrase) {
+        return SPACES.matcher(phrase).replaceAll(" ").strip();
+    }
+
+    private static final class SiteTrie {
+
+        private final TernaryTrie trie = new TernaryTrie();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    }
+}
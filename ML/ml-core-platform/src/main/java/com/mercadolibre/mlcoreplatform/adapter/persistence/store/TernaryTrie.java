@@ -0,0 +1,195 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Weighted ternary search trie answering "the k heaviest keys starting with this prefix". Every
+ * node keeps the largest weight found anywhere below it, so a completion is a best-first walk that
+ * only opens subtrees which can still beat what has been found: its cost depends on the prefix
+ * length and k, not on how many keys share the prefix.
+ * <p>
+ * Keys carry a display text, returned instead of the key. Not thread-safe.
+ */
+final class TernaryTrie {
+
+    private static final Comparator<Candidate> HEAVIEST_FIRST = Comparator
+            .comparingLong(Candidate::weight).reversed()
+            .thenComparing(candidate -> candidate.node != null)
+            .thenComparing(Candidate::text);
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code delta} to the weight of {@code key}, creating it with {@code display} when new.
+     * A key whose weight drops to zero or below is removed.
+     */
+    void add(String key, String display, long delta) {
+        if (key.isEmpty() || delta == 0) {
+            return;
+        }
+        List<Node> path = new ArrayList<>(key.length() * 2);
+        Node node = root;
+        Node parent = null;
+        Link link = null;
+        int index = 0;
+        while (true) {
+            char c = key.charAt(index);
+            if (node == null) {
+                if (delta < 0) {
+                    return;
+                }
+                node = new Node(c);
+                if (parent == null) {
+                    root = node;
+                } else {
+                    parent.attach(link, node);
+                }
+            }
+            path.add(node);
+            parent = node;
+            if (c < node.c) {
+                link = Link.LO;
+                node = node.lo;
+            } else if (c > node.c) {
+                link = Link.HI;
+                node = node.hi;
+            } else if (index < key.length() - 1) {
+                link = Link.EQ;
+                node = node.eq;
+                index++;
+            } else {
+                break;
+            }
+        }
+        Node terminal = path.get(path.size() - 1);
+        boolean existed = terminal.weight > 0;
+        terminal.weight = Math.max(0, terminal.weight + delta);
+        if (terminal.weight > 0) {
+            if (terminal.display == null) {
+                terminal.display = display;
+            }
+            size += existed ? 0 : 1;
+        } else {
+            terminal.display = null;
+            size -= existed ? 1 : 0;
+        }
+        for (int i = path.size() - 1; i >= 0; i--) {
+            path.get(i).refreshBest();
+        }
+    }
+
+    long weight(String key) {
+        Node node = find(key);
+        return node == null ? 0 : node.weight;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Display texts of the {@code limit} heaviest keys starting with {@code prefix}, heaviest first.
+     */
+    List<String> complete(String prefix, int limit) {
+        List<String> completions = new ArrayList<>(Math.min(limit, 16));
+        Node start = prefix.isEmpty() ? null : find(prefix);
+        if (start == null || limit <= 0) {
+            return completions;
+        }
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(HEAVIEST_FIRST);
+        if (start.weight > 0) {
+            queue.add(new Candidate(start.weight, prefix, start.display, null));
+        }
+        if (start.eq != null) {
+            queue.add(new Candidate(start.eq.best, prefix, null, start.eq));
+        }
+        while (!queue.isEmpty() && completions.size() < limit) {
+            Candidate next = queue.poll();
+            Node node = next.node;
+            if (node == null) {
+                completions.add(next.display);
+                continue;
+            }
+            String key = next.text + node.c;
+            if (node.weight > 0) {
+                queue.add(new Candidate(node.weight, key, node.display, null));
+            }
+            if (node.lo != null) {
+                queue.add(new Candidate(node.lo.best, next.text, null, node.lo));
+            }
+            if (node.hi != null) {
+                queue.add(new Candidate(node.hi.best, next.text, null, node.hi));
+            }
+            if (node.eq != null) {
+                queue.add(new Candidate(node.eq.best, key, null, node.eq));
+            }
+        }
+        return completions;
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        int index = 0;
+        while (node != null && !key.isEmpty()) {
+            char c = key.charAt(index);
+            if (c < node.c) {
+                node = node.lo;
+            } else if (c > node.c) {
+                node = node.hi;
+            } else if (index < key.length() - 1) {
+                node = node.eq;
+                index++;
+            } else {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private enum Link { LO, EQ, HI }
+
+    // A subtree still to open (node set, weight is its best) or a finished key (node null)
+    private record Candidate(long weight, String text, String display, Node node) {
+    }
+
+    private static final class Node {
+
+        private final char c;
+        private Node lo;
+        private Node eq;
+        private Node hi;
+        private long weight;
+        private long best;
+        private String display;
+
+        private Node(char c) {
+            this.c = c;
+        }
+
+        private void attach(Link link, Node child) {
+            switch (link) {
+                case LO -> lo = child;
+                case EQ -> eq = child;
+                case HI -> hi = child;
+            }
+        }
+
+        private void refreshBest() {
+            long max = weight;
+            if (lo != null) {
+                max = Math.max(max, lo.best);
+            }
+            if (eq != null) {
+                max = Math.max(max, eq.best);
+            }
+            if (hi != null) {
+                max = Math.max(max, hi.best);
+            }
+            best = max;
+        }
+    }
+}
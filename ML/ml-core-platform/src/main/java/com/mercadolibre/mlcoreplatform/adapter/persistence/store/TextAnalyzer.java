@@ -0,0 +1,94 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Turns listing text and search queries into index terms for the Spanish and Portuguese sites:
+ * lower-cased, accents folded, common stopwords dropped and plurals and gender endings trimmed by
+ * a light stemmer, so "Teléfonos celulares" and "telefono celular" meet on the same terms.
+ * Tokens with digits ("256gb", "s23") are kept whole.
+ */
+public final class TextAnalyzer {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MIN_STEM_LENGTH = 5;
+
+    // Spanish and Portuguese function words, already folded
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "al", "algo", "ante", "antes", "ao", "aos", "as", "como", "con", "contra", "cual", "cuando",
+            "da", "das", "de", "del", "desde", "do", "donde", "dos", "e", "el", "em", "en", "entre", "es", "esa",
+            "ese", "eso", "esta", "este", "esto", "hasta", "la", "las", "le", "les", "lo", "los", "mas", "muy",
+            "na", "nas", "ni", "no", "nos", "o", "os", "ou", "para", "pela", "pelo", "pero", "por", "que", "se",
+            "si", "sin", "sobre", "su", "sus", "um", "uma", "umas", "un", "una", "unas", "uno", "unos", "uns", "y");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Index terms of a text in order, repeated as often as they occur. Empty for null or blank text.
+     */
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        for (String token : SEPARATORS.split(fold(text))) {
+            if (!token.isEmpty() && !STOPWORDS.contains(token)) {
+                terms.add(stem(token));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Lower-cases and strips accents, keeping everything else as is.
+     */
+    public static String fold(String text) {
+        String decomposed = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("");
+    }
+
+    // Light plural and gender stemming in the spirit of Lucene's SpanishLightStemmer, plus -oes -> -ao
+    static String stem(String token) {
+        int length = token.length();
+        if (length < MIN_STEM_LENGTH || !isAlphabetic(token)) {
+            return token;
+        }
+        if (token.endsWith("oes")) {
+            return token.substring(0, length - 3) + "ao";
+        }
+        switch (token.charAt(length - 1)) {
+            case 'o', 'a', 'e':
+                return token.substring(0, length - 1);
+            case 's':
+                if (token.endsWith("eses")) {
+                    return token.substring(0, length - 2);
+                }
+                if (token.endsWith("ces")) {
+                    return token.substring(0, length - 3) + "z";
+                }
+                char beforeS = token.charAt(length - 2);
+                if (beforeS == 'o' || beforeS == 'a' || beforeS == 'e') {
+                    return token.substring(0, length - 2);
+                }
+                return token;
+            default:
+                return token;
+        }
+    }
+
+    private static boolean isAlphabetic(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (!Character.isLetter(token.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
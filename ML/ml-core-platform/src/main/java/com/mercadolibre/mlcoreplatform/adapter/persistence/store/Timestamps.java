@@ -0,0 +1,81 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Timestamps of a data file, parsed once while it is loaded into epoch milliseconds and turned back
+ * into {@link LocalDateTime} only when a response is built. As before, an offset in the source is
+ * dropped and the local date-time kept, so the millis are that local date-time read as UTC.
+ * <p>
+ * {@link #NONE} stands for a missing or unreadable value. It is also the default of an unset
+ * {@code long} builder field; the epoch itself reads as missing, which no record in these files is.
+ * Unreadable values are counted per load and reported by {@link #report()} instead of failing
+ * every request that touches them.
+ */
+@Slf4j
+public final class Timestamps {
+
+    public static final long NONE = 0L;
+
+    private static final int SAMPLES = 3;
+
+    private final String source;
+    private final List<String> samples = new ArrayList<>();
+    private int malformed;
+
+    public Timestamps(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Epoch millis of an ISO date-time, or {@link #NONE} when it is null, blank or malformed.
+     */
+    public synchronized long parse(String value) {
+        if (value == null || value.isBlank()) {
+            return NONE;
+        }
+        try {
+            return toEpochMillis(LocalDateTime.parse(value, DateTimeFormatter.ISO_DATE_TIME));
+        } catch (DateTimeParseException e) {
+            if (samples.size() < SAMPLES) {
+                samples.add(value);
+            }
+            malformed++;
+            return NONE;
+        }
+    }
+
+    public synchronized int malformed() {
+        return malformed;
+    }
+
+    /**
+     * Logs the malformed values seen since the last report and starts counting again. Returns how
+     * many there were.
+     */
+    public synchronized int report() {
+        int count = malformed;
+        if (count > 0) {
+            log.warn("{} malformed timestamps in {}, read as missing, e.g. {}", count, source, samples);
+        }
+        malformed = 0;
+        samples.clear();
+        return count;
+    }
+
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? NONE : dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochMillis) {
+        return epochMillis == NONE ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,247 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable forest of ids laid out as an Euler tour: every node owns the interval
+ * {@code [enter, exit)} of pre-order positions covering itself and all of its descendants.
+ * "Is X under Y" is then two comparisons, and the descendants of X are the slice of the tour
+ * inside its interval, so both cost O(1) and O(k) however deep or wide the tree is.
+ * <p>
+ * Nodes may carry a value (the record they were built from); nodes only known through an edge
+ * have none. Values come back in the order they were added, not in tour order.
+ */
+public final class TreeIndex<V> {
+
+    private static final int NO_PARENT = -1;
+
+    private final Map<String, Integer> nodes;
+    private final String[] ids;
+    private final List<V> values;
+    private final int[] valueOrder;
+    private final int[] parent;
+    private final int[][] children;
+    private final int[] enter;
+    private final int[] exit;
+    private final int[] tour;
+
+    private TreeIndex(Builder<V> builder) {
+        int size = builder.nodes.size();
+        this.nodes = Map.copyOf(builder.nodes);
+        this.ids = builder.ids.toArray(new String[0]);
+        this.values = new ArrayList<>(builder.values);
+        this.valueOrder = Arrays.copyOf(builder.valueOrder, size);
+        this.parent = Arrays.copyOf(builder.parent, size);
+        this.children = new int[size][];
+        for (int node = 0; node < size; node++) {
+            List<Integer> list = builder.children.getOrDefault(node, List.of());
+            children[node] = list.stream().mapToInt(Integer::intValue).toArray();
+        }
+        this.enter = new int[size];
+        this.exit = new int[size];
+        this.tour = new int[size];
+        Arrays.fill(enter, -1);
+        int position = 0;
+        for (int node = 0; node < size; node++) {
+            if (parent[node] == NO_PARENT) {
+                position = walk(node, position);
+            }
+        }
+        // Whatever is left hangs off a cycle; cut it at the first node reached and walk from there
+        for (int node = 0; node < size; node++) {
+            if (enter[node] < 0) {
+                int cut = node;
+                children[parent[node]] = Arrays.stream(children[parent[node]]).filter(child -> child != cut).toArray();
+                parent[node] = NO_PARENT;
+                position = walk(node, position);
+            }
+        }
+    }
+
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    public static <V> TreeIndex<V> empty() {
+        return new Builder<V>().build();
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean contains(String id) {
+        return id != null && nodes.containsKey(id);
+    }
+
+    public Optional<V> value(String id) {
+        Integer node = nodeOf(id);
+        return node == null || valueOrder[node] < 0 ? Optional.empty() : Optional.of(values.get(valueOrder[node]));
+    }
+
+    public Optional<String> parentOf(String id) {
+        Integer node = nodeOf(id);
+        return node == null || parent[node] == NO_PARENT ? Optional.empty() : Optional.of(ids[parent[node]]);
+    }
+
+    /**
+     * Direct children, in the order their edges were added.
+     */
+    public List<String> children(String id) {
+        Integer node = nodeOf(id);
+        if (node == null) {
+            return List.of();
+        }
+        return Arrays.stream(children[node]).mapToObj(child -> ids[child]).toList();
+    }
+
+    /**
+     * The node and all of its descendants, in tour (pre-order) order. Empty for an unknown id.
+     */
+    public List<String> subtree(String id) {
+        Integer node = nodeOf(id);
+        if (node == null) {
+            return List.of();
+        }
+        List<String> subtree = new ArrayList<>(exit[node] - enter[node]);
+        for (int position = enter[node]; position < exit[node]; position++) {
+            subtree.add(ids[tour[position]]);
+        }
+        return Collections.unmodifiableList(subtree);
+    }
+
+    /**
+     * Values of the strict descendants of a node, in the order they were added.
+     */
+    public List<V> descendantValues(String id) {
+        Integer node = nodeOf(id);
+        if (node == null) {
+            return List.of();
+        }
+        int[] order = new int[exit[node] - enter[node] - 1];
+        int count = 0;
+        for (int position = enter[node] + 1; position < exit[node]; position++) {
+            int value = valueOrder[tour[position]];
+            if (value >= 0) {
+                order[count++] = value;
+            }
+        }
+        Arrays.sort(order, 0, count);
+        List<V> descendants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            descendants.add(values.get(order[i]));
+        }
+        return Collections.unmodifiableList(descendants);
+    }
+
+    /**
+     * True when {@code id} is {@code ancestorId} itself or lies anywhere below it.
+     */
+    public boolean isInSubtree(String id, String ancestorId) {
+        Integer node = nodeOf(id);
+        Integer ancestor = nodeOf(ancestorId);
+        return node != null && ancestor != null
+                && enter[ancestor] <= enter[node] && enter[node] < exit[ancestor];
+    }
+
+    private Integer nodeOf(String id) {
+        return id == null ? null : nodes.get(id);
+    }
+
+    // Iterative pre-order walk, so a deep tree cannot overflow the stack
+    private int walk(int root, int position) {
+        Deque<int[]> stack = new ArrayDeque<>();
+        enter[root] = position;
+        tour[position++] = root;
+        stack.push(new int[] {root, 0});
+        while (!stack.isEmpty()) {
+            int[] frame = stack.peek();
+            int node = frame[0];
+            if (frame[1] < children[node].length) {
+                int child = children[node][frame[1]++];
+                enter[child] = position;
+                tour[position++] = child;
+                stack.push(new int[] {child, 0});
+            } else {
+                exit[node] = position;
+                stack.pop();
+            }
+        }
+        return position;
+    }
+
+    public static final class Builder<V> {
+
+        private final Map<String, Integer> nodes = new HashMap<>();
+        private final List<String> ids = new ArrayList<>();
+        private final List<V> values = new ArrayList<>();
+        private final Map<Integer, List<Integer>> children = new LinkedHashMap<>();
+        private int[] valueOrder = new int[16];
+        private int[] parent = new int[16];
+
+        private Builder() {
+        }
+
+        /**
+         * Attaches a value to {@code id}. A later value for the same id replaces the earlier one
+         * but keeps its position.
+         */
+        public Builder<V> node(String id, V value) {
+            int node = intern(id);
+            if (valueOrder[node] >= 0) {
+                values.set(valueOrder[node], value);
+            } else {
+                valueOrder[node] = values.size();
+                values.add(value);
+            }
+            return this;
+        }
+
+        /**
+         * Declares {@code child} under {@code parent}. The first parent declared for a node wins;
+         * later conflicting edges and self-edges are ignored.
+         */
+        public Builder<V> edge(String parentId, String childId) {
+            if (parentId == null || childId == null || parentId.equals(childId)) {
+                return this;
+            }
+            int parentNode = intern(parentId);
+            int childNode = intern(childId);
+            if (parent[childNode] == NO_PARENT) {
+                parent[childNode] = parentNode;
+                children.computeIfAbsent(parentNode, ignored -> new ArrayList<>()).add(childNode);
+            }
+            return this;
+        }
+
+        public TreeIndex<V> build() {
+            return new TreeIndex<>(this);
+        }
+
+        private int intern(String id) {
+            Integer existing = nodes.get(id);
+            if (existing != null) {
+                return existing;
+            }
+            int node = ids.size();
+            if (node == parent.length) {
+                parent = Arrays.copyOf(parent, node * 2);
+                valueOrder = Arrays.copyOf(valueOrder, node * 2);
+            }
+            parent[node] = NO_PARENT;
+            valueOrder[node] = -1;
+            nodes.put(id, node);
+            ids.add(id);
+            return node;
+        }
+    }
+}
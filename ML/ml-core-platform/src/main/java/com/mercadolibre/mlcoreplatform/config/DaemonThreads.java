@@ -0,0 +1,26 @@
+package com.mercadolibre.mlcoreplatform.config;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread factories for the application's own pools. Their threads are daemons, so a pool that was
+ * not shut down never keeps the JVM alive, and are numbered after the pool's name.
+ */
+public final class DaemonThreads {
+
+    private DaemonThreads() {
+    }
+
+    /**
+     * A factory of daemon threads named {@code name-1}, {@code name-2}, ...
+     */
+    public static ThreadFactory named(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
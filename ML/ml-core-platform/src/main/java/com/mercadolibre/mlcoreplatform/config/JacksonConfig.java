@@ -0,0 +1,76 @@
+package com.mercadolibre.mlcoreplatform.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.OrderRequest;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.PaymentRequest;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.ProductSearchRequest;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.QuestionRequest;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.UserSearchRequest;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.CategoryResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.OrderResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.PaymentMethodResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductDescriptionResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.QuestionResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ShippingOptionsResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.UserResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Spring Boot's auto-configured ObjectMapper is the only mapper in the application: the persistence
+ * adapters parse with it and the MVC converter writes responses with writers prepared from it.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public JsonCodecs jsonCodecs(ObjectMapper objectMapper) {
+        return new JsonCodecs(objectMapper)
+                .prepareWriters(ProductResponse.class, ProductDescriptionResponse.class, ShippingOptionsResponse.class,
+                        OrderResponse.class, QuestionResponse.class, UserResponse.class, CategoryResponse.class,
+                        PaymentMethodResponse.class)
+                .prepareReaders(OrderRequest.class, PaymentRequest.class, ProductSearchRequest.class,
+                        QuestionRequest.class, UserSearchRequest.class);
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(JsonCodecs jsonCodecs) {
+        return new PreparedCodecsHttpMessageConverter(jsonCodecs);
+    }
+
+    /**
+     * Uses the prepared reader/writer when the converter would otherwise resolve the same type on
+     * the shared mapper, and the projection writer for a body marked with {@link JsonCodecs.Projection}.
+     * Requests with any other JSON view or filters keep the converter's own writer.
+     */
+    static final class PreparedCodecsHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+        private final JsonCodecs jsonCodecs;
+
+        PreparedCodecsHttpMessageConverter(JsonCodecs jsonCodecs) {
+            super(jsonCodecs.objectMapper());
+            this.jsonCodecs = jsonCodecs;
+        }
+
+        @Override
+        protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType contentType) {
+            if (writer.getConfig().getActiveView() == JsonCodecs.Projection.class) {
+                return jsonCodecs.projectionWriterFor(javaType);
+            }
+            ObjectWriter prepared = jsonCodecs.writerFor(javaType);
+            return prepared != null && writer.getConfig() == prepared.getConfig() ? prepared : writer;
+        }
+
+        @Override
+        protected ObjectReader customizeReader(ObjectReader reader, JavaType javaType) {
+            ObjectReader prepared = jsonCodecs.readerFor(javaType);
+            return prepared != null && reader.getConfig() == prepared.getConfig() ? prepared : reader;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.mercadolibre.mlcoreplatform.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The application's single Jackson configuration, with readers and writers resolved once per type.
+ * A prepared writer has its root serializer already looked up, so it skips the per-call type
+ * resolution {@code objectMapper.writeValue} does.
+ * <p>
+ * Projected responses (a client selected fields with {@code attributes=}) are written by a copy of
+ * the mapper that leaves null fields out, so what was not selected is absent rather than null; every
+ * other response keeps the mapper's own inclusion.
+ */
+public final class JsonCodecs {
+
+    /**
+     * JSON view marking a body as a projection; the MVC converter writes it with
+     * {@link #projectionWriterFor} instead of applying it as a view.
+     */
+    public interface Projection {
+    }
+
+    private static final TypeReference<Map<String, Object>> RECORD = new TypeReference<>() {};
+
+    private static volatile JsonCodecs standalone;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper projectionMapper;
+    private final ObjectReader recordReader;
+    private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<JavaType, ObjectWriter> projectionWriters = new ConcurrentHashMap<>();
+    private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public JsonCodecs(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.projectionMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.recordReader = objectMapper.readerFor(RECORD);
+    }
+
+    /**
+     * Shared instance for code running outside the Spring context, configured like Spring Boot's
+     * default mapper.
+     */
+    public static JsonCodecs standalone() {
+        JsonCodecs codecs = standalone;
+        if (codecs == null) {
+            synchronized (JsonCodecs.class) {
+                codecs = standalone;
+                if (codecs == null) {
+                    codecs = new JsonCodecs(Jackson2ObjectMapperBuilder.json()
+                            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                                    SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                            .build());
+                    standalone = codecs;
+                }
+            }
+        }
+        return codecs;
+    }
+
+    public ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Reader for one raw data-file record as a map.
+     */
+    public ObjectReader recordReader() {
+        return recordReader;
+    }
+
+    /**
+     * Prepares writers, plain and projected, for each type and for lists of it, as controllers return
+     * both.
+     */
+    public JsonCodecs prepareWriters(Class<?>... types) {
+        for (Class<?> type : types) {
+            JavaType single = objectMapper.constructType(type);
+            JavaType list = objectMapper.getTypeFactory().constructCollectionType(List.class, type);
+            writers.put(single, objectMapper.writerFor(single));
+            writers.put(list, objectMapper.writerFor(list));
+            projectionWriters.put(single, projectionMapper.writerFor(single));
+            projectionWriters.put(list, projectionMapper.writerFor(list));
+        }
+        return this;
+    }
+
+    public JsonCodecs prepareReaders(Class<?>... types) {
+        for (Class<?> type : types) {
+            JavaType single = objectMapper.constructType(type);
+            readers.put(single, objectMapper.readerFor(single));
+        }
+        return this;
+    }
+
+    /**
+     * Prepared writer for {@code type}, or null when the type was not prepared.
+     */
+    public ObjectWriter writerFor(JavaType type) {
+        return type == null ? null : writers.get(type);
+    }
+
+    /**
+     * Writer for a projection of {@code type}, leaving null fields out; prepared when the type was.
+     */
+    public ObjectWriter projectionWriterFor(JavaType type) {
+        if (type == null) {
+            return projectionMapper.writer();
+        }
+        ObjectWriter prepared = projectionWriters.get(type);
+        return prepared != null ? prepared : projectionMapper.writerFor(type);
+    }
+
+    /**
+     * Prepared reader for {@code type}, or null when the type was not prepared.
+     */
+    public ObjectReader readerFor(JavaType type) {
+        return type == null ? null : readers.get(type);
+    }
+}
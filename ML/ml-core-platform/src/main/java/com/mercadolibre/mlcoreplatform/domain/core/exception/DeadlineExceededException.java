@@ -0,0 +1,32 @@
+package com.mercadolibre.mlcoreplatform.domain.core.exception;
+
+/**
+ * What was looked up by id did not arrive before the request's deadline. It says nothing about
+ * whether it exists, so the REST layer answers it with a 504 the client may retry.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String resource;
+    private final String id;
+
+    public DeadlineExceededException(String resource, String id) {
+        super(null, null, false, false);
+        this.resource = resource;
+        this.id = id;
+    }
+
+    public String getResource() {
+        return resource;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String getMessage() {
+        return resource + " not available in time with id: " + id;
+    }
+}
@@ -0,0 +1,16 @@
+package com.mercadolibre.mlcoreplatform.domain.core.exception;
+
+/**
+ * A request argument the domain or a store can't serve: a malformed cursor, a limit or offset out
+ * of range, an unknown sort, too many ids. The message is written for the client and names only
+ * what it sent, as the REST layer answers it with a 400 that carries it. Any other
+ * {@link IllegalArgumentException} is a bug here, not the client's to fix.
+ */
+public class InvalidArgumentException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidArgumentException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,33 @@
+package com.mercadolibre.mlcoreplatform.domain.core.exception;
+
+/**
+ * What was looked up by id does not exist. That is an expected outcome (stale ids, scrapers, bots),
+ * not a failure: it captures no stack trace and builds no message until one is asked for, so it
+ * costs as much as any small object. The REST layer answers it with a 404.
+ */
+public class NotFoundException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String resource;
+    private final String id;
+
+    public NotFoundException(String resource, String id) {
+        super(null, null, false, false);
+        this.resource = resource;
+        this.id = id;
+    }
+
+    public String getResource() {
+        return resource;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String getMessage() {
+        return resource + " not found with id: " + id;
+    }
+}
@@ -1,7 +1,9 @@
 package com.mercadolibre.mlcoreplatform.domain.core.service;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.CategoryDto;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.NotFoundException;
 import com.mercadolibre.mlcoreplatform.domain.port.in.CategoryUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Versioned;
 import com.mercadolibre.mlcoreplatform.domain.port.out.CategoryApiPort;
 import com.mercadolibre.mlcoreplatform.domain.port.out.CategoryPersistencePort;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.CategoryResponse;
@@ -29,7 +31,17 @@ public class CategoryService implements CategoryUseCase {
     public CategoryResponse getCategoryById(String categoryId) {
         return categoryPersistencePort.findById(categoryId)
                 .map(this::mapToResponse)
-                .orElseThrow(() -> new RuntimeException("Category not found with id: " + categoryId));
+                .orElseThrow(() -> new NotFoundException("Category", categoryId));
+    }
+    
+    // Las categorías no tienen fecha de actualización: la versión es la de los datos de categorías,
+    // leída antes que la categoría
+    @Override
+    public Versioned<CategoryResponse> getVersionedCategory(String categoryId) {
+        long version = categoryPersistencePort.version();
+        CategoryDto category = categoryPersistencePort.findById(categoryId)
+                .orElseThrow(() -> new NotFoundException("Category", categoryId));
+        return new Versioned<>(version, Versioned.NO_DATE, () -> mapToResponse(category));
     }
     
     @Override
@@ -0,0 +1,34 @@
+package com.mercadolibre.mlcoreplatform.domain.core.service;
+
+import java.util.Optional;
+
+// Ids numéricos que llegan como texto en la URL
+final class Ids {
+
+    private Ids() {
+    }
+
+    // Los ids de usuarios y preguntas son numéricos; cualquier otro valor no puede existir.
+    // Se leen a mano, como Long.parseLong, para que un id no numérico no cueste una excepción
+    static Optional<Long> numeric(String id) {
+        if (id == null || id.isEmpty()) {
+            return Optional.empty();
+        }
+        boolean negative = id.charAt(0) == '-';
+        int start = negative || id.charAt(0) == '+' ? 1 : 0;
+        if (start == id.length()) {
+            return Optional.empty();
+        }
+        // Se acumula en negativo, que llega hasta Long.MIN_VALUE
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+        for (int i = start; i < id.length(); i++) {
+            int digit = id.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || value < (limit + digit) / 10) {
+                return Optional.empty();
+            }
+            value = value * 10 - digit;
+        }
+        return Optional.of(negative ? value : -value);
+    }
+}
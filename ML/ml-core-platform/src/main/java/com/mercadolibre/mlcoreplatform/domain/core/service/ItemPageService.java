@@ -0,0 +1,231 @@
+package com.mercadolibre.mlcoreplatform.domain.core.service;
+
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ReviewDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ShippingDto;
+import com.mercadolibre.mlcoreplatform.config.DaemonThreads;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.DeadlineExceededException;
+import com.mercadolibre.mlcoreplatform.domain.port.in.CategoryUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.ItemPageUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.PaymentUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.ProductUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.QuestionUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.UserUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
+import com.mercadolibre.mlcoreplatform.domain.port.out.ReviewPersistencePort;
+import com.mercadolibre.mlcoreplatform.domain.port.out.ShippingPersistencePort;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.CategoryResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ItemPageResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ItemPageResponse.PartStatus;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ItemPageSection;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.PaymentMethodResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.QuestionResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.UserResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class ItemPageService implements ItemPageUseCase, DisposableBean {
+    
+    static final int QUESTIONS_PER_PAGE = 10;
+    // Los campos de siempre y el sitio, del que salen los medios de pago
+    static final Fields ITEM_FIELDS = Fields.DEFAULT.with("siteId");
+    
+    static final String ITEM = "item";
+    static final String SELLER = "seller";
+    static final String PAYMENT_METHODS = "payment_methods";
+    static final String QUESTIONS = "questions";
+    static final String REVIEWS = "reviews";
+    static final String SHIPPING = "shipping";
+    static final String NAVIGATION = "navigation";
+    
+    private final ProductUseCase productUseCase;
+    private final UserUseCase userUseCase;
+    private final QuestionUseCase questionUseCase;
+    private final PaymentUseCase paymentUseCase;
+    private final CategoryUseCase categoryUseCase;
+    private final ReviewPersistencePort reviewPersistencePort;
+    private final ShippingPersistencePort shippingPersistencePort;
+    private final ExecutorService executor;
+    private final long deadlineNanos;
+    
+    @Autowired
+    public ItemPageService(ProductUseCase productUseCase, UserUseCase userUseCase, QuestionUseCase questionUseCase,
+                           PaymentUseCase paymentUseCase, CategoryUseCase categoryUseCase,
+                           ReviewPersistencePort reviewPersistencePort, ShippingPersistencePort shippingPersistencePort,
+                           @Value("${ml.item-page.threads:16}") int threads,
+                           @Value("${ml.item-page.deadline:PT0.3S}") Duration deadline) {
+        this(productUseCase, userUseCase, questionUseCase, paymentUseCase, categoryUseCase, reviewPersistencePort,
+                shippingPersistencePort, Executors.newFixedThreadPool(threads, DaemonThreads.named("item-page")), deadline);
+    }
+    
+    ItemPageService(ProductUseCase productUseCase, UserUseCase userUseCase, QuestionUseCase questionUseCase,
+                    PaymentUseCase paymentUseCase, CategoryUseCase categoryUseCase,
+                    ReviewPersistencePort reviewPersistencePort, ShippingPersistencePort shippingPersistencePort,
+                    ExecutorService executor, Duration deadline) {
+        this.productUseCase = productUseCase;
+        this.userUseCase = userUseCase;
+        this.questionUseCase = questionUseCase;
+        this.paymentUseCase = paymentUseCase;
+        this.categoryUseCase = categoryUseCase;
+        this.reviewPersistencePort = reviewPersistencePort;
+        this.shippingPersistencePort = shippingPersistencePort;
+        this.executor = executor;
+        this.deadlineNanos = deadline.toNanos();
+    }
+    
+    @Override
+    public ItemPageResponse getItemPage(String itemId) {
+        Sections sections = fanOut(itemId, section -> {
+        });
+        sections.all().join();
+        Part<ProductResponse> product = sections.item().join();
+        // Sin producto no hay página: un id inexistente falla igual que en /api/items/{id}, y un
+        // producto que no llegó a tiempo es un 504, no una página sin ítem
+        if (product.failure() != null) {
+            throw product.failure();
+        }
+        if (product.value() == null) {
+            throw new DeadlineExceededException("Product", itemId);
+        }
+        Map<String, PartStatus> parts = new LinkedHashMap<>();
+        sections.parts().forEach(part -> parts.put(part.join().name(), part.join().status()));
+        return ItemPageResponse.builder()
+                .item(product.value())
+                .seller(sections.seller().join().value())
+                .paymentMethods(sections.paymentMethods().join().value())
+                .questions(sections.questions().join().value())
+                .reviews(sections.reviews().join().value())
+                .shippingOptions(sections.shipping().join().value())
+                .navigation(sections.navigation().join().value())
+                .parts(parts)
+                .build();
+    }
+    
+    // Cada sección se entrega apenas termina, en el hilo que la completó; nadie espera a las demás
+    @Override
+    public CompletableFuture<Void> streamItemPage(String itemId, Consumer<ItemPageSection> listener) {
+        return fanOut(itemId, listener).all();
+    }
+    
+    // Las partes que solo necesitan el id arrancan junto con el producto; vendedor, medios de pago
+    // y navegación arrancan cuando llega el producto. Todas comparten el plazo de la página: las que
+    // arrancan tarde tienen lo que queda, y las que no llegan se cancelan y se omiten
+    private Sections fanOut(String itemId, Consumer<ItemPageSection> listener) {
+        long deadline = System.nanoTime() + deadlineNanos;
+        CompletableFuture<Part<ProductResponse>> item = start(ITEM, deadline,
+                () -> productUseCase.getProductById(itemId, ITEM_FIELDS), listener);
+        CompletableFuture<Part<List<QuestionResponse>>> questions = start(QUESTIONS, deadline,
+                () -> questionUseCase.getQuestionsByItem(itemId, 0, QUESTIONS_PER_PAGE), listener);
+        CompletableFuture<Part<ReviewDto>> reviews = start(REVIEWS, deadline,
+                () -> reviewPersistencePort.findByItemId(itemId).orElse(null), listener);
+        CompletableFuture<Part<List<ShippingDto>>> shipping = start(SHIPPING, deadline,
+                () -> shippingPersistencePort.findByItemId(itemId), listener);
+        CompletableFuture<Part<UserResponse>> seller = item.thenCompose(product -> product.value() == null || product.value().sellerId() == null
+                ? skipped(SELLER, listener)
+                : start(SELLER, deadline, () -> userUseCase.getUserById(product.value().sellerId(), Fields.DEFAULT), listener));
+        CompletableFuture<Part<List<PaymentMethodResponse>>> paymentMethods = item.thenCompose(product -> product.value() == null || product.value().siteId() == null
+                ? skipped(PAYMENT_METHODS, listener)
+                : start(PAYMENT_METHODS, deadline, () -> paymentUseCase.getPaymentMethodsBySite(product.value().siteId()), listener));
+        CompletableFuture<Part<List<CategoryResponse.PathFromRootResponse>>> navigation = item.thenCompose(product -> product.value() == null || product.value().categoryId() == null
+                ? skipped(NAVIGATION, listener)
+                : start(NAVIGATION, deadline, () -> categoryUseCase.getCategoryById(product.value().categoryId()).pathFromRoot(), listener));
+        return new Sections(item, seller, paymentMethods, questions, reviews, shipping, navigation);
+    }
+    
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+    
+    // Al vencerse el plazo la tarea se cancela: si no arrancó sale de la cola y si corre se interrumpe,
+    // así una parte que ya no se espera no sigue ocupando el pool
+    private <T> CompletableFuture<Part<T>> start(String name, long deadline, Supplier<T> loader, Consumer<ItemPageSection> listener) {
+        long start = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        if (deadline - start <= 0) {
+            result.completeExceptionally(new TimeoutException());
+        } else {
+            Future<?> task = executor.submit(() -> {
+                try {
+                    result.complete(loader.get());
+                } catch (RuntimeException | Error e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            result.orTimeout(deadline - start, TimeUnit.NANOSECONDS).whenComplete((value, error) -> {
+                if (error instanceof TimeoutException) {
+                    task.cancel(true);
+                }
+            });
+        }
+        return result.handle((value, error) -> notify(listener, Part.of(name, value, error, System.nanoTime() - start)));
+    }
+    
+    private static <T> CompletableFuture<Part<T>> skipped(String name, Consumer<ItemPageSection> listener) {
+        return CompletableFuture.completedFuture(notify(listener, new Part<>(name, null, null, new PartStatus("skipped", 0, null))));
+    }
+    
+    // A failing listener (a client that went away) must not keep the other parts from finishing
+    private static <T> Part<T> notify(Consumer<ItemPageSection> listener, Part<T> part) {
+        try {
+            listener.accept(new ItemPageSection(part.name(), part.status(), part.value()));
+        } catch (RuntimeException e) {
+            log.debug("Item page listener failed on part {}", part.name(), e);
+        }
+        return part;
+    }
+    
+    private record Sections(CompletableFuture<Part<ProductResponse>> item,
+                            CompletableFuture<Part<UserResponse>> seller,
+                            CompletableFuture<Part<List<PaymentMethodResponse>>> paymentMethods,
+                            CompletableFuture<Part<List<QuestionResponse>>> questions,
+                            CompletableFuture<Part<ReviewDto>> reviews,
+                            CompletableFuture<Part<List<ShippingDto>>> shipping,
+                            CompletableFuture<Part<List<CategoryResponse.PathFromRootResponse>>> navigation) {
+        
+        List<CompletableFuture<? extends Part<?>>> parts() {
+            return List.of(item, seller, paymentMethods, questions, reviews, shipping, navigation);
+        }
+        
+        CompletableFuture<Void> all() {
+            return CompletableFuture.allOf(item, seller, paymentMethods, questions, reviews, shipping, navigation);
+        }
+    }
+    
+    // A finished part: its value, or null with the failure (timeouts have none) and the status saying why
+    private record Part<T>(String name, T value, RuntimeException failure, PartStatus status) {
+        
+        static <T> Part<T> of(String name, T value, Throwable error, long nanos) {
+            double latencyMillis = nanos / 1_000_000.0;
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause == null) {
+                return new Part<>(name, value, null, new PartStatus("ok", latencyMillis, null));
+            }
+            if (cause instanceof TimeoutException) {
+                log.warn("Item page part {} missed its deadline after {} ms", name, latencyMillis);
+                return new Part<>(name, null, null, new PartStatus("timeout", latencyMillis, null));
+            }
+            RuntimeException failure = cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+            return new Part<>(name, null, failure, new PartStatus("error", latencyMillis, cause.getMessage()));
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.mercadolibre.mlcoreplatform.domain.core.service;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.PurchaseDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.NotFoundException;
 import com.mercadolibre.mlcoreplatform.domain.port.in.OrderUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
 import com.mercadolibre.mlcoreplatform.domain.port.out.OrderApiPort;
 import com.mercadolibre.mlcoreplatform.domain.port.out.PurchasePersistencePort;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.OrderRequest;
@@ -9,6 +13,7 @@ import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.OrderRespon
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @Service
@@ -19,23 +24,27 @@ public class OrderService implements OrderUseCase {
     private final OrderApiPort orderApiPort;
     
     @Override
-    public List<OrderResponse> getAllOrders(int offset, int limit) {
-        List<PurchaseDto> purchases = purchasePersistencePort.findAll();
-        return purchases.stream()
-                .skip(offset)
-                .limit(limit)
-                .map(this::mapToOrderResponse)
+    public List<OrderResponse> getAllOrders(int offset, int limit, Fields fields) {
+        return purchasePersistencePort.findAll(offset, limit).stream()
+                .map(purchase -> mapToOrderResponse(purchase, fields))
                 .toList();
     }
     
     @Override
-    public OrderResponse getOrderById(String orderId) {
-        List<PurchaseDto> purchases = purchasePersistencePort.findAll();
-        return purchases.stream()
-                .filter(p -> p.id().equals(orderId))
-                .findFirst()
-                .map(this::mapToOrderResponse)
-                .orElseThrow(() -> new RuntimeException("Order not found with id: " + orderId));
+    public long countOrders() {
+        return purchasePersistencePort.count();
+    }
+    
+    @Override
+    public CursorPage<OrderResponse> getOrdersAfter(String cursor, int limit, Fields fields) {
+        return purchasePersistencePort.findAllAfter(cursor, limit).map(purchase -> mapToOrderResponse(purchase, fields));
+    }
+    
+    @Override
+    public OrderResponse getOrderById(String orderId, Fields fields) {
+        return purchasePersistencePort.findById(orderId)
+                .map(purchase -> mapToOrderResponse(purchase, fields))
+                .orElseThrow(() -> new NotFoundException("Order", orderId));
     }
     
     @Override
@@ -48,25 +57,98 @@ public class OrderService implements OrderUseCase {
         return orderApiPort.updateOrderStatus(orderId, status);
     }
     
+    // Un id que no es numérico no puede ser de ningún comprador: no tiene órdenes
     @Override
-    public List<OrderResponse> getOrdersByUser(String userId, int offset, int limit) {
-        List<PurchaseDto> purchases = purchasePersistencePort.findByBuyerId(Long.parseLong(userId));
-        return purchases.stream()
-                .skip(offset)
-                .limit(limit)
-                .map(this::mapToOrderResponse)
-                .toList();
+    public List<OrderResponse> getOrdersByUser(String userId, int offset, int limit, Fields fields) {
+        return Ids.numeric(userId)
+                .map(buyerId -> purchasePersistencePort.findByBuyerId(buyerId, offset, limit).stream()
+                        .map(purchase -> mapToOrderResponse(purchase, fields))
+                        .toList())
+                .orElse(List.of());
+    }
+    
+    @Override
+    public long countOrdersByUser(String userId) {
+        return Ids.numeric(userId).map(purchasePersistencePort::countByBuyerId).orElse(0L);
+    }
+    
+    // Solo se construyen los campos pedidos. Sin selección van los campos de siempre; el detalle,
+    // los ids relacionados, comprador, vendedor (con sus datos de contacto) e ítem solo si se nombran
+    private OrderResponse mapToOrderResponse(PurchaseDto purchaseDto, Fields fields) {
+        OrderResponse.OrderResponseBuilder response = OrderResponse.builder();
+        if (fields.includes("id")) {
+            response.id(purchaseDto.id());
+        }
+        if (fields.includes("status")) {
+            response.status(purchaseDto.status());
+        }
+        if (fields.selects("statusDetail") && purchaseDto.statusDetail() != null) {
+            response.statusDetail(purchaseDto.statusDetail().description());
+        }
+        if (fields.includes("dateCreated")) {
+            response.dateCreated(Timestamps.toLocalDateTime(purchaseDto.dateCreated()));
+        }
+        if (fields.selects("dateCloseNegotiation")) {
+            response.dateCloseNegotiation(Timestamps.toLocalDateTime(purchaseDto.dateClosed()));
+        }
+        if (fields.includes("lastUpdated")) {
+            response.lastUpdated(Timestamps.toLocalDateTime(purchaseDto.lastUpdated()));
+        }
+        if (fields.includes("currency")) {
+            response.currency(purchaseDto.currencyId());
+        }
+        if (fields.includes("totalAmount") && purchaseDto.totalAmount() != null) {
+            response.totalAmount(BigDecimal.valueOf(purchaseDto.totalAmount()));
+        }
+        if (fields.selects("paymentId") && purchaseDto.payments() != null && !purchaseDto.payments().isEmpty()) {
+            Long paymentId = purchaseDto.payments().get(0).id();
+            response.paymentId(paymentId != null ? paymentId.toString() : null);
+        }
+        if (fields.selects("shippingId") && purchaseDto.shipping() != null && purchaseDto.shipping().id() != null) {
+            response.shippingId(purchaseDto.shipping().id().toString());
+        }
+        if (fields.selects("context") && purchaseDto.context() != null) {
+            response.context(purchaseDto.context().channel());
+        }
+        if (fields.selects("buyer") && purchaseDto.buyer() != null) {
+            PurchaseDto.BuyerDto buyer = purchaseDto.buyer();
+            response.buyer(OrderResponse.BuyerResponse.builder()
+                    .id(buyer.id() != null ? buyer.id().toString() : null)
+                    .nickname(buyer.nickname())
+                    .email(buyer.email())
+                    .phone(phoneOf(buyer.phone()))
+                    .build());
+        }
+        if (fields.selects("seller") && purchaseDto.seller() != null) {
+            PurchaseDto.PurchaseSellerDto seller = purchaseDto.seller();
+            response.seller(OrderResponse.SellerResponse.builder()
+                    .id(seller.id() != null ? seller.id().toString() : null)
+                    .nickname(seller.nickname())
+                    .email(seller.email())
+                    .phone(phoneOf(seller.phone()))
+                    .build());
+        }
+        if (fields.selects("orderItem") && purchaseDto.orderItems() != null && !purchaseDto.orderItems().isEmpty()) {
+            PurchaseDto.OrderItemDto orderItem = purchaseDto.orderItems().get(0);
+            PurchaseDto.ItemDto item = orderItem.item();
+            response.orderItem(OrderResponse.OrderItemResponse.builder()
+                    .itemId(item != null ? item.id() : null)
+                    .categoryId(item != null ? item.categoryId() : null)
+                    .title(item != null ? item.title() : null)
+                    .variation(item != null ? item.variationId() : null)
+                    .condition(item != null ? item.condition() : null)
+                    .unitPrice(orderItem.unitPrice() != null ? BigDecimal.valueOf(orderItem.unitPrice()) : null)
+                    .quantity(orderItem.quantity())
+                    .currency(orderItem.currencyId())
+                    .build());
+        }
+        return response.build();
     }
     
-    private OrderResponse mapToOrderResponse(PurchaseDto purchaseDto) {
-        return OrderResponse.builder()
-                .id(purchaseDto.id())
-                .status(purchaseDto.status())
-                .dateCreated(purchaseDto.dateCreated())
-                .lastUpdated(purchaseDto.lastUpdated())
-                .currency(purchaseDto.currencyId())
-                .totalAmount(purchaseDto.totalAmount() != null ? 
-                    java.math.BigDecimal.valueOf(purchaseDto.totalAmount()) : null)
-                .build();
+    private static String phoneOf(PurchaseDto.PhoneDto phone) {
+        if (phone == null || phone.number() == null) {
+            return null;
+        }
+        return phone.areaCode() != null ? phone.areaCode() + " " + phone.number() : phone.number();
     }
 }
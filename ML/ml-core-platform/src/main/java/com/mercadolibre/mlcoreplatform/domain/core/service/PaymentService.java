@@ -1,6 +1,7 @@
 package com.mercadolibre.mlcoreplatform.domain.core.service;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.PaymentMethodDto;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.NotFoundException;
 import com.mercadolibre.mlcoreplatform.domain.port.in.PaymentUseCase;
 import com.mercadolibre.mlcoreplatform.domain.port.out.PaymentApiPort;
 import com.mercadolibre.mlcoreplatform.domain.port.out.PaymentMethodPersistencePort;
@@ -35,12 +36,9 @@ public class PaymentService implements PaymentUseCase {
     
     @Override
     public PaymentMethodResponse getPaymentById(String paymentId) {
-        List<PaymentMethodDto> payments = paymentMethodPersistencePort.findAll();
-        return payments.stream()
-                .filter(p -> p.id().equals(paymentId))
-                .findFirst()
+        return paymentMethodPersistencePort.findById(paymentId)
                 .map(this::mapToResponse)
-                .orElseThrow(() -> new RuntimeException("Payment not found with id: " + paymentId));
+                .orElseThrow(() -> new NotFoundException("Payment", paymentId));
     }
     
     private PaymentMethodResponse mapToResponse(PaymentMethodDto paymentDto) {
@@ -1,10 +1,20 @@
 package com.mercadolibre.mlcoreplatform.domain.core.service;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ProductDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.SellerDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.InvalidArgumentException;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.NotFoundException;
 import com.mercadolibre.mlcoreplatform.domain.port.in.ProductUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Versioned;
+import com.mercadolibre.mlcoreplatform.domain.port.out.CategoryPersistencePort;
 import com.mercadolibre.mlcoreplatform.domain.port.out.ProductApiPort;
 import com.mercadolibre.mlcoreplatform.domain.port.out.ProductPersistencePort;
+import com.mercadolibre.mlcoreplatform.domain.port.out.SellerPersistencePort;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.ProductSearchRequest;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.MultiGetResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductDescriptionResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ShippingOptionsResponse;
@@ -12,7 +22,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -20,22 +34,78 @@ public class ProductService implements ProductUseCase {
     
     private final ProductPersistencePort productPersistencePort;
     private final ProductApiPort productApiPort;
+    private final CategoryPersistencePort categoryPersistencePort;
+    private final SellerPersistencePort sellerPersistencePort;
     
     @Override
-    public List<ProductResponse> getAllProducts(int offset, int limit) {
-        List<ProductDto> products = productPersistencePort.findAll();
-        return products.stream()
-                .skip(offset)
-                .limit(limit)
-                .map(this::mapToResponse)
-                .toList();
+    public List<ProductResponse> getAllProducts(int offset, int limit, Fields fields) {
+        return mapToResponses(productPersistencePort.findAll(offset, limit), fields);
+    }
+    
+    @Override
+    public long countProducts() {
+        return productPersistencePort.count();
+    }
+    
+    @Override
+    public CursorPage<ProductResponse> getProductsAfter(String cursor, int limit, Fields fields) {
+        CursorPage<ProductDto> page = productPersistencePort.findAllAfter(cursor, limit);
+        Map<Long, Optional<ProductResponse.SellerResponse>> sellers = sellersOf(page.items(), fields);
+        return page.map(product -> mapToResponse(product, fields, sellers));
     }
     
+    // Incluye los productos de todas las subcategorías
     @Override
-    public ProductResponse getProductById(String productId) {
+    public List<ProductResponse> getProductsInCategory(String categoryId, int offset, int limit, Fields fields) {
+        return mapToResponses(productPersistencePort.findByCategoryIds(subtreeOf(categoryId), offset, limit), fields);
+    }
+    
+    @Override
+    public long countProductsInCategory(String categoryId) {
+        return productPersistencePort.countByCategoryIds(subtreeOf(categoryId));
+    }
+    
+    @Override
+    public ProductResponse getProductById(String productId, Fields fields) {
         return productPersistencePort.findById(productId)
-                .map(this::mapToResponse)
-                .orElseThrow(() -> new RuntimeException("Product not found with id: " + productId));
+                .map(product -> mapToResponse(product, fields, sellersOf(List.of(product), fields)))
+                .orElseThrow(() -> new NotFoundException("Product", productId));
+    }
+    
+    // La versión es la fecha de última actualización del propio producto, así una recarga que no lo toca
+    // no cambia su ETag; sin fecha, la de los datos de productos. Si se pidió el vendedor se combina con la de
+    // los datos de vendedores. Las versiones de los datos se leen antes que el producto, así una recarga en el
+    // medio nunca deja una respuesta vieja con la versión nueva.
+    // La fecha de última actualización solo sirve de Last-Modified cuando la respuesta no incluye al vendedor
+    @Override
+    public Versioned<ProductResponse> getVersionedProduct(String productId, Fields fields) {
+        boolean withSeller = fields.selects("seller");
+        long dataVersion = productPersistencePort.version();
+        long sellerVersion = withSeller ? sellerPersistencePort.version() : 0L;
+        ProductDto product = productPersistencePort.findById(productId)
+                .orElseThrow(() -> new NotFoundException("Product", productId));
+        long own = product.lastUpdated() != Timestamps.NONE ? product.lastUpdated() : dataVersion;
+        long version = withSeller ? Versioned.combine(own, sellerVersion) : own;
+        return new Versioned<>(version, withSeller ? Versioned.NO_DATE : product.lastUpdated(),
+                () -> mapToResponse(product, fields, sellersOf(List.of(product), fields)));
+    }
+    
+    // Una sola consulta al repositorio; cada id conserva su posición y su propio estado
+    @Override
+    public List<MultiGetResponse<ProductResponse>> getProductsByIds(List<String> productIds, Fields fields) {
+        if (productIds.size() > MAX_IDS_PER_REQUEST) {
+            throw new InvalidArgumentException("At most " + MAX_IDS_PER_REQUEST + " ids per request, got " + productIds.size());
+        }
+        Map<String, ProductDto> found = productPersistencePort.findAllById(productIds);
+        Map<Long, Optional<ProductResponse.SellerResponse>> sellers = sellersOf(found.values(), fields);
+        return productIds.stream()
+                .map(id -> {
+                    ProductDto product = found.get(id);
+                    return product != null
+                            ? MultiGetResponse.<ProductResponse>builder().code(200).id(id).body(mapToResponse(product, fields, sellers)).build()
+                            : MultiGetResponse.<ProductResponse>builder().code(404).id(id).message("Product not found with id: " + id).build();
+                })
+                .toList();
     }
     
     @Override
@@ -53,21 +123,121 @@ public class ProductService implements ProductUseCase {
         return productApiPort.searchProducts(request);
     }
     
-    private ProductResponse mapToResponse(ProductDto productDto) {
-        return ProductResponse.builder()
-                .id(productDto.id())
-                .title(productDto.title())
-                .categoryId(productDto.categoryId())
-                .price(productDto.price() != null ? BigDecimal.valueOf(productDto.price()) : null)
-                .currencyId(productDto.currencyId())
-                .availableQuantity(productDto.availableQuantity())
-                .condition(productDto.condition())
-                .permalink(productDto.permalink())
-                .thumbnailId(productDto.thumbnail())
-                .dateCreated(productDto.dateCreated())
-                .lastUpdated(productDto.lastUpdated())
-                .sellerId(productDto.sellerId() != null ? productDto.sellerId().toString() : null)
-                .warranty(productDto.warranty())
+    private List<String> subtreeOf(String categoryId) {
+        List<String> subtree = categoryPersistencePort.findSubtreeIds(categoryId);
+        if (subtree.isEmpty()) {
+            throw new NotFoundException("Category", categoryId);
+        }
+        return subtree;
+    }
+    
+    private List<ProductResponse> mapToResponses(List<ProductDto> products, Fields fields) {
+        Map<Long, Optional<ProductResponse.SellerResponse>> sellers = sellersOf(products, fields);
+        return products.stream()
+                .map(product -> mapToResponse(product, fields, sellers))
+                .toList();
+    }
+    
+    // Solo si se pidió el vendedor: una búsqueda por vendedor distinto de la página, no una por producto
+    private Map<Long, Optional<ProductResponse.SellerResponse>> sellersOf(Collection<ProductDto> products, Fields fields) {
+        if (!fields.selects("seller")) {
+            return Map.of();
+        }
+        Map<Long, Optional<ProductResponse.SellerResponse>> sellers = new HashMap<>();
+        for (ProductDto product : products) {
+            if (product.sellerId() != null) {
+                sellers.computeIfAbsent(product.sellerId(),
+                        sellerId -> sellerPersistencePort.findById(sellerId).map(this::mapToSellerResponse));
+            }
+        }
+        return sellers;
+    }
+    
+    // Solo se construyen los campos pedidos. Sin selección van los campos de siempre; sitio, imágenes,
+    // atributos, envío y vendedor son opcionales y solo se arman si se nombran
+    private ProductResponse mapToResponse(ProductDto productDto, Fields fields,
+                                          Map<Long, Optional<ProductResponse.SellerResponse>> sellers) {
+        ProductResponse.ProductResponseBuilder response = ProductResponse.builder();
+        if (fields.includes("id")) {
+            response.id(productDto.id());
+        }
+        if (fields.selects("siteId")) {
+            response.siteId(productDto.siteId());
+        }
+        if (fields.includes("title")) {
+            response.title(productDto.title());
+        }
+        if (fields.includes("categoryId")) {
+            response.categoryId(productDto.categoryId());
+        }
+        if (fields.includes("price") && productDto.price() != null) {
+            response.price(BigDecimal.valueOf(productDto.price()));
+        }
+        if (fields.includes("currencyId")) {
+            response.currencyId(productDto.currencyId());
+        }
+        if (fields.includes("availableQuantity")) {
+            response.availableQuantity(productDto.availableQuantity());
+        }
+        if (fields.includes("condition")) {
+            response.condition(productDto.condition());
+        }
+        if (fields.includes("permalink")) {
+            response.permalink(productDto.permalink());
+        }
+        if (fields.includes("thumbnailId")) {
+            response.thumbnailId(productDto.thumbnail());
+        }
+        if (fields.selects("pictureId") && productDto.pictures() != null && !productDto.pictures().isEmpty()) {
+            response.pictureId(productDto.pictures().get(0).id());
+        }
+        if (fields.includes("dateCreated")) {
+            response.dateCreated(Timestamps.toLocalDateTime(productDto.dateCreated()));
+        }
+        if (fields.includes("lastUpdated")) {
+            response.lastUpdated(Timestamps.toLocalDateTime(productDto.lastUpdated()));
+        }
+        if (fields.includes("sellerId") && productDto.sellerId() != null) {
+            response.sellerId(productDto.sellerId().toString());
+        }
+        if (fields.includes("warranty")) {
+            response.warranty(productDto.warranty());
+        }
+        if (fields.selects("pictures") && productDto.pictures() != null) {
+            response.pictures(productDto.pictures().stream()
+                    .map(picture -> picture.secureUrl() != null ? picture.secureUrl() : picture.url())
+                    .toList());
+        }
+        if (fields.selects("attributes") && productDto.attributes() != null) {
+            response.attributes(productDto.attributes().stream()
+                    .map(attribute -> ProductResponse.AttributeResponse.builder()
+                            .id(attribute.id())
+                            .name(attribute.name())
+                            .valueId(attribute.valueId())
+                            .valueName(attribute.valueName())
+                            .valueStruct(attribute.valueStruct())
+                            .build())
+                    .toList());
+        }
+        if (fields.selects("shipping") && productDto.shipping() != null) {
+            ProductDto.ShippingDto shipping = productDto.shipping();
+            response.shipping(ProductResponse.ShippingResponse.builder()
+                    .mode(shipping.mode())
+                    .freeShipping(shipping.freeShipping())
+                    .logisticType(shipping.logisticType())
+                    .tags(shipping.tags())
+                    .build());
+        }
+        if (fields.selects("seller") && productDto.sellerId() != null) {
+            response.seller(sellers.getOrDefault(productDto.sellerId(), Optional.empty()).orElse(null));
+        }
+        return response.build();
+    }
+    
+    private ProductResponse.SellerResponse mapToSellerResponse(SellerDto sellerDto) {
+        return ProductResponse.SellerResponse.builder()
+                .id(sellerDto.id().toString())
+                .nickname(sellerDto.nickname())
                 .build();
     }
 }
@@ -1,7 +1,10 @@
 package com.mercadolibre.mlcoreplatform.domain.core.service;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.QuestionDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.NotFoundException;
 import com.mercadolibre.mlcoreplatform.domain.port.in.QuestionUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
 import com.mercadolibre.mlcoreplatform.domain.port.out.QuestionApiPort;
 import com.mercadolibre.mlcoreplatform.domain.port.out.QuestionPersistencePort;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.QuestionRequest;
@@ -20,35 +23,41 @@ public class QuestionService implements QuestionUseCase {
     
     @Override
     public List<QuestionResponse> getAllQuestions(int offset, int limit) {
-        List<QuestionDto> questions = questionPersistencePort.findAll();
-        return questions.stream()
-                .skip(offset)
-                .limit(limit)
+        return questionPersistencePort.findAll(offset, limit).stream()
                 .map(this::mapToResponse)
                 .toList();
     }
     
+    @Override
+    public long countQuestions() {
+        return questionPersistencePort.count();
+    }
+    
+    @Override
+    public CursorPage<QuestionResponse> getQuestionsAfter(String cursor, int limit) {
+        return questionPersistencePort.findAllAfter(cursor, limit).map(this::mapToResponse);
+    }
+    
     @Override
     public QuestionResponse getQuestionById(String questionId) {
-        // Por ahora buscaremos por ítem ya que el port no tiene findById
-        List<QuestionDto> questions = questionPersistencePort.findAll();
-        return questions.stream()
-                .filter(q -> q.id().toString().equals(questionId))
-                .findFirst()
+        return Ids.numeric(questionId)
+                .flatMap(questionPersistencePort::findById)
                 .map(this::mapToResponse)
-                .orElseThrow(() -> new RuntimeException("Question not found with id: " + questionId));
+                .orElseThrow(() -> new NotFoundException("Question", questionId));
     }
     
     @Override
     public List<QuestionResponse> getQuestionsByItem(String itemId, int offset, int limit) {
-        List<QuestionDto> questions = questionPersistencePort.findByItemId(itemId);
-        return questions.stream()
-                .skip(offset)
-                .limit(limit)
+        return questionPersistencePort.findByItemId(itemId, offset, limit).stream()
                 .map(this::mapToResponse)
                 .toList();
     }
     
+    @Override
+    public long countQuestionsByItem(String itemId) {
+        return questionPersistencePort.countByItemId(itemId);
+    }
+    
     @Override
     public QuestionResponse createQuestion(QuestionRequest request) {
         return questionApiPort.createQuestion(request);
@@ -64,14 +73,14 @@ public class QuestionService implements QuestionUseCase {
                 .id(questionDto.id().toString())
                 .text(questionDto.text())
                 .status(questionDto.status())
-                .dateCreated(questionDto.dateCreated())
+                .dateCreated(Timestamps.toLocalDateTime(questionDto.dateCreated()))
                 .itemId(questionDto.itemId())
                 .sellerId(questionDto.sellerId() != null ? questionDto.sellerId().toString() : null)
                 .answer(questionDto.answer() != null ? 
                     QuestionResponse.AnswerResponse.builder()
                             .text(questionDto.answer().text())
                             .status(questionDto.answer().status())
-                            .dateCreated(questionDto.answer().dateCreated())
+                            .dateCreated(Timestamps.toLocalDateTime(questionDto.answer().dateCreated()))
                             .build() : null)
                 .build();
     }
@@ -2,7 +2,10 @@ package com.mercadolibre.mlcoreplatform.domain.core.service;
 
 import com.mercadolibre.mlcoreplatform.domain.port.in.SearchUseCase;
 import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchCriteria;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchPage;
 import com.mercadolibre.mlcoreplatform.domain.port.out.SearchApiPort;
+import com.mercadolibre.mlcoreplatform.domain.port.out.SuggestionPersistencePort;
+import com.mercadolibre.mlcoreplatform.domain.port.out.TrendPersistencePort;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,10 +16,41 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SearchService implements SearchUseCase {
     
+    static final int MAX_SUGGESTIONS = 20;
+    static final int MAX_TRENDS = 50;
+    
     private final SearchApiPort searchApiPort;
+    private final SuggestionPersistencePort suggestionPersistencePort;
+    private final TrendPersistencePort trendPersistencePort;
     
     @Override
     public List<ProductResponse> searchProducts(SearchCriteria criteria) {
+        recordTrend(criteria);
         return searchApiPort.searchProducts(criteria);
     }
+    
+    @Override
+    public SearchPage<ProductResponse> search(SearchCriteria criteria) {
+        recordTrend(criteria);
+        // Incluye el total y los conteos por faceta para los filtros
+        return searchApiPort.search(criteria);
+    }
+    
+    @Override
+    public List<String> getSuggestions(String siteId, String prefix, int limit) {
+        return suggestionPersistencePort.findSuggestions(siteId, prefix, Math.min(Math.max(limit, 0), MAX_SUGGESTIONS));
+    }
+    
+    @Override
+    public List<String> getTrends(String siteId, int limit) {
+        return trendPersistencePort.findTrends(siteId, Math.min(Math.max(limit, 0), MAX_TRENDS));
+    }
+    
+    // Toda búsqueda con texto cuenta para las tendencias, tenga o no resultados; las consultas
+    // más buscadas alimentan también las sugerencias
+    private void recordTrend(SearchCriteria criteria) {
+        if (criteria != null && criteria.query() != null && !criteria.query().isBlank()) {
+            trendPersistencePort.recordQuery(criteria.siteId(), criteria.query());
+        }
+    }
 }
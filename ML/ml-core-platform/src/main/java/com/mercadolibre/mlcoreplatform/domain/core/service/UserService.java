@@ -1,7 +1,11 @@
 package com.mercadolibre.mlcoreplatform.domain.core.service;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.SellerDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.NotFoundException;
 import com.mercadolibre.mlcoreplatform.domain.port.in.UserUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Versioned;
 import com.mercadolibre.mlcoreplatform.domain.port.out.SellerPersistencePort;
 import com.mercadolibre.mlcoreplatform.domain.port.out.UserApiPort;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.UserSearchRequest;
@@ -21,20 +25,34 @@ public class UserService implements UserUseCase {
     private final UserApiPort userApiPort;
     
     @Override
-    public List<UserResponse> getAllUsers(int offset, int limit) {
-        List<SellerDto> sellers = sellerPersistencePort.findAll();
-        return sellers.stream()
-                .skip(offset)
-                .limit(limit)
-                .map(this::mapToUserResponse)
+    public List<UserResponse> getAllUsers(int offset, int limit, Fields fields) {
+        return sellerPersistencePort.findAll(offset, limit).stream()
+                .map(seller -> mapToUserResponse(seller, fields))
                 .toList();
     }
     
     @Override
-    public UserResponse getUserById(String userId) {
-        return sellerPersistencePort.findById(Long.parseLong(userId))
-                .map(this::mapToUserResponse)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+    public long countUsers() {
+        return sellerPersistencePort.count();
+    }
+    
+    @Override
+    public UserResponse getUserById(String userId, Fields fields) {
+        return Ids.numeric(userId)
+                .flatMap(sellerPersistencePort::findById)
+                .map(seller -> mapToUserResponse(seller, fields))
+                .orElseThrow(() -> new NotFoundException("User", userId));
+    }
+    
+    // Los vendedores no tienen fecha de actualización: la versión es la de los datos de vendedores,
+    // leída antes que el vendedor
+    @Override
+    public Versioned<UserResponse> getVersionedUser(String userId, Fields fields) {
+        long version = sellerPersistencePort.version();
+        SellerDto seller = Ids.numeric(userId)
+                .flatMap(sellerPersistencePort::findById)
+                .orElseThrow(() -> new NotFoundException("User", userId));
+        return new Versioned<>(version, Versioned.NO_DATE, () -> mapToUserResponse(seller, fields));
     }
     
     @Override
@@ -52,16 +70,55 @@ public class UserService implements UserUseCase {
         return userApiPort.searchUsers(request);
     }
     
-    private UserResponse mapToUserResponse(SellerDto sellerDto) {
-        return UserResponse.builder()
-                .id(sellerDto.id().toString())
-                .nickname(sellerDto.nickname())
-                .firstName(sellerDto.firstName())
-                .lastName(sellerDto.lastName())
-                .email(sellerDto.email())
-                .countryId(sellerDto.countryId())
-                .registrationDate(sellerDto.registrationDate())
-                .tags(sellerDto.tags())
-                .build();
+    // Solo se construyen los campos pedidos. Sin selección van los campos de siempre; el documento
+    // y las reputaciones solo si se nombran
+    private UserResponse mapToUserResponse(SellerDto sellerDto, Fields fields) {
+        UserResponse.UserResponseBuilder response = UserResponse.builder();
+        if (fields.includes("id")) {
+            response.id(sellerDto.id().toString());
+        }
+        if (fields.includes("nickname")) {
+            response.nickname(sellerDto.nickname());
+        }
+        if (fields.includes("firstName")) {
+            response.firstName(sellerDto.firstName());
+        }
+        if (fields.includes("lastName")) {
+            response.lastName(sellerDto.lastName());
+        }
+        if (fields.includes("email")) {
+            response.email(sellerDto.email());
+        }
+        if (fields.includes("countryId")) {
+            response.countryId(sellerDto.countryId());
+        }
+        if (fields.selects("identification") && sellerDto.identification() != null && sellerDto.identification().number() != null) {
+            SellerDto.IdentificationDto identification = sellerDto.identification();
+            response.identification(identification.type() != null ? identification.type() + " " + identification.number() : identification.number());
+        }
+        if (fields.includes("registrationDate")) {
+            response.registrationDate(Timestamps.toLocalDateTime(sellerDto.registrationDate()));
+        }
+        if (fields.includes("tags")) {
+            response.tags(sellerDto.tags());
+        }
+        if (fields.selects("sellerReputation") && sellerDto.sellerReputation() != null) {
+            SellerDto.SellerReputationDto reputation = sellerDto.sellerReputation();
+            SellerDto.TransactionsDto transactions = reputation.transactions();
+            response.sellerReputation(UserResponse.SellerReputationResponse.builder()
+                    .powerSellerStatus(reputation.powerSellerStatus())
+                    .levelId(reputation.levelId())
+                    .transactionsCanceled(transactions != null ? transactions.canceled() : null)
+                    .transactionsCompleted(transactions != null ? transactions.completed() : null)
+                    .build());
+        }
+        if (fields.selects("buyerReputation") && sellerDto.buyerReputation() != null) {
+            SellerDto.BuyerReputationDto reputation = sellerDto.buyerReputation();
+            response.buyerReputation(UserResponse.BuyerReputationResponse.builder()
+                    .canceledTransactions(reputation.canceledTransactions())
+                    .transactions(reputation.transactions() != null ? reputation.transactions().total() : null)
+                    .build());
+        }
+        return response.build();
     }
 }
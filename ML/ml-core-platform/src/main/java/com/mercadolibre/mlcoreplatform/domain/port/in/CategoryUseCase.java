@@ -1,5 +1,6 @@
 package com.mercadolibre.mlcoreplatform.domain.port.in;
 
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Versioned;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.CategoryResponse;
 
 import java.util.List;
@@ -10,6 +11,8 @@ public interface CategoryUseCase {
     
     CategoryResponse getCategoryById(String categoryId);
     
+    Versioned<CategoryResponse> getVersionedCategory(String categoryId);
+    
     List<CategoryResponse.AttributeResponse> getCategoryAttributes(String categoryId);
     
     List<CategoryResponse> getCategoriesBySite(String siteId);
@@ -0,0 +1,14 @@
+package com.mercadolibre.mlcoreplatform.domain.port.in;
+
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ItemPageResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ItemPageSection;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+public interface ItemPageUseCase {
+    
+    ItemPageResponse getItemPage(String itemId);
+    
+    CompletableFuture<Void> streamItemPage(String itemId, Consumer<ItemPageSection> listener);
+}
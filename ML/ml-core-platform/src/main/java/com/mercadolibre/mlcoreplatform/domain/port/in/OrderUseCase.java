@@ -1,5 +1,7 @@
 package com.mercadolibre.mlcoreplatform.domain.port.in;
 
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.OrderRequest;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.OrderResponse;
 
@@ -7,13 +9,19 @@ import java.util.List;
 
 public interface OrderUseCase {
     
-    List<OrderResponse> getAllOrders(int offset, int limit);
+    List<OrderResponse> getAllOrders(int offset, int limit, Fields fields);
     
-    OrderResponse getOrderById(String orderId);
+    long countOrders();
+    
+    CursorPage<OrderResponse> getOrdersAfter(String cursor, int limit, Fields fields);
+    
+    OrderResponse getOrderById(String orderId, Fields fields);
     
     OrderResponse createOrder(OrderRequest request);
     
     OrderResponse updateOrderStatus(String orderId, String status);
     
-    List<OrderResponse> getOrdersByUser(String userId, int offset, int limit);
+    List<OrderResponse> getOrdersByUser(String userId, int offset, int limit, Fields fields);
+    
+    long countOrdersByUser(String userId);
 }
@@ -1,6 +1,10 @@
 package com.mercadolibre.mlcoreplatform.domain.port.in;
 
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Versioned;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.ProductSearchRequest;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.MultiGetResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductDescriptionResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ShippingOptionsResponse;
@@ -9,9 +13,23 @@ import java.util.List;
 
 public interface ProductUseCase {
     
-    List<ProductResponse> getAllProducts(int offset, int limit);
+    int MAX_IDS_PER_REQUEST = 200;
     
-    ProductResponse getProductById(String productId);
+    List<ProductResponse> getAllProducts(int offset, int limit, Fields fields);
+    
+    long countProducts();
+    
+    CursorPage<ProductResponse> getProductsAfter(String cursor, int limit, Fields fields);
+    
+    List<ProductResponse> getProductsInCategory(String categoryId, int offset, int limit, Fields fields);
+    
+    long countProductsInCategory(String categoryId);
+    
+    ProductResponse getProductById(String productId, Fields fields);
+    
+    Versioned<ProductResponse> getVersionedProduct(String productId, Fields fields);
+    
+    List<MultiGetResponse<ProductResponse>> getProductsByIds(List<String> productIds, Fields fields);
     
     ProductDescriptionResponse getProductDescription(String productId);
     
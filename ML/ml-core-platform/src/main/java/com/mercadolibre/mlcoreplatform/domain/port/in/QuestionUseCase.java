@@ -1,5 +1,6 @@
 package com.mercadolibre.mlcoreplatform.domain.port.in;
 
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.QuestionRequest;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.QuestionResponse;
 
@@ -9,10 +10,16 @@ public interface QuestionUseCase {
     
     List<QuestionResponse> getAllQuestions(int offset, int limit);
     
+    long countQuestions();
+    
+    CursorPage<QuestionResponse> getQuestionsAfter(String cursor, int limit);
+    
     QuestionResponse getQuestionById(String questionId);
     
     List<QuestionResponse> getQuestionsByItem(String itemId, int offset, int limit);
     
+    long countQuestionsByItem(String itemId);
+    
     QuestionResponse createQuestion(QuestionRequest request);
     
     QuestionResponse answerQuestion(String questionId, String text);
@@ -1,6 +1,7 @@
 package com.mercadolibre.mlcoreplatform.domain.port.in;
 
 import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchCriteria;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchPage;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
 
 import java.util.List;
@@ -8,4 +9,10 @@ import java.util.List;
 public interface SearchUseCase {
     
     List<ProductResponse> searchProducts(SearchCriteria criteria);
+    
+    SearchPage<ProductResponse> search(SearchCriteria criteria);
+    
+    List<String> getSuggestions(String siteId, String prefix, int limit);
+    
+    List<String> getTrends(String siteId, int limit);
 }
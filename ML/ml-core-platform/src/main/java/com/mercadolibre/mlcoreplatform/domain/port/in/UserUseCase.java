@@ -1,5 +1,7 @@
 package com.mercadolibre.mlcoreplatform.domain.port.in;
 
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Versioned;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.UserSearchRequest;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.UserResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
@@ -9,9 +11,13 @@ import java.util.List;
 
 public interface UserUseCase {
     
-    List<UserResponse> getAllUsers(int offset, int limit);
+    List<UserResponse> getAllUsers(int offset, int limit, Fields fields);
     
-    UserResponse getUserById(String userId);
+    long countUsers();
+    
+    UserResponse getUserById(String userId, Fields fields);
+    
+    Versioned<UserResponse> getVersionedUser(String userId, Fields fields);
     
     List<ProductResponse> getUserItems(String userId, int offset, int limit);
     
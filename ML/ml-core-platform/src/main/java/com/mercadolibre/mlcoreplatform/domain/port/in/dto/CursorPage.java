@@ -0,0 +1,48 @@
+package com.mercadolibre.mlcoreplatform.domain.port.in.dto;
+
+import com.mercadolibre.mlcoreplatform.domain.core.exception.InvalidArgumentException;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is null on the last page.
+ */
+public record CursorPage<T>(
+    List<T> items,
+    String nextCursor
+) {
+
+    /**
+     * The page size to fetch {@code limit + 1} records for: {@code limit}, kept one short of
+     * {@link Integer#MAX_VALUE} so the window size can't overflow.
+     *
+     * @throws InvalidArgumentException when {@code limit} is not positive, as such a page would
+     *         hand back its own cursor forever
+     */
+    public static int clamp(int limit) {
+        if (limit <= 0) {
+            throw new InvalidArgumentException("limit must be positive");
+        }
+        return Math.min(limit, Integer.MAX_VALUE - 1);
+    }
+
+    /**
+     * Builds a page from a window fetched with {@code limit + 1} records: the extra record
+     * only tells whether another page exists. {@code limit} is a {@link #clamp clamped} one.
+     */
+    public static <T> CursorPage<T> of(List<T> window, int limit, String cursor, Function<T, String> cursorOf) {
+        if (limit <= 0) {
+            throw new InvalidArgumentException("limit must be positive");
+        }
+        if (window.size() <= limit) {
+            return new CursorPage<>(window, null);
+        }
+        List<T> items = window.subList(0, limit);
+        return new CursorPage<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,97 @@
+package com.mercadolibre.mlcoreplatform.domain.port.in.dto;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Response fields a client asked for with {@code attributes=id,title,price}, by their JSON names.
+ * Only top-level fields are selected; a nested object such as {@code shipping} comes whole or not at
+ * all. Unknown names are ignored. No selection at all means each response's default fields, the ones
+ * it had before projections existed; the rest (nested objects, contact data) are opt-in and only
+ * come when named, see {@link #selects}.
+ */
+public final class Fields {
+
+    public static final Fields DEFAULT = new Fields(true, Set.of());
+
+    private final boolean defaults;
+    private final Set<String> names;
+    private final String key;
+
+    private Fields(boolean defaults, Set<String> names) {
+        this.defaults = defaults;
+        this.names = names;
+        String named = String.join(",", new TreeSet<>(names));
+        this.key = !defaults ? named : names.isEmpty() ? "*" : "*," + named;
+    }
+
+    /**
+     * Fields of a comma-separated list; {@link #DEFAULT} for a null or blank one.
+     */
+    public static Fields of(String attributes) {
+        if (attributes == null || attributes.isBlank()) {
+            return DEFAULT;
+        }
+        Set<String> names = new HashSet<>();
+        for (String name : attributes.split(",")) {
+            String stripped = name.strip();
+            if (!stripped.isEmpty()) {
+                names.add(stripped);
+            }
+        }
+        return names.isEmpty() ? DEFAULT : new Fields(false, Set.copyOf(names));
+    }
+
+    /**
+     * These fields and the opt-in fields {@code optIn} as well; on {@link #DEFAULT}, every default
+     * field plus those.
+     */
+    public Fields with(String... optIn) {
+        Set<String> names = new HashSet<>(this.names);
+        names.addAll(Set.of(optIn));
+        return new Fields(defaults, Set.copyOf(names));
+    }
+
+    /**
+     * Whether a default field goes in the response: it was named, or nothing was.
+     */
+    public boolean includes(String field) {
+        return defaults || names.contains(field);
+    }
+
+    /**
+     * Whether an opt-in field goes in the response: only when it was named.
+     */
+    public boolean selects(String field) {
+        return names.contains(field);
+    }
+
+    public boolean isDefault() {
+        return defaults && names.isEmpty();
+    }
+
+    /**
+     * The same for every spelling of one selection: the names sorted and comma-separated, after a
+     * {@code *} standing for the default fields when they are included.
+     */
+    public String key() {
+        return key;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Fields fields && defaults == fields.defaults && names.equals(fields.names);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(defaults, names);
+    }
+
+    @Override
+    public String toString() {
+        return "Fields[" + key + "]";
+    }
+}
@@ -0,0 +1,24 @@
+package com.mercadolibre.mlcoreplatform.domain.port.in.dto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * One page of search results, how many results matched in all and, when asked for, facet counts:
+ * for each facet, how many of the matches carry each of its values.
+ */
+public record SearchPage<T>(
+    List<T> items,
+    long total,
+    Map<String, Map<String, Integer>> facets
+) {
+
+    public SearchPage(List<T> items, long total) {
+        this(items, total, Map.of());
+    }
+
+    public <R> SearchPage<R> map(Function<T, R> mapper) {
+        return new SearchPage<>(items.stream().map(mapper).toList(), total, facets);
+    }
+}
@@ -0,0 +1,28 @@
+package com.mercadolibre.mlcoreplatform.domain.port.in.dto;
+
+import java.util.function.Supplier;
+
+/**
+ * A resource that was found, the version of everything its response is built from and, when it has
+ * one, its last-modified date in epoch millis ({@link #NO_DATE} otherwise). The response itself is
+ * only built when {@link #body} is asked for, from the record already looked up.
+ */
+public record Versioned<T>(
+    long version,
+    long lastModified,
+    Supplier<T> body
+) {
+
+    public static final long NO_DATE = 0L;
+
+    /**
+     * One version out of the versions of several sources.
+     */
+    public static long combine(long... versions) {
+        long combined = 17;
+        for (long version : versions) {
+            combined = combined * 31 + version;
+        }
+        return combined;
+    }
+}
@@ -4,6 +4,7 @@ import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.CategoryDto;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongConsumer;
 
 public interface CategoryPersistencePort {
     
@@ -12,4 +13,13 @@ public interface CategoryPersistencePort {
     List<CategoryDto> findAll();
     
     List<CategoryDto> findByParentId(String parentId);
+    
+    List<String> findSubtreeIds(String categoryId);
+    
+    boolean isInSubtree(String categoryId, String ancestorId);
+    
+    // Versión del árbol de categorías, con el mismo criterio que la de productos
+    long version();
+    
+    void onVersionChange(LongConsumer listener);
 }
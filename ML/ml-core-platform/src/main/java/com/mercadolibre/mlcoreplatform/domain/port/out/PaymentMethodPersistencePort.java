@@ -3,9 +3,12 @@ package com.mercadolibre.mlcoreplatform.domain.port.out;
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.PaymentMethodDto;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface PaymentMethodPersistencePort {
     
+    Optional<PaymentMethodDto> findById(String paymentMethodId);
+    
     List<PaymentMethodDto> findBySiteId(String siteId);
     
     List<PaymentMethodDto> findAll();
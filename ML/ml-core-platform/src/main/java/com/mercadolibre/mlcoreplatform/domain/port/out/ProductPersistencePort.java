@@ -1,17 +1,44 @@
 package com.mercadolibre.mlcoreplatform.domain.port.out;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ProductDto;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchCriteria;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchPage;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.LongConsumer;
 
 public interface ProductPersistencePort {
     
     Optional<ProductDto> findById(String productId);
     
+    Map<String, ProductDto> findAllById(Collection<String> productIds);
+    
     List<ProductDto> findAll();
     
+    List<ProductDto> findAll(int offset, int limit);
+    
+    CursorPage<ProductDto> findAllAfter(String cursor, int limit);
+    
+    long count();
+    
     List<ProductDto> findByCategoryId(String categoryId);
     
+    List<ProductDto> findByCategoryIds(List<String> categoryIds, int offset, int limit);
+    
+    long countByCategoryIds(List<String> categoryIds);
+    
     List<ProductDto> findBySellerId(Long sellerId);
+    
+    SearchPage<ProductDto> search(SearchCriteria criteria, List<String> categoryIds, boolean withFacets);
+    
+    // Versión de los datos cargados, derivada de su contenido: la misma en todas las instancias que
+    // cargaron el mismo archivo
+    long version();
+    
+    // Avisa cada nueva versión a listener, y la actual de inmediato si ya hay datos cargados
+    void onVersionChange(LongConsumer listener);
 }
@@ -1,6 +1,7 @@
 package com.mercadolibre.mlcoreplatform.domain.port.out;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.PurchaseDto;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,9 +12,19 @@ public interface PurchasePersistencePort {
     
     List<PurchaseDto> findAll();
     
+    List<PurchaseDto> findAll(int offset, int limit);
+    
+    CursorPage<PurchaseDto> findAllAfter(String cursor, int limit);
+    
+    long count();
+    
     List<PurchaseDto> findByStatus(String status);
     
     List<PurchaseDto> findByBuyerId(Long buyerId);
     
+    List<PurchaseDto> findByBuyerId(Long buyerId, int offset, int limit);
+    
+    long countByBuyerId(Long buyerId);
+    
     List<PurchaseDto> findBySellerId(Long sellerId);
 }
@@ -1,15 +1,29 @@
 package com.mercadolibre.mlcoreplatform.domain.port.out;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.QuestionDto;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface QuestionPersistencePort {
     
+    Optional<QuestionDto> findById(Long questionId);
+    
     List<QuestionDto> findByItemId(String itemId);
     
+    List<QuestionDto> findByItemId(String itemId, int offset, int limit);
+    
+    long countByItemId(String itemId);
+    
     List<QuestionDto> findAll();
     
+    List<QuestionDto> findAll(int offset, int limit);
+    
+    CursorPage<QuestionDto> findAllAfter(String cursor, int limit);
+    
+    long count();
+    
     List<QuestionDto> findBySellerId(Long sellerId);
     
     List<QuestionDto> findByStatus(String status);
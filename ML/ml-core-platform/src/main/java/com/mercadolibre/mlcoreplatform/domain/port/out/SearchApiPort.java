@@ -1,6 +1,7 @@
 package com.mercadolibre.mlcoreplatform.domain.port.out;
 
 import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchCriteria;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchPage;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
 
 import java.util.List;
@@ -8,4 +9,6 @@ import java.util.List;
 public interface SearchApiPort {
     
     List<ProductResponse> searchProducts(SearchCriteria criteria);
+    
+    SearchPage<ProductResponse> search(SearchCriteria criteria);
 }
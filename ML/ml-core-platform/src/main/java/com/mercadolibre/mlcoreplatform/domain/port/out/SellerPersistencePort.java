@@ -4,6 +4,7 @@ import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.SellerDto;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongConsumer;
 
 public interface SellerPersistencePort {
     
@@ -11,7 +12,16 @@ public interface SellerPersistencePort {
     
     List<SellerDto> findAll();
     
+    List<SellerDto> findAll(int offset, int limit);
+    
+    long count();
+    
     List<SellerDto> findByNickname(String nickname);
     
     List<SellerDto> findByCountryId(String countryId);
+    
+    // Versión de los vendedores cargados, con el mismo criterio que la de productos
+    long version();
+    
+    void onVersionChange(LongConsumer listener);
 }
@@ -0,0 +1,8 @@
+package com.mercadolibre.mlcoreplatform.domain.port.out;
+
+import java.util.List;
+
+public interface SuggestionPersistencePort {
+    
+    List<String> findSuggestions(String siteId, String prefix, int limit);
+}
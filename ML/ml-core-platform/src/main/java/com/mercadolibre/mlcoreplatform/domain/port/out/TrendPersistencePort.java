@@ -0,0 +1,10 @@
+package com.mercadolibre.mlcoreplatform.domain.port.out;
+
+import java.util.List;
+
+public interface TrendPersistencePort {
+    
+    List<String> findTrends(String siteId, int limit);
+    
+    void recordQuery(String siteId, String query);
+}
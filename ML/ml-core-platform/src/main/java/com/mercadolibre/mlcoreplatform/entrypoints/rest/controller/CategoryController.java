@@ -1,13 +1,20 @@
 package com.mercadolibre.mlcoreplatform.entrypoints.rest.controller;
 
 import com.mercadolibre.mlcoreplatform.domain.port.in.CategoryUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.ProductUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.CategoryResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,6 +25,8 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryUseCase categoryUseCase;
+    private final ProductUseCase productUseCase;
+    private final SerializedResponseCache serializedResponseCache;
 
     @GetMapping
     @Operation(summary = "Obtener todas las categorías", description = "Retorna lista de categorías")
@@ -27,11 +36,24 @@ public class CategoryController {
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Obtener categoría por ID", description = "Retorna información detallada de una categoría")
-    public ResponseEntity<CategoryResponse> getCategoryById(
-            @Parameter(description = "ID de la categoría") @PathVariable String id) {
-        CategoryResponse category = categoryUseCase.getCategoryById(id);
-        return ResponseEntity.ok(category);
+    @Operation(summary = "Obtener categoría por ID", description = "Retorna información detallada de una categoría, con ETag según la versión de los datos de categorías; responde 304 si el cliente ya tiene esa versión")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CategoryResponse.class)))
+    public ResponseEntity<byte[]> getCategoryById(
+            @Parameter(description = "ID de la categoría") @PathVariable String id,
+            WebRequest request) {
+        return serializedResponseCache.get(request, "categories/" + id, CategoryResponse.class,
+                categoryUseCase.getVersionedCategory(id));
+    }
+
+    @GetMapping("/{id}/items")
+    @Operation(summary = "Obtener productos de una categoría", description = "Retorna los productos de la categoría y de todas sus subcategorías con paginación y el total en el header X-Total-Count")
+    public ResponseEntity<List<ProductResponse>> getCategoryProducts(
+            @Parameter(description = "ID de la categoría") @PathVariable String id,
+            @Parameter(description = "Número de página") @RequestParam(defaultValue = "0") int offset,
+            @Parameter(description = "Cantidad de elementos por página") @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Campos a incluir separados por coma (por ejemplo id,title,price,thumbnailId); vacío para los campos por defecto (los objetos anidados y datos de contacto solo si se nombran)") @RequestParam(required = false) String attributes) {
+        List<ProductResponse> products = productUseCase.getProductsInCategory(id, offset, limit, Fields.of(attributes));
+        return PagedResponses.ok(products, productUseCase.countProductsInCategory(id));
     }
 
     @GetMapping("/{id}/attributes")
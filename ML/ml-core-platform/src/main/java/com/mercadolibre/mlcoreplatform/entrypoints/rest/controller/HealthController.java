@@ -1,5 +1,11 @@
 package com.mercadolibre.mlcoreplatform.entrypoints.rest.controller;
 
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.ApiCaches;
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.CacheStats;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataFiles;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -9,8 +15,12 @@ import java.util.Map;
 
 @RestController
 @RequestMapping("/api")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final DataFiles dataFiles;
+    private final ApiCaches apiCaches;
+
     @GetMapping("/health")
     public ResponseEntity<Map<String, String>> health() {
         return ResponseEntity.ok(Map.of(
@@ -18,4 +28,24 @@ public class HealthController {
                 "timestamp", String.valueOf(System.currentTimeMillis())
         ));
     }
+
+    @GetMapping("/health/ready")
+    @Operation(summary = "Disponibilidad del servicio", description = "Retorna 503 mientras los archivos de datos se están cargando e indexando")
+    public ResponseEntity<Map<String, String>> ready() {
+        boolean ready = dataFiles.isReady();
+        return ResponseEntity.status(ready ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of("status", ready ? "READY" : "LOADING"));
+    }
+
+    @GetMapping("/health/data")
+    @Operation(summary = "Estado de los archivos de datos", description = "Retorna, por archivo, el origen, la cantidad de registros y la duración de la última carga")
+    public ResponseEntity<Map<String, DataFiles.LoadStats>> data() {
+        return ResponseEntity.ok(dataFiles.stats());
+    }
+
+    @GetMapping("/health/caches")
+    @Operation(summary = "Estado de las cachés de APIs externas", description = "Retorna, por caché, aciertos, fallos, cargas, refrescos anticipados, desalojos, tamaño y peso")
+    public ResponseEntity<Map<String, CacheStats>> caches() {
+        return ResponseEntity.ok(apiCaches.stats());
+    }
 }
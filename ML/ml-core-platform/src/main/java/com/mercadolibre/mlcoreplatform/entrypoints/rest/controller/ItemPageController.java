@@ -0,0 +1,96 @@
+package com.mercadolibre.mlcoreplatform.entrypoints.rest.controller;
+
+import com.mercadolibre.mlcoreplatform.domain.port.in.ItemPageUseCase;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ItemPageResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ItemPageSection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/items")
+@Tag(name = "Item page", description = "Endpoint agregado para la página de producto")
+@RequiredArgsConstructor
+public class ItemPageController {
+
+    private final ItemPageUseCase itemPageUseCase;
+
+    @GetMapping("/{id}/page")
+    @Operation(summary = "Obtener la página de un producto", description = "Retorna en una sola respuesta el producto, vendedor, medios de pago, preguntas, opiniones, envíos y navegación, consultados en paralelo. Las partes que fallan o superan su plazo llegan vacías y se informan en parts; la latencia de cada parte va también en el header Server-Timing")
+    public ResponseEntity<ItemPageResponse> getItemPage(
+            @Parameter(description = "ID del producto") @PathVariable String id) {
+        ItemPageResponse page = itemPageUseCase.getItemPage(id);
+        return ResponseEntity.ok()
+                .header("Server-Timing", serverTiming(page))
+                .body(page);
+    }
+
+    @GetMapping(value = "/{id}/page/stream", produces = {MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Transmitir la página de un producto", description = "Envía cada parte de la página (item, seller, payment_methods, questions, reviews, shipping, navigation) apenas está lista, como eventos SSE o, con Accept: application/x-ndjson, como una línea JSON por parte. Termina con la parte done, que resume el estado de todas. El hilo del servidor se libera mientras las partes se resuelven")
+    public ResponseEntity<ResponseBodyEmitter> streamItemPage(
+            @Parameter(description = "ID del producto") @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        boolean ndjson = accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+        ResponseBodyEmitter emitter = ndjson ? new ResponseBodyEmitter() : new SseEmitter();
+        Map<String, ItemPageResponse.PartStatus> parts = new LinkedHashMap<>();
+        itemPageUseCase.streamItemPage(id, section -> {
+                    synchronized (parts) {
+                        parts.put(section.section(), section.status());
+                    }
+                    send(emitter, section);
+                })
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        emitter.completeWithError(error);
+                        return;
+                    }
+                    synchronized (parts) {
+                        send(emitter, new ItemPageSection("done", null, new LinkedHashMap<>(parts)));
+                    }
+                    emitter.complete();
+                });
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.TEXT_EVENT_STREAM)
+                .body(emitter);
+    }
+
+    private static void send(ResponseBodyEmitter emitter, ItemPageSection section) {
+        try {
+            if (emitter instanceof SseEmitter sse) {
+                sse.send(SseEmitter.event().name(section.section()).data(section, MediaType.APPLICATION_JSON));
+            } else {
+                Set<ResponseBodyEmitter.DataWithMediaType> line = new LinkedHashSet<>();
+                line.add(new ResponseBodyEmitter.DataWithMediaType(section, MediaType.APPLICATION_JSON));
+                line.add(new ResponseBodyEmitter.DataWithMediaType("\n", MediaType.TEXT_PLAIN));
+                emitter.send(line);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away; the remaining parts still finish and are dropped
+            log.debug("Could not send item page section {}", section.section(), e);
+        }
+    }
+
+    // item;dur=1.20, seller;dur=0.35, ...
+    private static String serverTiming(ItemPageResponse page) {
+        return page.parts().entrySet().stream()
+                .map(part -> String.format(Locale.ROOT, "%s;dur=%.2f", part.getKey(), part.getValue().latencyMillis()))
+                .collect(Collectors.joining(", "));
+    }
+}
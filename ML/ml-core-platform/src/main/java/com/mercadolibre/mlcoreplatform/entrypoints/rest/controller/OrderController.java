@@ -1,6 +1,7 @@
 package com.mercadolibre.mlcoreplatform.entrypoints.rest.controller;
 
 import com.mercadolibre.mlcoreplatform.domain.port.in.OrderUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.OrderRequest;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.OrderResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,19 +22,25 @@ public class OrderController {
     private final OrderUseCase orderUseCase;
 
     @GetMapping
-    @Operation(summary = "Obtener todas las órdenes", description = "Retorna lista de órdenes con paginación")
+    @Operation(summary = "Obtener todas las órdenes", description = "Retorna lista de órdenes con paginación y el total en el header X-Total-Count")
     public ResponseEntity<List<OrderResponse>> getAllOrders(
             @Parameter(description = "Número de página") @RequestParam(defaultValue = "0") int offset,
-            @Parameter(description = "Cantidad de elementos por página") @RequestParam(defaultValue = "50") int limit) {
-        List<OrderResponse> orders = orderUseCase.getAllOrders(offset, limit);
-        return ResponseEntity.ok(orders);
+            @Parameter(description = "Cantidad de elementos por página") @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Cursor de continuación (X-Next-Cursor); vacío para la primera página. Si se envía se ignora offset y se ordena por fecha de creación") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Campos a incluir separados por coma (por ejemplo id,status,totalAmount); vacío para los campos por defecto (los objetos anidados y datos de contacto solo si se nombran)") @RequestParam(required = false) String attributes) {
+        if (cursor != null) {
+            return PagedResponses.ok(orderUseCase.getOrdersAfter(cursor, limit, Fields.of(attributes)), orderUseCase.countOrders());
+        }
+        List<OrderResponse> orders = orderUseCase.getAllOrders(offset, limit, Fields.of(attributes));
+        return PagedResponses.ok(orders, orderUseCase.countOrders());
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Obtener orden por ID", description = "Retorna información detallada de una orden")
     public ResponseEntity<OrderResponse> getOrderById(
-            @Parameter(description = "ID de la orden") @PathVariable String id) {
-        OrderResponse order = orderUseCase.getOrderById(id);
+            @Parameter(description = "ID de la orden") @PathVariable String id,
+            @Parameter(description = "Campos a incluir separados por coma (por ejemplo id,status,totalAmount); vacío para los campos por defecto (los objetos anidados y datos de contacto solo si se nombran)") @RequestParam(required = false) String attributes) {
+        OrderResponse order = orderUseCase.getOrderById(id, Fields.of(attributes));
         return ResponseEntity.ok(order);
     }
 
@@ -59,8 +66,9 @@ public class OrderController {
     public ResponseEntity<List<OrderResponse>> getOrdersByUser(
             @Parameter(description = "ID del usuario") @PathVariable String userId,
             @Parameter(description = "Número de página") @RequestParam(defaultValue = "0") int offset,
-            @Parameter(description = "Cantidad de elementos por página") @RequestParam(defaultValue = "50") int limit) {
-        List<OrderResponse> orders = orderUseCase.getOrdersByUser(userId, offset, limit);
-        return ResponseEntity.ok(orders);
+            @Parameter(description = "Cantidad de elementos por página") @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Campos a incluir separados por coma (por ejemplo id,status,totalAmount); vacío para los campos por defecto (los objetos anidados y datos de contacto solo si se nombran)") @RequestParam(required = false) String attributes) {
+        List<OrderResponse> orders = orderUseCase.getOrdersByUser(userId, offset, limit, Fields.of(attributes));
+        return PagedResponses.ok(orders, orderUseCase.countOrdersByUser(userId));
     }
 }
@@ -0,0 +1,30 @@
+package com.mercadolibre.mlcoreplatform.entrypoints.rest.controller;
+
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+final class PagedResponses {
+
+    static final String TOTAL_COUNT = "X-Total-Count";
+    static final String NEXT_CURSOR = "X-Next-Cursor";
+
+    private PagedResponses() {
+    }
+
+    static <T> ResponseEntity<List<T>> ok(List<T> items, long totalCount) {
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT, String.valueOf(totalCount))
+                .body(items);
+    }
+
+    static <T> ResponseEntity<List<T>> ok(CursorPage<T> page, long totalCount) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(TOTAL_COUNT, String.valueOf(totalCount));
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+}
@@ -1,16 +1,22 @@
 package com.mercadolibre.mlcoreplatform.entrypoints.rest.controller;
 
 import com.mercadolibre.mlcoreplatform.domain.port.in.ProductUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.ProductSearchRequest;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.MultiGetResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductDescriptionResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ShippingOptionsResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,22 +27,44 @@ import java.util.List;
 public class ProductController {
 
     private final ProductUseCase productUseCase;
+    private final SerializedResponseCache serializedResponseCache;
 
     @GetMapping
-    @Operation(summary = "Obtener todos los productos", description = "Retorna lista de productos con paginación")
+    @Operation(summary = "Obtener todos los productos", description = "Retorna lista de productos con paginación y el total en el header X-Total-Count")
     public ResponseEntity<List<ProductResponse>> getAllProducts(
             @Parameter(description = "Número de página") @RequestParam(defaultValue = "0") int offset,
-            @Parameter(description = "Cantidad de elementos por página") @RequestParam(defaultValue = "50") int limit) {
-        List<ProductResponse> products = productUseCase.getAllProducts(offset, limit);
-        return ResponseEntity.ok(products);
+            @Parameter(description = "Cantidad de elementos por página") @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Cursor de continuación (X-Next-Cursor); vacío para la primera página. Si se envía se ignora offset y se ordena por fecha de creación") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Campos a incluir separados por coma (por ejemplo id,title,price,thumbnailId); vacío para los campos por defecto (los objetos anidados y datos de contacto solo si se nombran)") @RequestParam(required = false) String attributes) {
+        if (cursor != null) {
+            return PagedResponses.ok(productUseCase.getProductsAfter(cursor, limit, Fields.of(attributes)), productUseCase.countProducts());
+        }
+        List<ProductResponse> products = productUseCase.getAllProducts(offset, limit, Fields.of(attributes));
+        return PagedResponses.ok(products, productUseCase.countProducts());
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Obtener varios productos", description = "Retorna en una sola respuesta los productos de una lista de IDs separados por coma (máximo " + ProductUseCase.MAX_IDS_PER_REQUEST + "), cada uno con su código de estado: 200 con el producto o 404")
+    public ResponseEntity<List<MultiGetResponse<ProductResponse>>> getProductsByIds(
+            @Parameter(description = "IDs de los productos separados por coma") @RequestParam List<String> ids,
+            @Parameter(description = "Campos a incluir separados por coma (por ejemplo id,title,price,thumbnailId); vacío para los campos por defecto (los objetos anidados y datos de contacto solo si se nombran)") @RequestParam(required = false) String attributes) {
+        List<String> productIds = ids.stream().map(String::strip).filter(id -> !id.isEmpty()).toList();
+        if (productIds.isEmpty() || productIds.size() > ProductUseCase.MAX_IDS_PER_REQUEST) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(productUseCase.getProductsByIds(productIds, Fields.of(attributes)));
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Obtener producto por ID", description = "Retorna información detallada de un producto")
-    public ResponseEntity<ProductResponse> getProductById(
-            @Parameter(description = "ID del producto") @PathVariable String id) {
-        ProductResponse product = productUseCase.getProductById(id);
-        return ResponseEntity.ok(product);
+    @Operation(summary = "Obtener producto por ID", description = "Retorna información detallada de un producto, con ETag según la versión de los datos y Last-Modified según su última actualización (salvo que incluya al vendedor); responde 304 si el cliente ya tiene esa versión")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponse.class)))
+    public ResponseEntity<byte[]> getProductById(
+            @Parameter(description = "ID del producto") @PathVariable String id,
+            @Parameter(description = "Campos a incluir separados por coma (por ejemplo id,title,price,thumbnailId); vacío para los campos por defecto (los objetos anidados y datos de contacto solo si se nombran)") @RequestParam(required = false) String attributes,
+            WebRequest request) {
+        Fields fields = Fields.of(attributes);
+        return serializedResponseCache.get(request, "items/" + id, fields, ProductResponse.class,
+                productUseCase.getVersionedProduct(id, fields));
     }
 
     @GetMapping("/{id}/description")
@@ -0,0 +1,63 @@
+package com.mercadolibre.mlcoreplatform.entrypoints.rest.controller;
+
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.lang.reflect.Parameter;
+
+/**
+ * Marks the body of a handler that takes {@code attributes=} as a {@link JsonCodecs.Projection} when
+ * the request selected fields, so it is written without its null fields: a field that was not
+ * selected is absent. Without a selection the body is left alone and written like any other, nulls
+ * included. Single-resource GETs served as cached bytes pick their writer in
+ * {@link SerializedResponseCache} instead.
+ */
+@ControllerAdvice
+public class ProjectionResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String ATTRIBUTES = "attributes";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType) && takesAttributes(returnType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType contentType,
+                                  Class<? extends HttpMessageConverter<?>> converterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)
+                || Fields.of(servletRequest.getServletRequest().getParameter(ATTRIBUTES)).isDefault()) {
+            return body;
+        }
+        MappingJacksonValue projected = body instanceof MappingJacksonValue value ? value : new MappingJacksonValue(body);
+        projected.setSerializationView(JsonCodecs.Projection.class);
+        return projected;
+    }
+
+    private static boolean takesAttributes(MethodParameter returnType) {
+        for (Parameter parameter : returnType.getExecutable().getParameters()) {
+            RequestParam requestParam = parameter.getAnnotation(RequestParam.class);
+            if (requestParam == null) {
+                continue;
+            }
+            String name = !requestParam.name().isEmpty() ? requestParam.name()
+                    : !requestParam.value().isEmpty() ? requestParam.value() : parameter.getName();
+            if (ATTRIBUTES.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
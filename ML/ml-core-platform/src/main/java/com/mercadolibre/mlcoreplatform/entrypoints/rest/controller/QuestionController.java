@@ -21,12 +21,16 @@ public class QuestionController {
     private final QuestionUseCase questionUseCase;
 
     @GetMapping
-    @Operation(summary = "Obtener todas las preguntas", description = "Retorna lista de preguntas con paginación")
+    @Operation(summary = "Obtener todas las preguntas", description = "Retorna lista de preguntas con paginación y el total en el header X-Total-Count")
     public ResponseEntity<List<QuestionResponse>> getAllQuestions(
             @Parameter(description = "Número de página") @RequestParam(defaultValue = "0") int offset,
-            @Parameter(description = "Cantidad de elementos por página") @RequestParam(defaultValue = "50") int limit) {
+            @Parameter(description = "Cantidad de elementos por página") @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Cursor de continuación (X-Next-Cursor); vacío para la primera página. Si se envía se ignora offset y se ordena por fecha de creación") @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            return PagedResponses.ok(questionUseCase.getQuestionsAfter(cursor, limit), questionUseCase.countQuestions());
+        }
         List<QuestionResponse> questions = questionUseCase.getAllQuestions(offset, limit);
-        return ResponseEntity.ok(questions);
+        return PagedResponses.ok(questions, questionUseCase.countQuestions());
     }
 
     @GetMapping("/{id}")
@@ -44,7 +48,7 @@ public class QuestionController {
             @Parameter(description = "Número de página") @RequestParam(defaultValue = "0") int offset,
             @Parameter(description = "Cantidad de elementos por página") @RequestParam(defaultValue = "50") int limit) {
         List<QuestionResponse> questions = questionUseCase.getQuestionsByItem(item, offset, limit);
-        return ResponseEntity.ok(questions);
+        return PagedResponses.ok(questions, questionUseCase.countQuestionsByItem(item));
     }
 
     @PostMapping
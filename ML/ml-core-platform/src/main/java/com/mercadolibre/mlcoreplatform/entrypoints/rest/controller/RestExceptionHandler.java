@@ -0,0 +1,49 @@
+package com.mercadolibre.mlcoreplatform.entrypoints.rest.controller;
+
+import com.mercadolibre.mlcoreplatform.domain.core.exception.DeadlineExceededException;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.InvalidArgumentException;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.NotFoundException;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ErrorResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps the domain's expected failures to HTTP statuses. Unknown ids are routine under crawler
+ * traffic, so they are answered as 404 without logging. Arguments the domain and the stores reject
+ * (a malformed cursor, a limit out of range) throw {@link InvalidArgumentException} and are the
+ * client's to fix, so they are answered as 400; any other {@link IllegalArgumentException} is ours
+ * and stays a 500 whose message isn't echoed. A lookup that missed its deadline is answered as 504,
+ * never as a 200 without the resource.
+ */
+@RestControllerAdvice
+public class RestExceptionHandler {
+
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNotFound(NotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ErrorResponse.builder()
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("not_found")
+                .message(e.getMessage())
+                .build());
+    }
+
+    @ExceptionHandler(InvalidArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequest(InvalidArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ErrorResponse.builder()
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("bad_request")
+                .message(e.getMessage())
+                .build());
+    }
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ErrorResponse> handleDeadlineExceeded(DeadlineExceededException e) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(ErrorResponse.builder()
+                .status(HttpStatus.GATEWAY_TIMEOUT.value())
+                .error("timeout")
+                .message(e.getMessage())
+                .build());
+    }
+}
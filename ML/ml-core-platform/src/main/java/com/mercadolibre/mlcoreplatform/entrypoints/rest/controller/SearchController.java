@@ -2,7 +2,9 @@ package com.mercadolibre.mlcoreplatform.entrypoints.rest.controller;
 
 import com.mercadolibre.mlcoreplatform.domain.port.in.SearchUseCase;
 import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchCriteria;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchPage;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.SearchResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/sites/{siteId}/search")
@@ -18,19 +21,28 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SearchController {
 
+    // Nombres de las facetas que se muestran en los filtros
+    private static final Map<String, String> FILTER_NAMES = Map.of(
+            "condition", "Condición",
+            "category_id", "Categorías",
+            "free_shipping", "Envío gratis",
+            "logistic_type", "Tipo de envío",
+            "official_store_id", "Tiendas oficiales",
+            "price", "Precio");
+
     private final SearchUseCase searchUseCase;
 
     @GetMapping
-    @Operation(summary = "Buscar productos", description = "Busca productos en un sitio específico según criterios de búsqueda")
-    public ResponseEntity<List<ProductResponse>> searchProducts(
+    @Operation(summary = "Buscar productos", description = "Busca productos en un sitio específico según criterios de búsqueda. Retorna la página de resultados, el total y los conteos por condición, categoría, envío, tienda oficial y rango de precio")
+    public ResponseEntity<SearchResponse> searchProducts(
             @Parameter(description = "ID del sitio") @PathVariable String siteId,
             @Parameter(description = "Término de búsqueda") @RequestParam(required = false) String q,
             @Parameter(description = "ID de categoría") @RequestParam(required = false) String categoryId,
             @Parameter(description = "Condición del producto") @RequestParam(required = false) String condition,
             @Parameter(description = "Precio mínimo") @RequestParam(required = false) Double minPrice,
             @Parameter(description = "Precio máximo") @RequestParam(required = false) Double maxPrice,
-            @Parameter(description = "Tipo de envío") @RequestParam(required = false) String shipping,
-            @Parameter(description = "Tipo de ordenamiento") @RequestParam(required = false) String sort,
+            @Parameter(description = "Tipo de envío: free o un tipo logístico (fulfillment, ...)") @RequestParam(required = false) String shipping,
+            @Parameter(description = "Tipo de ordenamiento: relevance, price_asc o price_desc") @RequestParam(required = false) String sort,
             @Parameter(description = "Número de página") @RequestParam(defaultValue = "0") int offset,
             @Parameter(description = "Cantidad de elementos por página") @RequestParam(defaultValue = "50") int limit) {
         
@@ -47,24 +59,48 @@ public class SearchController {
                 .limit(limit)
                 .build();
         
-        List<ProductResponse> products = searchUseCase.searchProducts(criteria);
-        return ResponseEntity.ok(products);
+        SearchPage<ProductResponse> page = searchUseCase.search(criteria);
+        return ResponseEntity.ok(SearchResponse.builder()
+                .siteId(siteId)
+                .query(q)
+                .paging(SearchResponse.Paging.builder().total(page.total()).offset(offset).limit(limit).build())
+                .results(page.items())
+                .availableFilters(mapToFilters(page.facets()))
+                .build());
     }
 
     @GetMapping("/trends")
-    @Operation(summary = "Obtener tendencias", description = "Retorna las tendencias de búsqueda para un sitio")
+    @Operation(summary = "Obtener tendencias", description = "Retorna las búsquedas más frecuentes de un sitio, dando más peso a las recientes")
     public ResponseEntity<List<String>> getTrends(
-            @Parameter(description = "ID del sitio") @PathVariable String siteId) {
-        // TODO: Implementar lógica de negocio
-        return ResponseEntity.ok(List.of());
+            @Parameter(description = "ID del sitio") @PathVariable String siteId,
+            @Parameter(description = "Cantidad máxima de tendencias") @RequestParam(defaultValue = "10") int limit) {
+        List<String> trends = searchUseCase.getTrends(siteId, limit);
+        return ResponseEntity.ok(trends);
     }
 
     @GetMapping("/suggestions")
-    @Operation(summary = "Obtener sugerencias", description = "Retorna sugerencias de búsqueda para un término")
+    @Operation(summary = "Obtener sugerencias", description = "Retorna sugerencias de búsqueda para un término parcial: títulos de productos, categorías y búsquedas frecuentes, ordenadas por popularidad")
     public ResponseEntity<List<String>> getSearchSuggestions(
             @Parameter(description = "ID del sitio") @PathVariable String siteId,
-            @Parameter(description = "Término parcial") @RequestParam String q) {
-        // TODO: Implementar lógica de negocio
-        return ResponseEntity.ok(List.of());
+            @Parameter(description = "Término parcial") @RequestParam String q,
+            @Parameter(description = "Cantidad máxima de sugerencias") @RequestParam(defaultValue = "10") int limit) {
+        List<String> suggestions = searchUseCase.getSuggestions(siteId, q, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    private List<SearchResponse.Filter> mapToFilters(Map<String, Map<String, Integer>> facets) {
+        return facets.entrySet().stream()
+                .filter(facet -> !facet.getValue().isEmpty())
+                .map(facet -> SearchResponse.Filter.builder()
+                        .id(facet.getKey())
+                        .name(FILTER_NAMES.getOrDefault(facet.getKey(), facet.getKey()))
+                        .values(facet.getValue().entrySet().stream()
+                                .map(value -> SearchResponse.FilterValue.builder()
+                                        .id(value.getKey())
+                                        .results(value.getValue())
+                                        .build())
+                                .toList())
+                        .build())
+                .toList();
     }
 }
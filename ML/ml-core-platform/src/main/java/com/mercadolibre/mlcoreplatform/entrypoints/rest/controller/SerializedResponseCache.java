@@ -0,0 +1,127 @@
+package com.mercadolibre.mlcoreplatform.entrypoints.rest.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Versioned;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON bodies of single-resource GETs kept as bytes, keyed by resource and tagged with the version
+ * of the data they were built from (see {@link Versioned}). A request with a matching
+ * {@code If-None-Match} or a fresh {@code If-Modified-Since} gets a 304 before the response is
+ * built; otherwise the cached bytes are returned as they are, and the response is only built and
+ * serialized again once the version moves.
+ * <p>
+ * Bounded by entry count; when full an arbitrary entry makes room.
+ */
+@Component
+public class SerializedResponseCache {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final JsonCodecs jsonCodecs;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public SerializedResponseCache(JsonCodecs jsonCodecs,
+                                   @Value("${ml.response-cache.max-entries:10000}") int maxEntries) {
+        this.jsonCodecs = jsonCodecs;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * The response for {@code key} at the version of {@code resource}: null when the request already
+     * has it (the 304 is then written by {@code request}), else the cached or freshly serialized
+     * body with its strong ETag and, when the resource has one, Last-Modified.
+     */
+    public <T> ResponseEntity<byte[]> get(WebRequest request, String key, Class<T> type, Versioned<T> resource) {
+        return get(request, key, false, type, resource);
+    }
+
+    /**
+     * Like {@link #get(WebRequest, String, Class, Versioned)} for the {@code fields} of the resource at
+     * {@code path}; a projection is written without its null fields, the default fields as they are.
+     */
+    public <T> ResponseEntity<byte[]> get(WebRequest request, String path, Fields fields, Class<T> type,
+                                          Versioned<T> resource) {
+        return get(request, path + "?" + fields.key(), !fields.isDefault(), type, resource);
+    }
+
+    private <T> ResponseEntity<byte[]> get(WebRequest request, String key, boolean projected, Class<T> type,
+                                           Versioned<T> resource) {
+        long version = resource.version();
+        String etag = etagOf(key, version);
+        long lastModified = resource.lastModified() > Versioned.NO_DATE ? resource.lastModified() : -1;
+        if (request.checkNotModified(etag, lastModified)) {
+            return null;
+        }
+        Entry entry = entries.get(key);
+        if (entry == null || entry.version() != version) {
+            entry = new Entry(version, serialize(type, projected, resource.body().get()));
+            if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+                evictOne();
+            }
+            entries.put(key, entry);
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag);
+        if (lastModified > 0) {
+            response.lastModified(lastModified);
+        }
+        return response.body(entry.body());
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // The whole key, resource and projection, keeps representations of one resource (say, different
+    // attributes=) apart; what an ETag can't carry (quotes, spaces, non-ASCII, and % itself) is
+    // percent-encoded so no two keys share one
+    static String etagOf(String key, long version) {
+        StringBuilder etag = new StringBuilder(key.length() + 20).append('"').append(Long.toHexString(version)).append('-');
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            if (b > 0x20 && b < 0x7F && b != '"' && b != '%') {
+                etag.append((char) b);
+            } else {
+                etag.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+            }
+        }
+        return etag.append('"').toString();
+    }
+
+    private byte[] serialize(Class<?> type, boolean projected, Object value) {
+        JavaType javaType = jsonCodecs.objectMapper().constructType(type);
+        ObjectWriter writer = projected ? jsonCodecs.projectionWriterFor(javaType) : jsonCodecs.writerFor(javaType);
+        try {
+            return (writer != null ? writer : jsonCodecs.objectMapper().writerFor(javaType)).writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void evictOne() {
+        Iterator<String> keys = entries.keySet().iterator();
+        if (keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Entry(long version, byte[] body) {
+    }
+}
@@ -1,16 +1,21 @@
 package com.mercadolibre.mlcoreplatform.entrypoints.rest.controller;
 
 import com.mercadolibre.mlcoreplatform.domain.port.in.UserUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.UserSearchRequest;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.UserResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.PaymentMethodResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,22 +26,28 @@ import java.util.List;
 public class UserController {
 
     private final UserUseCase userUseCase;
+    private final SerializedResponseCache serializedResponseCache;
 
     @GetMapping
-    @Operation(summary = "Obtener todos los usuarios", description = "Retorna lista de usuarios con paginación")
+    @Operation(summary = "Obtener todos los usuarios", description = "Retorna lista de usuarios con paginación y el total en el header X-Total-Count")
     public ResponseEntity<List<UserResponse>> getAllUsers(
             @Parameter(description = "Número de página") @RequestParam(defaultValue = "0") int offset,
-            @Parameter(description = "Cantidad de elementos por página") @RequestParam(defaultValue = "50") int limit) {
-        List<UserResponse> users = userUseCase.getAllUsers(offset, limit);
-        return ResponseEntity.ok(users);
+            @Parameter(description = "Cantidad de elementos por página") @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Campos a incluir separados por coma (por ejemplo id,nickname,countryId); vacío para los campos por defecto (los objetos anidados y datos de contacto solo si se nombran)") @RequestParam(required = false) String attributes) {
+        List<UserResponse> users = userUseCase.getAllUsers(offset, limit, Fields.of(attributes));
+        return PagedResponses.ok(users, userUseCase.countUsers());
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Obtener usuario por ID", description = "Retorna información detallada de un usuario")
-    public ResponseEntity<UserResponse> getUserById(
-            @Parameter(description = "ID del usuario") @PathVariable String id) {
-        UserResponse user = userUseCase.getUserById(id);
-        return ResponseEntity.ok(user);
+    @Operation(summary = "Obtener usuario por ID", description = "Retorna información detallada de un usuario, con ETag según la versión de los datos de vendedores; responde 304 si el cliente ya tiene esa versión")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UserResponse.class)))
+    public ResponseEntity<byte[]> getUserById(
+            @Parameter(description = "ID del usuario") @PathVariable String id,
+            @Parameter(description = "Campos a incluir separados por coma (por ejemplo id,nickname,countryId); vacío para los campos por defecto (los objetos anidados y datos de contacto solo si se nombran)") @RequestParam(required = false) String attributes,
+            WebRequest request) {
+        Fields fields = Fields.of(attributes);
+        return serializedResponseCache.get(request, "users/" + id, fields, UserResponse.class,
+                userUseCase.getVersionedUser(id, fields));
     }
 
     @GetMapping("/{id}/items/search")
@@ -0,0 +1,14 @@
+package com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response;
+
+import lombok.Builder;
+
+/**
+ * Body of an error response: the HTTP status, a short machine-readable error code such as
+ * {@code not_found}, and a message for humans.
+ */
+@Builder
+public record ErrorResponse(
+        int status,
+        String error,
+        String message
+) {}
@@ -0,0 +1,32 @@
+package com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response;
+
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ReviewDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ShippingDto;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the item page shows. A part that failed or missed its deadline is null, and
+ * {@code parts} says why and how long each part took.
+ */
+@Builder
+public record ItemPageResponse(
+        ProductResponse item,
+        UserResponse seller,
+        List<PaymentMethodResponse> paymentMethods,
+        List<QuestionResponse> questions,
+        ReviewDto reviews,
+        List<ShippingDto> shippingOptions,
+        List<CategoryResponse.PathFromRootResponse> navigation,
+        Map<String, PartStatus> parts
+) {
+
+    @Builder
+    public record PartStatus(
+            String status,
+            double latencyMillis,
+            String message
+    ) {}
+}
@@ -0,0 +1,11 @@
+package com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response;
+
+/**
+ * One part of the item page as soon as it is ready, named like the keys of
+ * {@link ItemPageResponse#parts()}. {@code data} is null when the part failed or timed out.
+ */
+public record ItemPageSection(
+        String section,
+        ItemPageResponse.PartStatus status,
+        Object data
+) {}
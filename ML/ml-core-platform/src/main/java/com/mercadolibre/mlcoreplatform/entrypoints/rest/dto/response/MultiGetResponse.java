@@ -0,0 +1,17 @@
+package com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+/**
+ * One entry of a multi-get: the HTTP status the single lookup would have had, and either the
+ * body or the error message.
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MultiGetResponse<T>(
+        int code,
+        String id,
+        T body,
+        String message
+) {}
@@ -1,13 +1,21 @@
 package com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * An item as the API returns it. By default every field is written, null ones as {@code null}; a
+ * projection ({@code attributes=}) is written without its null fields, see
+ * {@link com.mercadolibre.mlcoreplatform.config.JsonCodecs}. {@code siteId} is opt-in and, not being
+ * one of the default fields, is left out whenever it was not selected.
+ */
 @Builder
 public record ProductResponse(
         String id,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String siteId,
         String title,
         String categoryId,
         BigDecimal price,
@@ -0,0 +1,35 @@
+package com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record SearchResponse(
+        String siteId,
+        String query,
+        Paging paging,
+        List<ProductResponse> results,
+        List<Filter> availableFilters
+) {
+
+    @Builder
+    public record Paging(
+            long total,
+            int offset,
+            int limit
+    ) {}
+
+    @Builder
+    public record Filter(
+            String id,
+            String name,
+            List<FilterValue> values
+    ) {}
+
+    @Builder
+    public record FilterValue(
+            String id,
+            int results
+    ) {}
+}
@@ -0,0 +1,81 @@
+package com.mercadolibre.mlcoreplatform.adapter.api;
+
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.ApiCaches;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.PaymentRequest;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.PaymentMethodResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingPaymentApiAdapterTest {
+
+    private final PaymentApiAdapter delegate = mock(PaymentApiAdapter.class);
+    private final ApiCaches caches = new ApiCaches(new MockEnvironment(), 1);
+    private final CachingPaymentApiAdapter adapter = new CachingPaymentApiAdapter(delegate, caches);
+
+    @AfterEach
+    void tearDown() {
+        caches.destroy();
+    }
+
+    @Test
+    void shouldCallTheApiOncePerSite() {
+        // Given
+        PaymentMethodResponse visa = PaymentMethodResponse.builder().id("visa").build();
+        when(delegate.getPaymentMethodsBySite("MLA")).thenReturn(new ArrayList<>(List.of(visa)));
+        when(delegate.getPaymentMethodsBySite("MLB")).thenReturn(new ArrayList<>());
+
+        // When
+        List<PaymentMethodResponse> first = adapter.getPaymentMethodsBySite("MLA");
+        List<PaymentMethodResponse> second = adapter.getPaymentMethodsBySite("MLA");
+        adapter.getPaymentMethodsBySite("MLB");
+        adapter.getPaymentMethodsBySite("MLB");
+
+        // Then
+        assertThat(first).containsExactly(visa);
+        assertThat(second).isSameAs(first);
+        verify(delegate, times(1)).getPaymentMethodsBySite("MLA");
+        verify(delegate, times(1)).getPaymentMethodsBySite("MLB");
+        assertThat(caches.stats().get("payment-methods").hits()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeyInstallmentsByEveryArgument() {
+        // Given
+        when(delegate.getInstallmentOptions(any(), any(), any())).thenReturn(List.of());
+
+        // When
+        adapter.getInstallmentOptions("MLA", "1000", "visa");
+        adapter.getInstallmentOptions("MLA", "1000", "visa");
+        adapter.getInstallmentOptions("MLA", "2000", "visa");
+        adapter.getInstallmentOptions("MLA", "1000", null);
+
+        // Then
+        verify(delegate, times(1)).getInstallmentOptions("MLA", "1000", "visa");
+        verify(delegate, times(1)).getInstallmentOptions("MLA", "2000", "visa");
+        verify(delegate, times(1)).getInstallmentOptions("MLA", "1000", null);
+    }
+
+    @Test
+    void shouldNeverCachePayments() {
+        // Given
+        PaymentRequest request = PaymentRequest.builder().build();
+
+        // When
+        adapter.processPayment(request);
+        adapter.processPayment(request);
+
+        // Then
+        verify(delegate, times(2)).processPayment(request);
+    }
+}
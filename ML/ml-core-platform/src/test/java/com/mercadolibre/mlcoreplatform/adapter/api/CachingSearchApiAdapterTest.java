@@ -0,0 +1,83 @@
+package com.mercadolibre.mlcoreplatform.adapter.api;
+
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.ApiCaches;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchCriteria;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchPage;
+import com.mercadolibre.mlcoreplatform.domain.port.out.ProductPersistencePort;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingSearchApiAdapterTest {
+
+    private static final SearchCriteria CRITERIA = SearchCriteria.builder().siteId("MCO").query("iphone").build();
+
+    private final SearchApiAdapter delegate = mock(SearchApiAdapter.class);
+    private final ProductPersistencePort productPersistencePort = mock(ProductPersistencePort.class);
+    private ApiCaches caches;
+
+    @AfterEach
+    void tearDown() {
+        caches.destroy();
+    }
+
+    @Test
+    void shouldSearchTheIndexEveryTimeByDefault() {
+        // Given
+        CachingSearchApiAdapter adapter = adapter(new MockEnvironment());
+        when(delegate.search(CRITERIA)).thenReturn(page("MCO1"));
+
+        // When
+        adapter.search(CRITERIA);
+        adapter.search(CRITERIA);
+
+        // Then
+        verify(delegate, times(2)).search(CRITERIA);
+    }
+
+    @Test
+    void shouldDropCachedPagesWhenTheProductsChangeVersion() {
+        // Given
+        CachingSearchApiAdapter adapter = adapter(new MockEnvironment()
+                .withProperty("ml.api-cache.search.enabled", "true")
+                .withProperty("ml.api-cache.search-products.enabled", "true"));
+        ArgumentCaptor<LongConsumer> listener = ArgumentCaptor.forClass(LongConsumer.class);
+        verify(productPersistencePort).onVersionChange(listener.capture());
+        when(delegate.search(CRITERIA)).thenReturn(page("MCO1"), page("MCO2"));
+        when(delegate.searchProducts(CRITERIA)).thenReturn(List.of(), List.of());
+
+        // When
+        SearchPage<ProductResponse> cached = adapter.search(CRITERIA);
+        SearchPage<ProductResponse> again = adapter.search(CRITERIA);
+        adapter.searchProducts(CRITERIA);
+        listener.getValue().accept(2L);
+        SearchPage<ProductResponse> reloaded = adapter.search(CRITERIA);
+        adapter.searchProducts(CRITERIA);
+
+        // Then
+        assertThat(again).isSameAs(cached);
+        assertThat(reloaded.items()).extracting(ProductResponse::id).containsExactly("MCO2");
+        verify(delegate, times(2)).search(CRITERIA);
+        verify(delegate, times(2)).searchProducts(CRITERIA);
+    }
+
+    private CachingSearchApiAdapter adapter(MockEnvironment environment) {
+        caches = new ApiCaches(environment, 1);
+        return new CachingSearchApiAdapter(delegate, caches, productPersistencePort);
+    }
+
+    private static SearchPage<ProductResponse> page(String id) {
+        return new SearchPage<>(List.of(ProductResponse.builder().id(id).build()), 1);
+    }
+}
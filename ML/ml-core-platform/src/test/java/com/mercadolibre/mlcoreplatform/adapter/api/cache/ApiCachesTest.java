@@ -0,0 +1,66 @@
+package com.mercadolibre.mlcoreplatform.adapter.api.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApiCachesTest {
+
+    private static final CacheSpec DEFAULTS = CacheSpec.of(Duration.ofMinutes(10), 1_000);
+
+    @Test
+    void shouldOverrideDefaultsWithCacheProperties() {
+        // Given
+        ApiCaches caches = new ApiCaches(new MockEnvironment()
+                .withProperty("ml.api-cache.search.ttl", "5s")
+                .withProperty("ml.api-cache.search.max-weight", "50")
+                .withProperty("ml.api-cache.search.refresh-ahead", "PT1S")
+                .withProperty("ml.api-cache.search.coalesce", "false"), 1);
+
+        // When
+        CacheSpec search = caches.specOf("search", DEFAULTS);
+        CacheSpec other = caches.specOf("payment-methods", DEFAULTS);
+
+        // Then
+        assertThat(search).isEqualTo(new CacheSpec(true, Duration.ofSeconds(5), 50, Duration.ofSeconds(1), false));
+        assertThat(other).isEqualTo(DEFAULTS);
+        caches.destroy();
+    }
+
+    @Test
+    void shouldDisableEveryCacheWithTheGlobalSwitch() {
+        // Given
+        ApiCaches caches = new ApiCaches(new MockEnvironment()
+                .withProperty("ml.api-cache.enabled", "false")
+                .withProperty("ml.api-cache.search.enabled", "true"), 1);
+
+        // Then
+        assertThat(caches.specOf("search", DEFAULTS).enabled()).isFalse();
+        caches.destroy();
+    }
+
+    @Test
+    void shouldReportStatsByCacheName() {
+        // Given
+        ApiCaches caches = new ApiCaches(new MockEnvironment(), 1);
+        LocalCache<String, List<String>> sites = caches.cache("sites", DEFAULTS, ApiCaches::weightOf);
+
+        // When
+        sites.get("MLA", site -> ApiCaches.copyOf(new ArrayList<>(List.of("a", "b"))));
+        List<String> cached = sites.get("MLA", site -> List.of());
+
+        // Then
+        assertThat(cached).containsExactly("a", "b");
+        assertThatThrownBy(() -> cached.add("c")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(caches.stats()).containsOnlyKeys("sites");
+        assertThat(caches.stats().get("sites").weight()).isEqualTo(3);
+        assertThatThrownBy(() -> caches.cache("sites", DEFAULTS, value -> 1)).isInstanceOf(IllegalStateException.class);
+        caches.destroy();
+    }
+}
@@ -0,0 +1,44 @@
+package com.mercadolibre.mlcoreplatform.adapter.api.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrequencySketchTest {
+
+    @Test
+    void shouldCountUpToFifteen() {
+        // Given
+        FrequencySketch sketch = new FrequencySketch(1_000);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            sketch.increment("MLA123");
+        }
+        for (int i = 0; i < 40; i++) {
+            sketch.increment("MLA456");
+        }
+
+        // Then
+        assertThat(sketch.frequency("MLA123")).isEqualTo(3);
+        assertThat(sketch.frequency("MLA456")).isEqualTo(15);
+        assertThat(sketch.frequency("MLA789")).isZero();
+    }
+
+    @Test
+    void shouldHalveCountsOnceTheSampleIsFull() {
+        // Given
+        FrequencySketch sketch = new FrequencySketch(16);
+        for (int i = 0; i < 12; i++) {
+            sketch.increment("hot");
+        }
+
+        // When
+        for (int i = 0; i < 10 * 16; i++) {
+            sketch.increment("other-" + i);
+        }
+
+        // Then
+        assertThat(sketch.frequency("hot")).isBetween(1, 8);
+    }
+}
@@ -0,0 +1,213 @@
+package com.mercadolibre.mlcoreplatform.adapter.api.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void shouldServeLoadedValueUntilItExpires() {
+        // Given
+        LocalCache<String, String> cache = cache(CacheSpec.of(Duration.ofSeconds(10), 100), value -> 1);
+
+        // When
+        String first = cache.get("MLA", this::load);
+        String second = cache.get("MLA", this::load);
+        advance(Duration.ofSeconds(11));
+        String afterExpiry = cache.get("MLA", this::load);
+
+        // Then
+        assertThat(first).isEqualTo("MLA#1");
+        assertThat(second).isEqualTo("MLA#1");
+        assertThat(afterExpiry).isEqualTo("MLA#2");
+        CacheStats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(2);
+        assertThat(stats.loads()).isEqualTo(2);
+        assertThat(stats.size()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    void shouldNotKeepNullsOrFailures() {
+        // Given
+        LocalCache<String, String> cache = cache(CacheSpec.of(Duration.ofSeconds(10), 100), value -> 1);
+        Function<String, String> failing = key -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("down");
+        };
+
+        // When
+        cache.get("missing", key -> null);
+        String reloaded = cache.get("missing", this::load);
+
+        // Then
+        assertThat(reloaded).isEqualTo("missing#1");
+        assertThatThrownBy(() -> cache.get("broken", failing)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> cache.get("broken", failing)).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.stats().loadFailures()).isEqualTo(2);
+        assertThat(cache.stats().size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepFrequentEntriesThroughAScanOfOneOffKeys() {
+        // Given
+        LocalCache<Integer, String> cache = cache(CacheSpec.of(Duration.ofMinutes(10), 100), value -> 1);
+        for (int round = 0; round < 5; round++) {
+            for (int hot = 0; hot < 50; hot++) {
+                cache.get(hot, this::load);
+            }
+        }
+        int hotLoads = loads.get();
+
+        // When
+        for (int oneOff = 1_000; oneOff < 3_000; oneOff++) {
+            cache.get(oneOff, this::load);
+        }
+        loads.set(0);
+        for (int hot = 0; hot < 50; hot++) {
+            cache.get(hot, this::load);
+        }
+
+        // Then
+        assertThat(hotLoads).isEqualTo(50);
+        assertThat(loads.get()).as("only the hot key still in the window may lose its place").isLessThanOrEqualTo(1);
+        CacheStats stats = cache.stats();
+        assertThat(stats.size()).isEqualTo(100);
+        assertThat(stats.weight()).isEqualTo(100);
+        assertThat(stats.evictions()).isEqualTo(stats.loads() - stats.size());
+    }
+
+    @Test
+    void shouldBoundTheCacheByWeight() {
+        // Given
+        LocalCache<String, String> cache = cache(CacheSpec.of(Duration.ofMinutes(10), 20),
+                value -> value.startsWith("too-heavy") ? 21 : 5);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            cache.get("key-" + i, this::load);
+        }
+        cache.get("too-heavy-for-the-whole-cache", this::load);
+        cache.get("too-heavy-for-the-whole-cache", this::load);
+
+        // Then
+        CacheStats stats = cache.stats();
+        assertThat(stats.weight()).isEqualTo(20);
+        assertThat(stats.size()).isEqualTo(4);
+        assertThat(stats.evictionWeight()).isEqualTo(30);
+        assertThat(stats.misses()).isEqualTo(12);
+    }
+
+    @Test
+    void shouldRefreshHotEntriesAheadOfExpiry() {
+        // Given
+        LocalCache<String, String> cache = cache(
+                new CacheSpec(true, Duration.ofSeconds(10), 100, Duration.ofSeconds(2), true), value -> 1);
+        cache.get("MLA", this::load);
+        cache.get("MLA", this::load);
+        cache.get("cold", this::load);
+
+        // When
+        advance(Duration.ofSeconds(9));
+        String servedWhileRefreshing = cache.get("MLA", this::load);
+        String coldNearExpiry = cache.get("cold", this::load);
+        advance(Duration.ofSeconds(6));
+        String afterOriginalExpiry = cache.get("MLA", this::load);
+
+        // Then
+        assertThat(servedWhileRefreshing).isEqualTo("MLA#1");
+        assertThat(coldNearExpiry).isEqualTo("cold#2");
+        assertThat(afterOriginalExpiry).isEqualTo("MLA#3");
+        assertThat(cache.stats().refreshes()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCallTheLoaderEveryTimeWhenDisabled() {
+        // Given
+        LocalCache<String, String> cache = cache(
+                new CacheSpec(false, Duration.ofMinutes(1), 100, Duration.ZERO, false), value -> 1);
+
+        // When
+        cache.get("MLA", this::load);
+        cache.get("MLA", this::load);
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    void shouldLoadAKeyOnceForConcurrentMisses() throws Exception {
+        // Given
+        LocalCache<String, String> cache = cache(CacheSpec.of(Duration.ofMinutes(1), 100), value -> 1);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        Function<String, String> slow = key -> {
+            loading.countDown();
+            await(release);
+            return load(key);
+        };
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        results.add(callers.submit(() -> cache.get("MLA", slow)));
+        loading.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 3; i++) {
+            results.add(callers.submit(() -> cache.get("MLA", slow)));
+        }
+        while (cache.stats().collapsed() < 3) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("MLA#1");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().loads()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(4);
+        callers.shutdownNow();
+    }
+
+    private <K, V> LocalCache<K, V> cache(CacheSpec spec, ToIntFunction<? super V> weigher) {
+        return new LocalCache<>("test", spec, weigher, Runnable::run, now::get);
+    }
+
+    private String load(Object key) {
+        return key + "#" + loads.incrementAndGet();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,146 @@
+package com.mercadolibre.mlcoreplatform.adapter.api.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+    private final AtomicInteger executions = new AtomicInteger();
+    private final CountDownLatch running = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void shouldShareOneExecutionBetweenConcurrentCalls() throws Exception {
+        // Given
+        SingleFlight<String, String> flight = new SingleFlight<>(true);
+        Function<String, String> slow = key -> {
+            running.countDown();
+            await(release);
+            return key + "#" + executions.incrementAndGet();
+        };
+
+        // When
+        List<String> results = new ArrayList<>();
+        for (Future<String> result : collapsedCalls(flight, () -> flight.execute("MLA", slow))) {
+            results.add(result.get(5, TimeUnit.SECONDS));
+        }
+        String afterwards = flight.execute("MLA", slow);
+
+        // Then
+        assertThat(results).containsExactly("MLA#1", "MLA#1", "MLA#1", "MLA#1");
+        assertThat(afterwards).isEqualTo("MLA#2");
+        assertThat(flight.executions()).isEqualTo(2);
+        assertThat(flight.collapsed()).isEqualTo(3);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldShareTheFailureWithEveryWaitingCall() throws Exception {
+        // Given
+        SingleFlight<String, String> flight = new SingleFlight<>(true);
+        Function<String, String> failing = key -> {
+            executions.incrementAndGet();
+            running.countDown();
+            await(release);
+            throw new IllegalStateException("down");
+        };
+
+        // When
+        List<Future<String>> results = collapsedCalls(flight, () -> flight.execute("MLA", failing));
+
+        // Then
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldJoinAsyncCallsToTheRunningExecution() {
+        // Given
+        SingleFlight<String, String> flight = new SingleFlight<>(true);
+        CompletableFuture<String> remote = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<String> first = flight.executeAsync("MLA", key -> {
+            executions.incrementAndGet();
+            return remote;
+        });
+        CompletableFuture<String> second = flight.executeAsync("MLA", key -> CompletableFuture.completedFuture("other"));
+        second.cancel(true);
+        remote.complete("MLA#1");
+        String afterwards = flight.execute("MLA", key -> "MLA#2");
+
+        // Then
+        assertThat(first.join()).isEqualTo("MLA#1");
+        assertThat(second).isCancelled();
+        assertThat(afterwards).isEqualTo("MLA#2");
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(flight.collapsed()).isEqualTo(1);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldRunEveryCallWhenDisabled() {
+        // Given
+        SingleFlight<String, String> flight = new SingleFlight<>(false);
+
+        // When
+        flight.execute("MLA", key -> key + "#" + executions.incrementAndGet());
+        flight.execute("MLA", key -> key + "#" + executions.incrementAndGet());
+
+        // Then
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(flight.executions()).isEqualTo(2);
+        assertThat(flight.collapsed()).isZero();
+    }
+
+    // One call starts the execution, three more arrive while it runs, then it is let go
+    private List<Future<String>> collapsedCalls(SingleFlight<String, String> flight, Callable<String> call)
+            throws InterruptedException {
+        List<Future<String>> results = new ArrayList<>();
+        results.add(callers.submit(call));
+        running.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 3; i++) {
+            results.add(callers.submit(call));
+        }
+        while (flight.collapsed() < 3) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.mercadolibre.mlcoreplatform.adapter.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A Redis stand-in for tests, on a free loopback port: GET, MGET, SET (with PX), DEL and PING over
+ * RESP2, and a count of the commands received by name.
+ */
+public class RespStandIn implements Closeable {
+
+    private final ServerSocket server;
+    private final Map<String, Value> data = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> commands = new ConcurrentHashMap<>();
+    private final List<Socket> connections = new CopyOnWriteArrayList<>();
+    private volatile String failingArgument;
+
+    public RespStandIn() throws IOException {
+        server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "resp-stand-in");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int port() {
+        return server.getLocalPort();
+    }
+
+    public int commandCount(String name) {
+        AtomicInteger count = commands.get(name);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Answers every later command that has {@code argument} among its arguments with an error reply.
+     */
+    public void failCommandsWith(String argument) {
+        failingArgument = argument;
+    }
+
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+        for (Socket connection : connections) {
+            connection.close();
+        }
+    }
+
+    private void accept() {
+        while (!server.isClosed()) {
+            try {
+                Socket connection = server.accept();
+                connections.add(connection);
+                Thread handler = new Thread(() -> serve(connection), "resp-stand-in-connection");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket connection) {
+        try (connection) {
+            InputStream in = new BufferedInputStream(connection.getInputStream());
+            OutputStream out = new BufferedOutputStream(connection.getOutputStream());
+            List<byte[]> command;
+            while ((command = readCommand(in)) != null) {
+                synchronized (out) {
+                    execute(command, out);
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            // Connection gone
+        }
+    }
+
+    private void execute(List<byte[]> command, OutputStream out) throws IOException {
+        String name = text(command.get(0)).toUpperCase(Locale.ROOT);
+        commands.computeIfAbsent(name, ignored -> new AtomicInteger()).incrementAndGet();
+        String failing = failingArgument;
+        if (failing != null && command.stream().skip(1).anyMatch(arg -> text(arg).equals(failing))) {
+            out.write("-ERR injected failure\r\n".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        switch (name) {
+            case "PING" -> simple(out, "PONG");
+            case "GET" -> bulk(out, get(text(command.get(1))));
+            case "MGET" -> {
+                array(out, command.size() - 1);
+                for (int i = 1; i < command.size(); i++) {
+                    bulk(out, get(text(command.get(i))));
+                }
+            }
+            case "SET" -> {
+                long expiresAt = Long.MAX_VALUE;
+                if (command.size() >= 5 && text(command.get(3)).equalsIgnoreCase("PX")) {
+                    expiresAt = System.currentTimeMillis() + Long.parseLong(text(command.get(4)));
+                }
+                data.put(text(command.get(1)), new Value(command.get(2), expiresAt));
+                simple(out, "OK");
+            }
+            case "DEL" -> {
+                long deleted = 0;
+                for (int i = 1; i < command.size(); i++) {
+                    deleted += data.remove(text(command.get(i))) != null ? 1 : 0;
+                }
+                integer(out, deleted);
+            }
+            default -> out.write(("-ERR unknown command '" + name + "'\r\n").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private byte[] get(String key) {
+        Value value = data.get(key);
+        if (value == null || value.expiresAt() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return value.bytes();
+    }
+
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        int type = in.read();
+        if (type == -1) {
+            return null;
+        }
+        if (type != '*') {
+            throw new IOException("Expected an array, got " + (char) type);
+        }
+        int count = Integer.parseInt(readLine(in));
+        List<byte[]> args = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (in.read() != '$') {
+                throw new IOException("Expected a bulk string");
+            }
+            int length = Integer.parseInt(readLine(in));
+            args.add(in.readNBytes(length));
+            in.read();
+            in.read();
+        }
+        return args;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\r') {
+            if (c == -1) {
+                throw new IOException("Connection closed");
+            }
+            line.append((char) c);
+        }
+        in.read();
+        return line.toString();
+    }
+
+    private static void simple(OutputStream out, String value) throws IOException {
+        out.write(("+" + value + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void integer(OutputStream out, long value) throws IOException {
+        out.write((":" + value + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void array(OutputStream out, int size) throws IOException {
+        out.write(("*" + size + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void bulk(OutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.write("$-1\r\n".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        out.write(("$" + value.length + "\r\n").getBytes(StandardCharsets.UTF_8));
+        out.write(value);
+        out.write("\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private record Value(byte[] bytes, long expiresAt) {
+    }
+}
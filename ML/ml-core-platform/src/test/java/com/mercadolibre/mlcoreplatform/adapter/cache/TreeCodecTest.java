@@ -0,0 +1,69 @@
+package com.mercadolibre.mlcoreplatform.adapter.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.ProductPersistenceAdapter;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ProductDto;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TreeCodecTest {
+
+    private final ObjectMapper objectMapper = JsonCodecs.standalone().objectMapper();
+
+    @Test
+    void shouldRoundTripEveryProductInLessSpaceThanJson() throws IOException {
+        // Given
+        TreeCodec<ProductDto> codec = new TreeCodec<>(objectMapper, objectMapper.constructType(ProductDto.class));
+        List<ProductDto> products = new ProductPersistenceAdapter().findAll();
+        long binaryBytes = 0;
+        long jsonBytes = 0;
+
+        // When
+        for (ProductDto product : products) {
+            byte[] encoded = codec.encode(product);
+            binaryBytes += encoded.length;
+            jsonBytes += objectMapper.writeValueAsBytes(product).length;
+
+            // Then
+            assertThat(codec.decode(encoded)).isEqualTo(product);
+        }
+        assertThat(products).isNotEmpty();
+        assertThat(binaryBytes).isLessThan(jsonBytes * 3 / 4);
+    }
+
+    @Test
+    void shouldKeepNumbersStringsAndNesting() {
+        // Given
+        TreeCodec<Map<String, Object>> codec = new TreeCodec<>(objectMapper,
+                objectMapper.getTypeFactory().constructMapType(Map.class, String.class, Object.class));
+        Map<String, Object> value = Map.of(
+                "small", -3,
+                "large", 1L << 40,
+                "price", 1999.99,
+                "site", "MLA",
+                "tags", List.of("MLA", "MLA", "ñandú", true),
+                "nested", Map.of("site", "MLA", "empty", List.of()));
+
+        // When
+        Map<String, Object> decoded = codec.decode(codec.encode(value));
+
+        // Then
+        assertThat(decoded).isEqualTo(value);
+    }
+
+    @Test
+    void shouldReadOtherFormatsAsMissing() {
+        // Given
+        TreeCodec<ProductDto> codec = new TreeCodec<>(objectMapper, objectMapper.constructType(ProductDto.class));
+
+        // Then
+        assertThat(codec.decode(new byte[]{'{', '}'})).isNull();
+        assertThat(codec.decode(new byte[0])).isNull();
+    }
+}
@@ -0,0 +1,255 @@
+package com.mercadolibre.mlcoreplatform.adapter.cache;
+
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.ApiCaches;
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.CacheSpec;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheTest {
+
+    private static final CacheSpec NEAR = CacheSpec.of(Duration.ofMinutes(1), 1_000);
+
+    private final List<RemoteCache> instances = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private RespStandIn standIn;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        standIn = new RespStandIn();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        instances.forEach(RemoteCache::destroy);
+        standIn.close();
+    }
+
+    @Test
+    void shouldServeOtherInstancesFromTheFarTier() {
+        // Given
+        TwoTierCache<String> first = cache(instance());
+        TwoTierCache<String> second = cache(instance());
+
+        // When
+        String loaded = first.get("MLA1", this::load);
+        String shared = second.get("MLA1", this::load);
+        String near = second.get("MLA1", this::load);
+
+        // Then
+        assertThat(loaded).isEqualTo("MLA1#1");
+        assertThat(shared).isEqualTo("MLA1#1");
+        assertThat(near).isEqualTo("MLA1#1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(standIn.commandCount("MGET")).isEqualTo(2);
+        assertThat(standIn.commandCount("SET")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAskTheFarTierForAllNearMissesAtOnce() {
+        // Given
+        RemoteCache remote = instance();
+        TwoTierCache<String> cache = cache(remote);
+        List<String> keys = IntStream.range(0, 250).mapToObj(i -> "MLA" + i).toList();
+        cache.getAll(keys.subList(0, 50), this::loadAll);
+        cache(instance()).getAll(keys.subList(50, 100), this::loadAll);
+        int mgetsBefore = standIn.commandCount("MGET");
+        List<Collection<String>> loaderCalls = new ArrayList<>();
+
+        // When
+        Map<String, String> found = cache.getAll(keys, missing -> {
+            loaderCalls.add(new ArrayList<>(missing));
+            return loadAll(missing);
+        });
+
+        // Then
+        assertThat(found.keySet()).containsExactlyElementsOf(keys);
+        assertThat(found.get("MLA75")).isEqualTo("MLA75#76");
+        assertThat(standIn.commandCount("MGET") - mgetsBefore).isEqualTo(2);
+        assertThat(loaderCalls).hasSize(1);
+        assertThat(loaderCalls.get(0)).containsExactlyElementsOf(keys.subList(100, 250));
+        assertThat(remote.stats().hits()).isEqualTo(50);
+    }
+
+    @Test
+    void shouldCountAFailedBatchAsMissesForItsOwnKeysOnly() {
+        // Given: every key is in the far tier, and the batch holding the 150th key fails
+        List<String> keys = IntStream.range(0, 250).mapToObj(i -> "MLA" + i).toList();
+        cache(instance()).getAll(keys, this::loadAll);
+        standIn.failCommandsWith("ml:test:0:MLA150");
+        List<Collection<String>> loaderCalls = new ArrayList<>();
+
+        // When
+        Map<String, String> found = cache(instance()).getAll(keys, missing -> {
+            loaderCalls.add(new ArrayList<>(missing));
+            return loadAll(missing);
+        });
+
+        // Then
+        assertThat(loaderCalls).containsExactly(keys.subList(100, 200));
+        assertThat(found.get("MLA99")).isEqualTo("MLA99#100");
+        assertThat(found.get("MLA150")).isEqualTo("MLA150#301");
+        assertThat(found.get("MLA200")).isEqualTo("MLA200#201");
+        assertThat(found.get("MLA249")).isEqualTo("MLA249#250");
+    }
+
+    @Test
+    void shouldRememberKeysThatAreNowhere() {
+        // Given
+        RemoteCache remote = instance();
+        TwoTierCache<String> cache = cache(remote);
+        Function<String, String> missing = key -> {
+            loads.incrementAndGet();
+            return null;
+        };
+
+        // When
+        String first = cache.get("MLA404", missing);
+        String again = cache.get("MLA404", missing);
+        Map<String, String> batch = cache.getAll(List.of("MLA404", "MLA1"), this::loadAll);
+        int loadsBeforeNewGeneration = loads.get();
+        int mgetsBeforeNewGeneration = standIn.commandCount("MGET");
+        cache.generation(1);
+        String afterNewGeneration = cache.get("MLA404", this::load);
+
+        // Then
+        assertThat(first).isNull();
+        assertThat(again).isNull();
+        assertThat(batch).containsOnlyKeys("MLA1");
+        assertThat(loadsBeforeNewGeneration).isEqualTo(2);
+        assertThat(mgetsBeforeNewGeneration).isEqualTo(2);
+        assertThat(afterNewGeneration).isEqualTo("MLA404#3");
+    }
+
+    @Test
+    void shouldKeepServingFromTheNearTierWhenTheServerIsDown() {
+        // Given: nothing listens on port 1, and unlike the stand-in's freed ephemeral port the client
+        // can't end up connected to itself there
+        RemoteCache remote = instance(1);
+        TwoTierCache<String> cache = cache(remote);
+
+        // When
+        String loaded = cache.get("MLA1", this::load);
+        String near = cache.get("MLA1", this::load);
+        Map<String, String> batch = cache.getAll(List.of("MLA1", "MLA2"), this::loadAll);
+
+        // Then
+        assertThat(loaded).isEqualTo("MLA1#1");
+        assertThat(near).isEqualTo("MLA1#1");
+        assertThat(batch).containsEntry("MLA1", "MLA1#1").containsEntry("MLA2", "MLA2#2");
+        assertThat(remote.stats().available()).isFalse();
+        assertThat(remote.stats().errors()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldStartOverOnANewDataGeneration() {
+        // Given
+        TwoTierCache<String> cache = cache(instance());
+        cache.generation(1);
+        cache.get("MLA1", this::load);
+
+        // When
+        cache.generation(2);
+        String reloaded = cache.get("MLA1", this::load);
+
+        // Then
+        assertThat(reloaded).isEqualTo("MLA1#2");
+        assertThat(cache.farKey(2, "MLA1")).isEqualTo("ml:test:2:MLA1");
+        assertThat(standIn.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepNothingLoadedWhileTheGenerationMovedOn() {
+        // Given: each load lands after the store has moved to a new generation
+        TwoTierCache<String> cache = cache(instance());
+        cache.generation(1);
+        AtomicInteger generations = new AtomicInteger(1);
+        Function<String, String> reloading = key -> {
+            cache.generation(generations.incrementAndGet());
+            return load(key);
+        };
+
+        // When
+        String single = cache.get("MLA1", reloading);
+        Map<String, String> batch = cache.getAll(List.of("MLA2", "MLA3"), missing -> {
+            cache.generation(generations.incrementAndGet());
+            return loadAll(missing);
+        });
+        String absentKey = cache.get("MLA404", key -> {
+            cache.generation(generations.incrementAndGet());
+            return null;
+        });
+        String again = cache.get("MLA1", this::load);
+        Map<String, String> batchAgain = cache.getAll(List.of("MLA2", "MLA404"), this::loadAll);
+
+        // Then: served to their callers, but kept in neither tier nor remembered as absent
+        assertThat(single).isEqualTo("MLA1#1");
+        assertThat(batch).containsEntry("MLA2", "MLA2#2").containsEntry("MLA3", "MLA3#3");
+        assertThat(absentKey).isNull();
+        assertThat(again).isEqualTo("MLA1#4");
+        assertThat(batchAgain).containsEntry("MLA2", "MLA2#5").containsEntry("MLA404", "MLA404#6");
+        assertThat(standIn.size()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldShareEntriesWithInstancesOnTheSameGenerationOnly() {
+        // Given
+        TwoTierCache<String> first = cache(instance());
+        TwoTierCache<String> second = cache(instance());
+        first.generation(1);
+        second.generation(1);
+        first.get("MLA1", this::load);
+
+        // When: the second instance starts over on the same data, then reloads newer data
+        second.generation(1);
+        String shared = second.get("MLA1", this::load);
+        second.generation(2);
+        String reloaded = second.get("MLA1", this::load);
+        String untouched = first.get("MLA1", this::load);
+
+        // Then
+        assertThat(shared).isEqualTo("MLA1#1");
+        assertThat(reloaded).isEqualTo("MLA1#2");
+        assertThat(untouched).isEqualTo("MLA1#1");
+    }
+
+    private RemoteCache instance() {
+        return instance(standIn.port());
+    }
+
+    private RemoteCache instance(int port) {
+        RemoteCache remote = new RemoteCache(JsonCodecs.standalone(), new ApiCaches(new MockEnvironment(), 1),
+                "127.0.0.1", port, Duration.ofSeconds(1), 2, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        instances.add(remote);
+        return remote;
+    }
+
+    private static TwoTierCache<String> cache(RemoteCache remote) {
+        return remote.cache("test", NEAR, String.class);
+    }
+
+    private String load(String key) {
+        return key + "#" + loads.incrementAndGet();
+    }
+
+    private Map<String, String> loadAll(Collection<String> keys) {
+        Map<String, String> values = new LinkedHashMap<>();
+        keys.forEach(key -> values.put(key, load(key)));
+        return values;
+    }
+}
@@ -0,0 +1,92 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence;
+
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.ApiCaches;
+import com.mercadolibre.mlcoreplatform.adapter.cache.RemoteCache;
+import com.mercadolibre.mlcoreplatform.adapter.cache.RespStandIn;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ProductDto;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingProductPersistenceAdapterTest {
+
+    private final List<RemoteCache> instances = new ArrayList<>();
+    private RespStandIn standIn;
+    private ProductPersistenceAdapter store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        standIn = new RespStandIn();
+        store = new ProductPersistenceAdapter();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        instances.forEach(RemoteCache::destroy);
+        standIn.close();
+    }
+
+    @Test
+    void shouldReturnWhatTheStoreHasAndShareItWithOtherInstances() throws IOException {
+        // Given
+        String productId = store.findAll(0, 1).get(0).id();
+        ProductPersistenceAdapter otherStore = spy(new ProductPersistenceAdapter());
+        CachingProductPersistenceAdapter adapter = new CachingProductPersistenceAdapter(store, instance());
+        CachingProductPersistenceAdapter otherInstance = new CachingProductPersistenceAdapter(otherStore, instance());
+
+        // When
+        Optional<ProductDto> found = adapter.findById(productId);
+        Optional<ProductDto> shared = otherInstance.findById(productId);
+
+        // Then
+        assertThat(otherStore.version()).isEqualTo(store.version());
+        assertThat(found).isEqualTo(store.findById(productId));
+        assertThat(shared).isEqualTo(found);
+        verify(otherStore, never()).findById(productId);
+        assertThat(adapter.findById("MISSING")).isEmpty();
+    }
+
+    @Test
+    void shouldLoadOnlyTheIdsNeitherTierHas() {
+        // Given
+        List<String> ids = store.findAll(0, 2).stream().map(ProductDto::id).toList();
+        ProductPersistenceAdapter delegate = mock(ProductPersistenceAdapter.class);
+        when(delegate.findById(ids.get(0))).thenReturn(store.findById(ids.get(0)));
+        List<String> rest = List.of(ids.get(1), "MISSING");
+        when(delegate.findAllById(rest)).thenReturn(store.findAllById(rest));
+        CachingProductPersistenceAdapter adapter = new CachingProductPersistenceAdapter(delegate, instance());
+        adapter.findById(ids.get(0));
+
+        // When
+        Map<String, ProductDto> found = adapter.findAllById(List.of(ids.get(1), ids.get(0), "MISSING"));
+
+        // Then
+        assertThat(found.keySet()).containsExactly(ids.get(1), ids.get(0));
+        assertThat(found.values()).containsExactlyElementsOf(store.findAllById(found.keySet()).values());
+        verify(delegate, times(1)).findAllById(rest);
+    }
+
+    private RemoteCache instance() {
+        RemoteCache remote = new RemoteCache(JsonCodecs.standalone(), new ApiCaches(new MockEnvironment(), 1),
+                "127.0.0.1", standIn.port(), Duration.ofSeconds(1), 2, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        instances.add(remote);
+        return remote;
+    }
+}
@@ -111,6 +111,31 @@ class CategoryPersistenceAdapterTest {
         }
     }
 
+    @Test
+    void shouldListSubtreeInTourOrder() {
+        // When
+        List<String> subtree = categoryPersistenceAdapter.findSubtreeIds("MCO1000");
+
+        // Then - the root first, and each category right before its own children
+        assertThat(subtree).first().isEqualTo("MCO1000");
+        assertThat(subtree).containsSubsequence("MCO1055", "MCO1055001", "MCO1055002", "MCO1055003");
+        assertThat(subtree).contains("MCO1144", "MCO1039", "MCO1051", "MCO1002");
+        assertThat(categoryPersistenceAdapter.findSubtreeIds("MCO1055"))
+                .containsExactly("MCO1055", "MCO1055001", "MCO1055002", "MCO1055003");
+        assertThat(categoryPersistenceAdapter.findSubtreeIds("NON_EXISTENT")).isEmpty();
+    }
+
+    @Test
+    void shouldTellWhetherCategoryIsInSubtree() {
+        // Then
+        assertThat(categoryPersistenceAdapter.isInSubtree("MCO1055001", "MCO1000")).isTrue();
+        assertThat(categoryPersistenceAdapter.isInSubtree("MCO1055", "MCO1055")).isTrue();
+        assertThat(categoryPersistenceAdapter.isInSubtree("MCO1000", "MCO1055")).isFalse();
+        assertThat(categoryPersistenceAdapter.isInSubtree("MCO1144", "MCO1055")).isFalse();
+        assertThat(categoryPersistenceAdapter.isInSubtree("NON_EXISTENT", "MCO1000")).isFalse();
+        assertThat(categoryPersistenceAdapter.isInSubtree(null, "MCO1000")).isFalse();
+    }
+
     @Test
     void shouldReturnEmptyList_WhenParentIdDoesNotExist() {
         // Given
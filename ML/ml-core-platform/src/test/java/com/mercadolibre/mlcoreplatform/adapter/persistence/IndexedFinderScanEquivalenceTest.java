@@ -0,0 +1,171 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence;
+
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.CategoryDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.PaymentMethodDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ProductDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.PurchaseDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.QuestionDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ReviewDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.SellerDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ShippingDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Index-backed finders must return exactly what a full scan over findAll() returned before,
+ * in the same order, for every value present in the data files plus an unknown one.
+ */
+class IndexedFinderScanEquivalenceTest {
+
+    @Test
+    void productFindersShouldMatchScan() throws IOException {
+        ProductPersistenceAdapter adapter = new ProductPersistenceAdapter();
+        List<ProductDto> all = adapter.findAll();
+
+        for (String categoryId : valuesOf(all, ProductDto::categoryId, "UNKNOWN")) {
+            assertThat(adapter.findByCategoryId(categoryId))
+                    .containsExactlyElementsOf(scan(all, product -> categoryId.equals(product.categoryId())));
+        }
+        for (Long sellerId : valuesOf(all, ProductDto::sellerId, -1L)) {
+            assertThat(adapter.findBySellerId(sellerId))
+                    .containsExactlyElementsOf(scan(all, product -> sellerId.equals(product.sellerId())));
+        }
+    }
+
+    @Test
+    void purchaseFindersShouldMatchScan() throws IOException {
+        PurchasePersistenceAdapter adapter = new PurchasePersistenceAdapter();
+        List<PurchaseDto> all = adapter.findAll();
+
+        for (String status : valuesOf(all, PurchaseDto::status, "UNKNOWN")) {
+            assertThat(adapter.findByStatus(status))
+                    .containsExactlyElementsOf(scan(all, purchase -> status.equals(purchase.status())));
+        }
+        for (Long buyerId : valuesOf(all, purchase -> purchase.buyer() != null ? purchase.buyer().id() : null, -1L)) {
+            assertThat(adapter.findByBuyerId(buyerId)).containsExactlyElementsOf(scan(all,
+                    purchase -> purchase.buyer() != null && buyerId.equals(purchase.buyer().id())));
+        }
+        for (Long sellerId : valuesOf(all, purchase -> purchase.seller() != null ? purchase.seller().id() : null, -1L)) {
+            assertThat(adapter.findBySellerId(sellerId)).containsExactlyElementsOf(scan(all,
+                    purchase -> purchase.seller() != null && sellerId.equals(purchase.seller().id())));
+        }
+    }
+
+    @Test
+    void questionFindersShouldMatchScan() throws IOException {
+        QuestionPersistenceAdapter adapter = new QuestionPersistenceAdapter();
+        List<QuestionDto> all = adapter.findAll();
+
+        for (String itemId : valuesOf(all, QuestionDto::itemId, "UNKNOWN")) {
+            assertThat(adapter.findByItemId(itemId))
+                    .containsExactlyElementsOf(scan(all, question -> itemId.equals(question.itemId())));
+        }
+        for (Long sellerId : valuesOf(all, QuestionDto::sellerId, -1L)) {
+            assertThat(adapter.findBySellerId(sellerId))
+                    .containsExactlyElementsOf(scan(all, question -> sellerId.equals(question.sellerId())));
+        }
+        for (String status : valuesOf(all, QuestionDto::status, "UNKNOWN")) {
+            assertThat(adapter.findByStatus(status))
+                    .containsExactlyElementsOf(scan(all, question -> status.equals(question.status())));
+        }
+        assertThat(adapter.findUnansweredQuestions())
+                .containsExactlyElementsOf(scan(all, question -> "UNANSWERED".equals(question.status())));
+    }
+
+    @Test
+    void sellerFindersShouldMatchScan() throws IOException {
+        SellerPersistenceAdapter adapter = new SellerPersistenceAdapter();
+        List<SellerDto> all = adapter.findAll();
+
+        for (String nickname : valuesOf(all, SellerDto::nickname, "UNKNOWN")) {
+            assertThat(adapter.findByNickname(nickname))
+                    .containsExactlyElementsOf(scan(all, seller -> nickname.equals(seller.nickname())));
+        }
+        for (String countryId : valuesOf(all, SellerDto::countryId, "XX")) {
+            assertThat(adapter.findByCountryId(countryId))
+                    .containsExactlyElementsOf(scan(all, seller -> countryId.equals(seller.countryId())));
+        }
+    }
+
+    @Test
+    void shippingFindersShouldMatchScan() throws IOException {
+        ShippingPersistenceAdapter adapter = new ShippingPersistenceAdapter();
+        List<ShippingDto> all = adapter.findAll();
+
+        for (String deliveryType : valuesOf(all, ShippingDto::deliveryType, "UNKNOWN")) {
+            assertThat(adapter.findByDeliveryType(deliveryType))
+                    .containsExactlyElementsOf(scan(all, shipping -> deliveryType.equals(shipping.deliveryType())));
+        }
+        assertThat(adapter.findFreeShippingOptions()).containsExactlyElementsOf(scan(all,
+                shipping -> shipping.freeShipping() != null && Boolean.TRUE.equals(shipping.freeShipping().flag())));
+        assertThat(Stream.of("MCO123456789", "MCO987654321")
+                .flatMap(itemId -> adapter.findByItemId(itemId).stream())
+                .toList()).containsExactlyElementsOf(all);
+    }
+
+    @Test
+    void reviewFindersShouldMatchScan() throws IOException {
+        ReviewPersistenceAdapter adapter = new ReviewPersistenceAdapter();
+        List<ReviewDto> all = adapter.findAll();
+
+        for (Double minRating : valuesOf(all, ReviewDto::ratingAverage, 0.0, 5.1)) {
+            assertThat(adapter.findByRatingGreaterThan(minRating)).containsExactlyElementsOf(scan(all,
+                    review -> (review.ratingAverage() != null ? review.ratingAverage() : 0.0) >= minRating));
+        }
+    }
+
+    @Test
+    void categoryFindersShouldMatchScan() throws IOException {
+        CategoryPersistenceAdapter adapter = new CategoryPersistenceAdapter();
+        List<CategoryDto> all = adapter.findAll();
+
+        Set<String> parentIds = new LinkedHashSet<>();
+        all.forEach(category -> category.pathFromRoot().forEach(path -> parentIds.add(path.id())));
+        parentIds.add("UNKNOWN");
+
+        for (String parentId : parentIds) {
+            assertThat(adapter.findByParentId(parentId)).containsExactlyElementsOf(scan(all, category -> {
+                List<CategoryDto.PathFromRootDto> path = category.pathFromRoot();
+                return path.subList(0, path.size() - 1).stream().anyMatch(node -> parentId.equals(node.id()));
+            }));
+        }
+        assertThat(adapter.findByParentId(null)).isEmpty();
+    }
+
+    @Test
+    void paymentMethodFindersShouldMatchScan() throws IOException {
+        PaymentMethodPersistenceAdapter adapter = new PaymentMethodPersistenceAdapter();
+        List<PaymentMethodDto> site = adapter.findBySiteId("MCO");
+
+        assertThat(site).containsExactlyElementsOf(adapter.findAll());
+        for (String paymentType : valuesOf(site, PaymentMethodDto::paymentTypeId, "UNKNOWN")) {
+            assertThat(adapter.findByPaymentType("MCO", paymentType))
+                    .containsExactlyElementsOf(scan(site, method -> paymentType.equals(method.paymentTypeId())));
+            assertThat(adapter.findByPaymentType("MLA", paymentType)).isEmpty();
+        }
+    }
+
+    @SafeVarargs
+    private static <T, I> Set<I> valuesOf(List<T> records, Function<T, I> field, I... extra) {
+        Set<I> values = new LinkedHashSet<>();
+        records.stream().map(field).filter(Objects::nonNull).forEach(values::add);
+        for (I value : extra) {
+            values.add(value);
+        }
+        return values;
+    }
+
+    private static <T> List<T> scan(List<T> records, Predicate<T> predicate) {
+        return records.stream().filter(predicate).toList();
+    }
+}
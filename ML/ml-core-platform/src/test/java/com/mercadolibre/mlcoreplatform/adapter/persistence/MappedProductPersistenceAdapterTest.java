@@ -0,0 +1,143 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence;
+
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ProductDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.CatalogCompiler;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataFiles;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Suggestions;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.InvalidArgumentException;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedProductPersistenceAdapterTest {
+
+    @TempDir
+    static Path dataDir;
+
+    private ProductPersistenceAdapter jsonAdapter;
+    private MappedProductPersistenceAdapter mappedAdapter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path catalog = dataDir.resolve(MappedProductPersistenceAdapter.CATALOG_FILE);
+        if (!Files.exists(catalog)) {
+            Files.createDirectories(catalog.getParent());
+            try (InputStream in = new ClassPathResource("products.json").getInputStream();
+                 OutputStream out = Files.newOutputStream(catalog)) {
+                new CatalogCompiler(List.of("category_id", "seller_id"), "date_created").compile(in, out);
+            }
+        }
+        jsonAdapter = new ProductPersistenceAdapter();
+        mappedAdapter = new MappedProductPersistenceAdapter(new DataFiles(dataDir.toString()), JsonCodecs.standalone(), new Suggestions());
+    }
+
+    @Test
+    void shouldServeTheSameProductsAsTheJsonAdapter() {
+        assertThat(mappedAdapter.count()).isEqualTo(jsonAdapter.count());
+        assertThat(mappedAdapter.findAll()).isEqualTo(jsonAdapter.findAll());
+        assertThat(mappedAdapter.findAll(1, 2)).isEqualTo(jsonAdapter.findAll(1, 2));
+        assertThat(mappedAdapter.findAll(100, 2)).isEmpty();
+    }
+
+    @Test
+    void shouldFindProductById() {
+        for (ProductDto product : jsonAdapter.findAll()) {
+            assertThat(mappedAdapter.findById(product.id())).contains(product);
+        }
+        assertThat(mappedAdapter.findById("NON_EXISTENT")).isEmpty();
+        assertThat(mappedAdapter.findById(null)).isEmpty();
+    }
+
+    @Test
+    void shouldFindSeveralProductsByIdLikeTheJsonAdapter() {
+        List<String> ids = new ArrayList<>(jsonAdapter.findAll().stream().map(ProductDto::id).toList());
+        ids.add(1, "NON_EXISTENT");
+        ids.add(ids.get(0));
+        assertThat(mappedAdapter.findAllById(ids)).containsExactlyEntriesOf(jsonAdapter.findAllById(ids));
+    }
+
+    @Test
+    void shouldFindProductsByCategoryAndSeller() {
+        for (ProductDto product : jsonAdapter.findAll()) {
+            assertThat(mappedAdapter.findByCategoryId(product.categoryId()))
+                    .isEqualTo(jsonAdapter.findByCategoryId(product.categoryId()));
+            assertThat(mappedAdapter.findBySellerId(product.sellerId()))
+                    .isEqualTo(jsonAdapter.findBySellerId(product.sellerId()));
+        }
+        assertThat(mappedAdapter.findByCategoryId("NON_EXISTENT")).isEmpty();
+        assertThat(mappedAdapter.findBySellerId(null)).isEmpty();
+    }
+
+    @Test
+    void shouldPageProductsAcrossCategoriesLikeTheJsonAdapter() {
+        List<String> categoryIds = List.of("NON_EXISTENT", "MCO1055", "MCO1000");
+        for (int offset = 0; offset <= 3; offset++) {
+            assertThat(mappedAdapter.findByCategoryIds(categoryIds, offset, 1))
+                    .isEqualTo(jsonAdapter.findByCategoryIds(categoryIds, offset, 1));
+        }
+        assertThat(mappedAdapter.countByCategoryIds(categoryIds)).isEqualTo(jsonAdapter.countByCategoryIds(categoryIds));
+    }
+
+    @Test
+    void shouldSearchLikeTheJsonAdapter() {
+        for (String sort : List.of("relevance", "price_asc", "price_desc")) {
+            SearchCriteria criteria = SearchCriteria.builder().siteId("MCO").query("pantalla").sort(sort).limit(10).build();
+            assertThat(mappedAdapter.search(criteria, List.of("MCO1055"), true))
+                    .isEqualTo(jsonAdapter.search(criteria, List.of("MCO1055"), true));
+        }
+    }
+
+    @Test
+    void shouldIndexTheCatalogWithTheOtherDataFilesAtStartup() throws IOException {
+        // Given
+        DataFiles dataFiles = new DataFiles(dataDir.toString(), 1);
+        Suggestions suggestions = new Suggestions();
+        MappedProductPersistenceAdapter adapter = new MappedProductPersistenceAdapter(dataFiles, JsonCodecs.standalone(), suggestions);
+        SearchCriteria criteria = SearchCriteria.builder().siteId("MCO").query("iphone").limit(10).build();
+        assertThat(adapter.search(criteria, List.of(), false).total()).isZero();
+
+        // When
+        dataFiles.loadPending();
+
+        // Then
+        assertThat(adapter.search(criteria, List.of(), false)).isEqualTo(jsonAdapter.search(criteria, List.of(), false));
+        assertThat(suggestions.complete("MCO", "iph", 5)).isNotEmpty();
+        assertThat(dataFiles.stats().get(MappedProductPersistenceAdapter.CATALOG_FILE).records()).isEqualTo(adapter.count());
+        assertThat(dataFiles.isReady()).isTrue();
+    }
+
+    @Test
+    void shouldWalkCursorPagesLikeTheJsonAdapter() {
+        List<ProductDto> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<ProductDto> page = mappedAdapter.findAllAfter(cursor, 2);
+            assertThat(page).isEqualTo(jsonAdapter.findAllAfter(cursor, 2));
+            walked.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(walked).hasSize((int) jsonAdapter.count());
+    }
+
+    @Test
+    void shouldRejectNegativeOffset() {
+        assertThatThrownBy(() -> mappedAdapter.findAll(-1, 10))
+                .isInstanceOf(InvalidArgumentException.class);
+    }
+}
@@ -8,6 +8,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -264,4 +265,17 @@ class PaymentMethodPersistenceAdapterTest {
                 
         assertThat(ids).hasSize(uniqueIds.size());
     }
+
+    @Test
+    void shouldFindPaymentMethodByIdAcrossSites() {
+        // Given
+        PaymentMethodDto expected = paymentMethodPersistenceAdapter.findBySiteId("MCO").get(1);
+
+        // When
+        Optional<PaymentMethodDto> found = paymentMethodPersistenceAdapter.findById(expected.id());
+
+        // Then
+        assertThat(found).containsSame(expected);
+        assertThat(paymentMethodPersistenceAdapter.findById("unknown")).isEmpty();
+    }
 }
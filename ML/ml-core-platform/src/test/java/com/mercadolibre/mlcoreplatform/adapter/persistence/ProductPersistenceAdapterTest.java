@@ -1,16 +1,28 @@
 package com.mercadolibre.mlcoreplatform.adapter.persistence;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ProductDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataFiles;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Suggestions;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.InvalidArgumentException;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchCriteria;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(MockitoExtension.class)
 class ProductPersistenceAdapterTest {
@@ -73,6 +85,16 @@ class ProductPersistenceAdapterTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void shouldFindSeveralProductsById_SkippingMissingOnes() {
+        // When
+        Map<String, ProductDto> result = productPersistenceAdapter.findAllById(List.of("MCO987654321", "NON_EXISTENT_ID", "MCO123456789"));
+
+        // Then
+        assertThat(result.keySet()).containsExactly("MCO987654321", "MCO123456789");
+        assertThat(result.get("MCO123456789").title()).contains("iPhone");
+    }
+
     @Test
     void shouldReturnEmptyOptional_WhenProductIdIsNull() {
         // When
@@ -108,6 +130,119 @@ class ProductPersistenceAdapterTest {
         }
     }
 
+    @Test
+    void shouldPageProductsAcrossCategories() {
+        // Given
+        List<String> categoryIds = List.of("NON_EXISTENT_CATEGORY", "MCO1055", "MCO1000");
+        List<ProductDto> inCategory = productPersistenceAdapter.findByCategoryId("MCO1055");
+
+        // When
+        List<ProductDto> all = productPersistenceAdapter.findByCategoryIds(categoryIds, 0, 50);
+        List<ProductDto> second = productPersistenceAdapter.findByCategoryIds(categoryIds, 1, 1);
+
+        // Then
+        assertThat(all).containsExactlyElementsOf(inCategory);
+        assertThat(second).containsExactly(inCategory.get(1));
+        assertThat(productPersistenceAdapter.findByCategoryIds(categoryIds, inCategory.size(), 10)).isEmpty();
+        assertThat(productPersistenceAdapter.countByCategoryIds(categoryIds)).isEqualTo(inCategory.size());
+        assertThatThrownBy(() -> productPersistenceAdapter.findByCategoryIds(categoryIds, -1, 10))
+                .isInstanceOf(InvalidArgumentException.class);
+    }
+
+    @Test
+    void shouldSearchTitlesAttributesAndDescriptions() {
+        // Given
+        SearchCriteria byTitle = SearchCriteria.builder().siteId("MCO").query("iphone").limit(10).build();
+        SearchCriteria byDescription = SearchCriteria.builder().siteId("MCO").query("cámaras pulgadas").limit(10).build();
+
+        // When
+        SearchPage<ProductDto> iphone = productPersistenceAdapter.search(byTitle, List.of(), false);
+        SearchPage<ProductDto> cameras = productPersistenceAdapter.search(byDescription, List.of(), false);
+
+        // Then
+        assertThat(iphone.items()).extracting(ProductDto::id).containsExactly("MCO123456789");
+        assertThat(iphone.total()).isEqualTo(1);
+        assertThat(cameras.total()).isEqualTo(2);
+        assertThat(productPersistenceAdapter.search(SearchCriteria.builder().siteId("MLA").limit(10).build(), List.of(), false).total())
+                .isZero();
+    }
+
+    @Test
+    void shouldPublishReloadedRecordsSearchAndSuggestionsTogether(@TempDir Path dataDir) throws IOException {
+        // Given
+        Files.writeString(dataDir.resolve("products.json"), products("MCO1", "Lavadora Samsung"));
+        DataFiles dataFiles = new DataFiles(dataDir.toString());
+        Suggestions suggestions = new Suggestions();
+        ProductPersistenceAdapter adapter = new ProductPersistenceAdapter(dataFiles, JsonCodecs.standalone(), suggestions);
+        long before = adapter.version();
+
+        try {
+            // When
+            Files.writeString(dataDir.resolve("products.json"), products("MCO2", "Nevera LG"));
+            dataFiles.reload("products.json");
+
+            // Then
+            SearchCriteria nevera = SearchCriteria.builder().siteId("MCO").query("nevera").limit(10).build();
+            SearchCriteria lavadora = SearchCriteria.builder().siteId("MCO").query("lavadora").limit(10).build();
+            assertThat(adapter.findById("MCO1")).isEmpty();
+            assertThat(adapter.findById("MCO2")).isPresent();
+            assertThat(adapter.search(nevera, List.of(), false).items()).extracting(ProductDto::id).containsExactly("MCO2");
+            assertThat(adapter.search(lavadora, List.of(), false).total()).isZero();
+            assertThat(suggestions.complete("MCO", "nev", 5)).isNotEmpty();
+            assertThat(suggestions.complete("MCO", "lav", 5)).isEmpty();
+            assertThat(adapter.version()).isNotEqualTo(before);
+        } finally {
+            dataFiles.destroy();
+        }
+    }
+
+    @Test
+    void shouldFilterAndSortSearchResults() {
+        // Given
+        List<String> categoryIds = List.of("MCO1000", "MCO1055");
+
+        // When
+        SearchPage<ProductDto> cheapestFirst = productPersistenceAdapter.search(filtered("free", null, "price_asc"), categoryIds, false);
+
+        // Then
+        assertThat(cheapestFirst.items()).extracting(ProductDto::price).isSorted().hasSize(2);
+        assertThat(productPersistenceAdapter.search(filtered("free", 4_000_000.0, null), List.of(), false).items())
+                .extracting(ProductDto::id).containsExactly("MCO123456789");
+        assertThat(productPersistenceAdapter.search(filtered("cross_docking", null, null), categoryIds, false).total()).isZero();
+        assertThatThrownBy(() -> productPersistenceAdapter.search(filtered(null, null, "rating"), List.of(), false))
+                .isInstanceOf(InvalidArgumentException.class);
+    }
+
+    @Test
+    void shouldCountFacetsOfSearchResults() {
+        // Given
+        SearchCriteria criteria = SearchCriteria.builder().siteId("MCO").limit(1).build();
+
+        // When
+        SearchPage<ProductDto> page = productPersistenceAdapter.search(criteria, List.of(), true);
+
+        // Then
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.facets().get("condition")).containsEntry("new", 2);
+        assertThat(page.facets().get("category_id")).containsEntry("MCO1055", 2);
+        assertThat(page.facets().get("free_shipping")).containsEntry("true", 2);
+        assertThat(page.facets().get("official_store_id")).containsEntry("1234", 1);
+        assertThat(page.facets().get("price").values()).containsOnly(1);
+        assertThat(productPersistenceAdapter.search(criteria, List.of(), false).facets()).isEmpty();
+    }
+
+    private static SearchCriteria filtered(String shipping, Double minPrice, String sort) {
+        return SearchCriteria.builder()
+                .siteId("MCO")
+                .condition("new")
+                .shipping(shipping)
+                .minPrice(minPrice)
+                .maxPrice(5_000_000.0)
+                .sort(sort)
+                .limit(10)
+                .build();
+    }
+
     @Test
     void shouldReturnEmptyList_WhenCategoryIdDoesNotExist() {
         // Given
@@ -364,4 +499,99 @@ class ProductPersistenceAdapterTest {
             }
         }
     }
+
+    @Test
+    void shouldReuseMappedProductsAcrossCalls() {
+        // When
+        List<ProductDto> firstCall = productPersistenceAdapter.findAll();
+        List<ProductDto> secondCall = productPersistenceAdapter.findAll();
+        ProductDto byId = productPersistenceAdapter.findById(firstCall.get(0).id()).orElseThrow();
+
+        // Then
+        assertThat(secondCall).isSameAs(firstCall);
+        assertThat(byId).isSameAs(firstCall.get(0));
+    }
+
+    @Test
+    void shouldReturnUnmodifiableCollections() {
+        // When
+        List<ProductDto> products = productPersistenceAdapter.findAll();
+        ProductDto product = products.get(0);
+
+        // Then
+        assertThatThrownBy(() -> products.add(product))
+                .isInstanceOf(UnsupportedOperationException.class);
+        if (product.pictures() != null) {
+            assertThatThrownBy(() -> product.pictures().clear())
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Test
+    void shouldReturnRequestedPageAndTotalCount() {
+        // Given
+        List<ProductDto> allProducts = productPersistenceAdapter.findAll();
+
+        // When
+        List<ProductDto> firstPage = productPersistenceAdapter.findAll(0, 1);
+        List<ProductDto> secondPage = productPersistenceAdapter.findAll(1, 50);
+        List<ProductDto> pastTheEnd = productPersistenceAdapter.findAll(allProducts.size(), 10);
+
+        // Then
+        assertThat(productPersistenceAdapter.count()).isEqualTo(allProducts.size());
+        assertThat(firstPage).containsExactly(allProducts.get(0));
+        assertThat(secondPage).containsExactlyElementsOf(allProducts.subList(1, allProducts.size()));
+        assertThat(pastTheEnd).isEmpty();
+    }
+
+    @Test
+    void shouldPageProductsWithCursorByDateCreated() {
+        // When
+        CursorPage<ProductDto> page = productPersistenceAdapter.findAllAfter(null, 10);
+
+        // Then
+        assertThat(page.items()).extracting(ProductDto::id).containsExactly("MCO987654321", "MCO123456789");
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldRejectCursorPagesThatCouldNeverAdvance() {
+        // When
+        CursorPage<ProductDto> unbounded = productPersistenceAdapter.findAllAfter(null, Integer.MAX_VALUE);
+
+        // Then
+        assertThat(unbounded.items()).hasSize(2);
+        assertThat(unbounded.nextCursor()).isNull();
+        assertThatThrownBy(() -> productPersistenceAdapter.findAllAfter(null, 0))
+                .isInstanceOf(InvalidArgumentException.class);
+        assertThatThrownBy(() -> productPersistenceAdapter.findAllAfter("not-a-cursor", 10))
+                .isInstanceOf(InvalidArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    @Test
+    void shouldRejectUnknownSortsAndNegativeWindowsAsBadArguments() {
+        // Given
+        SearchCriteria unknownSort = SearchCriteria.builder().siteId("MCO").sort("cheapest").limit(10).build();
+        SearchCriteria negativeOffset = SearchCriteria.builder().siteId("MCO").offset(-1).limit(10).build();
+
+        // Then
+        assertThatThrownBy(() -> productPersistenceAdapter.search(unknownSort, List.of(), false))
+                .isInstanceOf(InvalidArgumentException.class)
+                .hasMessage("Unknown sort: cheapest");
+        assertThatThrownBy(() -> productPersistenceAdapter.search(negativeOffset, List.of(), false))
+                .isInstanceOf(InvalidArgumentException.class);
+        assertThatThrownBy(() -> productPersistenceAdapter.findAll(-1, 10))
+                .isInstanceOf(InvalidArgumentException.class);
+        assertThatThrownBy(() -> productPersistenceAdapter.findByCategoryIds(List.of("MCO1055"), 0, -1))
+                .isInstanceOf(InvalidArgumentException.class);
+    }
+
+    private static String products(String id, String title) {
+        return """
+                {"%s": {"id": "%s", "site_id": "MCO", "title": "%s", "seller_id": 1, "category_id": "MCO1055",
+                        "price": 1000, "currency_id": "COP", "condition": "new",
+                        "date_created": "2024-01-01T00:00:00.000Z", "last_updated": "2024-01-01T00:00:00.000Z"}}
+                """.formatted(id, id, title);
+    }
 }
@@ -1,6 +1,9 @@
 package com.mercadolibre.mlcoreplatform.adapter.persistence;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.PurchaseDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.InvalidArgumentException;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +14,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(MockitoExtension.class)
 class PurchasePersistenceAdapterTest {
@@ -95,12 +99,12 @@ class PurchasePersistenceAdapterTest {
         assertThat(purchase.status()).isNotNull();
         
         // Verify that date fields are properly converted if present
-        if (purchase.dateCreated() != null) {
-            assertThat(purchase.dateCreated()).isNotNull();
+        if (purchase.dateCreated() != Timestamps.NONE) {
+            assertThat(purchase.dateCreated()).isPositive();
         }
         
-        if (purchase.lastUpdated() != null) {
-            assertThat(purchase.lastUpdated()).isNotNull();
+        if (purchase.lastUpdated() != Timestamps.NONE) {
+            assertThat(purchase.lastUpdated()).isPositive();
         }
         
         // Verify numeric fields
@@ -122,16 +126,16 @@ class PurchasePersistenceAdapterTest {
         // Then - Verify that null date fields are handled correctly
         purchases.forEach(purchase -> {
             // Date fields can be null and should not throw exceptions
-            if (purchase.dateCreated() != null) {
-                assertThat(purchase.dateCreated()).isNotNull();
+            if (purchase.dateCreated() != Timestamps.NONE) {
+                assertThat(purchase.dateCreated()).isPositive();
             }
             
-            if (purchase.lastUpdated() != null) {
-                assertThat(purchase.lastUpdated()).isNotNull();
+            if (purchase.lastUpdated() != Timestamps.NONE) {
+                assertThat(purchase.lastUpdated()).isPositive();
             }
             
-            if (purchase.expirationDate() != null) {
-                assertThat(purchase.expirationDate()).isNotNull();
+            if (purchase.expirationDate() != Timestamps.NONE) {
+                assertThat(purchase.expirationDate()).isPositive();
             }
         });
     }
@@ -312,4 +316,52 @@ class PurchasePersistenceAdapterTest {
             });
         }
     }
+
+    @Test
+    void shouldReturnRequestedPageAndTotalCount() {
+        // Given
+        List<PurchaseDto> allPurchases = purchasePersistenceAdapter.findAll();
+
+        // When
+        List<PurchaseDto> page = purchasePersistenceAdapter.findAll(1, 1);
+
+        // Then
+        assertThat(purchasePersistenceAdapter.count()).isEqualTo(allPurchases.size());
+        assertThat(page).containsExactly(allPurchases.get(1));
+    }
+
+    @Test
+    void shouldPageOrdersByBuyer() {
+        // Given
+        Long buyerId = purchasePersistenceAdapter.findAll().get(0).buyer().id();
+        List<PurchaseDto> buyerPurchases = purchasePersistenceAdapter.findByBuyerId(buyerId);
+
+        // When
+        List<PurchaseDto> page = purchasePersistenceAdapter.findByBuyerId(buyerId, 0, 1);
+
+        // Then
+        assertThat(purchasePersistenceAdapter.countByBuyerId(buyerId)).isEqualTo(buyerPurchases.size());
+        assertThat(page).containsExactly(buyerPurchases.get(0));
+        assertThat(purchasePersistenceAdapter.findByBuyerId(-1L, 0, 10)).isEmpty();
+        assertThat(purchasePersistenceAdapter.countByBuyerId(-1L)).isZero();
+    }
+
+    @Test
+    void shouldWalkAllPurchasesWithCursorByDateCreated() {
+        // When
+        CursorPage<PurchaseDto> firstPage = purchasePersistenceAdapter.findAllAfter("", 1);
+        CursorPage<PurchaseDto> secondPage = purchasePersistenceAdapter.findAllAfter(firstPage.nextCursor(), 1);
+
+        // Then
+        assertThat(firstPage.items()).extracting(PurchaseDto::id).containsExactly("order_789012");
+        assertThat(firstPage.nextCursor()).isNotBlank();
+        assertThat(secondPage.items()).extracting(PurchaseDto::id).containsExactly("order_123456");
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> purchasePersistenceAdapter.findAllAfter("%%%", 10))
+                .isInstanceOf(InvalidArgumentException.class);
+    }
 }
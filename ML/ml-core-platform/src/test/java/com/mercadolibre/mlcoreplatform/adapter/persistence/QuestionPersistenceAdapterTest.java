@@ -1,13 +1,18 @@
 package com.mercadolibre.mlcoreplatform.adapter.persistence;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.QuestionDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -91,8 +96,8 @@ class QuestionPersistenceAdapterTest {
             assertThat(testQuestion.status()).isNotNull();
             
             // Verify date fields if present
-            if (testQuestion.dateCreated() != null) {
-                assertThat(testQuestion.dateCreated()).isNotNull();
+            if (testQuestion.dateCreated() != Timestamps.NONE) {
+                assertThat(testQuestion.dateCreated()).isPositive();
             }
             
             // Verify nested objects
@@ -122,12 +127,12 @@ class QuestionPersistenceAdapterTest {
             // Then - Verify that null date fields are handled correctly
             questions.forEach(question -> {
                 // Date fields can be null and should not throw exceptions
-                if (question.dateCreated() != null) {
-                    assertThat(question.dateCreated()).isNotNull();
+                if (question.dateCreated() != Timestamps.NONE) {
+                    assertThat(question.dateCreated()).isPositive();
                 }
                 
-                if (question.answer() != null && question.answer().dateCreated() != null) {
-                    assertThat(question.answer().dateCreated()).isNotNull();
+                if (question.answer() != null && question.answer().dateCreated() != Timestamps.NONE) {
+                    assertThat(question.answer().dateCreated()).isPositive();
                 }
             });
         }
@@ -288,10 +293,61 @@ class QuestionPersistenceAdapterTest {
                 assertThat(question.answer().text()).isNotNull();
                 assertThat(question.answer().status()).isNotNull();
                 
-                if (question.answer().dateCreated() != null) {
-                    assertThat(question.answer().dateCreated()).isNotNull();
+                if (question.answer().dateCreated() != Timestamps.NONE) {
+                    assertThat(question.answer().dateCreated()).isPositive();
                 }
             });
         }
     }
+
+    @Test
+    void shouldPageQuestionsByItem() {
+        // Given
+        String itemId = "MCO123456789";
+        List<QuestionDto> itemQuestions = questionPersistenceAdapter.findByItemId(itemId);
+
+        // When
+        List<QuestionDto> page = questionPersistenceAdapter.findByItemId(itemId, 2, 2);
+
+        // Then
+        assertThat(questionPersistenceAdapter.countByItemId(itemId)).isEqualTo(itemQuestions.size());
+        assertThat(page).containsExactlyElementsOf(itemQuestions.subList(2, 4));
+        assertThat(questionPersistenceAdapter.count()).isEqualTo(questionPersistenceAdapter.findAll().size());
+        assertThat(questionPersistenceAdapter.findAll(0, 3)).hasSize(3);
+    }
+
+    @Test
+    void shouldWalkAllQuestionsWithCursorInDateCreatedOrder() {
+        // Given
+        List<QuestionDto> expected = questionPersistenceAdapter.findAll().stream()
+                .sorted(Comparator.comparing(QuestionDto::dateCreated).thenComparing(QuestionDto::id))
+                .toList();
+
+        // When
+        List<QuestionDto> walked = new ArrayList<>();
+        String cursor = "";
+        do {
+            CursorPage<QuestionDto> page = questionPersistenceAdapter.findAllAfter(cursor, 3);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(3);
+            walked.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // Then
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void shouldFindQuestionById() {
+        // Given
+        QuestionDto expected = questionPersistenceAdapter.findByItemId("MCO987654321").get(0);
+
+        // When
+        Optional<QuestionDto> found = questionPersistenceAdapter.findById(expected.id());
+
+        // Then
+        assertThat(found).containsSame(expected);
+        assertThat(questionPersistenceAdapter.findById(-1L)).isEmpty();
+        assertThat(questionPersistenceAdapter.findById(null)).isEmpty();
+    }
 }
@@ -1,6 +1,7 @@
 package com.mercadolibre.mlcoreplatform.adapter.persistence;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ReviewDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -177,8 +178,8 @@ class ReviewPersistenceAdapterTest {
                 assertThat(reviewItem.rating()).isBetween(1, 5);
                 
                 // Date fields can be null but should be valid if present
-                if (reviewItem.dateCreated() != null) {
-                    assertThat(reviewItem.dateCreated()).isNotNull();
+                if (reviewItem.dateCreated() != Timestamps.NONE) {
+                    assertThat(reviewItem.dateCreated()).isPositive();
                 }
                 
                 // Reviewer can be null but should be valid if present
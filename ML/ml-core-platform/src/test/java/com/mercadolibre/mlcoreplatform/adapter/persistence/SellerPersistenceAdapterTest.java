@@ -1,6 +1,8 @@
 package com.mercadolibre.mlcoreplatform.adapter.persistence;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.SellerDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataVersion;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,6 +29,16 @@ class SellerPersistenceAdapterTest {
         assertThat(sellerPersistenceAdapter).isNotNull();
     }
 
+    @Test
+    void shouldHaveVersionOfItsData() throws IOException {
+        // When
+        long version = sellerPersistenceAdapter.version();
+        long sameData = new SellerPersistenceAdapter().version();
+
+        // Then
+        assertThat(version).isNotEqualTo(DataVersion.NONE).isEqualTo(sameData);
+    }
+
     @Test
     void shouldFindAllSellers() {
         // When
@@ -265,10 +277,10 @@ class SellerPersistenceAdapterTest {
 
         // Then - Registration dates should be valid if present
         sellers.forEach(seller -> {
-            if (seller.registrationDate() != null) {
-                assertThat(seller.registrationDate()).isNotNull();
+            if (seller.registrationDate() != Timestamps.NONE) {
+                assertThat(seller.registrationDate()).isPositive();
                 // Registration date should be in the past
-                assertThat(seller.registrationDate()).isBeforeOrEqualTo(java.time.LocalDateTime.now());
+                assertThat(seller.registrationDate()).isLessThanOrEqualTo(System.currentTimeMillis());
             }
         });
     }
@@ -341,4 +353,17 @@ class SellerPersistenceAdapterTest {
             }
         });
     }
+
+    @Test
+    void shouldReturnRequestedPageAndTotalCount() {
+        // Given
+        List<SellerDto> allSellers = sellerPersistenceAdapter.findAll();
+
+        // When
+        List<SellerDto> page = sellerPersistenceAdapter.findAll(1, 5);
+
+        // Then
+        assertThat(sellerPersistenceAdapter.count()).isEqualTo(allSellers.size());
+        assertThat(page).containsExactlyElementsOf(allSellers.subList(1, allSellers.size()));
+    }
 }
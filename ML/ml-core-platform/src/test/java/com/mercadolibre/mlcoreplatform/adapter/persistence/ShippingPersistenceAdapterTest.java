@@ -1,6 +1,7 @@
 package com.mercadolibre.mlcoreplatform.adapter.persistence;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ShippingDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -169,8 +170,8 @@ class ShippingPersistenceAdapterTest {
             if (shipping.estimatedDelivery() != null) {
                 assertThat(shipping.estimatedDelivery()).isNotNull();
                 
-                if (shipping.estimatedDelivery().date() != null) {
-                    assertThat(shipping.estimatedDelivery().date()).isNotNull();
+                if (shipping.estimatedDelivery().date() != Timestamps.NONE) {
+                    assertThat(shipping.estimatedDelivery().date()).isPositive();
                 }
                 
                 if (shipping.estimatedDelivery().unit() != null) {
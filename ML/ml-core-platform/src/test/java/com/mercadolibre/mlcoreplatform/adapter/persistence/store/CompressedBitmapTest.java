@@ -0,0 +1,57 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressedBitmapTest {
+
+    @Test
+    void shouldHoldSparseAndDenseChunks() {
+        // Given
+        int[] dense = IntStream.range(0, 10_000).map(i -> i * 2).toArray();
+        int[] sparse = {5, 70_000, 1 << 20};
+
+        // When
+        CompressedBitmap denseBitmap = CompressedBitmap.ofSorted(dense, dense.length);
+        CompressedBitmap sparseBitmap = CompressedBitmap.of(1 << 20, 5, 70_000, 5);
+
+        // Then
+        assertThat(denseBitmap.cardinality()).isEqualTo(10_000);
+        assertThat(denseBitmap.toArray()).containsExactly(dense);
+        assertThat(denseBitmap.contains(19_998)).isTrue();
+        assertThat(denseBitmap.contains(19_999)).isFalse();
+        assertThat(sparseBitmap.toArray()).containsExactly(sparse);
+        assertThat(sparseBitmap.contains(-1)).isFalse();
+        assertThat(CompressedBitmap.empty().isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldCountIntersectionsAcrossContainerKinds() {
+        // Given
+        CompressedBitmap evens = CompressedBitmap.ofSorted(IntStream.range(0, 50_000).map(i -> i * 2).toArray(), 50_000);
+        CompressedBitmap multiplesOfThree = CompressedBitmap.ofSorted(IntStream.range(0, 30_000).map(i -> i * 3).toArray(), 30_000);
+        CompressedBitmap few = CompressedBitmap.of(0, 3, 6, 65_536, 99_998, 200_000);
+
+        // Then
+        assertThat(evens.andCardinality(multiplesOfThree)).isEqualTo(15_000);
+        assertThat(evens.andCardinality(few)).isEqualTo(4);
+        assertThat(few.andCardinality(multiplesOfThree)).isEqualTo(3);
+        assertThat(few.andCardinality(few)).isEqualTo(6);
+        assertThat(few.andCardinality(CompressedBitmap.empty())).isZero();
+    }
+
+    @Test
+    void shouldBuildFromValuesInAnyOrder() {
+        // When
+        CompressedBitmap ascending = new CompressedBitmap.Builder().add(1).add(2).add(100_000).build();
+        CompressedBitmap shuffled = new CompressedBitmap.Builder().add(100_000).add(2).add(1).add(2).build();
+
+        // Then
+        assertThat(shuffled.toArray()).containsExactly(ascending.toArray());
+        assertThatThrownBy(() -> new CompressedBitmap.Builder().add(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
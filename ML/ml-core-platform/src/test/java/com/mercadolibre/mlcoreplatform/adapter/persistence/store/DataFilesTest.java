@@ -0,0 +1,162 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataFilesTest {
+
+    @TempDir
+    Path dataDir;
+
+    private DataFiles dataFiles;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (dataFiles != null) {
+            dataFiles.destroy();
+        }
+    }
+
+    @Test
+    void shouldLoadFromClasspathWhenNoDirectoryIsConfigured() throws IOException {
+        // Given
+        dataFiles = DataFiles.classpath();
+
+        // When
+        dataFiles.load("sellers.json", in -> in.readAllBytes().length > 0 ? 1 : 0);
+
+        // Then
+        DataFiles.LoadStats stats = dataFiles.stats().get("sellers.json");
+        assertThat(stats.source()).isEqualTo("classpath:sellers.json");
+        assertThat(stats.records()).isEqualTo(1);
+        assertThat(stats.loadedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldPreferDataDirectoryAndReloadOnDemand() throws IOException {
+        // Given
+        AtomicReference<String> content = new AtomicReference<>();
+        write("sellers.json", "first");
+        dataFiles = new DataFiles(dataDir.toString());
+        dataFiles.load("sellers.json", in -> {
+            content.set(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            return content.get().length();
+        });
+
+        // When
+        write("sellers.json", "second!");
+        dataFiles.reload("sellers.json");
+
+        // Then
+        assertThat(content.get()).isEqualTo("second!");
+        DataFiles.LoadStats stats = dataFiles.stats().get("sellers.json");
+        assertThat(stats.source()).isEqualTo(dataDir.resolve("sellers.json").toString());
+        assertThat(stats.records()).isEqualTo(7);
+        assertThat(stats.lastError()).isNull();
+    }
+
+    @Test
+    void shouldKeepPreviousStatsWhenReloadFails() throws IOException {
+        // Given
+        write("sellers.json", "ok");
+        dataFiles = new DataFiles(dataDir.toString());
+        dataFiles.load("sellers.json", in -> {
+            String text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            if (!text.equals("ok")) {
+                throw new IOException("broken file");
+            }
+            return 1;
+        });
+
+        // When
+        write("sellers.json", "broken");
+        dataFiles.reload("sellers.json");
+
+        // Then
+        DataFiles.LoadStats stats = dataFiles.stats().get("sellers.json");
+        assertThat(stats.records()).isEqualTo(1);
+        assertThat(stats.lastError()).contains("broken file");
+    }
+
+    @Test
+    void shouldReloadWhenWatchedFileChanges() throws Exception {
+        // Given
+        AtomicReference<String> content = new AtomicReference<>();
+        write("sellers.json", "first");
+        dataFiles = new DataFiles(dataDir.toString());
+        dataFiles.load("sellers.json", in -> {
+            content.set(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            return 1;
+        });
+        dataFiles.afterSingletonsInstantiated();
+
+        // When
+        write("sellers.json", "second");
+
+        // Then
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!"second".equals(content.get()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(content.get()).isEqualTo("second");
+    }
+
+    @Test
+    void shouldDeferLoadingUntilStartupAndLoadAllFilesConcurrently() throws Exception {
+        // Given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        DataFiles.Loader loader = in -> {
+            bothStarted.countDown();
+            // Only counts a record if the other file is being loaded at the same time
+            try {
+                return bothStarted.await(5, TimeUnit.SECONDS) ? 1 : 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return 0;
+            }
+        };
+        dataFiles = new DataFiles("", 2);
+        dataFiles.load("sellers.json", loader);
+        dataFiles.load("products.json", loader);
+        assertThat(dataFiles.isReady()).isFalse();
+        assertThat(dataFiles.stats()).isEmpty();
+
+        // When
+        dataFiles.afterSingletonsInstantiated();
+
+        // Then
+        assertThat(dataFiles.isReady()).isTrue();
+        assertThat(dataFiles.stats()).containsOnlyKeys("products.json", "sellers.json");
+        assertThat(dataFiles.stats().values()).allSatisfy(stats -> assertThat(stats.records()).isEqualTo(1));
+    }
+
+    @Test
+    void shouldFailStartupWhenAFileCannotBeLoaded() throws IOException {
+        // Given
+        dataFiles = new DataFiles("", 2);
+        dataFiles.load("sellers.json", in -> 1);
+        dataFiles.load("missing.json", in -> 1);
+
+        // When / Then
+        assertThatThrownBy(() -> dataFiles.loadPending())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("missing.json");
+        assertThat(dataFiles.isReady()).isFalse();
+    }
+
+    private void write(String fileName, String content) throws IOException {
+        Files.writeString(dataDir.resolve(fileName), content);
+    }
+}
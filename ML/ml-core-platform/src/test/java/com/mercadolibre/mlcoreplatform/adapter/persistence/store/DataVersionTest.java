@@ -0,0 +1,64 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataVersionTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void shouldDeriveTheVersionFromTheContent() throws IOException {
+        // Given
+        Path file = Files.writeString(dir.resolve("products.json"), "{\"MLA1\":{}}");
+
+        // When
+        long read = versionOf("{\"MLA1\":{}}");
+        long again = versionOf("{\"MLA1\":{}}");
+        long changed = versionOf("{\"MLA2\":{}}");
+
+        // Then
+        assertThat(read).isEqualTo(again).isNotEqualTo(DataVersion.NONE);
+        assertThat(changed).isNotEqualTo(read);
+        assertThat(DataVersion.of(file)).isEqualTo(read);
+    }
+
+    @Test
+    void shouldTellListenersAboutNewVersionsOnly() {
+        // Given
+        DataVersion version = new DataVersion();
+        List<Long> heard = new ArrayList<>();
+        version.onChange(heard::add);
+
+        // When
+        version.publish(1);
+        version.publish(1);
+        version.publish(2);
+        List<Long> late = new ArrayList<>();
+        version.onChange(late::add);
+
+        // Then
+        assertThat(heard).containsExactly(1L, 2L);
+        assertThat(late).containsExactly(2L);
+        assertThat(version.current()).isEqualTo(2);
+    }
+
+    private static long versionOf(String content) throws IOException {
+        try (DataVersion.Reading read = DataVersion.reading(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)))) {
+            read.transferTo(OutputStream.nullOutputStream());
+            return read.version();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HeavyHittersTest {
+
+    @Test
+    void shouldCountExactlyWhileUnderCapacity() {
+        // Given
+        HeavyHitters summary = new HeavyHitters(10);
+
+        // When
+        summary.add("iphone", 3);
+        summary.add("samsung", 1);
+        summary.add("iphone", 2);
+        summary.add("motorola", 4);
+
+        // Then
+        assertThat(summary.top(10)).containsExactly(
+                new HeavyHitters.Entry("iphone", 5, 0),
+                new HeavyHitters.Entry("motorola", 4, 0),
+                new HeavyHitters.Entry("samsung", 1, 0));
+        assertThat(summary.top(1)).extracting(HeavyHitters.Entry::key).containsExactly("iphone");
+    }
+
+    @Test
+    void shouldKeepHeavyKeysOfALongTailedStream() {
+        // Given
+        HeavyHitters summary = new HeavyHitters(20);
+        Random random = new Random(3);
+
+        // When: hot queries at 30%, 20% and 10% among 10000 rare ones
+        for (int i = 0; i < 20_000; i++) {
+            int roll = random.nextInt(10);
+            String key = roll < 3 ? "hot-a" : roll < 5 ? "hot-b" : roll < 6 ? "hot-c" : "rare-" + random.nextInt(10_000);
+            summary.add(key, 1);
+        }
+
+        // Then
+        assertThat(summary.size()).isEqualTo(20);
+        assertThat(summary.top(3)).extracting(HeavyHitters.Entry::key).containsExactly("hot-a", "hot-b", "hot-c");
+        HeavyHitters.Entry top = summary.top(1).get(0);
+        assertThat(top.count() - top.error()).isLessThanOrEqualTo(top.count());
+        assertThat(top.count()).isBetween(5_500.0, 6_500.0 + top.error());
+    }
+
+    @Test
+    void shouldDecayAndForgetLightKeys() {
+        // Given
+        HeavyHitters summary = new HeavyHitters(5);
+        summary.add("old", 8);
+        summary.add("faint", 1);
+
+        // When
+        summary.decay(0.25, 0.5);
+        summary.add("new", 3);
+
+        // Then
+        assertThat(summary.top(5)).containsExactly(
+                new HeavyHitters.Entry("new", 3, 0),
+                new HeavyHitters.Entry("old", 2, 0));
+        assertThat(summary.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectEmptyCapacity() {
+        assertThatThrownBy(() -> new HeavyHitters(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
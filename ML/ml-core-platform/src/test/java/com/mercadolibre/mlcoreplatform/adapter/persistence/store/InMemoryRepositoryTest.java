@@ -0,0 +1,221 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import com.mercadolibre.mlcoreplatform.domain.core.exception.InvalidArgumentException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryRepositoryTest {
+
+    private record Item(String id, String color, List<String> tags, Double price) {}
+
+    private static final Index<String, Item, String> BY_COLOR = Index.on("color", Item::color);
+    private static final Index<String, Item, String> BY_TAG = Index.onEach("tag", Item::tags);
+    private static final Index<String, Item, Double> BY_PRICE = Index.sorted("price", Item::price);
+
+    private InMemoryRepository<String, Item> repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = InMemoryRepository.withIndexes(BY_COLOR, BY_TAG, BY_PRICE);
+        Map<String, Item> items = new LinkedHashMap<>();
+        items.put("c", new Item("c", "red", List.of("new", "sale"), 30.0));
+        items.put("a", new Item("a", "blue", List.of("sale"), 10.0));
+        items.put("b", new Item("b", "red", List.of(), 20.0));
+        items.put("d", new Item("d", null, null, null));
+        repository.saveAll(items);
+    }
+
+    @Test
+    void shouldReturnRecordsInInsertionOrder() {
+        assertThat(repository.findAll()).extracting(Item::id).containsExactly("c", "a", "b", "d");
+        assertThat(repository.findBy(BY_COLOR, "red")).extracting(Item::id).containsExactly("c", "b");
+        assertThat(repository.findBy(BY_TAG, "sale")).extracting(Item::id).containsExactly("c", "a");
+        assertThat(repository.size()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldFindSeveralIdsInTheGivenOrder() {
+        assertThat(repository.findAllById(List.of("b", "missing", "c", "b")))
+                .containsExactly(Map.entry("b", repository.findById("b").orElseThrow()), Map.entry("c", repository.findById("c").orElseThrow()));
+        assertThat(repository.findAllById(List.of())).isEmpty();
+    }
+
+    @Test
+    void shouldNotIndexNullValues() {
+        assertThat(repository.findBy(BY_COLOR, null)).isEmpty();
+        assertThat(repository.findBy(BY_COLOR, "green")).isEmpty();
+    }
+
+    @Test
+    void shouldFindRangeOnSortedIndexInInsertionOrder() {
+        assertThat(repository.findFrom(BY_PRICE, 20.0)).extracting(Item::id).containsExactly("c", "b");
+        assertThat(repository.findFrom(BY_PRICE, 30.0)).extracting(Item::id).containsExactly("c");
+        assertThat(repository.findFrom(BY_PRICE, 100.0)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectRangeOnHashIndex() {
+        assertThatThrownBy(() -> repository.findFrom(BY_COLOR, "a"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectUndeclaredIndex() {
+        Index<String, Item, String> undeclared = Index.on("id", Item::id);
+
+        assertThatThrownBy(() -> repository.findBy(undeclared, "a"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldMaintainIndexesOnUpdateKeepingPosition() {
+        // When
+        repository.save("c", new Item("c", "blue", List.of("new"), 5.0));
+
+        // Then
+        assertThat(repository.findAll()).extracting(Item::id).containsExactly("c", "a", "b", "d");
+        assertThat(repository.findBy(BY_COLOR, "red")).extracting(Item::id).containsExactly("b");
+        assertThat(repository.findBy(BY_COLOR, "blue")).extracting(Item::id).containsExactly("c", "a");
+        assertThat(repository.findBy(BY_TAG, "sale")).extracting(Item::id).containsExactly("a");
+        assertThat(repository.findFrom(BY_PRICE, 20.0)).extracting(Item::id).containsExactly("b");
+    }
+
+    @Test
+    void shouldMaintainIndexesOnInsertAndDelete() {
+        // When
+        repository.save("e", new Item("e", "red", List.of("sale"), 50.0));
+        boolean deleted = repository.delete("c");
+
+        // Then
+        assertThat(deleted).isTrue();
+        assertThat(repository.delete("missing")).isFalse();
+        assertThat(repository.findById("c")).isEmpty();
+        assertThat(repository.findById("e")).isPresent();
+        assertThat(repository.findBy(BY_COLOR, "red")).extracting(Item::id).containsExactly("b", "e");
+        assertThat(repository.findBy(BY_TAG, "new")).isEmpty();
+        assertThat(repository.findAll()).extracting(Item::id).containsExactly("a", "b", "d", "e");
+    }
+
+    @Test
+    void shouldReuseUnmodifiableViewsUntilChanged() {
+        // When
+        List<Item> first = repository.findBy(BY_COLOR, "red");
+        List<Item> second = repository.findBy(BY_COLOR, "red");
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(repository.findAll()).isSameAs(repository.findAll());
+        assertThatThrownBy(() -> first.add(first.get(0))).isInstanceOf(UnsupportedOperationException.class);
+
+        repository.delete("b");
+        assertThat(repository.findBy(BY_COLOR, "red")).isNotSameAs(first).hasSize(1);
+        assertThat(first).hasSize(2);
+    }
+
+    @Test
+    void shouldPublishReplacementOnlyOnCommit() {
+        // Given
+        InMemoryRepository<String, Item>.Replacement replacement = repository.replacement();
+        replacement.save("e", new Item("e", "red", List.of(), 1.0));
+
+        // When / Then
+        assertThat(replacement.size()).isEqualTo(1);
+        assertThat(repository.findBy(BY_COLOR, "red")).extracting(Item::id).containsExactly("c", "b");
+
+        replacement.commit();
+        assertThat(repository.findBy(BY_COLOR, "red")).extracting(Item::id).containsExactly("e");
+        assertThat(repository.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCopyListsIntoImmutableOnes() {
+        // Given
+        List<String> source = new ArrayList<>(List.of("a"));
+
+        // When
+        List<String> copy = InMemoryRepository.immutable(source);
+        source.add("b");
+
+        // Then
+        assertThat(copy).containsExactly("a");
+        assertThat(InMemoryRepository.<String>immutable(null)).isNull();
+        assertThatThrownBy(() -> copy.add("c")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldReturnPagesWithoutCopying() {
+        // Then
+        assertThat(repository.findAll(1, 2)).extracting(Item::id).containsExactly("a", "b");
+        assertThat(repository.findAll(3, 10)).extracting(Item::id).containsExactly("d");
+        assertThat(repository.findAll(10, 10)).isEmpty();
+        assertThat(repository.findAll(0, Integer.MAX_VALUE)).hasSize(4);
+        assertThat(repository.findBy(BY_COLOR, "red", 1, 5)).extracting(Item::id).containsExactly("b");
+        assertThat(repository.count(BY_COLOR, "red")).isEqualTo(2);
+        assertThat(repository.count(BY_COLOR, "green")).isZero();
+    }
+
+    @Test
+    void shouldRejectNegativePageBounds() {
+        assertThatThrownBy(() -> repository.findAll(-1, 10)).isInstanceOf(InvalidArgumentException.class);
+        assertThatThrownBy(() -> repository.findAll(0, -1)).isInstanceOf(InvalidArgumentException.class);
+    }
+
+    @Test
+    void shouldSeekAfterKeyOnSortedIndex() {
+        // Then
+        assertThat(repository.findAfter(BY_PRICE, null, 2)).extracting(Item::id).containsExactly("a", "b");
+        assertThat(repository.findAfter(BY_PRICE, 20.0, 2)).extracting(Item::id).containsExactly("c");
+        assertThat(repository.findAfter(BY_PRICE, 30.0, 2)).isEmpty();
+        assertThat(repository.findAfter(BY_PRICE, null, 0)).isEmpty();
+        assertThatThrownBy(() -> repository.findAfter(BY_COLOR, "red", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRoundTripSortKeyCursors() {
+        // Given
+        SortKey<Long> key = new SortKey<>(Timestamps.toEpochMillis(LocalDateTime.of(2024, 1, 24, 14, 30)), 12345001L);
+        SortKey<String> undated = new SortKey<>(Timestamps.NONE, "MCO1|2");
+
+        // Then
+        assertThat(SortKey.decode(key.encode(), Long::valueOf)).isEqualTo(key);
+        assertThat(SortKey.decode(undated.encode(), Function.identity())).isEqualTo(undated);
+        assertThat(SortKey.<String>decode("", Function.identity())).isNull();
+        assertThat(undated).isLessThan(new SortKey<>(Timestamps.toEpochMillis(LocalDateTime.of(2000, 1, 1, 0, 0)), "A"));
+        assertThatThrownBy(() -> SortKey.decode("not-a-cursor!", Long::valueOf))
+                .isInstanceOf(InvalidArgumentException.class);
+    }
+
+    @Test
+    void shouldReplaceAllRecordsAndRebuildIndexes() {
+        // Given
+        List<Item> before = repository.findBy(BY_COLOR, "red");
+        Map<String, Item> reloaded = new LinkedHashMap<>();
+        reloaded.put("e", new Item("e", "green", List.of("sale"), 40.0));
+        reloaded.put("a", new Item("a", "red", List.of(), 10.0));
+
+        // When
+        repository.replaceAll(reloaded);
+
+        // Then
+        assertThat(repository.findAll()).extracting(Item::id).containsExactly("e", "a");
+        assertThat(repository.findBy(BY_COLOR, "red")).extracting(Item::id).containsExactly("a");
+        assertThat(repository.findBy(BY_COLOR, "green")).extracting(Item::id).containsExactly("e");
+        assertThat(repository.findBy(BY_TAG, "sale")).extracting(Item::id).containsExactly("e");
+        assertThat(repository.findFrom(BY_PRICE, 20.0)).extracting(Item::id).containsExactly("e");
+        assertThat(repository.findById("c")).isEmpty();
+        assertThat(repository.size()).isEqualTo(2);
+        // Lists handed out before the swap still show the previous snapshot
+        assertThat(before).extracting(Item::id).containsExactly("c", "b");
+    }
+}
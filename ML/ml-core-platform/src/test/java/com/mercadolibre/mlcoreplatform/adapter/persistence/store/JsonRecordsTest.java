@@ -0,0 +1,68 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonRecordsTest {
+
+    private final ObjectReader recordReader = JsonCodecs.standalone().recordReader();
+
+    @Test
+    void shouldReadRecordsKeyedById() throws IOException {
+        // Given
+        Map<String, Map<String, Object>> read = new LinkedHashMap<>();
+
+        // When
+        int records = JsonRecords.readObject(recordReader, json("""
+                {"b": {"name": "second", "tags": ["x"]}, "a": {"name": "first"}}
+                """), "test.json", read::put);
+
+        // Then
+        assertThat(records).isEqualTo(2);
+        assertThat(read.keySet()).containsExactly("b", "a");
+        assertThat(read.get("b")).containsEntry("name", "second").containsKey("tags");
+    }
+
+    @Test
+    void shouldReadGroupsWithPositionalKeys() throws IOException {
+        // Given
+        Map<GroupKey, Object> read = new LinkedHashMap<>();
+
+        // When
+        int records = JsonRecords.readGroups(recordReader, json("""
+                {"first": [{"v": 1}, {"v": 2}], "empty": null, "none": [], "second": [{"v": 3}]}
+                """), "test.json", (key, data) -> read.put(key, data.get("v")));
+
+        // Then
+        assertThat(records).isEqualTo(3);
+        assertThat(read).containsExactly(
+                Map.entry(new GroupKey("first", 0), 1),
+                Map.entry(new GroupKey("first", 1), 2),
+                Map.entry(new GroupKey("second", 0), 3));
+    }
+
+    @Test
+    void shouldRejectUnexpectedShapes() {
+        assertThatThrownBy(() -> JsonRecords.readObject(recordReader, json("[1, 2]"), "test.json", (id, data) -> { }))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("test.json");
+        assertThatThrownBy(() -> JsonRecords.readGroups(recordReader, json("{\"a\": {\"v\": 1}}"), "test.json", (key, data) -> { }))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Expected an array for a");
+    }
+
+    private static InputStream json(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,85 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedCatalogTest {
+
+    private static final String JSON = """
+            {
+              "b": {"color": "red", "size": 2, "date_created": "2024-01-02T00:00:00"},
+              "a": {"color": "blue", "size": null, "date_created": "2024-01-03T00:00:00"},
+              "ñ": {"color": "red", "size": 2},
+              "c": {"color": "red", "date_created": "2024-01-01T00:00:00"}
+            }
+            """;
+
+    @TempDir
+    Path dir;
+
+    private MappedCatalog catalog;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = dir.resolve("items.bin");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            int records = new CatalogCompiler(List.of("color", "size"), "date_created")
+                    .compile(new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)), out);
+            assertThat(records).isEqualTo(4);
+        }
+        catalog = MappedCatalog.open(file);
+    }
+
+    @Test
+    void shouldKeepFileOrderAndFindByKey() {
+        assertThat(catalog.size()).isEqualTo(4);
+        assertThat(List.of(catalog.key(0), catalog.key(1), catalog.key(2), catalog.key(3))).containsExactly("b", "a", "ñ", "c");
+        assertThat(catalog.ordinalOf("c")).isEqualTo(3);
+        assertThat(catalog.ordinalOf("ñ")).isEqualTo(2);
+        assertThat(catalog.ordinalOf("z")).isEqualTo(-1);
+        assertThat(catalog.ordinalOf(null)).isEqualTo(-1);
+        assertThat(new String(catalog.value(1), StandardCharsets.UTF_8))
+                .isEqualTo("{\"color\":\"blue\",\"size\":null,\"date_created\":\"2024-01-03T00:00:00\"}");
+    }
+
+    @Test
+    void shouldReturnPostingsInFileOrderSkippingNulls() {
+        assertThat(catalog.postings("color", "red")).containsExactly(0, 2, 3);
+        assertThat(catalog.postings("size", "2")).containsExactly(0, 2);
+        assertThat(catalog.postings("color", "green")).isEmpty();
+        assertThat(catalog.postings("color", null)).isEmpty();
+        assertThatThrownBy(() -> catalog.postings("weight", "1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldSortByDateWithMissingDatesFirst() {
+        assertThat(catalog.hasSortTable()).isTrue();
+        assertThat(List.of(catalog.ordinalInSortOrder(0), catalog.ordinalInSortOrder(1),
+                catalog.ordinalInSortOrder(2), catalog.ordinalInSortOrder(3))).containsExactly(2, 3, 0, 1);
+        assertThat(catalog.sortDateAt(0)).isEqualTo(Timestamps.NONE);
+        assertThat(catalog.sortDateAt(3)).isEqualTo(Timestamps.toEpochMillis(LocalDateTime.of(2024, 1, 3, 0, 0)));
+    }
+
+    @Test
+    void shouldRejectFilesThatAreNotCatalogs() throws IOException {
+        Path file = dir.resolve("products.json");
+        Files.writeString(file, "{\"not\": \"a catalog\"}");
+
+        assertThatThrownBy(() -> MappedCatalog.open(file))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,130 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryTrendsTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    @Test
+    void shouldRankNormalizedQueriesPerSiteAfterMerge() {
+        // Given
+        QueryTrends trends = new QueryTrends(new Suggestions(), 100, 1_000, Duration.ofHours(1), now::get);
+        record(trends, "MCO", "iPhone 15", 3);
+        record(trends, "MCO", "  iphone   15 ", 2);
+        record(trends, "MCO", "Teléfono", 4);
+        record(trends, "MLA", "zapatillas", 1);
+        trends.record("MCO", " ");
+
+        // Then: nothing is visible until the next merge
+        assertThat(trends.top("MCO", 10)).isEmpty();
+
+        // When
+        trends.merge();
+
+        // Then
+        assertThat(trends.top("MCO", 10)).containsExactly("iphone 15", "telefono");
+        assertThat(trends.top("MCO", 1)).containsExactly("iphone 15");
+        assertThat(trends.top("MLA", 10)).containsExactly("zapatillas");
+        assertThat(trends.top("MPE", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldLetRecentSearchesOvertakeOldOnes() {
+        // Given
+        QueryTrends trends = new QueryTrends(new Suggestions(), 100, 1_000, Duration.ofMinutes(10), now::get);
+        record(trends, "MCO", "mundial", 10);
+        record(trends, "MCO", "lluvia", 1);
+        trends.merge();
+
+        // When: two half-lives later
+        now.addAndGet(Duration.ofMinutes(20).toMillis());
+        record(trends, "MCO", "navidad", 4);
+        trends.merge();
+
+        // Then: mundial weighs 2.5 and lluvia 0.25 is forgotten
+        assertThat(trends.top("MCO", 10)).containsExactly("navidad", "mundial");
+    }
+
+    @Test
+    void shouldDropNewQueriesBeyondThePendingBound() {
+        // Given
+        QueryTrends trends = new QueryTrends(new Suggestions(), 100, 2, Duration.ofHours(1), now::get);
+
+        // When
+        record(trends, "MCO", "a", 1);
+        record(trends, "MCO", "b", 1);
+        record(trends, "MCO", "c", 1);
+        record(trends, "MCO", "a", 1);
+        trends.merge();
+
+        // Then
+        assertThat(trends.dropped()).isEqualTo(1);
+        assertThat(trends.top("MCO", 10)).containsExactly("a", "b");
+    }
+
+    @Test
+    void shouldCountEveryRecordFromConcurrentThreads() throws InterruptedException {
+        // Given
+        QueryTrends trends = new QueryTrends(new Suggestions(), 100, 1_000, Duration.ofHours(1), now::get);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            String mine = "query " + t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    trends.record("MCO", "shared");
+                    if (i % 10 == 0) {
+                        trends.record("MCO", mine);
+                    }
+                }
+            }));
+        }
+
+        // When
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        trends.merge();
+
+        // Then
+        assertThat(trends.top("MCO", 10)).hasSize(5).first().isEqualTo("shared");
+    }
+
+    @Test
+    void shouldHandTheCountedQueriesToSuggestionsOnMerge() {
+        // Given
+        Suggestions suggestions = new Suggestions();
+        suggestions.replace("products", Map.of("MCO", Map.of("Celular Samsung Galaxy", 2L)));
+        QueryTrends trends = new QueryTrends(suggestions, 100, 1_000, Duration.ofMinutes(10), now::get);
+        record(trends, "MCO", "Celular Motorola", 5);
+        record(trends, "MCO", "celular samsung", 3);
+
+        // Then: searches reach the suggestions only through a merge
+        assertThat(suggestions.complete("MCO", "cel", 10)).containsExactly("Celular Samsung Galaxy");
+
+        // When
+        trends.merge();
+        List<String> merged = suggestions.complete("MCO", "cel", 10);
+        now.addAndGet(Duration.ofMinutes(60).toMillis());
+        trends.merge();
+
+        // Then: once decayed below half a search, a query stops being suggested
+        assertThat(merged).containsExactly("celular motorola", "celular samsung", "Celular Samsung Galaxy");
+        assertThat(suggestions.complete("MCO", "cel", 10)).containsExactly("Celular Samsung Galaxy");
+    }
+
+    private static void record(QueryTrends trends, String siteId, String query, int times) {
+        for (int i = 0; i < times; i++) {
+            trends.record(siteId, query);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import com.mercadolibre.mlcoreplatform.domain.core.exception.InvalidArgumentException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchIndexTest {
+
+    private SearchIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        SearchIndex.Builder<String> builder = SearchIndex.<String>builder().buckets("price", 2);
+        builder.add("phone-new").text("Teléfono celular Samsung", 3).text("Pantalla grande", 1)
+                .keyword("category", "phones").keyword("condition", "new").number("price", 900.0);
+        builder.add("phone-used").text("Celular Motorola", 3).text("Teléfono usado con cargador", 1)
+                .keyword("category", "phones").keyword("condition", "used").number("price", 300.0);
+        builder.add("case").text("Funda para celular Samsung", 3)
+                .keyword("category", "accessories").keyword("condition", "new").number("price", 20.0);
+        builder.add("unpriced").text("Cargador", 3).keyword("category", "accessories");
+        index = builder.build();
+    }
+
+    @Test
+    void shouldRequireEveryTermAndRankByBm25() {
+        // When
+        SearchIndex.Hits<String> celular = index.search(SearchIndex.query().text("celulares"));
+        SearchIndex.Hits<String> telefono = index.search(SearchIndex.query().text("teléfonos celulares"));
+
+        // Then
+        assertThat(celular.total()).isEqualTo(3);
+        assertThat(telefono.values()).containsExactly("phone-new", "phone-used");
+        assertThat(index.search(SearchIndex.query().text("celular iphone")).total()).isZero();
+    }
+
+    @Test
+    void shouldFilterByKeywordsAndPriceRange() {
+        // When
+        SearchIndex.Hits<String> hits = index.search(SearchIndex.query()
+                .keyword("category", List.of("phones", "accessories", "unknown"))
+                .keyword("condition", "new")
+                .range("price", 10.0, 500.0));
+
+        // Then
+        assertThat(hits.values()).containsExactly("case");
+        assertThat(index.search(SearchIndex.query().keyword("category", "unknown")).total()).isZero();
+        assertThat(index.search(SearchIndex.query().range("price", null, 1000.0)).values())
+                .containsExactly("phone-new", "phone-used", "case");
+    }
+
+    @Test
+    void shouldSortByNumberWithMissingValuesLast() {
+        // When
+        List<String> ascending = index.search(SearchIndex.query().sortBy("price", true)).values();
+        List<String> descending = index.search(SearchIndex.query().sortBy("price", false)).values();
+
+        // Then
+        assertThat(ascending).containsExactly("case", "phone-used", "phone-new", "unpriced");
+        assertThat(descending).containsExactly("phone-new", "phone-used", "case", "unpriced");
+    }
+
+    @Test
+    void shouldPageWhileCountingEveryMatch() {
+        // When
+        SearchIndex.Hits<String> page = index.search(SearchIndex.query().sortBy("price", true).page(1, 2));
+
+        // Then
+        assertThat(page.values()).containsExactly("phone-used", "phone-new");
+        assertThat(page.total()).isEqualTo(4);
+        assertThat(index.search(SearchIndex.query().page(10, 2)).values()).isEmpty();
+        assertThatThrownBy(() -> SearchIndex.query().page(-1, 2)).isInstanceOf(InvalidArgumentException.class);
+        assertThatThrownBy(() -> index.search(SearchIndex.query().sortBy("rating", true)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldMatchEverythingWithoutCriteria() {
+        assertThat(index.search(SearchIndex.query()).values()).containsExactly("phone-new", "phone-used", "case", "unpriced");
+        assertThat(index.search(SearchIndex.query().text("de la")).total()).isEqualTo(4);
+        assertThat(SearchIndex.<String>empty().search(SearchIndex.query().text("celular")).total()).isZero();
+    }
+
+    @Test
+    void shouldCountFacetValuesOfTheMatchesOnly() {
+        // When
+        SearchIndex.Hits<String> hits = index.search(SearchIndex.query()
+                .text("celular")
+                .facets(List.of("condition", "category", "price", "unknown"))
+                .page(0, 1));
+
+        // Then
+        assertThat(hits.values()).hasSize(1);
+        assertThat(hits.facets()).containsOnlyKeys("condition", "category", "price");
+        assertThat(hits.facets().get("condition")).containsExactly(Map.entry("new", 2), Map.entry("used", 1));
+        assertThat(hits.facets().get("category")).containsExactly(Map.entry("phones", 2), Map.entry("accessories", 1));
+        assertThat(hits.facets().get("price")).containsExactly(Map.entry("*-300", 1), Map.entry("300-*", 2));
+        assertThat(index.search(SearchIndex.query().text("celular")).facets()).isEmpty();
+    }
+}
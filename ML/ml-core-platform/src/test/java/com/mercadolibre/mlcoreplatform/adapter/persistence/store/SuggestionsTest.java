@@ -0,0 +1,46 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestionsTest {
+
+    @Test
+    void shouldCompleteAcrossSourcesPerSite() {
+        // Given
+        Suggestions suggestions = new Suggestions();
+        suggestions.replace("products", Map.of(
+                "MCO", Map.of("Celular Samsung Galaxy", 10L, "Cámara Canon", 3L),
+                "MLA", Map.of("Celular Motorola", 7L)));
+        suggestions.replace("categories", Map.of("MCO", Map.of("Celulares y Teléfonos", 125L)));
+
+        // When
+        suggestions.replace("queries", Map.of("MCO", Map.of("  celular   samsung ", 5L)));
+
+        // Then
+        assertThat(suggestions.complete("MCO", "CEL", 10)).containsExactly("Celulares y Teléfonos", "Celular Samsung Galaxy", "celular samsung");
+        assertThat(suggestions.complete("MCO", "cam", 10)).containsExactly("Cámara Canon");
+        assertThat(suggestions.complete("MLA", "cel", 10)).containsExactly("Celular Motorola");
+        assertThat(suggestions.complete("MCO", "celular  sam", 10)).containsExactly("Celular Samsung Galaxy", "celular samsung");
+        assertThat(suggestions.complete("MPE", "cel", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldApplyOnlyWhatChangedOnReplace() {
+        // Given
+        Suggestions suggestions = new Suggestions();
+        suggestions.replace("products", Map.of("MCO", Map.of("iPhone 15", 4L, "Galaxy S23", 9L)));
+        suggestions.replace("queries", Map.of("MCO", Map.of("iphone 15", 20L)));
+
+        // When
+        suggestions.replace("products", Map.of("MCO", Map.of("Galaxy S24", 2L)));
+
+        // Then
+        assertThat(suggestions.complete("MCO", "gal", 10)).containsExactly("Galaxy S24");
+        assertThat(suggestions.complete("MCO", "iph", 10)).containsExactly("iPhone 15");
+        assertThat(suggestions.size("MCO")).isEqualTo(2);
+    }
+}
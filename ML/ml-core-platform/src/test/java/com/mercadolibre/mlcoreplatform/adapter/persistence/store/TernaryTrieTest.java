@@ -0,0 +1,91 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TernaryTrieTest {
+
+    @Test
+    void shouldCompleteHeaviestKeysFirst() {
+        // Given
+        TernaryTrie trie = new TernaryTrie();
+        trie.add("celular", "Celular", 5);
+        trie.add("celulares y telefonos", "Celulares y Teléfonos", 50);
+        trie.add("cel", "cel", 1);
+        trie.add("camara", "Cámara", 100);
+
+        // When
+        List<String> completions = trie.complete("cel", 10);
+
+        // Then
+        assertThat(completions).containsExactly("Celulares y Teléfonos", "Celular", "cel");
+        assertThat(trie.complete("c", 2)).containsExactly("Cámara", "Celulares y Teléfonos");
+        assertThat(trie.complete("x", 10)).isEmpty();
+        assertThat(trie.complete("", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldAccumulateAndRemoveWeights() {
+        // Given
+        TernaryTrie trie = new TernaryTrie();
+        trie.add("iphone", "iPhone", 3);
+        trie.add("iphone", "IPHONE", 2);
+        trie.add("ipad", "iPad", 4);
+
+        // When
+        trie.add("ipad", null, -4);
+        trie.add("missing", null, -1);
+
+        // Then
+        assertThat(trie.weight("iphone")).isEqualTo(5);
+        assertThat(trie.complete("ip", 10)).containsExactly("iPhone");
+        assertThat(trie.weight("ipad")).isZero();
+        assertThat(trie.weight("missing")).isZero();
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMatchBruteForceTopK() {
+        // Given
+        Random random = new Random(7);
+        TernaryTrie trie = new TernaryTrie();
+        Map<String, Long> weights = new HashMap<>();
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder key = new StringBuilder();
+            for (int length = 1 + random.nextInt(6); length > 0; length--) {
+                key.append((char) ('a' + random.nextInt(4)));
+            }
+            long delta = random.nextInt(10) - 2;
+            trie.add(key.toString(), key.toString(), delta);
+            if (delta > 0 || weights.containsKey(key.toString())) {
+                weights.merge(key.toString(), delta, Long::sum);
+                weights.remove(key.toString(), 0L);
+                if (weights.getOrDefault(key.toString(), 1L) < 0) {
+                    weights.remove(key.toString());
+                }
+            }
+        }
+
+        // Then: equal weights may come in any order, so compare the weights
+        for (String prefix : List.of("a", "ab", "cd", "dda", "b")) {
+            List<Long> expected = weights.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(prefix))
+                    .map(Map.Entry::getValue)
+                    .sorted(Comparator.reverseOrder())
+                    .limit(5)
+                    .toList();
+            List<String> completions = trie.complete(prefix, 5);
+            assertThat(completions).as(prefix).allMatch(key -> key.startsWith(prefix));
+            assertThat(completions.stream().map(weights::get).toList()).as(prefix).containsExactlyElementsOf(expected);
+        }
+        assertThat(trie.size()).isEqualTo(weights.size());
+    }
+}
@@ -0,0 +1,29 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextAnalyzerTest {
+
+    @Test
+    void shouldFoldAccentsAndDropStopwords() {
+        assertThat(TextAnalyzer.analyze("Cámara de 200MP y pantalla")).containsExactly("camar", "200mp", "pantall");
+        assertThat(TextAnalyzer.fold("Envío Ñandú")).isEqualTo("envio nandu");
+    }
+
+    @Test
+    void shouldStemSingularAndPluralToTheSameTerm() {
+        assertThat(TextAnalyzer.analyze("Teléfonos celulares")).isEqualTo(TextAnalyzer.analyze("telefono celular"));
+        assertThat(TextAnalyzer.analyze("luces")).isEqualTo(TextAnalyzer.analyze("luz"));
+        assertThat(TextAnalyzer.analyze("meses")).isEqualTo(TextAnalyzer.analyze("mes"));
+        assertThat(TextAnalyzer.analyze("ações")).isEqualTo(TextAnalyzer.analyze("ação"));
+    }
+
+    @Test
+    void shouldKeepShortAndAlphanumericTokensWhole() {
+        assertThat(TextAnalyzer.analyze("Galaxy S23 Pro 256GB")).containsExactly("galaxy", "s23", "pro", "256gb");
+        assertThat(TextAnalyzer.analyze(null)).isEmpty();
+        assertThat(TextAnalyzer.analyze(" - ")).isEmpty();
+    }
+}
@@ -0,0 +1,48 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimestampsTest {
+
+    private final Timestamps timestamps = new Timestamps("test.json");
+
+    @Test
+    void shouldParseIsoDateTimesIntoEpochMillis() {
+        // When
+        long local = timestamps.parse("2024-01-15T10:30:00.250");
+        long withOffset = timestamps.parse("2024-01-15T10:30:00.250-03:00");
+
+        // Then
+        assertThat(Timestamps.toLocalDateTime(local)).isEqualTo(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 250_000_000));
+        assertThat(withOffset).isEqualTo(local);
+        assertThat(timestamps.malformed()).isZero();
+    }
+
+    @Test
+    void shouldReadMissingValuesAsNone() {
+        // Then
+        assertThat(timestamps.parse(null)).isEqualTo(Timestamps.NONE);
+        assertThat(timestamps.parse(" ")).isEqualTo(Timestamps.NONE);
+        assertThat(Timestamps.toLocalDateTime(Timestamps.NONE)).isNull();
+        assertThat(Timestamps.toEpochMillis(null)).isEqualTo(Timestamps.NONE);
+        assertThat(timestamps.malformed()).isZero();
+    }
+
+    @Test
+    void shouldCountMalformedValuesUntilReported() {
+        // When
+        long malformed = timestamps.parse("15/01/2024");
+        timestamps.parse("yesterday");
+
+        // Then
+        assertThat(malformed).isEqualTo(Timestamps.NONE);
+        assertThat(timestamps.malformed()).isEqualTo(2);
+        assertThat(timestamps.report()).isEqualTo(2);
+        assertThat(timestamps.malformed()).isZero();
+        assertThat(timestamps.report()).isZero();
+    }
+}
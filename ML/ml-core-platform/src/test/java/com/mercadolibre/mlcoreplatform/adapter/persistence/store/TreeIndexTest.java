@@ -0,0 +1,106 @@
+package com.mercadolibre.mlcoreplatform.adapter.persistence.store;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TreeIndexTest {
+
+    //        root          other
+    //       /    \
+    //      a      b
+    //     / \
+    //   a1   a2
+    private TreeIndex<String> tree() {
+        return TreeIndex.<String>builder()
+                .node("a2", "record a2")
+                .node("root", "record root")
+                .edge("root", "a")
+                .edge("root", "b")
+                .edge("a", "a1")
+                .edge("a", "a2")
+                .node("a", "record a")
+                .node("other", "record other")
+                .build();
+    }
+
+    @Test
+    void shouldLayOutSubtreesInTourOrder() {
+        // Given
+        TreeIndex<String> tree = tree();
+
+        // Then
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(tree.subtree("root")).containsExactly("root", "a", "a1", "a2", "b");
+        assertThat(tree.subtree("a")).containsExactly("a", "a1", "a2");
+        assertThat(tree.subtree("b")).containsExactly("b");
+        assertThat(tree.subtree("missing")).isEmpty();
+        assertThat(tree.children("root")).containsExactly("a", "b");
+        assertThat(tree.parentOf("a1")).contains("a");
+        assertThat(tree.parentOf("root")).isEmpty();
+    }
+
+    @Test
+    void shouldAnswerAncestryFromIntervals() {
+        // Given
+        TreeIndex<String> tree = tree();
+
+        // Then
+        assertThat(tree.isInSubtree("a2", "root")).isTrue();
+        assertThat(tree.isInSubtree("a2", "a")).isTrue();
+        assertThat(tree.isInSubtree("a", "a")).isTrue();
+        assertThat(tree.isInSubtree("b", "a")).isFalse();
+        assertThat(tree.isInSubtree("root", "a")).isFalse();
+        assertThat(tree.isInSubtree("a", "other")).isFalse();
+        assertThat(tree.isInSubtree("missing", "root")).isFalse();
+    }
+
+    @Test
+    void shouldReturnDescendantValuesInInsertionOrder() {
+        // Given
+        TreeIndex<String> tree = tree();
+
+        // Then - nodes without a value (a1, b) are skipped
+        assertThat(tree.descendantValues("root")).containsExactly("record a2", "record a");
+        assertThat(tree.descendantValues("a")).containsExactly("record a2");
+        assertThat(tree.descendantValues("a2")).isEmpty();
+        assertThat(tree.descendantValues(null)).isEmpty();
+        assertThat(tree.value("a")).contains("record a");
+        assertThat(tree.value("b")).isEmpty();
+    }
+
+    @Test
+    void shouldKeepFirstParentAndSurviveCycles() {
+        // When
+        TreeIndex<String> tree = TreeIndex.<String>builder()
+                .edge("x", "y")
+                .edge("z", "y")
+                .edge("y", "x")
+                .edge("x", "x")
+                .build();
+
+        // Then - z does not steal y, and the x/y cycle is cut at x
+        assertThat(tree.parentOf("y")).contains("x");
+        assertThat(tree.subtree("x")).containsExactly("x", "y");
+        assertThat(tree.subtree("z")).containsExactly("z");
+        assertThat(tree.children("y")).isEmpty();
+        assertThat(tree.isInSubtree("x", "y")).isFalse();
+    }
+
+    @Test
+    void shouldHandleDeepChainsWithoutRecursion() {
+        // Given
+        TreeIndex.Builder<String> builder = TreeIndex.builder();
+        for (int i = 0; i < 100_000; i++) {
+            builder.edge("n" + i, "n" + (i + 1));
+        }
+
+        // When
+        TreeIndex<String> tree = builder.build();
+
+        // Then
+        assertThat(tree.subtree("n0")).hasSize(100_001);
+        assertThat(tree.isInSubtree("n100000", "n0")).isTrue();
+        assertThat(TreeIndex.<String>empty().subtree("n0")).isEmpty();
+    }
+}
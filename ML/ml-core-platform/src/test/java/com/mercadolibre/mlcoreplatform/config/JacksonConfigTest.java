@@ -0,0 +1,92 @@
+package com.mercadolibre.mlcoreplatform.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.OrderRequest;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.OrderResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JacksonConfigTest {
+
+    private final ObjectMapper objectMapper = JsonCodecs.standalone().objectMapper();
+    private final JacksonConfig config = new JacksonConfig();
+    private final JsonCodecs jsonCodecs = config.jsonCodecs(objectMapper);
+
+    @Test
+    void shouldPrepareWritersForResponsesAndListsOfResponses() {
+        JavaType single = objectMapper.constructType(ProductResponse.class);
+        JavaType list = objectMapper.getTypeFactory().constructCollectionType(List.class, OrderResponse.class);
+
+        assertThat(jsonCodecs.writerFor(single)).isNotNull();
+        assertThat(jsonCodecs.writerFor(list)).isNotNull();
+        assertThat(jsonCodecs.writerFor(objectMapper.constructType(String.class))).isNull();
+        assertThat(jsonCodecs.readerFor(objectMapper.constructType(OrderRequest.class))).isNotNull();
+        assertThat(jsonCodecs.recordReader()).isSameAs(jsonCodecs.recordReader());
+    }
+
+    @Test
+    void shouldUsePreparedWriterOnlyWhenConfigurationMatches() {
+        JacksonConfig.PreparedCodecsHttpMessageConverter converter =
+                (JacksonConfig.PreparedCodecsHttpMessageConverter) config.mappingJackson2HttpMessageConverter(jsonCodecs);
+        JavaType type = objectMapper.constructType(ProductResponse.class);
+        ObjectWriter prepared = jsonCodecs.writerFor(type);
+
+        assertThat(converter.customizeWriter(objectMapper.writer(), type, MediaType.APPLICATION_JSON)).isSameAs(prepared);
+
+        ObjectWriter withView = objectMapper.writerWithView(Object.class);
+        assertThat(converter.customizeWriter(withView, type, MediaType.APPLICATION_JSON)).isSameAs(withView);
+
+        JavaType unprepared = objectMapper.constructType(String.class);
+        ObjectWriter plain = objectMapper.writer();
+        assertThat(converter.customizeWriter(plain, unprepared, MediaType.APPLICATION_JSON)).isSameAs(plain);
+    }
+
+    @Test
+    void shouldWriteTheSameJsonAsTheDefaultConverter() throws IOException {
+        List<OrderResponse> orders = List.of(OrderResponse.builder()
+                .id("2000001")
+                .status("paid")
+                .dateCreated(LocalDateTime.of(2024, 1, 2, 3, 4, 5))
+                .totalAmount(new BigDecimal("4899000.50"))
+                .buyer(OrderResponse.BuyerResponse.builder().id("1").nickname("buyer").build())
+                .build());
+        var listType = new ParameterizedTypeReference<List<OrderResponse>>() {}.getType();
+
+        MockHttpOutputMessage prepared = new MockHttpOutputMessage();
+        config.mappingJackson2HttpMessageConverter(jsonCodecs).write(orders, listType, MediaType.APPLICATION_JSON, prepared);
+        MockHttpOutputMessage standard = new MockHttpOutputMessage();
+        new MappingJackson2HttpMessageConverter(objectMapper).write(orders, listType, MediaType.APPLICATION_JSON, standard);
+
+        assertThat(prepared.getBodyAsString()).isEqualTo(standard.getBodyAsString()).contains("\"dateCreated\":\"2024-01-02T03:04:05\"");
+    }
+
+    @Test
+    void shouldLeaveNullFieldsOutOfProjectionsOnly() throws IOException {
+        List<ProductResponse> products = List.of(ProductResponse.builder().id("MLA1").title("iPhone 14").build());
+        var listType = new ParameterizedTypeReference<List<ProductResponse>>() {}.getType();
+        MappingJacksonValue projection = new MappingJacksonValue(products);
+        projection.setSerializationView(JsonCodecs.Projection.class);
+
+        MockHttpOutputMessage projected = new MockHttpOutputMessage();
+        config.mappingJackson2HttpMessageConverter(jsonCodecs).write(projection, listType, MediaType.APPLICATION_JSON, projected);
+        MockHttpOutputMessage full = new MockHttpOutputMessage();
+        config.mappingJackson2HttpMessageConverter(jsonCodecs).write(products, listType, MediaType.APPLICATION_JSON, full);
+
+        assertThat(projected.getBodyAsString()).isEqualTo("[{\"id\":\"MLA1\",\"title\":\"iPhone 14\"}]");
+        assertThat(full.getBodyAsString()).contains("\"price\":null", "\"shipping\":null").doesNotContain("siteId");
+    }
+}
@@ -1,8 +1,14 @@
 package com.mercadolibre.mlcoreplatform.controller;
 
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
 import com.mercadolibre.mlcoreplatform.domain.port.in.CategoryUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.ProductUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Versioned;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.controller.CategoryController;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.controller.SerializedResponseCache;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.CategoryResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,11 +33,14 @@ class CategoryControllerTest {
     @Mock
     private CategoryUseCase categoryUseCase;
 
+    @Mock
+    private ProductUseCase productUseCase;
+
     private CategoryController categoryController;
 
     @BeforeEach
     void setUp() {
-        categoryController = new CategoryController(categoryUseCase);
+        categoryController = new CategoryController(categoryUseCase, productUseCase, new SerializedResponseCache(JsonCodecs.standalone(), 100));
         mockMvc = MockMvcBuilders.standaloneSetup(categoryController).build();
     }
 
@@ -63,6 +72,29 @@ class CategoryControllerTest {
                 .andExpect(jsonPath("$[1].name").value("Computación"));
     }
 
+    @Test
+    void testGetCategoryProducts() throws Exception {
+        // Arrange
+        String categoryId = "MLA1000";
+        List<ProductResponse> mockResponse = List.of(
+                ProductResponse.builder().id("MLA1").categoryId("MLA1055").build(),
+                ProductResponse.builder().id("MLA2").categoryId("MLA1055001").build()
+        );
+
+        when(productUseCase.getProductsInCategory(categoryId, 10, 2, Fields.DEFAULT)).thenReturn(mockResponse);
+        when(productUseCase.countProductsInCategory(categoryId)).thenReturn(14L);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/categories/{id}/items", categoryId)
+                        .param("offset", "10")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "14"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value("MLA1"))
+                .andExpect(jsonPath("$[1].categoryId").value("MLA1055001"));
+    }
+
     @Test
     void testGetCategoryById() throws Exception {
         // Arrange
@@ -72,7 +104,7 @@ class CategoryControllerTest {
                 .name("Celulares y Smartphones")
                 .build();
 
-        when(categoryUseCase.getCategoryById(categoryId)).thenReturn(mockResponse);
+        when(categoryUseCase.getVersionedCategory(categoryId)).thenReturn(new Versioned<>(1L, Versioned.NO_DATE, () -> mockResponse));
 
         // Act & Assert
         mockMvc.perform(get("/api/categories/{id}", categoryId))
@@ -82,6 +114,23 @@ class CategoryControllerTest {
                 .andExpect(jsonPath("$.name").value("Celulares y Smartphones"));
     }
 
+    @Test
+    void testGetCategoryByIdReturnsNotModifiedForMatchingETag() throws Exception {
+        // Arrange
+        when(categoryUseCase.getVersionedCategory("MLA1055"))
+                .thenReturn(new Versioned<>(1L, Versioned.NO_DATE, () -> CategoryResponse.builder().id("MLA1055").build()));
+        String etag = mockMvc.perform(get("/api/categories/{id}", "MLA1055"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/categories/{id}", "MLA1055").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/categories/{id}", "MLA1055").header("If-Modified-Since", "Tue, 14 Nov 2023 22:13:20 GMT"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Last-Modified"));
+    }
+
     @Test
     void testGetCategoryAttributes() throws Exception {
         // Arrange
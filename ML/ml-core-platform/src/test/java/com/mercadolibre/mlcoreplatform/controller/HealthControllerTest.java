@@ -3,10 +3,19 @@ package com.mercadolibre.mlcoreplatform.controller;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.ApiCaches;
+import com.mercadolibre.mlcoreplatform.adapter.api.cache.CacheStats;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.DataFiles;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.controller.HealthController;
 
+import java.time.Instant;
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -16,6 +25,12 @@ class HealthControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @MockBean
+    private DataFiles dataFiles;
+
+    @MockBean
+    private ApiCaches apiCaches;
+
     @Test
     void healthCheck_ShouldReturnOkStatus() throws Exception {
         mockMvc.perform(get("/api/health"))
@@ -23,4 +38,49 @@ class HealthControllerTest {
                 .andExpect(jsonPath("$.status").value("UP"))
                 .andExpect(jsonPath("$.timestamp").exists());
     }
+
+    @Test
+    void dataHealth_ShouldReturnLoadStatsPerFile() throws Exception {
+        when(dataFiles.stats()).thenReturn(Map.of("products.json", DataFiles.LoadStats.builder()
+                .source("classpath:products.json")
+                .records(12)
+                .durationMillis(34)
+                .loadedAt(Instant.now())
+                .build()));
+
+        mockMvc.perform(get("/api/health/data"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['products.json'].records").value(12))
+                .andExpect(jsonPath("$['products.json'].durationMillis").value(34))
+                .andExpect(jsonPath("$['products.json'].source").value("classpath:products.json"));
+    }
+
+    @Test
+    void readiness_ShouldBeUnavailableUntilDataIsLoaded() throws Exception {
+        when(dataFiles.isReady()).thenReturn(false);
+
+        mockMvc.perform(get("/api/health/ready"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value("LOADING"));
+    }
+
+    @Test
+    void readiness_ShouldBeOkOnceDataIsLoaded() throws Exception {
+        when(dataFiles.isReady()).thenReturn(true);
+
+        mockMvc.perform(get("/api/health/ready"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("READY"));
+    }
+
+    @Test
+    void cachesHealth_ShouldReturnStatsPerCache() throws Exception {
+        when(apiCaches.stats()).thenReturn(Map.of("payment-methods", new CacheStats(3, 1, 1, 0, 0, 0, 0, 0, 1, 4)));
+
+        mockMvc.perform(get("/api/health/caches"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['payment-methods'].hits").value(3))
+                .andExpect(jsonPath("$['payment-methods'].weight").value(4))
+                .andExpect(jsonPath("$['payment-methods'].hitRate").value(0.75));
+    }
 }
@@ -0,0 +1,120 @@
+package com.mercadolibre.mlcoreplatform.controller;
+
+import com.mercadolibre.mlcoreplatform.domain.port.in.ItemPageUseCase;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.controller.ItemPageController;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ItemPageResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ItemPageSection;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.stringContainsInOrder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemPageControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ItemPageUseCase itemPageUseCase;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ItemPageController(itemPageUseCase)).build();
+    }
+
+    @Test
+    void testGetItemPage() throws Exception {
+        // Arrange
+        Map<String, ItemPageResponse.PartStatus> parts = new LinkedHashMap<>();
+        parts.put("item", new ItemPageResponse.PartStatus("ok", 1.5, null));
+        parts.put("seller", new ItemPageResponse.PartStatus("timeout", 300.25, null));
+        ItemPageResponse page = ItemPageResponse.builder()
+                .item(ProductResponse.builder().id("MCO123456789").title("iPhone 14 Pro Max").build())
+                .parts(parts)
+                .build();
+
+        when(itemPageUseCase.getItemPage("MCO123456789")).thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/items/{id}/page", "MCO123456789"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("Server-Timing", "item;dur=1.50, seller;dur=300.25"))
+                .andExpect(jsonPath("$.item.title").value("iPhone 14 Pro Max"))
+                .andExpect(jsonPath("$.seller").isEmpty())
+                .andExpect(jsonPath("$.parts.seller.status").value("timeout"))
+                .andExpect(jsonPath("$.parts.item.latencyMillis").value(1.5));
+    }
+
+    @Test
+    void testStreamItemPageAsServerSentEvents() throws Exception {
+        // Arrange
+        givenStream();
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/items/{id}/page/stream", "MCO123456789")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(content().string(stringContainsInOrder(
+                        "event:item", "\"title\":\"iPhone 14 Pro Max\"",
+                        "event:seller", "\"status\":\"timeout\"",
+                        "event:done")));
+    }
+
+    @Test
+    void testStreamItemPageAsNdjson() throws Exception {
+        // Arrange
+        givenStream();
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/items/{id}/page/stream", "MCO123456789")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String[] lines = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("{\"section\":\"item\"");
+        assertThat(lines[2]).startsWith("{\"section\":\"done\"").contains("\"seller\":{\"status\":\"timeout\"");
+    }
+
+    private void givenStream() {
+        when(itemPageUseCase.streamItemPage(eq("MCO123456789"), any())).thenAnswer(invocation -> {
+            Consumer<ItemPageSection> listener = invocation.getArgument(1);
+            listener.accept(new ItemPageSection("item", new ItemPageResponse.PartStatus("ok", 1.0, null),
+                    ProductResponse.builder().id("MCO123456789").title("iPhone 14 Pro Max").build()));
+            listener.accept(new ItemPageSection("seller", new ItemPageResponse.PartStatus("timeout", 300.0, null), null));
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+}
@@ -1,7 +1,12 @@
 package com.mercadolibre.mlcoreplatform.controller;
 
+import com.mercadolibre.mlcoreplatform.config.JacksonConfig;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
 import com.mercadolibre.mlcoreplatform.domain.port.in.OrderUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.controller.OrderController;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.controller.ProjectionResponseAdvice;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.OrderRequest;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.OrderResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +22,8 @@ import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -35,7 +42,10 @@ class OrderControllerTest {
     @BeforeEach
     void setUp() {
         orderController = new OrderController(orderUseCase);
-        mockMvc = MockMvcBuilders.standaloneSetup(orderController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(orderController)
+                .setControllerAdvice(new ProjectionResponseAdvice())
+                .setMessageConverters(new JacksonConfig().mappingJackson2HttpMessageConverter(JsonCodecs.standalone()))
+                .build();
     }
 
     @Test
@@ -54,13 +64,15 @@ class OrderControllerTest {
                         .build()
         );
 
-        when(orderUseCase.getAllOrders(0, 50)).thenReturn(mockResponse);
+        when(orderUseCase.getAllOrders(0, 50, Fields.DEFAULT)).thenReturn(mockResponse);
+        when(orderUseCase.countOrders()).thenReturn(75L);
 
         // Act & Assert
         mockMvc.perform(get("/api/orders")
                         .param("offset", "0")
                         .param("limit", "50"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "75"))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
@@ -80,7 +92,7 @@ class OrderControllerTest {
                         .build()
         );
 
-        when(orderUseCase.getAllOrders(0, 50)).thenReturn(mockResponse);
+        when(orderUseCase.getAllOrders(0, 50, Fields.DEFAULT)).thenReturn(mockResponse);
 
         // Act & Assert
         mockMvc.perform(get("/api/orders"))
@@ -101,7 +113,7 @@ class OrderControllerTest {
                 .currency("ARS")
                 .build();
 
-        when(orderUseCase.getOrderById(orderId)).thenReturn(mockResponse);
+        when(orderUseCase.getOrderById(orderId, Fields.DEFAULT)).thenReturn(mockResponse);
 
         // Act & Assert
         mockMvc.perform(get("/api/orders/{id}", orderId))
@@ -110,7 +122,26 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.id").value(orderId))
                 .andExpect(jsonPath("$.status").value("confirmed"))
                 .andExpect(jsonPath("$.totalAmount").value(999.99))
-                .andExpect(jsonPath("$.currency").value("ARS"));
+                .andExpect(jsonPath("$.currency").value("ARS"))
+                .andExpect(content().string(containsString("\"statusDetail\":null")));
+    }
+
+    @Test
+    void testGetOrderByIdWithAttributesLeavesNullFieldsOut() throws Exception {
+        // Arrange
+        OrderResponse mockResponse = OrderResponse.builder()
+                .id("ORDER123")
+                .status("confirmed")
+                .build();
+
+        when(orderUseCase.getOrderById("ORDER123", Fields.of("id,status"))).thenReturn(mockResponse);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/orders/{id}", "ORDER123").param("attributes", "id,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("ORDER123"))
+                .andExpect(jsonPath("$.status").value("confirmed"))
+                .andExpect(content().string(not(containsString("null"))));
     }
 
     @Test
@@ -187,13 +218,15 @@ class OrderControllerTest {
                         .build()
         );
 
-        when(orderUseCase.getOrdersByUser(userId, 0, 50)).thenReturn(mockResponse);
+        when(orderUseCase.getOrdersByUser(userId, 0, 50, Fields.DEFAULT)).thenReturn(mockResponse);
+        when(orderUseCase.countOrdersByUser(userId)).thenReturn(3L);
 
         // Act & Assert
         mockMvc.perform(get("/api/orders/user/{userId}", userId)
                         .param("offset", "0")
                         .param("limit", "50"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "3"))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
@@ -202,4 +235,27 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$[1].id").value("ORDER456"))
                 .andExpect(jsonPath("$[1].status").value("delivered"));
     }
+
+    @Test
+    void testGetAllOrdersWithCursor() throws Exception {
+        // Arrange
+        CursorPage<OrderResponse> page = new CursorPage<>(List.of(
+                OrderResponse.builder()
+                        .id("ORDER456")
+                        .status("paid")
+                        .build()), "next-token");
+
+        when(orderUseCase.getOrdersAfter("", 1, Fields.DEFAULT)).thenReturn(page);
+        when(orderUseCase.countOrders()).thenReturn(2L);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/orders")
+                        .param("cursor", "")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"))
+                .andExpect(header().string("X-Next-Cursor", "next-token"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value("ORDER456"));
+    }
 }
@@ -1,25 +1,45 @@
 package com.mercadolibre.mlcoreplatform.controller;
 
+import com.mercadolibre.mlcoreplatform.config.JacksonConfig;
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.InvalidArgumentException;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.NotFoundException;
 import com.mercadolibre.mlcoreplatform.domain.port.in.ProductUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Versioned;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.controller.ProductController;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.controller.ProjectionResponseAdvice;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.controller.RestExceptionHandler;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.controller.SerializedResponseCache;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.ProductSearchRequest;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.MultiGetResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductDescriptionResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ShippingOptionsResponse;
+import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -36,8 +56,12 @@ class ProductControllerTest {
 
     @BeforeEach
     void setUp() {
-        productController = new ProductController(productUseCase);
-        mockMvc = MockMvcBuilders.standaloneSetup(productController).build();
+        productController = new ProductController(productUseCase, new SerializedResponseCache(JsonCodecs.standalone(), 100));
+        mockMvc = MockMvcBuilders.standaloneSetup(productController)
+                .setControllerAdvice(new RestExceptionHandler(), new ProjectionResponseAdvice())
+                .setMessageConverters(new ByteArrayHttpMessageConverter(),
+                        new JacksonConfig().mappingJackson2HttpMessageConverter(JsonCodecs.standalone()))
+                .build();
     }
 
     @Test
@@ -58,13 +82,15 @@ class ProductControllerTest {
                         .build()
         );
 
-        when(productUseCase.getAllProducts(0, 50)).thenReturn(mockResponse);
+        when(productUseCase.getAllProducts(0, 50, Fields.DEFAULT)).thenReturn(mockResponse);
+        when(productUseCase.countProducts()).thenReturn(120L);
 
         // Act & Assert
         mockMvc.perform(get("/api/items")
                         .param("offset", "0")
                         .param("limit", "50"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "120"))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
@@ -84,7 +110,7 @@ class ProductControllerTest {
                         .build()
         );
 
-        when(productUseCase.getAllProducts(0, 50)).thenReturn(mockResponse);
+        when(productUseCase.getAllProducts(0, 50, Fields.DEFAULT)).thenReturn(mockResponse);
 
         // Act & Assert
         mockMvc.perform(get("/api/items"))
@@ -94,6 +120,84 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.length()").value(1));
     }
 
+    @Test
+    void testGetAllProductsWithAttributesLeavesNullFieldsOut() throws Exception {
+        // Arrange
+        List<ProductResponse> mockResponse = List.of(ProductResponse.builder()
+                .id("ITEM123")
+                .title("iPhone 14")
+                .build());
+
+        when(productUseCase.getAllProducts(0, 50, Fields.of("id,title"))).thenReturn(mockResponse);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/items").param("attributes", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value("ITEM123"))
+                .andExpect(jsonPath("$[0].title").value("iPhone 14"))
+                .andExpect(content().string(not(containsString("null"))));
+    }
+
+    @Test
+    void testGetAllProductsWritesNullDefaultFields() throws Exception {
+        // Arrange
+        List<ProductResponse> mockResponse = List.of(ProductResponse.builder()
+                .id("ITEM123")
+                .title("iPhone 14")
+                .build());
+
+        when(productUseCase.getAllProducts(0, 50, Fields.DEFAULT)).thenReturn(mockResponse);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/items"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"price\":null")))
+                .andExpect(content().string(containsString("\"shipping\":null")))
+                .andExpect(jsonPath("$[0].siteId").doesNotExist());
+    }
+
+    @Test
+    void testGetProductsByIds() throws Exception {
+        // Arrange
+        List<MultiGetResponse<ProductResponse>> mockResponse = List.of(
+                MultiGetResponse.<ProductResponse>builder()
+                        .code(200)
+                        .id("ITEM1")
+                        .body(ProductResponse.builder().id("ITEM1").title("iPhone 14").build())
+                        .build(),
+                MultiGetResponse.<ProductResponse>builder()
+                        .code(404)
+                        .id("ITEM2")
+                        .message("Product not found with id: ITEM2")
+                        .build());
+
+        when(productUseCase.getProductsByIds(List.of("ITEM1", "ITEM2"), Fields.DEFAULT)).thenReturn(mockResponse);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/items")
+                        .param("ids", "ITEM1, ITEM2,"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].code").value(200))
+                .andExpect(jsonPath("$[0].body.title").value("iPhone 14"))
+                .andExpect(jsonPath("$[0].message").doesNotExist())
+                .andExpect(jsonPath("$[1].code").value(404))
+                .andExpect(jsonPath("$[1].id").value("ITEM2"))
+                .andExpect(jsonPath("$[1].body").doesNotExist());
+    }
+
+    @Test
+    void testGetProductsByIdsWithTooManyIds() throws Exception {
+        // Arrange
+        String ids = String.join(",", Collections.nCopies(ProductUseCase.MAX_IDS_PER_REQUEST + 1, "ITEM1"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/items")
+                        .param("ids", ids))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetProductById() throws Exception {
         // Arrange
@@ -107,7 +211,7 @@ class ProductControllerTest {
                 .currencyId("ARS")
                 .build();
 
-        when(productUseCase.getProductById(productId)).thenReturn(mockResponse);
+        when(productUseCase.getVersionedProduct(productId, Fields.DEFAULT)).thenReturn(new Versioned<>(1L, Versioned.NO_DATE, () -> mockResponse));
 
         // Act & Assert
         mockMvc.perform(get("/api/items/{id}", productId))
@@ -120,6 +224,118 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.condition").value("new"));
     }
 
+    @Test
+    void testGetProductByIdWithAttributes() throws Exception {
+        // Arrange
+        ProductResponse mockResponse = ProductResponse.builder()
+                .id("ITEM123")
+                .title("iPhone 14")
+                .build();
+
+        when(productUseCase.getVersionedProduct("ITEM123", Fields.of("id,title"))).thenReturn(new Versioned<>(1L, Versioned.NO_DATE, () -> mockResponse));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/items/{id}", "ITEM123").param("attributes", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("ITEM123"))
+                .andExpect(jsonPath("$.title").value("iPhone 14"))
+                .andExpect(jsonPath("$.price").doesNotExist())
+                .andExpect(jsonPath("$.shipping").doesNotExist());
+    }
+
+    @Test
+    void testGetProductByIdWritesNullDefaultFields() throws Exception {
+        // Arrange
+        ProductResponse mockResponse = ProductResponse.builder()
+                .id("ITEM123")
+                .title("iPhone 14")
+                .build();
+
+        when(productUseCase.getVersionedProduct("ITEM123", Fields.DEFAULT)).thenReturn(new Versioned<>(1L, Versioned.NO_DATE, () -> mockResponse));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/items/{id}", "ITEM123"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"warranty\":null")))
+                .andExpect(content().string(containsString("\"seller\":null")))
+                .andExpect(jsonPath("$.siteId").doesNotExist());
+    }
+
+    @Test
+    void testGetProductByIdServesCachedBytesUntilVersionChanges() throws Exception {
+        // Arrange
+        when(productUseCase.getVersionedProduct("ITEM123", Fields.DEFAULT))
+                .thenReturn(versioned(1L, 1_700_000_000_000L))
+                .thenReturn(versioned(1L, 1_700_000_000_000L))
+                .thenReturn(versioned(2L, 1_700_000_060_000L));
+        when(productUseCase.getProductById("ITEM123", Fields.DEFAULT))
+                .thenReturn(ProductResponse.builder().id("ITEM123").title("iPhone 14").build())
+                .thenReturn(ProductResponse.builder().id("ITEM123").title("iPhone 14 (usado)").build());
+
+        // Act & Assert
+        String etag = mockMvc.perform(get("/api/items/{id}", "ITEM123"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(jsonPath("$.title").value("iPhone 14"))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/items/{id}", "ITEM123"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(jsonPath("$.title").value("iPhone 14"));
+        mockMvc.perform(get("/api/items/{id}", "ITEM123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("iPhone 14 (usado)"));
+        verify(productUseCase, times(2)).getProductById("ITEM123", Fields.DEFAULT);
+    }
+
+    @Test
+    void testGetProductByIdReturnsNotModifiedForMatchingETag() throws Exception {
+        // Arrange
+        when(productUseCase.getVersionedProduct(any(), any())).thenReturn(versioned(1L, 1_700_000_000_000L));
+        when(productUseCase.getProductById("ITEM123", Fields.DEFAULT)).thenReturn(ProductResponse.builder().id("ITEM123").build());
+        String etag = mockMvc.perform(get("/api/items/{id}", "ITEM123"))
+                .andExpect(header().string("ETag", "\"1-items/ITEM123?*\""))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/items/{id}", "ITEM123").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().bytes(new byte[0]));
+        mockMvc.perform(get("/api/items/{id}", "ITEM123").param("attributes", "id").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+        // Built for the first request and for the other attributes, not for the 304
+        verify(productUseCase, times(2)).getProductById("ITEM123", Fields.DEFAULT);
+    }
+
+    @Test
+    void testGetProductByIdReturnsNotFoundForUnknownId() throws Exception {
+        // Arrange
+        when(productUseCase.getVersionedProduct("UNKNOWN", Fields.DEFAULT)).thenThrow(new NotFoundException("Product", "UNKNOWN"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/items/{id}", "UNKNOWN"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.error").value("not_found"))
+                .andExpect(jsonPath("$.message").value("Product not found with id: UNKNOWN"));
+        verify(productUseCase, times(0)).getProductById(any(), any());
+    }
+
+    @Test
+    void testGetProductByIdWithSellerHasNoLastModified() throws Exception {
+        // Arrange
+        when(productUseCase.getVersionedProduct("ITEM123", Fields.of("seller")))
+                .thenReturn(new Versioned<>(1L, Versioned.NO_DATE, () -> ProductResponse.builder().id("ITEM123").build()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/items/{id}", "ITEM123").param("attributes", "seller"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().doesNotExist("Last-Modified"));
+    }
+
     @Test
     void testGetProductDescription() throws Exception {
         // Arrange
@@ -211,4 +427,67 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$[1].id").value("ITEM456"))
                 .andExpect(jsonPath("$[1].title").value("iPhone 13"));
     }
+
+    @Test
+    void testGetAllProductsWithNegativeOffsetReturnsBadRequest() throws Exception {
+        // Arrange
+        when(productUseCase.getAllProducts(-1, 50, Fields.DEFAULT))
+                .thenThrow(new InvalidArgumentException("offset and limit must not be negative"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/items")
+                        .param("offset", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("offset and limit must not be negative"));
+    }
+
+    @Test
+    void testGetAllProductsWithMalformedCursorReturnsBadRequest() throws Exception {
+        // Arrange
+        when(productUseCase.getProductsAfter("garbage", 50, Fields.DEFAULT))
+                .thenThrow(new InvalidArgumentException("Invalid cursor: garbage"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/items")
+                        .param("cursor", "garbage"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.error").value("bad_request"))
+                .andExpect(jsonPath("$.message").value("Invalid cursor: garbage"));
+    }
+
+    @Test
+    void testGetAllProductsWithInternalArgumentErrorIsNotAnsweredAsBadRequest() {
+        // Arrange
+        when(productUseCase.getAllProducts(0, 50, Fields.DEFAULT))
+                .thenThrow(new IllegalArgumentException("price is not sorted"));
+
+        // Act & Assert
+        ServletException thrown = assertThrows(ServletException.class, () -> mockMvc.perform(get("/api/items")));
+        assertInstanceOf(IllegalArgumentException.class, thrown.getCause());
+    }
+
+    @Test
+    void testGetAllProductsWithCursorOnLastPage() throws Exception {
+        // Arrange
+        CursorPage<ProductResponse> page = new CursorPage<>(List.of(
+                ProductResponse.builder()
+                        .id("ITEM456")
+                        .title("Samsung Galaxy S23")
+                        .build()), null);
+
+        when(productUseCase.getProductsAfter("abc", 50, Fields.DEFAULT)).thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/items")
+                        .param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(jsonPath("$[0].id").value("ITEM456"));
+    }
+
+    // The body is built through getProductById, so the tests can count how often it was built
+    private Versioned<ProductResponse> versioned(long version, long lastModified) {
+        return new Versioned<>(version, lastModified, () -> productUseCase.getProductById("ITEM123", Fields.DEFAULT));
+    }
 }
@@ -1,6 +1,7 @@
 package com.mercadolibre.mlcoreplatform.controller;
 
 import com.mercadolibre.mlcoreplatform.domain.port.in.QuestionUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.controller.QuestionController;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.QuestionRequest;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.QuestionResponse;
@@ -54,12 +55,14 @@ class QuestionControllerTest {
         );
 
         when(questionUseCase.getAllQuestions(0, 50)).thenReturn(mockResponse);
+        when(questionUseCase.countQuestions()).thenReturn(8L);
 
         // Act & Assert
         mockMvc.perform(get("/api/questions")
                         .param("offset", "0")
                         .param("limit", "50"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "8"))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
@@ -134,6 +137,7 @@ class QuestionControllerTest {
         );
 
         when(questionUseCase.getQuestionsByItem(itemId, 0, 50)).thenReturn(mockResponse);
+        when(questionUseCase.countQuestionsByItem(itemId)).thenReturn(6L);
 
         // Act & Assert
         mockMvc.perform(get("/api/questions/search")
@@ -141,6 +145,7 @@ class QuestionControllerTest {
                         .param("offset", "0")
                         .param("limit", "50"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "6"))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
@@ -208,4 +213,24 @@ class QuestionControllerTest {
                 .andExpect(jsonPath("$.status").value("ANSWERED"))
                 .andExpect(jsonPath("$.answer.text").value(answerText));
     }
+
+    @Test
+    void testGetAllQuestionsWithCursor() throws Exception {
+        // Arrange
+        CursorPage<QuestionResponse> page = new CursorPage<>(List.of(
+                QuestionResponse.builder()
+                        .id("12345001")
+                        .text("¿Tiene garantía?")
+                        .build()), "next-token");
+
+        when(questionUseCase.getQuestionsAfter("", 1)).thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/questions")
+                        .param("cursor", "")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next-token"))
+                .andExpect(jsonPath("$[0].id").value("12345001"));
+    }
 }
@@ -1,7 +1,10 @@
 package com.mercadolibre.mlcoreplatform.controller;
 
+import com.mercadolibre.mlcoreplatform.domain.core.exception.InvalidArgumentException;
 import com.mercadolibre.mlcoreplatform.domain.port.in.SearchUseCase;
 import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchCriteria;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchPage;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.controller.RestExceptionHandler;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.controller.SearchController;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +19,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -35,7 +39,9 @@ class SearchControllerTest {
     @BeforeEach
     void setUp() {
         searchController = new SearchController(searchUseCase);
-        mockMvc = MockMvcBuilders.standaloneSetup(searchController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(searchController)
+                .setControllerAdvice(new RestExceptionHandler())
+                .build();
     }
 
     @Test
@@ -57,7 +63,7 @@ class SearchControllerTest {
                         .build()
         );
 
-        when(searchUseCase.searchProducts(any(SearchCriteria.class))).thenReturn(mockResponse);
+        when(searchUseCase.search(any(SearchCriteria.class))).thenReturn(new SearchPage<>(mockResponse, mockResponse.size()));
 
         // Act & Assert
         mockMvc.perform(get("/api/sites/{siteId}/search", siteId)
@@ -72,12 +78,12 @@ class SearchControllerTest {
                         .param("limit", "50"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(2))
-                .andExpect(jsonPath("$[0].id").value("ITEM123"))
-                .andExpect(jsonPath("$[0].title").value("iPhone 14"))
-                .andExpect(jsonPath("$[1].id").value("ITEM456"))
-                .andExpect(jsonPath("$[1].title").value("Samsung Galaxy S23"));
+                .andExpect(jsonPath("$.results").isArray())
+                .andExpect(jsonPath("$.results.length()").value(2))
+                .andExpect(jsonPath("$.results[0].id").value("ITEM123"))
+                .andExpect(jsonPath("$.results[0].title").value("iPhone 14"))
+                .andExpect(jsonPath("$.results[1].id").value("ITEM456"))
+                .andExpect(jsonPath("$.results[1].title").value("Samsung Galaxy S23"));
     }
 
     @Test
@@ -91,15 +97,15 @@ class SearchControllerTest {
                         .build()
         );
 
-        when(searchUseCase.searchProducts(any(SearchCriteria.class))).thenReturn(mockResponse);
+        when(searchUseCase.search(any(SearchCriteria.class))).thenReturn(new SearchPage<>(mockResponse, mockResponse.size()));
 
         // Act & Assert
         mockMvc.perform(get("/api/sites/{siteId}/search", siteId))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].id").value("ITEM123"));
+                .andExpect(jsonPath("$.results").isArray())
+                .andExpect(jsonPath("$.results.length()").value(1))
+                .andExpect(jsonPath("$.results[0].id").value("ITEM123"));
     }
 
     @Test
@@ -115,29 +121,85 @@ class SearchControllerTest {
                         .build()
         );
 
-        when(searchUseCase.searchProducts(any(SearchCriteria.class))).thenReturn(mockResponse);
+        when(searchUseCase.search(any(SearchCriteria.class))).thenReturn(new SearchPage<>(mockResponse, mockResponse.size()));
 
         // Act & Assert
         mockMvc.perform(get("/api/sites/{siteId}/search", siteId)
                         .param("q", query))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].id").value("LAPTOP123"))
-                .andExpect(jsonPath("$[0].title").value("Laptop Gaming MSI"));
+                .andExpect(jsonPath("$.results").isArray())
+                .andExpect(jsonPath("$.results.length()").value(1))
+                .andExpect(jsonPath("$.results[0].id").value("LAPTOP123"))
+                .andExpect(jsonPath("$.results[0].title").value("Laptop Gaming MSI"));
+    }
+
+    @Test
+    void testSearchProductsWithFacets() throws Exception {
+        // Arrange
+        String siteId = "MCO";
+        List<ProductResponse> mockResponse = List.of(ProductResponse.builder().id("ITEM123").build());
+        Map<String, Map<String, Integer>> facets = Map.of(
+                "condition", Map.of("new", 7),
+                "official_store_id", Map.of());
+
+        when(searchUseCase.search(any(SearchCriteria.class))).thenReturn(new SearchPage<>(mockResponse, 7, facets));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/sites/{siteId}/search", siteId)
+                        .param("q", "celular")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.siteId").value("MCO"))
+                .andExpect(jsonPath("$.query").value("celular"))
+                .andExpect(jsonPath("$.paging.total").value(7))
+                .andExpect(jsonPath("$.paging.limit").value(1))
+                .andExpect(jsonPath("$.availableFilters.length()").value(1))
+                .andExpect(jsonPath("$.availableFilters[0].id").value("condition"))
+                .andExpect(jsonPath("$.availableFilters[0].name").value("Condición"))
+                .andExpect(jsonPath("$.availableFilters[0].values[0].id").value("new"))
+                .andExpect(jsonPath("$.availableFilters[0].values[0].results").value(7));
+    }
+
+    @Test
+    void testSearchProductsWithUnknownSortReturnsBadRequest() throws Exception {
+        // Arrange
+        when(searchUseCase.search(any(SearchCriteria.class))).thenThrow(new InvalidArgumentException("Unknown sort: cheapest"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/sites/{siteId}/search", "MLA")
+                        .param("q", "iphone")
+                        .param("sort", "cheapest"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("bad_request"))
+                .andExpect(jsonPath("$.message").value("Unknown sort: cheapest"));
+    }
+
+    @Test
+    void testSearchProductsWithNegativeOffsetReturnsBadRequest() throws Exception {
+        // Arrange
+        when(searchUseCase.search(any(SearchCriteria.class))).thenThrow(new InvalidArgumentException("offset and limit must not be negative"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/sites/{siteId}/search", "MLA")
+                        .param("offset", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
     }
 
     @Test
     void testGetTrends() throws Exception {
         // Arrange
         String siteId = "MLA";
+        when(searchUseCase.getTrends(siteId, 10)).thenReturn(List.of("iphone 15", "zapatillas"));
 
         // Act & Assert
         mockMvc.perform(get("/api/sites/{siteId}/search/trends", siteId))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$[0]").value("iphone 15"))
+                .andExpect(jsonPath("$.length()").value(2));
     }
 
     @Test
@@ -145,12 +207,16 @@ class SearchControllerTest {
         // Arrange
         String siteId = "MLA";
         String query = "iph";
+        when(searchUseCase.getSuggestions(siteId, query, 5)).thenReturn(List.of("iPhone 15 Pro", "iPhone 14"));
 
         // Act & Assert
         mockMvc.perform(get("/api/sites/{siteId}/search/suggestions", siteId)
-                        .param("q", query))
+                        .param("q", query)
+                        .param("limit", "5"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$[0]").value("iPhone 15 Pro"))
+                .andExpect(jsonPath("$.length()").value(2));
     }
 }
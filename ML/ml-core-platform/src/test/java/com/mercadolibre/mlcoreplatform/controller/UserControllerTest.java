@@ -1,6 +1,10 @@
 package com.mercadolibre.mlcoreplatform.controller;
 
+import com.mercadolibre.mlcoreplatform.config.JsonCodecs;
 import com.mercadolibre.mlcoreplatform.domain.port.in.UserUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Versioned;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.controller.SerializedResponseCache;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.controller.UserController;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.UserSearchRequest;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.UserResponse;
@@ -36,7 +40,7 @@ class UserControllerTest {
 
     @BeforeEach
     void setUp() {
-        userController = new UserController(userUseCase);
+        userController = new UserController(userUseCase, new SerializedResponseCache(JsonCodecs.standalone(), 100));
         mockMvc = MockMvcBuilders.standaloneSetup(userController).build();
     }
 
@@ -58,13 +62,15 @@ class UserControllerTest {
                         .build()
         );
 
-        when(userUseCase.getAllUsers(0, 50)).thenReturn(mockResponse);
+        when(userUseCase.getAllUsers(0, 50, Fields.DEFAULT)).thenReturn(mockResponse);
+        when(userUseCase.countUsers()).thenReturn(2L);
 
         // Act & Assert
         mockMvc.perform(get("/api/users")
                         .param("offset", "0")
                         .param("limit", "50"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
@@ -84,7 +90,7 @@ class UserControllerTest {
                         .build()
         );
 
-        when(userUseCase.getAllUsers(0, 50)).thenReturn(mockResponse);
+        when(userUseCase.getAllUsers(0, 50, Fields.DEFAULT)).thenReturn(mockResponse);
 
         // Act & Assert
         mockMvc.perform(get("/api/users"))
@@ -106,7 +112,7 @@ class UserControllerTest {
                 .email("john@example.com")
                 .build();
 
-        when(userUseCase.getUserById(userId)).thenReturn(mockResponse);
+        when(userUseCase.getVersionedUser(userId, Fields.DEFAULT)).thenReturn(new Versioned<>(1L, Versioned.NO_DATE, () -> mockResponse));
 
         // Act & Assert
         mockMvc.perform(get("/api/users/{id}", userId))
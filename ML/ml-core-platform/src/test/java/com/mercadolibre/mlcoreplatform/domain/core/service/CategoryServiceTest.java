@@ -1,6 +1,7 @@
 package com.mercadolibre.mlcoreplatform.domain.core.service;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.CategoryDto;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Versioned;
 import com.mercadolibre.mlcoreplatform.domain.port.out.CategoryApiPort;
 import com.mercadolibre.mlcoreplatform.domain.port.out.CategoryPersistencePort;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.CategoryResponse;
@@ -87,6 +88,22 @@ class CategoryServiceTest {
         verify(categoryPersistencePort).findById(categoryId);
     }
     
+    @Test
+    void getVersionedCategory_ShouldBeTheCategoriesDataVersion() {
+        // Given
+        when(categoryPersistencePort.findById("MLA1055")).thenReturn(Optional.of(createMockCategoryDto("MLA1055", "Celulares y Smartphones")));
+        when(categoryPersistencePort.version()).thenReturn(42L);
+        
+        // When
+        Versioned<CategoryResponse> result = categoryService.getVersionedCategory("MLA1055");
+        
+        // Then
+        assertEquals(42L, result.version());
+        assertEquals(Versioned.NO_DATE, result.lastModified());
+        assertEquals("Celulares y Smartphones", result.body().get().name());
+        verify(categoryPersistencePort, times(1)).findById("MLA1055");
+    }
+    
     @Test
     void getCategoryById_WhenCategoryNotFound_ShouldThrowException() {
         // Given
@@ -0,0 +1,33 @@
+package com.mercadolibre.mlcoreplatform.domain.core.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdsTest {
+
+    @Test
+    void numeric_WhenIdIsNumeric_ShouldReadItLikeLongValueOf() {
+        // Given
+        String[] ids = {"0", "12345", "+7", "-42", "007", "9223372036854775807", "-9223372036854775808"};
+
+        // When & Then
+        for (String id : ids) {
+            assertEquals(Optional.of(Long.valueOf(id)), Ids.numeric(id), id);
+        }
+    }
+
+    @Test
+    void numeric_WhenIdIsNotALong_ShouldReturnEmpty() {
+        // Given
+        String[] ids = {null, "", "-", "+", "MLA123", "12a", "1 2", "9223372036854775808", "-9223372036854775809",
+                "99999999999999999999"};
+
+        // When & Then
+        for (String id : ids) {
+            assertEquals(Optional.empty(), Ids.numeric(id), id);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.mercadolibre.mlcoreplatform.domain.core.service;
+
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ReviewDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ShippingDto;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.DeadlineExceededException;
+import com.mercadolibre.mlcoreplatform.domain.port.in.CategoryUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.PaymentUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.ProductUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.QuestionUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.UserUseCase;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
+import com.mercadolibre.mlcoreplatform.domain.port.out.ReviewPersistencePort;
+import com.mercadolibre.mlcoreplatform.domain.port.out.ShippingPersistencePort;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.CategoryResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ItemPageResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ItemPageSection;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.PaymentMethodResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.QuestionResponse;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.UserResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemPageServiceTest {
+
+    private static final String ITEM_ID = "MCO123456789";
+    
+    @Mock
+    private ProductUseCase productUseCase;
+    
+    @Mock
+    private UserUseCase userUseCase;
+    
+    @Mock
+    private QuestionUseCase questionUseCase;
+    
+    @Mock
+    private PaymentUseCase paymentUseCase;
+    
+    @Mock
+    private CategoryUseCase categoryUseCase;
+    
+    @Mock
+    private ReviewPersistencePort reviewPersistencePort;
+    
+    @Mock
+    private ShippingPersistencePort shippingPersistencePort;
+    
+    private ExecutorService executor;
+    private ItemPageService itemPageService;
+    
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+        itemPageService = new ItemPageService(productUseCase, userUseCase, questionUseCase, paymentUseCase,
+            categoryUseCase, reviewPersistencePort, shippingPersistencePort, executor, Duration.ofMillis(200));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    @Test
+    void getItemPage_ShouldCombineEveryPart() {
+        // Given
+        givenProduct();
+        when(userUseCase.getUserById("123456", Fields.DEFAULT)).thenReturn(UserResponse.builder().id("123456").nickname("TIENDA").build());
+        when(paymentUseCase.getPaymentMethodsBySite("MCO")).thenReturn(List.of(PaymentMethodResponse.builder().id("visa").build()));
+        when(questionUseCase.getQuestionsByItem(ITEM_ID, 0, ItemPageService.QUESTIONS_PER_PAGE))
+            .thenReturn(List.of(QuestionResponse.builder().id("Q1").build()));
+        when(reviewPersistencePort.findByItemId(ITEM_ID)).thenReturn(Optional.of(ReviewDto.builder().itemId(ITEM_ID).ratingAverage(4.5).build()));
+        when(shippingPersistencePort.findByItemId(ITEM_ID)).thenReturn(List.of(ShippingDto.builder().id("S1").build()));
+        when(categoryUseCase.getCategoryById("MCO1055")).thenReturn(CategoryResponse.builder()
+            .pathFromRoot(List.of(CategoryResponse.PathFromRootResponse.builder().id("MCO1000").name("Tecnología").build()))
+            .build());
+        
+        // When
+        ItemPageResponse page = itemPageService.getItemPage(ITEM_ID);
+        
+        // Then
+        assertEquals(ITEM_ID, page.item().id());
+        assertEquals("TIENDA", page.seller().nickname());
+        assertEquals("visa", page.paymentMethods().get(0).id());
+        assertEquals("Q1", page.questions().get(0).id());
+        assertEquals(4.5, page.reviews().ratingAverage());
+        assertEquals("S1", page.shippingOptions().get(0).id());
+        assertEquals("Tecnología", page.navigation().get(0).name());
+        assertEquals(List.of("item", "seller", "payment_methods", "questions", "reviews", "shipping", "navigation"),
+            List.copyOf(page.parts().keySet()));
+        page.parts().values().forEach(part -> {
+            assertEquals("ok", part.status());
+            assertTrue(part.latencyMillis() >= 0);
+        });
+    }
+    
+    @Test
+    void getItemPage_WhenAPartIsSlowOrFails_ShouldReturnTheRest() {
+        // Given
+        givenProduct();
+        when(userUseCase.getUserById("123456", Fields.DEFAULT)).thenAnswer(invocation -> {
+            Thread.sleep(2_000);
+            return UserResponse.builder().build();
+        });
+        when(paymentUseCase.getPaymentMethodsBySite("MCO")).thenThrow(new RuntimeException("payments down"));
+        when(questionUseCase.getQuestionsByItem(ITEM_ID, 0, ItemPageService.QUESTIONS_PER_PAGE)).thenReturn(List.of());
+        when(reviewPersistencePort.findByItemId(ITEM_ID)).thenReturn(Optional.empty());
+        when(shippingPersistencePort.findByItemId(ITEM_ID)).thenReturn(List.of());
+        when(categoryUseCase.getCategoryById("MCO1055")).thenReturn(CategoryResponse.builder().pathFromRoot(List.of()).build());
+        
+        // When
+        long start = System.nanoTime();
+        ItemPageResponse page = itemPageService.getItemPage(ITEM_ID);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        
+        // Then
+        assertTrue(elapsedMillis < 1_500, "waited " + elapsedMillis + " ms");
+        assertEquals(ITEM_ID, page.item().id());
+        assertNull(page.seller());
+        assertEquals("timeout", page.parts().get("seller").status());
+        assertNull(page.paymentMethods());
+        assertEquals("error", page.parts().get("payment_methods").status());
+        assertEquals("payments down", page.parts().get("payment_methods").message());
+        assertNull(page.reviews());
+        assertEquals("ok", page.parts().get("reviews").status());
+        assertEquals("ok", page.parts().get("navigation").status());
+    }
+    
+    @Test
+    void getItemPage_WhenProductNotFound_ShouldThrowException() {
+        // Given
+        when(productUseCase.getProductById("NON_EXISTENT", ItemPageService.ITEM_FIELDS)).thenThrow(new RuntimeException("Product not found with id: NON_EXISTENT"));
+        
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> itemPageService.getItemPage("NON_EXISTENT"));
+        assertEquals("Product not found with id: NON_EXISTENT", exception.getMessage());
+        verifyNoInteractions(userUseCase, paymentUseCase, categoryUseCase);
+    }
+    
+    @Test
+    void getItemPage_WhenProductMissesTheDeadline_ShouldThrowDeadlineExceeded() {
+        // Given
+        when(productUseCase.getProductById(ITEM_ID, ItemPageService.ITEM_FIELDS)).thenAnswer(invocation -> {
+            Thread.sleep(2_000);
+            return ProductResponse.builder().id(ITEM_ID).build();
+        });
+        
+        // When & Then
+        DeadlineExceededException exception = assertThrows(DeadlineExceededException.class, () -> itemPageService.getItemPage(ITEM_ID));
+        assertEquals(ITEM_ID, exception.getId());
+        verifyNoInteractions(userUseCase, paymentUseCase, categoryUseCase);
+    }
+    
+    @Test
+    void getItemPage_ShouldShareOneDeadlineAndCancelThePartsThatMissIt() throws Exception {
+        // Given
+        CountDownLatch sellerInterrupted = new CountDownLatch(1);
+        when(productUseCase.getProductById(ITEM_ID, ItemPageService.ITEM_FIELDS)).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return ProductResponse.builder().id(ITEM_ID).siteId("MCO").sellerId("123456").build();
+        });
+        when(userUseCase.getUserById("123456", Fields.DEFAULT)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                sellerInterrupted.countDown();
+            }
+            return UserResponse.builder().build();
+        });
+        when(paymentUseCase.getPaymentMethodsBySite("MCO")).thenReturn(List.of());
+        ItemPageService pageService = new ItemPageService(productUseCase, userUseCase, questionUseCase, paymentUseCase,
+            categoryUseCase, reviewPersistencePort, shippingPersistencePort, executor, Duration.ofMillis(500));
+        
+        // When
+        ItemPageResponse page = pageService.getItemPage(ITEM_ID);
+        
+        // Then: the seller only had what the product left of the page's deadline, and was stopped once it passed
+        assertEquals("timeout", page.parts().get("seller").status());
+        assertTrue(page.parts().get("seller").latencyMillis() < 400, "seller waited " + page.parts().get("seller").latencyMillis() + " ms");
+        assertTrue(sellerInterrupted.await(2, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void streamItemPage_ShouldDeliverFastSectionsBeforeSlowOnesFinish() throws Exception {
+        // Given
+        CountDownLatch releaseShipping = new CountDownLatch(1);
+        givenProduct();
+        when(userUseCase.getUserById("123456", Fields.DEFAULT)).thenReturn(UserResponse.builder().id("123456").build());
+        when(paymentUseCase.getPaymentMethodsBySite("MCO")).thenReturn(List.of());
+        when(questionUseCase.getQuestionsByItem(ITEM_ID, 0, ItemPageService.QUESTIONS_PER_PAGE)).thenReturn(List.of());
+        when(reviewPersistencePort.findByItemId(ITEM_ID)).thenReturn(Optional.empty());
+        when(shippingPersistencePort.findByItemId(ITEM_ID)).thenAnswer(invocation -> {
+            releaseShipping.await(5, TimeUnit.SECONDS);
+            return List.of(ShippingDto.builder().id("S1").build());
+        });
+        when(categoryUseCase.getCategoryById("MCO1055")).thenReturn(CategoryResponse.builder().pathFromRoot(List.of()).build());
+        List<ItemPageSection> received = new CopyOnWriteArrayList<>();
+        ItemPageService patientService = new ItemPageService(productUseCase, userUseCase, questionUseCase, paymentUseCase,
+            categoryUseCase, reviewPersistencePort, shippingPersistencePort, executor, Duration.ofSeconds(10));
+        
+        // When
+        CompletableFuture<Void> done = patientService.streamItemPage(ITEM_ID, received::add);
+        
+        // Then: the call returns at once and every other section arrives while shipping is held back
+        assertFalse(done.isDone());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (received.size() < 6 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(6, received.size());
+        assertTrue(received.stream().noneMatch(section -> section.section().equals("shipping")));
+        releaseShipping.countDown();
+        done.get(5, TimeUnit.SECONDS);
+        assertEquals(7, received.size());
+        ItemPageSection shipping = received.get(6);
+        assertEquals("shipping", shipping.section());
+        assertEquals("ok", shipping.status().status());
+        assertEquals(List.of(ShippingDto.builder().id("S1").build()), shipping.data());
+    }
+    
+    private void givenProduct() {
+        when(productUseCase.getProductById(ITEM_ID, ItemPageService.ITEM_FIELDS)).thenReturn(ProductResponse.builder()
+            .id(ITEM_ID)
+            .siteId("MCO")
+            .title("iPhone 14 Pro Max")
+            .categoryId("MCO1055")
+            .sellerId("123456")
+            .build());
+    }
+}
@@ -1,6 +1,9 @@
 package com.mercadolibre.mlcoreplatform.domain.core.service;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.PurchaseDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
 import com.mercadolibre.mlcoreplatform.domain.port.out.OrderApiPort;
 import com.mercadolibre.mlcoreplatform.domain.port.out.PurchasePersistencePort;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.OrderRequest;
@@ -16,6 +19,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -44,10 +48,10 @@ class OrderServiceTest {
             createMockPurchaseDto("ORDER-2", "pending"),
             createMockPurchaseDto("ORDER-3", "cancelled")
         );
-        when(purchasePersistencePort.findAll()).thenReturn(mockPurchases);
+        when(purchasePersistencePort.findAll(0, 2)).thenReturn(mockPurchases.subList(0, 2));
         
         // When
-        List<OrderResponse> result = orderService.getAllOrders(0, 2);
+        List<OrderResponse> result = orderService.getAllOrders(0, 2, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
@@ -56,7 +60,7 @@ class OrderServiceTest {
         assertEquals("confirmed", result.get(0).status());
         assertEquals("ORDER-2", result.get(1).id());
         assertEquals("pending", result.get(1).status());
-        verify(purchasePersistencePort).findAll();
+        verify(purchasePersistencePort).findAll(0, 2);
     }
     
     @Test
@@ -67,67 +71,103 @@ class OrderServiceTest {
             createMockPurchaseDto("ORDER-2", "pending"),
             createMockPurchaseDto("ORDER-3", "cancelled")
         );
-        when(purchasePersistencePort.findAll()).thenReturn(mockPurchases);
+        when(purchasePersistencePort.findAll(1, 2)).thenReturn(mockPurchases.subList(1, 3));
         
         // When
-        List<OrderResponse> result = orderService.getAllOrders(1, 2);
+        List<OrderResponse> result = orderService.getAllOrders(1, 2, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals("ORDER-2", result.get(0).id());
         assertEquals("ORDER-3", result.get(1).id());
-        verify(purchasePersistencePort).findAll();
+        verify(purchasePersistencePort).findAll(1, 2);
     }
     
     @Test
     void getAllOrders_WhenNoPurchases_ShouldReturnEmptyList() {
         // Given
-        when(purchasePersistencePort.findAll()).thenReturn(Collections.emptyList());
+        when(purchasePersistencePort.findAll(0, 10)).thenReturn(Collections.emptyList());
         
         // When
-        List<OrderResponse> result = orderService.getAllOrders(0, 10);
+        List<OrderResponse> result = orderService.getAllOrders(0, 10, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(purchasePersistencePort).findAll();
+        verify(purchasePersistencePort).findAll(0, 10);
     }
     
     @Test
     void getOrderById_WhenOrderExists_ShouldReturnOrder() {
         // Given
         String orderId = "ORDER-1";
-        List<PurchaseDto> mockPurchases = Arrays.asList(
-            createMockPurchaseDto(orderId, "confirmed"),
-            createMockPurchaseDto("ORDER-2", "pending")
-        );
-        when(purchasePersistencePort.findAll()).thenReturn(mockPurchases);
+        when(purchasePersistencePort.findById(orderId))
+            .thenReturn(Optional.of(createMockPurchaseDto(orderId, "confirmed")));
         
         // When
-        OrderResponse result = orderService.getOrderById(orderId);
+        OrderResponse result = orderService.getOrderById(orderId, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
         assertEquals(orderId, result.id());
         assertEquals("confirmed", result.status());
-        verify(purchasePersistencePort).findAll();
+        verify(purchasePersistencePort).findById(orderId);
+        verify(purchasePersistencePort, never()).findAll();
+    }
+    
+    @Test
+    void getOrderById_WithOptInFields_ShouldBuildBuyerSellerAndItem() {
+        // Given
+        PurchaseDto purchase = PurchaseDto.builder()
+            .id("ORDER-1")
+            .status("paid")
+            .buyer(PurchaseDto.BuyerDto.builder().id(1L).nickname("BUYER").phone(PurchaseDto.PhoneDto.builder().areaCode("11").number("5555").build()).build())
+            .seller(PurchaseDto.PurchaseSellerDto.builder().id(2L).nickname("SELLER").build())
+            .orderItems(List.of(PurchaseDto.OrderItemDto.builder()
+                .item(PurchaseDto.ItemDto.builder().id("MLA1").title("iPhone").build())
+                .quantity(2)
+                .unitPrice(10.0)
+                .build()))
+            .build();
+        when(purchasePersistencePort.findById("ORDER-1")).thenReturn(Optional.of(purchase));
+        
+        // When
+        OrderResponse result = orderService.getOrderById("ORDER-1", Fields.of("buyer,seller,orderItem"));
+        OrderResponse byDefault = orderService.getOrderById("ORDER-1", Fields.DEFAULT);
+        
+        // Then
+        assertEquals(OrderResponse.builder().id("ORDER-1").status("paid").build(), byDefault);
+        assertEquals("BUYER", result.buyer().nickname());
+        assertEquals("11 5555", result.buyer().phone());
+        assertEquals("SELLER", result.seller().nickname());
+        assertEquals("MLA1", result.orderItem().itemId());
+        assertEquals(2, result.orderItem().quantity());
+    }
+    
+    @Test
+    void getOrderById_WithSelectedFields_ShouldOnlyBuildThoseFields() {
+        // Given
+        when(purchasePersistencePort.findById("ORDER-COMPLETE")).thenReturn(Optional.of(createMockPurchaseDtoWithAllFields()));
+        
+        // When
+        OrderResponse result = orderService.getOrderById("ORDER-COMPLETE", Fields.of("id,totalAmount"));
+        
+        // Then
+        assertEquals(OrderResponse.builder().id("ORDER-COMPLETE").totalAmount(BigDecimal.valueOf(1500.0)).build(), result);
     }
     
     @Test
     void getOrderById_WhenOrderNotFound_ShouldThrowException() {
         // Given
         String orderId = "NON_EXISTENT";
-        List<PurchaseDto> mockPurchases = Arrays.asList(
-            createMockPurchaseDto("ORDER-1", "confirmed")
-        );
-        when(purchasePersistencePort.findAll()).thenReturn(mockPurchases);
+        when(purchasePersistencePort.findById(orderId)).thenReturn(Optional.empty());
         
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, 
-            () -> orderService.getOrderById(orderId));
+            () -> orderService.getOrderById(orderId, Fields.DEFAULT));
         assertEquals("Order not found with id: NON_EXISTENT", exception.getMessage());
-        verify(purchasePersistencePort).findAll();
+        verify(purchasePersistencePort).findById(orderId);
     }
     
     @Test
@@ -182,17 +222,17 @@ class OrderServiceTest {
             createMockPurchaseDto("ORDER-1", "confirmed"),
             createMockPurchaseDto("ORDER-2", "pending")
         );
-        when(purchasePersistencePort.findByBuyerId(Long.parseLong(userId))).thenReturn(mockPurchases);
+        when(purchasePersistencePort.findByBuyerId(Long.parseLong(userId), 0, 10)).thenReturn(mockPurchases);
         
         // When
-        List<OrderResponse> result = orderService.getOrdersByUser(userId, 0, 10);
+        List<OrderResponse> result = orderService.getOrdersByUser(userId, 0, 10, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals("ORDER-1", result.get(0).id());
         assertEquals("ORDER-2", result.get(1).id());
-        verify(purchasePersistencePort).findByBuyerId(123L);
+        verify(purchasePersistencePort).findByBuyerId(123L, 0, 10);
     }
     
     @Test
@@ -204,41 +244,56 @@ class OrderServiceTest {
             createMockPurchaseDto("ORDER-2", "pending"),
             createMockPurchaseDto("ORDER-3", "cancelled")
         );
-        when(purchasePersistencePort.findByBuyerId(Long.parseLong(userId))).thenReturn(mockPurchases);
+        when(purchasePersistencePort.findByBuyerId(Long.parseLong(userId), 1, 1)).thenReturn(mockPurchases.subList(1, 2));
         
         // When
-        List<OrderResponse> result = orderService.getOrdersByUser(userId, 1, 1);
+        List<OrderResponse> result = orderService.getOrdersByUser(userId, 1, 1, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("ORDER-2", result.get(0).id());
-        verify(purchasePersistencePort).findByBuyerId(123L);
+        verify(purchasePersistencePort).findByBuyerId(123L, 1, 1);
     }
     
     @Test
     void getOrdersByUser_WhenUserHasNoOrders_ShouldReturnEmptyList() {
         // Given
         String userId = "123";
-        when(purchasePersistencePort.findByBuyerId(Long.parseLong(userId))).thenReturn(Collections.emptyList());
+        when(purchasePersistencePort.findByBuyerId(Long.parseLong(userId), 0, 10)).thenReturn(Collections.emptyList());
         
         // When
-        List<OrderResponse> result = orderService.getOrdersByUser(userId, 0, 10);
+        List<OrderResponse> result = orderService.getOrdersByUser(userId, 0, 10, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(purchasePersistencePort).findByBuyerId(123L);
+        verify(purchasePersistencePort).findByBuyerId(123L, 0, 10);
     }
-    
+
+    @Test
+    void getOrdersByUser_WhenUserIdIsNotNumeric_ShouldReturnNoOrders() {
+        // Given
+        String userId = "not-a-user";
+
+        // When
+        List<OrderResponse> result = orderService.getOrdersByUser(userId, 0, 10, Fields.DEFAULT);
+        long count = orderService.countOrdersByUser(userId);
+
+        // Then
+        assertTrue(result.isEmpty());
+        assertEquals(0, count);
+        verifyNoInteractions(purchasePersistencePort);
+    }
+
     @Test
     void mapToOrderResponse_ShouldMapAllFields() {
         // Given
         PurchaseDto purchaseDto = createMockPurchaseDtoWithAllFields();
-        when(purchasePersistencePort.findAll()).thenReturn(Arrays.asList(purchaseDto));
+        when(purchasePersistencePort.findById("ORDER-COMPLETE")).thenReturn(Optional.of(purchaseDto));
         
         // When
-        OrderResponse result = orderService.getOrderById("ORDER-COMPLETE");
+        OrderResponse result = orderService.getOrderById("ORDER-COMPLETE", Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
@@ -256,15 +311,15 @@ class OrderServiceTest {
         PurchaseDto purchaseDto = PurchaseDto.builder()
             .id("ORDER-NULL")
             .status("pending")
-            .dateCreated(LocalDateTime.now())
-            .lastUpdated(LocalDateTime.now())
+            .dateCreated(Timestamps.toEpochMillis(LocalDateTime.now()))
+            .lastUpdated(Timestamps.toEpochMillis(LocalDateTime.now()))
             .currencyId("ARS")
             .totalAmount(null)
             .build();
-        when(purchasePersistencePort.findAll()).thenReturn(Arrays.asList(purchaseDto));
+        when(purchasePersistencePort.findById("ORDER-NULL")).thenReturn(Optional.of(purchaseDto));
         
         // When
-        OrderResponse result = orderService.getOrderById("ORDER-NULL");
+        OrderResponse result = orderService.getOrderById("ORDER-NULL", Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
@@ -272,12 +327,54 @@ class OrderServiceTest {
         assertNull(result.totalAmount());
     }
     
+    @Test
+    void countOrders_ShouldReturnPortCount() {
+        // Given
+        when(purchasePersistencePort.count()).thenReturn(75L);
+        
+        // When
+        long result = orderService.countOrders();
+        
+        // Then
+        assertEquals(75L, result);
+        verify(purchasePersistencePort).count();
+    }
+    
+    @Test
+    void countOrdersByUser_ShouldReturnPortCount() {
+        // Given
+        when(purchasePersistencePort.countByBuyerId(123L)).thenReturn(3L);
+        
+        // When
+        long result = orderService.countOrdersByUser("123");
+        
+        // Then
+        assertEquals(3L, result);
+        verify(purchasePersistencePort).countByBuyerId(123L);
+    }
+
+    @Test
+    void getOrdersAfter_ShouldMapPageAndKeepNextCursor() {
+        // Given
+        List<PurchaseDto> window = Arrays.asList(createMockPurchaseDto("ORDER123", "paid"));
+        when(purchasePersistencePort.findAllAfter("", 1)).thenReturn(new CursorPage<>(window, "cursor-2"));
+        
+        // When
+        CursorPage<OrderResponse> result = orderService.getOrdersAfter("", 1, Fields.DEFAULT);
+        
+        // Then
+        assertEquals(1, result.items().size());
+        assertEquals("ORDER123", result.items().get(0).id());
+        assertEquals("cursor-2", result.nextCursor());
+        verify(purchasePersistencePort).findAllAfter("", 1);
+    }
+
     private PurchaseDto createMockPurchaseDto(String id, String status) {
         return PurchaseDto.builder()
             .id(id)
             .status(status)
-            .dateCreated(LocalDateTime.now())
-            .lastUpdated(LocalDateTime.now())
+            .dateCreated(Timestamps.toEpochMillis(LocalDateTime.now()))
+            .lastUpdated(Timestamps.toEpochMillis(LocalDateTime.now()))
             .currencyId("ARS")
             .totalAmount(1000.0)
             .build();
@@ -287,8 +384,8 @@ class OrderServiceTest {
         return PurchaseDto.builder()
             .id("ORDER-COMPLETE")
             .status("confirmed")
-            .dateCreated(LocalDateTime.of(2024, 1, 15, 10, 30))
-            .lastUpdated(LocalDateTime.of(2024, 1, 15, 12, 0))
+            .dateCreated(Timestamps.toEpochMillis(LocalDateTime.of(2024, 1, 15, 10, 30)))
+            .lastUpdated(Timestamps.toEpochMillis(LocalDateTime.of(2024, 1, 15, 12, 0)))
             .currencyId("ARS")
             .totalAmount(1500.0)
             .build();
@@ -14,6 +14,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -145,11 +146,8 @@ class PaymentServiceTest {
     void getPaymentById_WhenPaymentExists_ShouldReturnPayment() {
         // Given
         String paymentId = "PAYMENT-123";
-        List<PaymentMethodDto> mockPayments = Arrays.asList(
-            createMockPaymentMethodDto(paymentId, "Visa Payment"),
-            createMockPaymentMethodDto("PAYMENT-456", "Master Payment")
-        );
-        when(paymentMethodPersistencePort.findAll()).thenReturn(mockPayments);
+        when(paymentMethodPersistencePort.findById(paymentId))
+            .thenReturn(Optional.of(createMockPaymentMethodDto(paymentId, "Visa Payment")));
         
         // When
         PaymentMethodResponse result = paymentService.getPaymentById(paymentId);
@@ -159,36 +157,34 @@ class PaymentServiceTest {
         assertEquals(paymentId, result.id());
         assertEquals("Visa Payment", result.name());
         assertEquals("credit_card", result.paymentTypeId());
-        verify(paymentMethodPersistencePort).findAll();
+        verify(paymentMethodPersistencePort).findById(paymentId);
+        verify(paymentMethodPersistencePort, never()).findAll();
     }
     
     @Test
     void getPaymentById_WhenPaymentNotFound_ShouldThrowException() {
         // Given
         String paymentId = "NON_EXISTENT";
-        List<PaymentMethodDto> mockPayments = Arrays.asList(
-            createMockPaymentMethodDto("PAYMENT-123", "Visa Payment")
-        );
-        when(paymentMethodPersistencePort.findAll()).thenReturn(mockPayments);
+        when(paymentMethodPersistencePort.findById(paymentId)).thenReturn(Optional.empty());
         
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, 
             () -> paymentService.getPaymentById(paymentId));
         assertEquals("Payment not found with id: NON_EXISTENT", exception.getMessage());
-        verify(paymentMethodPersistencePort).findAll();
+        verify(paymentMethodPersistencePort).findById(paymentId);
     }
     
     @Test
     void getPaymentById_WhenNoPayments_ShouldThrowException() {
         // Given
         String paymentId = "PAYMENT-123";
-        when(paymentMethodPersistencePort.findAll()).thenReturn(Collections.emptyList());
+        when(paymentMethodPersistencePort.findById(paymentId)).thenReturn(Optional.empty());
         
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, 
             () -> paymentService.getPaymentById(paymentId));
         assertEquals("Payment not found with id: PAYMENT-123", exception.getMessage());
-        verify(paymentMethodPersistencePort).findAll();
+        verify(paymentMethodPersistencePort).findById(paymentId);
     }
     
     @Test
@@ -196,7 +192,7 @@ class PaymentServiceTest {
         // Given
         String paymentId = "PAYMENT-COMPLETE";
         PaymentMethodDto paymentDto = createCompletePaymentMethodDto(paymentId);
-        when(paymentMethodPersistencePort.findAll()).thenReturn(Arrays.asList(paymentDto));
+        when(paymentMethodPersistencePort.findById(paymentId)).thenReturn(Optional.of(paymentDto));
         
         // When
         PaymentMethodResponse result = paymentService.getPaymentById(paymentId);
@@ -225,7 +221,7 @@ class PaymentServiceTest {
             .thumbnail(null)
             .deferredCapture(null)
             .build();
-        when(paymentMethodPersistencePort.findAll()).thenReturn(Arrays.asList(paymentDto));
+        when(paymentMethodPersistencePort.findById(paymentId)).thenReturn(Optional.of(paymentDto));
         
         // When
         PaymentMethodResponse result = paymentService.getPaymentById(paymentId);
@@ -1,9 +1,19 @@
 package com.mercadolibre.mlcoreplatform.domain.core.service;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.ProductDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.SellerDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.InvalidArgumentException;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.NotFoundException;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Versioned;
+import com.mercadolibre.mlcoreplatform.domain.port.out.CategoryPersistencePort;
 import com.mercadolibre.mlcoreplatform.domain.port.out.ProductApiPort;
 import com.mercadolibre.mlcoreplatform.domain.port.out.ProductPersistencePort;
+import com.mercadolibre.mlcoreplatform.domain.port.out.SellerPersistencePort;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.ProductSearchRequest;
+import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.MultiGetResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductDescriptionResponse;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ShippingOptionsResponse;
@@ -18,6 +28,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,11 +43,17 @@ class ProductServiceTest {
     @Mock
     private ProductApiPort productApiPort;
     
+    @Mock
+    private CategoryPersistencePort categoryPersistencePort;
+    
+    @Mock
+    private SellerPersistencePort sellerPersistencePort;
+    
     private ProductService productService;
     
     @BeforeEach
     void setUp() {
-        productService = new ProductService(productPersistencePort, productApiPort);
+        productService = new ProductService(productPersistencePort, productApiPort, categoryPersistencePort, sellerPersistencePort);
     }
     
     @Test
@@ -47,10 +64,10 @@ class ProductServiceTest {
             createMockProductDto("MLA789012", "Samsung Galaxy S24"),
             createMockProductDto("MLA345678", "Google Pixel 8")
         );
-        when(productPersistencePort.findAll()).thenReturn(mockProducts);
+        when(productPersistencePort.findAll(0, 2)).thenReturn(mockProducts.subList(0, 2));
         
         // When
-        List<ProductResponse> result = productService.getAllProducts(0, 2);
+        List<ProductResponse> result = productService.getAllProducts(0, 2, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
@@ -59,7 +76,7 @@ class ProductServiceTest {
         assertEquals("iPhone 15 Pro", result.get(0).title());
         assertEquals("MLA789012", result.get(1).id());
         assertEquals("Samsung Galaxy S24", result.get(1).title());
-        verify(productPersistencePort).findAll();
+        verify(productPersistencePort).findAll(0, 2);
     }
     
     @Test
@@ -70,31 +87,31 @@ class ProductServiceTest {
             createMockProductDto("MLA789012", "Samsung Galaxy S24"),
             createMockProductDto("MLA345678", "Google Pixel 8")
         );
-        when(productPersistencePort.findAll()).thenReturn(mockProducts);
+        when(productPersistencePort.findAll(1, 2)).thenReturn(mockProducts.subList(1, 3));
         
         // When
-        List<ProductResponse> result = productService.getAllProducts(1, 2);
+        List<ProductResponse> result = productService.getAllProducts(1, 2, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals("MLA789012", result.get(0).id());
         assertEquals("MLA345678", result.get(1).id());
-        verify(productPersistencePort).findAll();
+        verify(productPersistencePort).findAll(1, 2);
     }
     
     @Test
     void getAllProducts_WhenNoProducts_ShouldReturnEmptyList() {
         // Given
-        when(productPersistencePort.findAll()).thenReturn(Collections.emptyList());
+        when(productPersistencePort.findAll(0, 10)).thenReturn(Collections.emptyList());
         
         // When
-        List<ProductResponse> result = productService.getAllProducts(0, 10);
+        List<ProductResponse> result = productService.getAllProducts(0, 10, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(productPersistencePort).findAll();
+        verify(productPersistencePort).findAll(0, 10);
     }
     
     @Test
@@ -105,7 +122,7 @@ class ProductServiceTest {
         when(productPersistencePort.findById(productId)).thenReturn(Optional.of(mockProduct));
         
         // When
-        ProductResponse result = productService.getProductById(productId);
+        ProductResponse result = productService.getProductById(productId, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
@@ -116,6 +133,136 @@ class ProductServiceTest {
         verify(productPersistencePort).findById(productId);
     }
     
+    @Test
+    void getProductById_WithOptInFields_ShouldBuildNestedObjects() {
+        // Given
+        ProductDto product = ProductDto.builder()
+            .id("MLA1")
+            .siteId("MLA")
+            .title("iPhone 15 Pro")
+            .sellerId(12345L)
+            .pictures(List.of(ProductDto.PictureDto.builder().id("P1").url("http://a/1.jpg").secureUrl("https://a/1.jpg").build()))
+            .attributes(List.of(ProductDto.AttributeDto.builder().id("BRAND").name("Marca").valueName("Apple").build()))
+            .shipping(ProductDto.ShippingDto.builder().mode("me2").freeShipping(true).logisticType("fulfillment").build())
+            .build();
+        when(productPersistencePort.findById("MLA1")).thenReturn(Optional.of(product));
+        when(sellerPersistencePort.findById(12345L)).thenReturn(Optional.of(SellerDto.builder().id(12345L).nickname("APPLE_STORE").build()));
+        
+        // When
+        ProductResponse result = productService.getProductById("MLA1", Fields.of("pictureId,pictures,attributes,shipping,seller"));
+        ProductResponse byDefault = productService.getProductById("MLA1", Fields.DEFAULT);
+        ProductResponse withSite = productService.getProductById("MLA1", Fields.DEFAULT.with("siteId"));
+        
+        // Then
+        assertEquals("P1", result.pictureId());
+        assertEquals(List.of("https://a/1.jpg"), result.pictures());
+        assertEquals("Apple", result.attributes().get(0).valueName());
+        assertEquals("fulfillment", result.shipping().logisticType());
+        assertEquals("APPLE_STORE", result.seller().nickname());
+        assertEquals(ProductResponse.builder().id("MLA1").title("iPhone 15 Pro").sellerId("12345").build(), byDefault);
+        assertEquals(ProductResponse.builder().id("MLA1").siteId("MLA").title("iPhone 15 Pro").sellerId("12345").build(), withSite);
+        verify(sellerPersistencePort, times(1)).findById(12345L);
+    }
+    
+    @Test
+    void getAllProducts_WithSeller_ShouldLookUpEachSellerOnce() {
+        // Given
+        List<ProductDto> products = List.of(
+            ProductDto.builder().id("MLA1").sellerId(1L).build(),
+            ProductDto.builder().id("MLA2").sellerId(1L).build(),
+            ProductDto.builder().id("MLA3").sellerId(2L).build());
+        when(productPersistencePort.findAll(0, 3)).thenReturn(products);
+        when(sellerPersistencePort.findById(1L)).thenReturn(Optional.of(SellerDto.builder().id(1L).nickname("ONE").build()));
+        when(sellerPersistencePort.findById(2L)).thenReturn(Optional.empty());
+        
+        // When
+        List<ProductResponse> result = productService.getAllProducts(0, 3, Fields.of("id,seller"));
+        
+        // Then
+        assertEquals("ONE", result.get(0).seller().nickname());
+        assertEquals("ONE", result.get(1).seller().nickname());
+        assertNull(result.get(2).seller());
+        verify(sellerPersistencePort, times(1)).findById(1L);
+        verify(sellerPersistencePort, times(1)).findById(2L);
+    }
+    
+    @Test
+    void getProductById_WithSelectedFields_ShouldOnlyBuildThoseFields() {
+        // Given
+        ProductDto product = ProductDto.builder()
+            .id("MLA1")
+            .title("iPhone 15 Pro")
+            .price(999.0)
+            .categoryId("MLA1055")
+            .sellerId(12345L)
+            .pictures(List.of(ProductDto.PictureDto.builder().id("P1").url("http://a/1.jpg").build()))
+            .shipping(ProductDto.ShippingDto.builder().mode("me2").build())
+            .dateCreated(Timestamps.toEpochMillis(LocalDateTime.of(2024, 1, 15, 10, 30)))
+            .build();
+        when(productPersistencePort.findById("MLA1")).thenReturn(Optional.of(product));
+        
+        // When
+        ProductResponse result = productService.getProductById("MLA1", Fields.of("id, title,price"));
+        
+        // Then
+        assertEquals(ProductResponse.builder().id("MLA1").title("iPhone 15 Pro").price(BigDecimal.valueOf(999.0)).build(), result);
+        verifyNoInteractions(sellerPersistencePort);
+    }
+    
+    @Test
+    void getVersionedProduct_ShouldBeTheProductLastUpdate() {
+        // Given
+        ProductDto product = createCompleteProductDto("MLA1");
+        when(productPersistencePort.version()).thenReturn(42L);
+        when(productPersistencePort.findById("MLA1")).thenReturn(Optional.of(product));
+        when(productPersistencePort.findById("MISSING")).thenReturn(Optional.empty());
+        
+        // When
+        Versioned<ProductResponse> result = productService.getVersionedProduct("MLA1", Fields.DEFAULT);
+        
+        // Then
+        assertEquals(product.lastUpdated(), result.version());
+        assertEquals(product.lastUpdated(), result.lastModified());
+        assertEquals(productService.getProductById("MLA1", Fields.DEFAULT), result.body().get());
+        verify(productPersistencePort, times(2)).findById("MLA1");
+        assertThrows(RuntimeException.class, () -> productService.getVersionedProduct("MISSING", Fields.DEFAULT));
+        verifyNoInteractions(sellerPersistencePort);
+    }
+    
+    @Test
+    void getVersionedProduct_WithoutLastUpdate_ShouldBeTheProductDataVersion() {
+        // Given
+        ProductDto product = ProductDto.builder().id("MLA1").title("iPhone 15 Pro").lastUpdated(Timestamps.NONE).build();
+        when(productPersistencePort.version()).thenReturn(42L);
+        when(productPersistencePort.findById("MLA1")).thenReturn(Optional.of(product));
+        
+        // When
+        Versioned<ProductResponse> result = productService.getVersionedProduct("MLA1", Fields.DEFAULT);
+        
+        // Then
+        assertEquals(42L, result.version());
+        assertEquals(Versioned.NO_DATE, result.lastModified());
+    }
+    
+    @Test
+    void getVersionedProduct_WithSeller_ShouldFollowTheSellerData() {
+        // Given
+        ProductDto product = createCompleteProductDto("MLA1");
+        when(productPersistencePort.version()).thenReturn(42L);
+        when(productPersistencePort.findById("MLA1")).thenReturn(Optional.of(product));
+        when(sellerPersistencePort.version()).thenReturn(7L, 8L);
+        
+        // When
+        Versioned<ProductResponse> before = productService.getVersionedProduct("MLA1", Fields.of("seller"));
+        Versioned<ProductResponse> after = productService.getVersionedProduct("MLA1", Fields.of("seller"));
+        
+        // Then
+        assertNotEquals(before.version(), after.version());
+        assertNotEquals(product.lastUpdated(), before.version());
+        assertEquals(Versioned.NO_DATE, before.lastModified());
+        verify(sellerPersistencePort, never()).findById(any());
+    }
+    
     @Test
     void getProductById_WhenProductNotFound_ShouldThrowException() {
         // Given
@@ -123,12 +270,46 @@ class ProductServiceTest {
         when(productPersistencePort.findById(productId)).thenReturn(Optional.empty());
         
         // When & Then
-        RuntimeException exception = assertThrows(RuntimeException.class, 
-            () -> productService.getProductById(productId));
+        NotFoundException exception = assertThrows(NotFoundException.class, 
+            () -> productService.getProductById(productId, Fields.DEFAULT));
         assertEquals("Product not found with id: NON_EXISTENT", exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
         verify(productPersistencePort).findById(productId);
     }
     
+    @Test
+    void getProductsByIds_ShouldReturnStatusPerIdInRequestOrder() {
+        // Given
+        List<String> ids = List.of("MLA2", "MISSING", "MLA1");
+        when(productPersistencePort.findAllById(ids)).thenReturn(Map.of(
+            "MLA1", createMockProductDto("MLA1", "iPhone 15 Pro"),
+            "MLA2", createMockProductDto("MLA2", "Galaxy S23")));
+        
+        // When
+        List<MultiGetResponse<ProductResponse>> result = productService.getProductsByIds(ids, Fields.DEFAULT);
+        
+        // Then
+        assertEquals(3, result.size());
+        assertEquals(200, result.get(0).code());
+        assertEquals("Galaxy S23", result.get(0).body().title());
+        assertEquals(404, result.get(1).code());
+        assertEquals("MISSING", result.get(1).id());
+        assertNull(result.get(1).body());
+        assertEquals("Product not found with id: MISSING", result.get(1).message());
+        assertEquals("MLA1", result.get(2).body().id());
+        verify(productPersistencePort).findAllById(ids);
+    }
+    
+    @Test
+    void getProductsByIds_WithTooManyIds_ShouldThrowException() {
+        // Given
+        List<String> ids = Collections.nCopies(ProductService.MAX_IDS_PER_REQUEST + 1, "MLA1");
+        
+        // When & Then
+        assertThrows(InvalidArgumentException.class, () -> productService.getProductsByIds(ids, Fields.DEFAULT));
+        verifyNoInteractions(productPersistencePort);
+    }
+    
     @Test
     void getProductDescription_ShouldReturnDescription() {
         // Given
@@ -226,6 +407,36 @@ class ProductServiceTest {
         verify(productApiPort).searchProducts(request);
     }
     
+    @Test
+    void getProductsInCategory_ShouldListTheWholeSubtree() {
+        // Given
+        List<String> subtree = List.of("MLA1000", "MLA1055", "MLA1055001");
+        when(categoryPersistencePort.findSubtreeIds("MLA1000")).thenReturn(subtree);
+        when(productPersistencePort.findByCategoryIds(subtree, 0, 2))
+            .thenReturn(List.of(createMockProductDto("MLA1", "iPhone"), createMockProductDto("MLA2", "Funda")));
+        when(productPersistencePort.countByCategoryIds(subtree)).thenReturn(5L);
+        
+        // When
+        List<ProductResponse> result = productService.getProductsInCategory("MLA1000", 0, 2, Fields.DEFAULT);
+        long total = productService.countProductsInCategory("MLA1000");
+        
+        // Then
+        assertEquals(List.of("MLA1", "MLA2"), result.stream().map(ProductResponse::id).toList());
+        assertEquals(5L, total);
+    }
+    
+    @Test
+    void getProductsInCategory_WhenCategoryUnknown_ShouldThrowException() {
+        // Given
+        when(categoryPersistencePort.findSubtreeIds("UNKNOWN")).thenReturn(List.of());
+        
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> productService.getProductsInCategory("UNKNOWN", 0, 10, Fields.DEFAULT));
+        assertEquals("Category not found with id: UNKNOWN", exception.getMessage());
+        verifyNoInteractions(productPersistencePort);
+    }
+    
     @Test
     void mapToResponse_ShouldMapAllFields() {
         // Given
@@ -234,7 +445,7 @@ class ProductServiceTest {
         when(productPersistencePort.findById(productId)).thenReturn(Optional.of(productDto));
         
         // When
-        ProductResponse result = productService.getProductById(productId);
+        ProductResponse result = productService.getProductById(productId, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
@@ -247,8 +458,8 @@ class ProductServiceTest {
         assertEquals("new", result.condition());
         assertEquals("https://example.com/product", result.permalink());
         assertEquals("thumbnail123", result.thumbnailId());
-        assertNotNull(result.dateCreated());
-        assertNotNull(result.lastUpdated());
+        assertEquals(LocalDateTime.of(2024, 1, 15, 10, 30), result.dateCreated());
+        assertEquals(LocalDateTime.of(2024, 1, 15, 12, 0), result.lastUpdated());
         assertEquals("12345", result.sellerId());
         assertEquals("6 meses", result.warranty());
     }
@@ -267,15 +478,15 @@ class ProductServiceTest {
             .condition("new")
             .permalink("https://example.com/product")
             .thumbnail("thumbnail123")
-            .dateCreated(LocalDateTime.now())
-            .lastUpdated(LocalDateTime.now())
+            .dateCreated(Timestamps.toEpochMillis(LocalDateTime.now()))
+            .lastUpdated(Timestamps.toEpochMillis(LocalDateTime.now()))
             .sellerId(null)
             .warranty(null)
             .build();
         when(productPersistencePort.findById(productId)).thenReturn(Optional.of(productDto));
         
         // When
-        ProductResponse result = productService.getProductById(productId);
+        ProductResponse result = productService.getProductById(productId, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
@@ -289,37 +500,60 @@ class ProductServiceTest {
     @Test
     void getAllProducts_WithZeroLimit_ShouldReturnEmptyList() {
         // Given
-        List<ProductDto> mockProducts = Arrays.asList(
-            createMockProductDto("MLA123456", "iPhone 15 Pro")
-        );
-        when(productPersistencePort.findAll()).thenReturn(mockProducts);
+        when(productPersistencePort.findAll(0, 0)).thenReturn(Collections.emptyList());
         
         // When
-        List<ProductResponse> result = productService.getAllProducts(0, 0);
+        List<ProductResponse> result = productService.getAllProducts(0, 0, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(productPersistencePort).findAll();
+        verify(productPersistencePort).findAll(0, 0);
     }
     
     @Test
     void getAllProducts_WithLargeOffset_ShouldReturnEmptyList() {
         // Given
-        List<ProductDto> mockProducts = Arrays.asList(
-            createMockProductDto("MLA123456", "iPhone 15 Pro")
-        );
-        when(productPersistencePort.findAll()).thenReturn(mockProducts);
+        when(productPersistencePort.findAll(10, 5)).thenReturn(Collections.emptyList());
         
         // When
-        List<ProductResponse> result = productService.getAllProducts(10, 5);
+        List<ProductResponse> result = productService.getAllProducts(10, 5, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(productPersistencePort).findAll();
+        verify(productPersistencePort).findAll(10, 5);
     }
     
+    @Test
+    void countProducts_ShouldReturnPortCount() {
+        // Given
+        when(productPersistencePort.count()).thenReturn(120L);
+        
+        // When
+        long result = productService.countProducts();
+        
+        // Then
+        assertEquals(120L, result);
+        verify(productPersistencePort).count();
+    }
+
+    @Test
+    void getProductsAfter_ShouldMapPageAndKeepNextCursor() {
+        // Given
+        List<ProductDto> window = Arrays.asList(createMockProductDto("MLA123456", "iPhone 15 Pro"));
+        when(productPersistencePort.findAllAfter("cursor-1", 1)).thenReturn(new CursorPage<>(window, "cursor-2"));
+        
+        // When
+        CursorPage<ProductResponse> result = productService.getProductsAfter("cursor-1", 1, Fields.DEFAULT);
+        
+        // Then
+        assertEquals(1, result.items().size());
+        assertEquals("MLA123456", result.items().get(0).id());
+        assertEquals("cursor-2", result.nextCursor());
+        verify(productPersistencePort).findAllAfter("cursor-1", 1);
+    }
+
     private ProductDto createMockProductDto(String id, String title) {
         return ProductDto.builder()
             .id(id)
@@ -331,8 +565,8 @@ class ProductServiceTest {
             .condition("new")
             .permalink("https://example.com/product/" + id)
             .thumbnail("thumbnail" + id.substring(3))
-            .dateCreated(LocalDateTime.now())
-            .lastUpdated(LocalDateTime.now())
+            .dateCreated(Timestamps.toEpochMillis(LocalDateTime.now()))
+            .lastUpdated(Timestamps.toEpochMillis(LocalDateTime.now()))
             .sellerId(12345L)
             .warranty("1 año")
             .build();
@@ -349,8 +583,8 @@ class ProductServiceTest {
             .condition("new")
             .permalink("https://example.com/product")
             .thumbnail("thumbnail123")
-            .dateCreated(LocalDateTime.of(2024, 1, 15, 10, 30))
-            .lastUpdated(LocalDateTime.of(2024, 1, 15, 12, 0))
+            .dateCreated(Timestamps.toEpochMillis(LocalDateTime.of(2024, 1, 15, 10, 30)))
+            .lastUpdated(Timestamps.toEpochMillis(LocalDateTime.of(2024, 1, 15, 12, 0)))
             .sellerId(12345L)
             .warranty("6 meses")
             .build();
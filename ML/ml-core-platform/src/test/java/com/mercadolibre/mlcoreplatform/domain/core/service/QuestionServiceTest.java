@@ -1,6 +1,8 @@
 package com.mercadolibre.mlcoreplatform.domain.core.service;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.QuestionDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.CursorPage;
 import com.mercadolibre.mlcoreplatform.domain.port.out.QuestionApiPort;
 import com.mercadolibre.mlcoreplatform.domain.port.out.QuestionPersistencePort;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.QuestionRequest;
@@ -15,6 +17,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -43,7 +46,7 @@ class QuestionServiceTest {
             createMockQuestionDto(2L, "¿Cuándo llega?"),
             createMockQuestionDto(3L, "¿Es original?")
         );
-        when(questionPersistencePort.findAll()).thenReturn(mockQuestions);
+        when(questionPersistencePort.findAll(0, 2)).thenReturn(mockQuestions.subList(0, 2));
         
         // When
         List<QuestionResponse> result = questionService.getAllQuestions(0, 2);
@@ -55,7 +58,7 @@ class QuestionServiceTest {
         assertEquals("¿Tiene garantía?", result.get(0).text());
         assertEquals("2", result.get(1).id());
         assertEquals("¿Cuándo llega?", result.get(1).text());
-        verify(questionPersistencePort).findAll();
+        verify(questionPersistencePort).findAll(0, 2);
     }
     
     @Test
@@ -66,7 +69,7 @@ class QuestionServiceTest {
             createMockQuestionDto(2L, "¿Cuándo llega?"),
             createMockQuestionDto(3L, "¿Es original?")
         );
-        when(questionPersistencePort.findAll()).thenReturn(mockQuestions);
+        when(questionPersistencePort.findAll(1, 2)).thenReturn(mockQuestions.subList(1, 3));
         
         // When
         List<QuestionResponse> result = questionService.getAllQuestions(1, 2);
@@ -76,13 +79,13 @@ class QuestionServiceTest {
         assertEquals(2, result.size());
         assertEquals("2", result.get(0).id());
         assertEquals("3", result.get(1).id());
-        verify(questionPersistencePort).findAll();
+        verify(questionPersistencePort).findAll(1, 2);
     }
     
     @Test
     void getAllQuestions_WhenNoQuestions_ShouldReturnEmptyList() {
         // Given
-        when(questionPersistencePort.findAll()).thenReturn(Collections.emptyList());
+        when(questionPersistencePort.findAll(0, 10)).thenReturn(Collections.emptyList());
         
         // When
         List<QuestionResponse> result = questionService.getAllQuestions(0, 10);
@@ -90,18 +93,15 @@ class QuestionServiceTest {
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(questionPersistencePort).findAll();
+        verify(questionPersistencePort).findAll(0, 10);
     }
     
     @Test
     void getQuestionById_WhenQuestionExists_ShouldReturnQuestion() {
         // Given
         String questionId = "1";
-        List<QuestionDto> mockQuestions = Arrays.asList(
-            createMockQuestionDto(1L, "¿Tiene garantía?"),
-            createMockQuestionDto(2L, "¿Cuándo llega?")
-        );
-        when(questionPersistencePort.findAll()).thenReturn(mockQuestions);
+        when(questionPersistencePort.findById(1L))
+            .thenReturn(Optional.of(createMockQuestionDto(1L, "¿Tiene garantía?")));
         
         // When
         QuestionResponse result = questionService.getQuestionById(questionId);
@@ -110,23 +110,30 @@ class QuestionServiceTest {
         assertNotNull(result);
         assertEquals(questionId, result.id());
         assertEquals("¿Tiene garantía?", result.text());
-        verify(questionPersistencePort).findAll();
+        verify(questionPersistencePort).findById(1L);
+        verify(questionPersistencePort, never()).findAll();
     }
     
     @Test
     void getQuestionById_WhenQuestionNotFound_ShouldThrowException() {
         // Given
         String questionId = "999";
-        List<QuestionDto> mockQuestions = Arrays.asList(
-            createMockQuestionDto(1L, "¿Tiene garantía?")
-        );
-        when(questionPersistencePort.findAll()).thenReturn(mockQuestions);
+        when(questionPersistencePort.findById(999L)).thenReturn(Optional.empty());
         
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, 
             () -> questionService.getQuestionById(questionId));
         assertEquals("Question not found with id: 999", exception.getMessage());
-        verify(questionPersistencePort).findAll();
+        verify(questionPersistencePort).findById(999L);
+    }
+    
+    @Test
+    void getQuestionById_WhenIdIsNotNumeric_ShouldThrowException() {
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class, 
+            () -> questionService.getQuestionById("abc"));
+        assertEquals("Question not found with id: abc", exception.getMessage());
+        verifyNoInteractions(questionPersistencePort);
     }
     
     @Test
@@ -137,7 +144,7 @@ class QuestionServiceTest {
             createMockQuestionDtoWithItem(1L, "¿Tiene garantía?", itemId),
             createMockQuestionDtoWithItem(2L, "¿Cuándo llega?", itemId)
         );
-        when(questionPersistencePort.findByItemId(itemId)).thenReturn(mockQuestions);
+        when(questionPersistencePort.findByItemId(itemId, 0, 10)).thenReturn(mockQuestions);
         
         // When
         List<QuestionResponse> result = questionService.getQuestionsByItem(itemId, 0, 10);
@@ -149,7 +156,7 @@ class QuestionServiceTest {
         assertEquals(itemId, result.get(0).itemId());
         assertEquals("2", result.get(1).id());
         assertEquals(itemId, result.get(1).itemId());
-        verify(questionPersistencePort).findByItemId(itemId);
+        verify(questionPersistencePort).findByItemId(itemId, 0, 10);
     }
     
     @Test
@@ -161,7 +168,7 @@ class QuestionServiceTest {
             createMockQuestionDtoWithItem(2L, "¿Cuándo llega?", itemId),
             createMockQuestionDtoWithItem(3L, "¿Es original?", itemId)
         );
-        when(questionPersistencePort.findByItemId(itemId)).thenReturn(mockQuestions);
+        when(questionPersistencePort.findByItemId(itemId, 1, 1)).thenReturn(mockQuestions.subList(1, 2));
         
         // When
         List<QuestionResponse> result = questionService.getQuestionsByItem(itemId, 1, 1);
@@ -170,14 +177,14 @@ class QuestionServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("2", result.get(0).id());
-        verify(questionPersistencePort).findByItemId(itemId);
+        verify(questionPersistencePort).findByItemId(itemId, 1, 1);
     }
     
     @Test
     void getQuestionsByItem_WhenNoQuestions_ShouldReturnEmptyList() {
         // Given
         String itemId = "MLA123456";
-        when(questionPersistencePort.findByItemId(itemId)).thenReturn(Collections.emptyList());
+        when(questionPersistencePort.findByItemId(itemId, 0, 10)).thenReturn(Collections.emptyList());
         
         // When
         List<QuestionResponse> result = questionService.getQuestionsByItem(itemId, 0, 10);
@@ -185,7 +192,7 @@ class QuestionServiceTest {
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(questionPersistencePort).findByItemId(itemId);
+        verify(questionPersistencePort).findByItemId(itemId, 0, 10);
     }
     
     @Test
@@ -247,7 +254,7 @@ class QuestionServiceTest {
     void mapToResponse_ShouldMapAllFields() {
         // Given
         QuestionDto questionDto = createCompleteQuestionDto();
-        when(questionPersistencePort.findAll()).thenReturn(Arrays.asList(questionDto));
+        when(questionPersistencePort.findById(1L)).thenReturn(Optional.of(questionDto));
         
         // When
         QuestionResponse result = questionService.getQuestionById("1");
@@ -273,12 +280,12 @@ class QuestionServiceTest {
             .id(1L)
             .text("¿Tiene garantía?")
             .status("UNANSWERED")
-            .dateCreated(LocalDateTime.now())
+            .dateCreated(Timestamps.toEpochMillis(LocalDateTime.now()))
             .itemId("MLA123456")
             .sellerId(12345L)
             .answer(null)
             .build();
-        when(questionPersistencePort.findAll()).thenReturn(Arrays.asList(questionDto));
+        when(questionPersistencePort.findById(1L)).thenReturn(Optional.of(questionDto));
         
         // When
         QuestionResponse result = questionService.getQuestionById("1");
@@ -297,12 +304,12 @@ class QuestionServiceTest {
             .id(1L)
             .text("¿Tiene garantía?")
             .status("UNANSWERED")
-            .dateCreated(LocalDateTime.now())
+            .dateCreated(Timestamps.toEpochMillis(LocalDateTime.now()))
             .itemId("MLA123456")
             .sellerId(null)
             .answer(null)
             .build();
-        when(questionPersistencePort.findAll()).thenReturn(Arrays.asList(questionDto));
+        when(questionPersistencePort.findById(1L)).thenReturn(Optional.of(questionDto));
         
         // When
         QuestionResponse result = questionService.getQuestionById("1");
@@ -313,12 +320,54 @@ class QuestionServiceTest {
         assertNull(result.sellerId());
     }
     
+    @Test
+    void countQuestions_ShouldReturnPortCount() {
+        // Given
+        when(questionPersistencePort.count()).thenReturn(8L);
+        
+        // When
+        long result = questionService.countQuestions();
+        
+        // Then
+        assertEquals(8L, result);
+        verify(questionPersistencePort).count();
+    }
+    
+    @Test
+    void countQuestionsByItem_ShouldReturnPortCount() {
+        // Given
+        when(questionPersistencePort.countByItemId("MLA123456")).thenReturn(6L);
+        
+        // When
+        long result = questionService.countQuestionsByItem("MLA123456");
+        
+        // Then
+        assertEquals(6L, result);
+        verify(questionPersistencePort).countByItemId("MLA123456");
+    }
+
+    @Test
+    void getQuestionsAfter_ShouldMapLastPageWithoutCursor() {
+        // Given
+        List<QuestionDto> window = Arrays.asList(createMockQuestionDto(1L, "Question 1"));
+        when(questionPersistencePort.findAllAfter("cursor-1", 10)).thenReturn(new CursorPage<>(window, null));
+        
+        // When
+        CursorPage<QuestionResponse> result = questionService.getQuestionsAfter("cursor-1", 10);
+        
+        // Then
+        assertEquals(1, result.items().size());
+        assertEquals("1", result.items().get(0).id());
+        assertNull(result.nextCursor());
+        verify(questionPersistencePort).findAllAfter("cursor-1", 10);
+    }
+
     private QuestionDto createMockQuestionDto(Long id, String text) {
         return QuestionDto.builder()
             .id(id)
             .text(text)
             .status("UNANSWERED")
-            .dateCreated(LocalDateTime.now())
+            .dateCreated(Timestamps.toEpochMillis(LocalDateTime.now()))
             .itemId("MLA123456")
             .sellerId(12345L)
             .answer(null)
@@ -330,7 +379,7 @@ class QuestionServiceTest {
             .id(id)
             .text(text)
             .status("UNANSWERED")
-            .dateCreated(LocalDateTime.now())
+            .dateCreated(Timestamps.toEpochMillis(LocalDateTime.now()))
             .itemId(itemId)
             .sellerId(12345L)
             .answer(null)
@@ -341,14 +390,14 @@ class QuestionServiceTest {
         QuestionDto.AnswerDto answer = QuestionDto.AnswerDto.builder()
             .text("Sí, tiene garantía")
             .status("ACTIVE")
-            .dateCreated(LocalDateTime.of(2024, 1, 15, 14, 30))
+            .dateCreated(Timestamps.toEpochMillis(LocalDateTime.of(2024, 1, 15, 14, 30)))
             .build();
             
         return QuestionDto.builder()
             .id(1L)
             .text("¿Tiene garantía?")
             .status("ANSWERED")
-            .dateCreated(LocalDateTime.of(2024, 1, 15, 10, 30))
+            .dateCreated(Timestamps.toEpochMillis(LocalDateTime.of(2024, 1, 15, 10, 30)))
             .itemId("MLA123456")
             .sellerId(12345L)
             .answer(answer)
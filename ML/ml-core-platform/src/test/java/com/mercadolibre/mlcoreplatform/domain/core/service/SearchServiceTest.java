@@ -1,7 +1,10 @@
 package com.mercadolibre.mlcoreplatform.domain.core.service;
 
 import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchCriteria;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.SearchPage;
 import com.mercadolibre.mlcoreplatform.domain.port.out.SearchApiPort;
+import com.mercadolibre.mlcoreplatform.domain.port.out.SuggestionPersistencePort;
+import com.mercadolibre.mlcoreplatform.domain.port.out.TrendPersistencePort;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.response.ProductResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +16,7 @@ import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -23,11 +27,17 @@ class SearchServiceTest {
     @Mock
     private SearchApiPort searchApiPort;
     
+    @Mock
+    private SuggestionPersistencePort suggestionPersistencePort;
+    
+    @Mock
+    private TrendPersistencePort trendPersistencePort;
+    
     private SearchService searchService;
     
     @BeforeEach
     void setUp() {
-        searchService = new SearchService(searchApiPort);
+        searchService = new SearchService(searchApiPort, suggestionPersistencePort, trendPersistencePort);
     }
     
     @Test
@@ -76,6 +86,7 @@ class SearchServiceTest {
         assertEquals("iPhone 14", result.get(1).title());
         assertEquals(BigDecimal.valueOf(1200), result.get(1).price());
         verify(searchApiPort).searchProducts(criteria);
+        verify(trendPersistencePort).recordQuery("MLA", "iphone");
     }
     
     @Test
@@ -318,4 +329,73 @@ class SearchServiceTest {
         assertTrue(result.get(0).price().compareTo(result.get(1).price()) > 0);
         verify(searchApiPort).searchProducts(criteria);
     }
+
+    @Test
+    void search_ShouldReturnPageWithTotalAndFacets() {
+        // Given
+        SearchCriteria criteria = SearchCriteria.builder()
+            .query("iphone")
+            .siteId("MCO")
+            .limit(1)
+            .build();
+        SearchPage<ProductResponse> page = new SearchPage<>(
+            List.of(ProductResponse.builder().id("MCO123456789").build()),
+            3,
+            Map.of("condition", Map.of("new", 2, "used", 1)));
+        
+        when(searchApiPort.search(criteria)).thenReturn(page);
+        
+        // When
+        SearchPage<ProductResponse> result = searchService.search(criteria);
+        
+        // Then
+        assertEquals(3, result.total());
+        assertEquals(1, result.items().size());
+        assertEquals(2, result.facets().get("condition").get("new"));
+        verify(searchApiPort).search(criteria);
+        verify(trendPersistencePort).recordQuery("MCO", "iphone");
+    }
+    
+    @Test
+    void search_WithoutResults_ShouldStillRecordTrend() {
+        // Given
+        SearchCriteria criteria = SearchCriteria.builder()
+            .query("xyz")
+            .siteId("MCO")
+            .build();
+        
+        when(searchApiPort.search(criteria)).thenReturn(new SearchPage<>(List.of(), 0));
+        
+        // When
+        searchService.search(criteria);
+        
+        // Then
+        verify(trendPersistencePort).recordQuery("MCO", "xyz");
+    }
+    
+    @Test
+    void getTrends_ShouldCapLimit() {
+        // Given
+        when(trendPersistencePort.findTrends("MCO", SearchService.MAX_TRENDS)).thenReturn(List.of("iphone", "samsung galaxy"));
+        
+        // When
+        List<String> result = searchService.getTrends("MCO", 500);
+        
+        // Then
+        assertEquals(List.of("iphone", "samsung galaxy"), result);
+    }
+    
+    @Test
+    void getSuggestions_ShouldCapLimit() {
+        // Given
+        when(suggestionPersistencePort.findSuggestions("MCO", "cel", SearchService.MAX_SUGGESTIONS))
+            .thenReturn(List.of("Celulares y Teléfonos"));
+        
+        // When
+        List<String> result = searchService.getSuggestions("MCO", "cel", 1000);
+        
+        // Then
+        assertEquals(List.of("Celulares y Teléfonos"), result);
+        verify(suggestionPersistencePort).findSuggestions("MCO", "cel", SearchService.MAX_SUGGESTIONS);
+    }
 }
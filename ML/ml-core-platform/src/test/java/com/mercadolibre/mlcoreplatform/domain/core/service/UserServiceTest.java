@@ -1,6 +1,10 @@
 package com.mercadolibre.mlcoreplatform.domain.core.service;
 
 import com.mercadolibre.mlcoreplatform.adapter.persistence.dto.SellerDto;
+import com.mercadolibre.mlcoreplatform.adapter.persistence.store.Timestamps;
+import com.mercadolibre.mlcoreplatform.domain.core.exception.NotFoundException;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Fields;
+import com.mercadolibre.mlcoreplatform.domain.port.in.dto.Versioned;
 import com.mercadolibre.mlcoreplatform.domain.port.out.SellerPersistencePort;
 import com.mercadolibre.mlcoreplatform.domain.port.out.UserApiPort;
 import com.mercadolibre.mlcoreplatform.entrypoints.rest.dto.request.UserSearchRequest;
@@ -47,10 +51,10 @@ class UserServiceTest {
             createMockSellerDto(2L, "jane_smith", "Jane", "Smith"),
             createMockSellerDto(3L, "bob_wilson", "Bob", "Wilson")
         );
-        when(sellerPersistencePort.findAll()).thenReturn(mockSellers);
+        when(sellerPersistencePort.findAll(0, 2)).thenReturn(mockSellers.subList(0, 2));
         
         // When
-        List<UserResponse> result = userService.getAllUsers(0, 2);
+        List<UserResponse> result = userService.getAllUsers(0, 2, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
@@ -60,7 +64,7 @@ class UserServiceTest {
         assertEquals("John", result.get(0).firstName());
         assertEquals("2", result.get(1).id());
         assertEquals("jane_smith", result.get(1).nickname());
-        verify(sellerPersistencePort).findAll();
+        verify(sellerPersistencePort).findAll(0, 2);
     }
     
     @Test
@@ -71,31 +75,31 @@ class UserServiceTest {
             createMockSellerDto(2L, "jane_smith", "Jane", "Smith"),
             createMockSellerDto(3L, "bob_wilson", "Bob", "Wilson")
         );
-        when(sellerPersistencePort.findAll()).thenReturn(mockSellers);
+        when(sellerPersistencePort.findAll(1, 2)).thenReturn(mockSellers.subList(1, 3));
         
         // When
-        List<UserResponse> result = userService.getAllUsers(1, 2);
+        List<UserResponse> result = userService.getAllUsers(1, 2, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals("2", result.get(0).id());
         assertEquals("3", result.get(1).id());
-        verify(sellerPersistencePort).findAll();
+        verify(sellerPersistencePort).findAll(1, 2);
     }
     
     @Test
     void getAllUsers_WhenNoUsers_ShouldReturnEmptyList() {
         // Given
-        when(sellerPersistencePort.findAll()).thenReturn(Collections.emptyList());
+        when(sellerPersistencePort.findAll(0, 10)).thenReturn(Collections.emptyList());
         
         // When
-        List<UserResponse> result = userService.getAllUsers(0, 10);
+        List<UserResponse> result = userService.getAllUsers(0, 10, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(sellerPersistencePort).findAll();
+        verify(sellerPersistencePort).findAll(0, 10);
     }
     
     @Test
@@ -106,7 +110,7 @@ class UserServiceTest {
         when(sellerPersistencePort.findById(123L)).thenReturn(Optional.of(mockSeller));
         
         // When
-        UserResponse result = userService.getUserById(userId);
+        UserResponse result = userService.getUserById(userId, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
@@ -117,6 +121,52 @@ class UserServiceTest {
         verify(sellerPersistencePort).findById(123L);
     }
     
+    @Test
+    void getUserById_WithSelectedFields_ShouldOnlyBuildThoseFields() {
+        // Given
+        SellerDto seller = SellerDto.builder()
+            .id(123L)
+            .nickname("john_doe")
+            .countryId("AR")
+            .identification(SellerDto.IdentificationDto.builder().type("DNI").number("12345678").build())
+            .sellerReputation(SellerDto.SellerReputationDto.builder().levelId("5_green").build())
+            .build();
+        when(sellerPersistencePort.findById(123L)).thenReturn(Optional.of(seller));
+        
+        // When
+        UserResponse selected = userService.getUserById("123", Fields.of("nickname,sellerReputation"));
+        UserResponse all = userService.getUserById("123", Fields.DEFAULT);
+        
+        // Then
+        assertNull(selected.id());
+        assertNull(selected.countryId());
+        assertEquals("john_doe", selected.nickname());
+        assertEquals("5_green", selected.sellerReputation().levelId());
+        assertEquals("AR", all.countryId());
+        assertNull(all.identification());
+        assertNull(all.sellerReputation());
+        assertNull(all.buyerReputation());
+    }
+    
+    @Test
+    void getVersionedUser_ShouldBeTheSellersDataVersion() {
+        // Given
+        when(sellerPersistencePort.findById(123L)).thenReturn(Optional.of(createMockSellerDto(123L, "john_doe", "John", "Doe")));
+        when(sellerPersistencePort.findById(999L)).thenReturn(Optional.empty());
+        when(sellerPersistencePort.version()).thenReturn(42L);
+        
+        // When
+        Versioned<UserResponse> result = userService.getVersionedUser("123", Fields.DEFAULT);
+        
+        // Then
+        assertEquals(42L, result.version());
+        assertEquals(Versioned.NO_DATE, result.lastModified());
+        assertEquals("john_doe", result.body().get().nickname());
+        verify(sellerPersistencePort, times(1)).findById(123L);
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> userService.getVersionedUser("999", Fields.DEFAULT));
+        assertEquals("User not found with id: 999", exception.getMessage());
+    }
+    
     @Test
     void getUserById_WhenUserNotFound_ShouldThrowException() {
         // Given
@@ -124,12 +174,22 @@ class UserServiceTest {
         when(sellerPersistencePort.findById(999L)).thenReturn(Optional.empty());
         
         // When & Then
-        RuntimeException exception = assertThrows(RuntimeException.class, 
-            () -> userService.getUserById(userId));
+        NotFoundException exception = assertThrows(NotFoundException.class, 
+            () -> userService.getUserById(userId, Fields.DEFAULT));
         assertEquals("User not found with id: 999", exception.getMessage());
         verify(sellerPersistencePort).findById(999L);
     }
     
+    @Test
+    void getUserById_WhenIdIsNotNumeric_ShouldThrowNotFound() {
+        // When & Then
+        NotFoundException exception = assertThrows(NotFoundException.class, 
+            () -> userService.getUserById("abc", Fields.DEFAULT));
+        assertEquals("User", exception.getResource());
+        assertEquals("abc", exception.getId());
+        verifyNoInteractions(sellerPersistencePort);
+    }
+    
     @Test
     void getUserItems_ShouldReturnUserProducts() {
         // Given
@@ -284,7 +344,7 @@ class UserServiceTest {
         when(sellerPersistencePort.findById(123L)).thenReturn(Optional.of(sellerDto));
         
         // When
-        UserResponse result = userService.getUserById(userId);
+        UserResponse result = userService.getUserById(userId, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
@@ -312,13 +372,13 @@ class UserServiceTest {
             .lastName("User")
             .email(null)
             .countryId(null)
-            .registrationDate(null)
+            .registrationDate(Timestamps.NONE)
             .tags(null)
             .build();
         when(sellerPersistencePort.findById(123L)).thenReturn(Optional.of(sellerDto));
         
         // When
-        UserResponse result = userService.getUserById(userId);
+        UserResponse result = userService.getUserById(userId, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
@@ -335,37 +395,44 @@ class UserServiceTest {
     @Test
     void getAllUsers_WithZeroLimit_ShouldReturnEmptyList() {
         // Given
-        List<SellerDto> mockSellers = Arrays.asList(
-            createMockSellerDto(1L, "john_doe", "John", "Doe")
-        );
-        when(sellerPersistencePort.findAll()).thenReturn(mockSellers);
+        when(sellerPersistencePort.findAll(0, 0)).thenReturn(Collections.emptyList());
         
         // When
-        List<UserResponse> result = userService.getAllUsers(0, 0);
+        List<UserResponse> result = userService.getAllUsers(0, 0, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(sellerPersistencePort).findAll();
+        verify(sellerPersistencePort).findAll(0, 0);
     }
     
     @Test
     void getAllUsers_WithLargeOffset_ShouldReturnEmptyList() {
         // Given
-        List<SellerDto> mockSellers = Arrays.asList(
-            createMockSellerDto(1L, "john_doe", "John", "Doe")
-        );
-        when(sellerPersistencePort.findAll()).thenReturn(mockSellers);
+        when(sellerPersistencePort.findAll(10, 5)).thenReturn(Collections.emptyList());
         
         // When
-        List<UserResponse> result = userService.getAllUsers(10, 5);
+        List<UserResponse> result = userService.getAllUsers(10, 5, Fields.DEFAULT);
         
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(sellerPersistencePort).findAll();
+        verify(sellerPersistencePort).findAll(10, 5);
     }
     
+    @Test
+    void countUsers_ShouldReturnPortCount() {
+        // Given
+        when(sellerPersistencePort.count()).thenReturn(2L);
+        
+        // When
+        long result = userService.countUsers();
+        
+        // Then
+        assertEquals(2L, result);
+        verify(sellerPersistencePort).count();
+    }
+
     private SellerDto createMockSellerDto(Long id, String nickname, String firstName, String lastName) {
         return SellerDto.builder()
             .id(id)
@@ -374,7 +441,7 @@ class UserServiceTest {
             .lastName(lastName)
             .email(nickname + "@example.com")
             .countryId("AR")
-            .registrationDate(LocalDateTime.now())
+            .registrationDate(Timestamps.toEpochMillis(LocalDateTime.now()))
             .tags(Arrays.asList("verified"))
             .build();
     }
@@ -387,7 +454,7 @@ class UserServiceTest {
             .lastName("User")
             .email("complete@example.com")
             .countryId("AR")
-            .registrationDate(LocalDateTime.of(2024, 1, 15, 10, 30))
+            .registrationDate(Timestamps.toEpochMillis(LocalDateTime.of(2024, 1, 15, 10, 30)))
             .tags(Arrays.asList("verified", "premium"))
             .build();
     }